@@ -11,7 +11,7 @@ CREATE TABLE users (
     unique_code VARCHAR(20) NOT NULL UNIQUE COMMENT '학번/사번 등 고유 코드',
     name VARCHAR(50) NOT NULL COMMENT '사용자 이름',
     company VARCHAR(100) NULL COMMENT '계열사',
-    balance BIGINT NOT NULL DEFAULT 100000000 COMMENT '보유 코인 잔액',
+    balance BIGINT NOT NULL DEFAULT 100000000 COMMENT '초기 코인 잔액 (investment_accounts로 이관, 이후 미사용)',
     is_executive BOOLEAN NOT NULL DEFAULT FALSE COMMENT '임원 여부',
     is_rookie BOOLEAN NOT NULL DEFAULT TRUE COMMENT '신입사원 여부',
     belonging_stock_booth_id BIGINT NULL COMMENT '소속 AM 주식 부스 ID',
@@ -67,6 +67,16 @@ CREATE TABLE investments (
     INDEX idx_booth_id (booth_id)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
+-- 투자 계좌 테이블 (PM 투자 잔액, users 행과 분리)
+CREATE TABLE investment_accounts (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id BIGINT NOT NULL UNIQUE,
+    balance BIGINT NOT NULL DEFAULT 100000000 COMMENT '보유 코인 잔액',
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
 -- 앱 설정 테이블
 CREATE TABLE app_settings (
     setting_key VARCHAR(50) PRIMARY KEY,
@@ -159,6 +169,15 @@ CREATE TABLE stock_prices (
     FOREIGN KEY (stock_booth_id) REFERENCES stock_booths(id) ON DELETE CASCADE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
+-- 부스별 보유 집계 (읽기 모델, 거래 반영 시 증분 갱신)
+CREATE TABLE stock_booth_stats (
+    stock_booth_id BIGINT PRIMARY KEY,
+    total_amount BIGINT NOT NULL DEFAULT 0 COMMENT '전체 보유액',
+    holder_count BIGINT NOT NULL DEFAULT 0 COMMENT '보유자 수 (보유액 > 0)',
+    updated_at DATETIME NULL COMMENT '마지막 거래 시각',
+    FOREIGN KEY (stock_booth_id) REFERENCES stock_booths(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
 -- 주식 가격 이력 테이블
 CREATE TABLE stock_price_history (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,
@@ -171,20 +190,29 @@ CREATE TABLE stock_price_history (
 
 -- 주식 거래 이력 테이블
 CREATE TABLE stock_trade_history (
-    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    id BIGINT PRIMARY KEY COMMENT 'stock_trade_history_seq에서 발급',
     user_id BIGINT NOT NULL,
     stock_booth_id BIGINT NOT NULL,
     type ENUM('BUY', 'SELL') NOT NULL COMMENT '매수 or 매도',
     amount BIGINT NOT NULL COMMENT '거래 수량',
     price_at_trade BIGINT NOT NULL COMMENT '거래 시 가격',
     balance_after BIGINT NOT NULL COMMENT '거래 후 잔액',
+    trade_seq BIGINT NULL COMMENT '원장 순번 (저널 복구 기준)',
     created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
     FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
     FOREIGN KEY (stock_booth_id) REFERENCES stock_booths(id) ON DELETE CASCADE,
-    INDEX idx_user_created (user_id, created_at DESC),
+    UNIQUE KEY uk_trade_seq (trade_seq),
+    INDEX idx_trade_user_created (user_id, created_at DESC, id DESC),
+    INDEX idx_trade_user_booth_created (user_id, stock_booth_id, created_at DESC, id DESC),
     INDEX idx_stock_booth_id (stock_booth_id)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
+-- 주식 거래 이력 ID 시퀀스 (MySQL은 시퀀스가 없어 Hibernate가 테이블로 emulate, 100개 단위 할당)
+CREATE TABLE stock_trade_history_seq (
+    next_val BIGINT
+) ENGINE=InnoDB;
+INSERT INTO stock_trade_history_seq (next_val) VALUES (1);
+
 -- 주식 댓글 테이블
 CREATE TABLE stock_comments (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,
@@ -227,13 +255,13 @@ CREATE TABLE notes (
     created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
     FOREIGN KEY (sender_id) REFERENCES users(id) ON DELETE CASCADE,
     FOREIGN KEY (receiver_id) REFERENCES users(id) ON DELETE CASCADE,
-    INDEX idx_receiver_created (receiver_id, created_at DESC),
-    INDEX idx_sender_created (sender_id, created_at DESC)
+    INDEX idx_receiver_created (receiver_id, created_at DESC, id DESC),
+    INDEX idx_sender_created (sender_id, created_at DESC, id DESC)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
 -- 투자 이력 테이블
 CREATE TABLE investment_history (
-    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    id BIGINT PRIMARY KEY COMMENT 'investment_history_seq에서 발급',
     user_id BIGINT NOT NULL,
     booth_id BIGINT NOT NULL,
     type ENUM('INVEST', 'WITHDRAW') NOT NULL COMMENT '투자 or 철회',
@@ -242,10 +270,16 @@ CREATE TABLE investment_history (
     created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
     FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
     FOREIGN KEY (booth_id) REFERENCES booths(id) ON DELETE CASCADE,
-    INDEX idx_user_created (user_id, created_at DESC),
+    INDEX idx_history_user_created (user_id, created_at DESC, id DESC),
     INDEX idx_booth_id (booth_id)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
+-- 투자 이력 ID 시퀀스
+CREATE TABLE investment_history_seq (
+    next_val BIGINT
+) ENGINE=InnoDB;
+INSERT INTO investment_history_seq (next_val) VALUES (1);
+
 -- 부스 메모 테이블
 CREATE TABLE booth_memos (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,
@@ -272,7 +306,8 @@ CREATE TABLE shared_reports (
     tendency_one_liner VARCHAR(255) NOT NULL COMMENT '성향 한줄 소개',
     created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
     FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
-    UNIQUE KEY uk_shared_report_user (user_id)
+    UNIQUE KEY uk_shared_report_user (user_id),
+    INDEX idx_shared_report_created (created_at DESC, id DESC)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
 -- 보고서 스냅샷
@@ -1548,6 +1548,10 @@ UPDATE users SET balance = 1000000000 - 350000000 WHERE id = 335;
 UPDATE users SET balance = 1000000000 - 400000000 WHERE id = 336;
 UPDATE users SET balance = 1000000000 - 350000000 WHERE id = 337;
 
+-- PM 투자 잔액 계좌 (users.balance 기준)
+INSERT INTO investment_accounts (user_id, balance, created_at, updated_at)
+SELECT id, balance, NOW(), NOW() FROM users;
+
 -- ──────────────────────────────────────────────
 -- CJ인재원 운영진 전체 부스 방문 처리 (장한빈, 문선우, 강슬기, 한필우)
 -- ──────────────────────────────────────────────
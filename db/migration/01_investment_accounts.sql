@@ -0,0 +1,21 @@
+-- ============================================
+-- 기존 DB 이관: PM 투자 잔액 users.balance → investment_accounts
+-- ============================================
+-- db/init 스크립트는 빈 볼륨에서만 실행되므로, 이미 운영 중인 MySQL에는 배포 전에 한 번 실행한다.
+--   mysql -u booth_user -p booth_invest < db/migration/01_investment_accounts.sql
+-- 여러 번 실행해도 안전하다 (이미 계좌가 있는 사용자는 건너뜀).
+-- users.balance는 이관 원본으로 남겨 두며, 애플리케이션은 더 이상 읽거나 쓰지 않는다.
+
+CREATE TABLE IF NOT EXISTS investment_accounts (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id BIGINT NOT NULL UNIQUE,
+    balance BIGINT NOT NULL DEFAULT 100000000 COMMENT '보유 코인 잔액',
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+INSERT INTO investment_accounts (user_id, balance, created_at, updated_at)
+SELECT u.id, u.balance, NOW(), NOW()
+FROM users u
+WHERE NOT EXISTS (SELECT 1 FROM investment_accounts ia WHERE ia.user_id = u.id);
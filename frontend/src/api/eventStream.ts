@@ -0,0 +1,95 @@
+// 통합 SSE 스트림 (/api/results/stream) - 앱 전체에서 EventSource 1개를 공유한다.
+// 컴포넌트는 토픽과 이벤트 핸들러를 등록만 하고, 구독 토픽이 바뀌면 연결을 한 번 다시 연다.
+
+type Handler = (e: MessageEvent) => void;
+type StatusListener = (connected: boolean) => void;
+
+const topicCounts = new Map<string, number>();
+const handlers = new Map<string, Set<Handler>>();
+const statusListeners = new Set<StatusListener>();
+
+let source: EventSource | null = null;
+let attachedEvents = new Set<string>();
+let lastEventId = '';
+let reopenScheduled = false;
+
+function streamUrl(topics: string[]) {
+  const base = import.meta.env.VITE_API_URL || '/api';
+  const params = new URLSearchParams({ topics: topics.join(',') });
+  // 토픽 변경으로 다시 열 때는 Last-Event-ID 헤더가 없으므로 파라미터로 이어받는다
+  if (lastEventId) params.set('lastEventId', lastEventId);
+  return `${base}/results/stream?${params}`;
+}
+
+function attach(es: EventSource, eventName: string) {
+  if (attachedEvents.has(eventName)) return;
+  attachedEvents.add(eventName);
+  es.addEventListener(eventName, (e: MessageEvent) => {
+    if (e.lastEventId) lastEventId = e.lastEventId;
+    handlers.get(eventName)?.forEach(handler => handler(e));
+  });
+}
+
+function reopen() {
+  reopenScheduled = false;
+  source?.close();
+  source = null;
+  attachedEvents = new Set();
+
+  const topics = [...topicCounts.keys()].sort();
+  if (topics.length === 0) return;
+
+  // 끊기면 EventSource가 스스로 재연결하며 Last-Event-ID를 보낸다
+  const es = new EventSource(streamUrl(topics));
+  es.onopen = () => statusListeners.forEach(listener => listener(true));
+  es.onerror = () => statusListeners.forEach(listener => listener(false));
+  handlers.forEach((_, eventName) => attach(es, eventName));
+  source = es;
+}
+
+function scheduleReopen() {
+  // 같은 렌더링에서 여러 컴포넌트가 구독해도 연결은 한 번만 다시 연다
+  if (reopenScheduled) return;
+  reopenScheduled = true;
+  queueMicrotask(reopen);
+}
+
+/**
+ * 토픽을 구독하고 이벤트 이름별 핸들러를 등록한다. 반환 함수로 해제.
+ * 토픽: announcement, mission-complete, settings, market, idea-board:{boothId}
+ */
+export function subscribeTopic(topic: string, eventHandlers: Record<string, Handler>): () => void {
+  const count = topicCounts.get(topic) ?? 0;
+  topicCounts.set(topic, count + 1);
+  Object.entries(eventHandlers).forEach(([eventName, handler]) => {
+    let set = handlers.get(eventName);
+    if (!set) {
+      set = new Set();
+      handlers.set(eventName, set);
+    }
+    set.add(handler);
+    if (source) attach(source, eventName);
+  });
+  if (count === 0) scheduleReopen();
+
+  return () => {
+    Object.entries(eventHandlers).forEach(([eventName, handler]) => {
+      handlers.get(eventName)?.delete(handler);
+    });
+    const remaining = (topicCounts.get(topic) ?? 1) - 1;
+    if (remaining > 0) {
+      topicCounts.set(topic, remaining);
+    } else {
+      topicCounts.delete(topic);
+      scheduleReopen();
+    }
+  };
+}
+
+/** 연결 상태 변화 (열림 true / 오류·재연결 중 false) */
+export function onStreamStatus(listener: StatusListener): () => void {
+  statusListeners.add(listener);
+  return () => {
+    statusListeners.delete(listener);
+  };
+}
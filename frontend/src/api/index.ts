@@ -7,6 +7,7 @@ import type {
   InvestRequest,
   InvestmentResponse,
   InvestmentHistoryResponse,
+  CursorPage,
   RankingResponse,
   AnnouncementResponse,
   ZoneResponse,
@@ -62,8 +63,8 @@ export const investmentApi = {
   withdraw: (data: InvestRequest) =>
     api.post('/investments/withdraw', data),
   getMy: () => api.get<InvestmentResponse[]>('/investments/my'),
-  getHistory: () =>
-    api.get<InvestmentHistoryResponse[]>('/investments/history'),
+  getHistory: (cursor?: string) =>
+    api.get<CursorPage<InvestmentHistoryResponse>>('/investments/history', { params: { cursor } }),
 };
 
 export const resultApi = {
@@ -88,12 +89,14 @@ export const stockApi = {
   buy: (data: StockTradeRequest) => api.post('/stocks/buy', data),
   sell: (data: StockTradeRequest) => api.post('/stocks/sell', data),
   getMy: () => api.get<StockHoldingResponse[]>('/stocks/my'),
-  getHistory: () => api.get<StockTradeHistoryResponse[]>('/stocks/history'),
+  getHistory: (cursor?: string) =>
+    api.get<CursorPage<StockTradeHistoryResponse>>('/stocks/history', { params: { cursor } }),
   getAccount: () => api.get<StockAccountResponse>('/stocks/account'),
   getBooths: () => api.get<StockBoothResponse[]>('/stocks/booths'),
   getBoothById: (id: number) => api.get<StockBoothResponse>(`/stocks/booths/${id}`),
   getPriceHistory: (id: number) => api.get<StockPriceHistoryResponse>(`/stocks/booths/${id}/price-history`),
-  getBoothHistory: (boothId: number) => api.get<StockTradeHistoryResponse[]>(`/stocks/booths/${boothId}/my-history`),
+  getBoothHistory: (boothId: number, cursor?: string) =>
+    api.get<CursorPage<StockTradeHistoryResponse>>(`/stocks/booths/${boothId}/my-history`, { params: { cursor } }),
   getComments: (boothId: number) => api.get<StockCommentResponse[]>(`/stocks/booths/${boothId}/comments`),
   addComment: (boothId: number, content: string, tag?: string) => api.post<StockCommentResponse>(`/stocks/booths/${boothId}/comments`, { content, tag }),
   updateComment: (boothId: number, commentId: number, content: string) => api.put<StockCommentResponse>(`/stocks/booths/${boothId}/comments/${commentId}`, { content }),
@@ -121,13 +124,10 @@ export const missionApi = {
     api.get<MissionRankingData>('/missions/ranking', { params: { missionId } }),
 };
 
+// 보드 조회도 통합 스트림의 idea-board:{boothId} 토픽과 같은 백엔드 스냅샷에서 응답
 export const ideaBoardApi = {
   getBoard: (boothId: number) =>
     api.get<IdeaBoardResponse>(`/idea-board/booths/${boothId}`),
-  getStreamUrl: (boothId: number) => {
-    const baseUrl = import.meta.env.VITE_API_URL || '/api';
-    return `${baseUrl}/idea-board/booths/${boothId}/stream`;
-  },
 };
 
 // export const reportApi = {
@@ -139,8 +139,8 @@ export const ideaBoardApi = {
 //     api.post('/report/share', data),
 //   getShareStatus: () =>
 //     api.get<{ shared: boolean }>('/report/share/status'),
-//   getSharedReports: () =>
-//     api.get<SharedReportResponse[]>('/report/shared'),
+//   getSharedReports: (cursor?: string) =>
+//     api.get<CursorPage<SharedReportResponse>>('/report/shared', { params: { cursor } }),
 // };
 
 export const adminApi = {
@@ -184,6 +184,8 @@ export const adminApi = {
     api.get<{ rank: number; name: string; company: string; value: string; time: string | null }[]>(`/admin/awards/${index}/ranking`),
   generateReportSnapshots: () =>
     api.post<{ message: string; generatedAt: string }>('/admin/reports/generate'),
+  generatePersonalReports: () =>
+    api.post<{ message: string; count: number; generatedAt: string }>('/admin/reports/personal/generate'),
   getExecutiveSnapshot: () =>
     api.get<ExecutiveInvestmentResponse>('/admin/reports/executive'),
   getRookieSnapshot: () =>
@@ -1,4 +1,5 @@
 import { useEffect, useState, useRef, useCallback } from 'react'
+import { subscribeTopic } from '../api/eventStream'
 import styles from './AnnouncementBanner.module.css'
 
 const DISMISS_KEY = 'announcement_dismissed_at'
@@ -33,17 +34,11 @@ function showBrowserNotification(msg: string) {
   }
 }
 
-function getSseUrl() {
-  const base = import.meta.env.VITE_API_URL || '/api'
-  return `${base}/results/announce`
-}
-
 export default function AnnouncementBanner() {
   const [message, setMessage] = useState('')
   const [updatedAt, setUpdatedAt] = useState('')
   const [dismissed, setDismissed] = useState(false)
   const [popupOpen, setPopupOpen] = useState(false)
-  const eventSourceRef = useRef<EventSource | null>(null)
   const notifiedAtRef = useRef<string | null>(null)
 
   useEffect(() => {
@@ -56,54 +51,55 @@ export default function AnnouncementBanner() {
   }, [])
 
   useEffect(() => {
-    const es = new EventSource(getSseUrl())
-    eventSourceRef.current = es
-
-    es.addEventListener('announcement', (e: MessageEvent) => {
-      try {
-        const data = JSON.parse(e.data)
-        const msg = data.message || ''
-        const ua = data.updatedAt || ''
-        setMessage(msg)
-        setUpdatedAt(ua)
-
-        if (msg && ua) {
-          const dismissedAt = localStorage.getItem(DISMISS_KEY)
-          const alreadyDismissed = dismissedAt === ua
-          setDismissed(alreadyDismissed)
-
-          // 같은 공지에 대해 한 번만 알림
-          if (!alreadyDismissed && notifiedAtRef.current !== ua) {
-            notifiedAtRef.current = ua
-            notify(msg)
+    // 통합 스트림의 공지/미션 토픽 구독 (다른 화면의 구독과 같은 연결을 공유)
+    const unsubscribeAnnouncement = subscribeTopic('announcement', {
+      announcement: (e: MessageEvent) => {
+        try {
+          const data = JSON.parse(e.data)
+          const msg = data.message || ''
+          const ua = data.updatedAt || ''
+          setMessage(msg)
+          setUpdatedAt(ua)
+
+          if (msg && ua) {
+            const dismissedAt = localStorage.getItem(DISMISS_KEY)
+            const alreadyDismissed = dismissedAt === ua
+            setDismissed(alreadyDismissed)
+
+            // 같은 공지에 대해 한 번만 알림
+            if (!alreadyDismissed && notifiedAtRef.current !== ua) {
+              notifiedAtRef.current = ua
+              notify(msg)
+            }
+          } else {
+            setDismissed(false)
           }
-        } else {
-          setDismissed(false)
+        } catch {
+          // 파싱 실패 시 무시
         }
-      } catch {
-        // 파싱 실패 시 무시
-      }
+      },
+      cleared: () => {
+        setMessage('')
+        setUpdatedAt('')
+        setDismissed(false)
+        setPopupOpen(false)
+      },
     })
 
-    es.addEventListener('cleared', () => {
-      setMessage('')
-      setUpdatedAt('')
-      setDismissed(false)
-      setPopupOpen(false)
-    })
-
-    es.addEventListener('mission-complete', (e: MessageEvent) => {
-      try {
-        const data = JSON.parse(e.data)
-        window.dispatchEvent(new CustomEvent('mission-complete', { detail: data }))
-      } catch {
-        // 파싱 실패 시 무시
-      }
+    const unsubscribeMission = subscribeTopic('mission-complete', {
+      'mission-complete': (e: MessageEvent) => {
+        try {
+          const data = JSON.parse(e.data)
+          window.dispatchEvent(new CustomEvent('mission-complete', { detail: data }))
+        } catch {
+          // 파싱 실패 시 무시
+        }
+      },
     })
 
     return () => {
-      es.close()
-      eventSourceRef.current = null
+      unsubscribeAnnouncement()
+      unsubscribeMission()
     }
   }, [notify])
 
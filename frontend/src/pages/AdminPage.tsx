@@ -44,6 +44,7 @@ export default function AdminPage() {
   const [awardRankingLoading, setAwardRankingLoading] = useState(false)
   const [generating, setGenerating] = useState(false)
   const [lastGenerated, setLastGenerated] = useState<string | null>(null)
+  const [personalGenerating, setPersonalGenerating] = useState(false)
   const [repResult, setRepResult] = useState<RepresentativeResultResponse | null>(null)
   const [repLoading, setRepLoading] = useState(false)
   const [repSubTab, setRepSubTab] = useState<'combined' | 'rookie' | 'executive'>('combined')
@@ -470,6 +471,22 @@ export default function AdminPage() {
             >
               {generating ? '생성 중...' : '보고서 생성'}
             </button>
+            <button
+              className={styles.toggleBtn}
+              style={{ marginTop: 8 }}
+              disabled={personalGenerating}
+              onClick={async () => {
+                if (!confirm('조건을 충족한 참가자 전원의 개인 리포트를 미리 생성하시겠습니까?')) return
+                setPersonalGenerating(true)
+                try {
+                  const res = await adminApi.generatePersonalReports()
+                  alert(res.data.message)
+                } catch { alert('개인 리포트 생성 중 오류가 발생했습니다.') }
+                finally { setPersonalGenerating(false) }
+              }}
+            >
+              {personalGenerating ? '생성 중...' : '개인 리포트 일괄 생성'}
+            </button>
             <div style={{ display: 'flex', gap: 8, marginTop: 12 }}>
               <button className={styles.toggleBtn} onClick={() => navigate('/executive')}>경영진</button>
               <button className={styles.toggleBtn} onClick={() => navigate('/rookie')}>신입사원</button>
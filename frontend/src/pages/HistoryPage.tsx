@@ -33,11 +33,28 @@ function getDateLabel(dateStr: string) {
 
 export default function HistoryPage() {
   const [history, setHistory] = useState<InvestmentHistoryResponse[]>([])
+  const [nextCursor, setNextCursor] = useState<string | null>(null)
+  const [loadingMore, setLoadingMore] = useState(false)
 
   useEffect(() => {
-    investmentApi.getHistory().then(res => setHistory(res.data))
+    investmentApi.getHistory().then(res => {
+      setHistory(res.data.items)
+      setNextCursor(res.data.nextCursor)
+    })
   }, [])
 
+  const loadMore = async () => {
+    if (!nextCursor) return
+    setLoadingMore(true)
+    try {
+      const res = await investmentApi.getHistory(nextCursor)
+      setHistory(prev => [...prev, ...res.data.items])
+      setNextCursor(res.data.nextCursor)
+    } finally {
+      setLoadingMore(false)
+    }
+  }
+
   // 날짜별 그룹핑
   const grouped: { label: string; items: InvestmentHistoryResponse[] }[] = []
   let currentKey = ''
@@ -93,6 +110,12 @@ export default function HistoryPage() {
           </div>
         ))
       )}
+
+      {nextCursor && (
+        <button className={styles.loadMore} disabled={loadingMore} onClick={loadMore}>
+          {loadingMore ? '불러오는 중...' : '더 보기'}
+        </button>
+      )}
     </div>
   )
 }
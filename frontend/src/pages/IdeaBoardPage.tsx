@@ -2,6 +2,7 @@ import { useState, useEffect, useRef, useCallback, useMemo, useLayoutEffect } fr
 import { useParams } from 'react-router-dom'
 import PageBackButton from '../components/PageBackButton'
 import { ideaBoardApi } from '../api'
+import { onStreamStatus, subscribeTopic } from '../api/eventStream'
 import type { IdeaBoardResponse, StockCommentResponse } from '../types'
 import styles from './IdeaBoardPage.module.css'
 
@@ -155,19 +156,14 @@ export default function IdeaBoardPage() {
     }
   }, [boothId, board])
 
-  // SSE 연결
+  // SSE 연결 (통합 스트림의 idea-board:{boothId} 토픽)
   useEffect(() => {
     if (!boothId) return
 
-    const streamUrl = ideaBoardApi.getStreamUrl(Number(boothId))
-    let eventSource: EventSource | null = null
     let fallbackTimer: ReturnType<typeof setInterval> | null = null
-    let reconnectTimeout: ReturnType<typeof setTimeout> | null = null
 
-    function connectSse() {
-      eventSource = new EventSource(streamUrl)
-
-      eventSource.addEventListener('init', (e: MessageEvent) => {
+    const unsubscribe = subscribeTopic(`idea-board:${boothId}`, {
+      init: (e: MessageEvent) => {
         try {
           const data: IdeaBoardResponse = JSON.parse(e.data)
           knownIdsRef.current = new Set(data.comments.map(c => c.id))
@@ -180,25 +176,26 @@ export default function IdeaBoardPage() {
         } catch {
           // JSON 파싱 실패 무시
         }
-      })
+      },
 
-      eventSource.addEventListener('new-comment', (e: MessageEvent) => {
+      'new-comment': (e: MessageEvent) => {
         try {
           const comment: StockCommentResponse = JSON.parse(e.data)
           knownIdsRef.current.add(comment.id)
           setNewIds(new Set([comment.id]))
           setTimeout(() => setNewIds(new Set()), 1200)
 
+          // 리뷰 재작성은 같은 ID로 다시 오므로 기존 항목을 대체
           setBoard(prev => {
             if (!prev) return prev
-            return { ...prev, comments: [comment, ...prev.comments] }
+            return { ...prev, comments: [comment, ...prev.comments.filter(c => c.id !== comment.id)] }
           })
         } catch {
           // JSON 파싱 실패 무시
         }
-      })
+      },
 
-      eventSource.addEventListener('update-comment', (e: MessageEvent) => {
+      'update-comment': (e: MessageEvent) => {
         try {
           const updated: StockCommentResponse = JSON.parse(e.data)
           setBoard(prev => {
@@ -211,9 +208,9 @@ export default function IdeaBoardPage() {
         } catch {
           // JSON 파싱 실패 무시
         }
-      })
+      },
 
-      eventSource.addEventListener('delete-comment', (e: MessageEvent) => {
+      'delete-comment': (e: MessageEvent) => {
         try {
           const { id } = JSON.parse(e.data) as { id: number }
           knownIdsRef.current.delete(id)
@@ -227,38 +224,27 @@ export default function IdeaBoardPage() {
         } catch {
           // JSON 파싱 실패 무시
         }
-      })
-
-      eventSource.addEventListener('heartbeat', () => {
-        // heartbeat - 연결 유지 확인
-      })
-
-      eventSource.onerror = () => {
-        setConnected(false)
-        eventSource?.close()
-        eventSource = null
-
-        // 폴링 폴백 시작
-        if (!fallbackTimer) {
-          fallbackTimer = setInterval(() => {
-            setCountdown(prev => {
-              if (prev <= 1) { fetchBoard(); return FALLBACK_INTERVAL }
-              return prev - 1
-            })
-          }, 1000)
-        }
+      },
+    })
 
-        // 30초 후 SSE 재연결 시도
-        reconnectTimeout = setTimeout(connectSse, 30_000)
+    // 끊기면 EventSource가 재연결하는 동안 폴링 폴백 (재연결되면 init에서 중지)
+    const unsubscribeStatus = onStreamStatus(isConnected => {
+      if (isConnected) return
+      setConnected(false)
+      if (!fallbackTimer) {
+        fallbackTimer = setInterval(() => {
+          setCountdown(prev => {
+            if (prev <= 1) { fetchBoard(); return FALLBACK_INTERVAL }
+            return prev - 1
+          })
+        }, 1000)
       }
-    }
-
-    connectSse()
+    })
 
     return () => {
-      eventSource?.close()
+      unsubscribe()
+      unsubscribeStatus()
       if (fallbackTimer) clearInterval(fallbackTimer)
-      if (reconnectTimeout) clearTimeout(reconnectTimeout)
     }
   }, [boothId]) // eslint-disable-line react-hooks/exhaustive-deps
 
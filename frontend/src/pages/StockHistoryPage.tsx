@@ -33,11 +33,28 @@ function getDateLabel(dateStr: string) {
 
 export default function StockHistoryPage() {
   const [history, setHistory] = useState<StockTradeHistoryResponse[]>([])
+  const [nextCursor, setNextCursor] = useState<string | null>(null)
+  const [loadingMore, setLoadingMore] = useState(false)
 
   useEffect(() => {
-    stockApi.getHistory().then(res => setHistory(res.data))
+    stockApi.getHistory().then(res => {
+      setHistory(res.data.items)
+      setNextCursor(res.data.nextCursor)
+    })
   }, [])
 
+  const loadMore = async () => {
+    if (!nextCursor) return
+    setLoadingMore(true)
+    try {
+      const res = await stockApi.getHistory(nextCursor)
+      setHistory(prev => [...prev, ...res.data.items])
+      setNextCursor(res.data.nextCursor)
+    } finally {
+      setLoadingMore(false)
+    }
+  }
+
   // 날짜별 그룹핑
   const grouped: { label: string; items: StockTradeHistoryResponse[] }[] = []
   let currentKey = ''
@@ -95,6 +112,12 @@ export default function StockHistoryPage() {
           </div>
         ))
       )}
+
+      {nextCursor && (
+        <button className={styles.loadMore} disabled={loadingMore} onClick={loadMore}>
+          {loadingMore ? '불러오는 중...' : '더 보기'}
+        </button>
+      )}
     </div>
   )
 }
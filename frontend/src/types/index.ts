@@ -45,6 +45,12 @@ export interface InvestmentResponse {
   amount: number;
 }
 
+// 키셋 페이지: nextCursor를 다음 요청의 cursor로 넘긴다 (마지막 페이지면 null)
+export interface CursorPage<T> {
+  items: T[];
+  nextCursor: string | null;
+}
+
 export interface InvestmentHistoryResponse {
   id: number;
   boothId: number;
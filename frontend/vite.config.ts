@@ -11,10 +11,6 @@ export default defineConfig({
       usePolling: true,
     },
     proxy: {
-      '/api/idea-board': {
-        target: 'http://localhost:8081',
-        changeOrigin: true,
-      },
       '/api': {
         target: 'http://localhost:8080',
         changeOrigin: true,
@@ -1,7 +1,7 @@
 package com.pm.ideaboard.controller;
 
 import com.pm.ideaboard.dto.IdeaBoardResponse;
-import com.pm.ideaboard.service.IdeaBoardService;
+import com.pm.ideaboard.service.SseEmitterService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -11,10 +11,10 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class IdeaBoardController {
 
-    private final IdeaBoardService ideaBoardService;
+    private final SseEmitterService sseEmitterService;
 
     @GetMapping("/booths/{id}")
     public ResponseEntity<IdeaBoardResponse> getBoard(@PathVariable Long id) {
-        return ResponseEntity.ok(ideaBoardService.getBoard(id));
+        return ResponseEntity.ok(sseEmitterService.getBoard(id));
     }
 }
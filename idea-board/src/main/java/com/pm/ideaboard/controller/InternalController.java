@@ -1,50 +1,62 @@
 package com.pm.ideaboard.controller;
 
+import com.pm.ideaboard.dto.CommentEventBatchRequest;
 import com.pm.ideaboard.dto.CommentNotifyRequest;
 import com.pm.ideaboard.dto.CommentResponse;
+import com.pm.ideaboard.service.CommentEventReceiver;
+import com.pm.ideaboard.service.SseDispatcher;
 import com.pm.ideaboard.service.SseEmitterService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Map;
+
 @RestController
 @RequestMapping("/internal")
 @RequiredArgsConstructor
 public class InternalController {
 
     private final SseEmitterService sseEmitterService;
+    private final SseDispatcher sseDispatcher;
+    private final CommentEventReceiver commentEventReceiver;
+
+    /** 순번이 붙은 댓글 이벤트 묶음. 응답의 lastSeq까지 반영됨 */
+    @PostMapping("/comments/batch")
+    public ResponseEntity<Map<String, Object>> receiveBatch(@RequestBody CommentEventBatchRequest request) {
+        long lastSeq = commentEventReceiver.receive(request);
+        return ResponseEntity.ok(Map.of("lastSeq", lastSeq));
+    }
+
+    @GetMapping("/comments/batch/status")
+    public ResponseEntity<Map<String, Object>> getBatchStatus() {
+        return ResponseEntity.ok(commentEventReceiver.getStatus());
+    }
 
     @PostMapping("/comments/notify")
     public ResponseEntity<Void> notifyNewComment(@RequestBody CommentNotifyRequest request) {
-        CommentResponse comment = toCommentResponse(request);
+        CommentResponse comment = CommentEventReceiver.toCommentResponse(request);
         sseEmitterService.broadcastNewComment(request.getBoothId(), comment);
         return ResponseEntity.ok().build();
     }
 
     @PostMapping("/comments/update")
     public ResponseEntity<Void> notifyUpdateComment(@RequestBody CommentNotifyRequest request) {
-        CommentResponse comment = toCommentResponse(request);
+        CommentResponse comment = CommentEventReceiver.toCommentResponse(request);
         sseEmitterService.broadcastUpdateComment(request.getBoothId(), comment);
         return ResponseEntity.ok().build();
     }
 
     @PostMapping("/comments/delete")
-    public ResponseEntity<Void> notifyDeleteComment(@RequestBody java.util.Map<String, Object> request) {
+    public ResponseEntity<Void> notifyDeleteComment(@RequestBody Map<String, Object> request) {
         Long boothId = ((Number) request.get("boothId")).longValue();
         Long commentId = ((Number) request.get("commentId")).longValue();
         sseEmitterService.broadcastDeleteComment(boothId, commentId);
         return ResponseEntity.ok().build();
     }
 
-    private CommentResponse toCommentResponse(CommentNotifyRequest request) {
-        return CommentResponse.builder()
-                .id(request.getCommentId())
-                .userId(request.getUserId())
-                .userName(request.getUserName())
-                .userCompany(request.getUserCompany())
-                .content(request.getContent())
-                .tag(request.getTag())
-                .createdAt(request.getCreatedAt())
-                .build();
+    @GetMapping("/sse/stats")
+    public ResponseEntity<Map<String, Object>> getSseStats() {
+        return ResponseEntity.ok(sseDispatcher.getStats());
     }
 }
@@ -1,7 +1,6 @@
 package com.pm.ideaboard.controller;
 
-import com.pm.ideaboard.dto.IdeaBoardResponse;
-import com.pm.ideaboard.service.IdeaBoardService;
+import com.pm.ideaboard.service.SseDispatcher;
 import com.pm.ideaboard.service.SseEmitterService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
@@ -14,15 +13,11 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 public class SseController {
 
     private final SseEmitterService sseEmitterService;
-    private final IdeaBoardService ideaBoardService;
 
+    // init은 부스별 메모리 스냅샷에서 전송 (부스마다 최초 1회만 DB 조회)
     @GetMapping(value = "/booths/{id}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
     public SseEmitter stream(@PathVariable Long id) {
-        SseEmitter emitter = sseEmitterService.subscribe(id);
-
-        IdeaBoardResponse board = ideaBoardService.getBoard(id);
-        sseEmitterService.sendInit(emitter, board);
-
-        return emitter;
+        SseDispatcher.Connection connection = sseEmitterService.subscribe(id);
+        return connection.emitter();
     }
 }
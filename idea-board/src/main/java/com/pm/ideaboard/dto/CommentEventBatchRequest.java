@@ -0,0 +1,27 @@
+package com.pm.ideaboard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentEventBatchRequest {
+    private String epoch;
+    private List<Event> events;
+    private Long lastSeq; // 송신 측이 여기까지 보냈거나 전송을 포기한 순번 (빈 배치면 재동기화 신호)
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Event {
+        private Long seq;
+        private String type; // new-comment, update-comment, delete-comment
+        private Long boothId;
+        private Long commentId;
+        private CommentNotifyRequest comment; // delete-comment는 null
+    }
+}
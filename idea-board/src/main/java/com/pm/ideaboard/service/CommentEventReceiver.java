@@ -0,0 +1,102 @@
+package com.pm.ideaboard.service;
+
+import com.pm.ideaboard.dto.CommentEventBatchRequest;
+import com.pm.ideaboard.dto.CommentNotifyRequest;
+import com.pm.ideaboard.dto.CommentResponse;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 투자 백엔드가 묶어 보내는 댓글 이벤트 배치를 순번(seq) 순서대로 SSE에 반영한다.
+ *
+ * - 이미 받은 순번(재시도로 다시 온 배치)은 건너뛴다.
+ * - 순번이 비거나, 백엔드가 재기동(epoch 변경)했거나, 첫 배치 전에 적재된 스냅샷이 있어
+ *   유실분을 알 수 없으면, 배치를 반영한 뒤 부스별 보드 스냅샷을 DB에서 다시 읽어 구독자에게 init 이벤트로 재동기화한다.
+ * - 배치의 lastSeq가 반영한 순번보다 크면 백엔드가 그 사이 배치를 포기한 것이므로 같은 방법으로 재동기화한다.
+ *   (포기 뒤 새 댓글이 없으면 백엔드가 이벤트 없이 lastSeq만 담은 빈 배치를 보낸다)
+ */
+@Service
+@RequiredArgsConstructor
+public class CommentEventReceiver {
+
+    private static final Logger log = LoggerFactory.getLogger(CommentEventReceiver.class);
+
+    private final SseEmitterService sseEmitterService;
+
+    private String epoch;
+    private long lastSeq;
+
+    /** 반영 후 마지막으로 처리한 순번 */
+    public synchronized long receive(CommentEventBatchRequest batch) {
+        List<CommentEventBatchRequest.Event> events = batch.getEvents() != null ? batch.getEvents() : List.of();
+        Long through = batch.getLastSeq();
+        if (events.isEmpty() && through == null) {
+            return lastSeq;
+        }
+
+        boolean resync = false;
+        if (!batch.getEpoch().equals(epoch)) {
+            // 첫 수신이라도 이미 적재된 스냅샷이 있으면, 그 스냅샷과 이 배치 사이에
+            // 이전 배치가 있었는지 알 수 없으므로 재동기화한다
+            long firstSeq = events.isEmpty() ? through + 1 : events.get(0).getSeq();
+            resync = epoch == null ? sseEmitterService.hasSnapshots() : firstSeq != 1;
+            epoch = batch.getEpoch();
+            lastSeq = firstSeq - 1;
+        }
+
+        for (CommentEventBatchRequest.Event event : events) {
+            if (event.getSeq() <= lastSeq) {
+                continue;
+            }
+            if (event.getSeq() > lastSeq + 1) {
+                log.warn("댓글 이벤트 유실 감지: {} ~ {}", lastSeq + 1, event.getSeq() - 1);
+                resync = true;
+            }
+            apply(event);
+            lastSeq = event.getSeq();
+        }
+        if (through != null && through > lastSeq) {
+            log.warn("전송 포기된 댓글 이벤트 감지: {} ~ {}", lastSeq + 1, through);
+            lastSeq = through;
+            resync = true;
+        }
+
+        if (resync) {
+            sseEmitterService.reloadAll();
+        }
+        return lastSeq;
+    }
+
+    public synchronized Map<String, Object> getStatus() {
+        return Map.of("epoch", epoch != null ? epoch : "", "lastSeq", lastSeq);
+    }
+
+    public static CommentResponse toCommentResponse(CommentNotifyRequest request) {
+        return CommentResponse.builder()
+                .id(request.getCommentId())
+                .userId(request.getUserId())
+                .userName(request.getUserName())
+                .userCompany(request.getUserCompany())
+                .content(request.getContent())
+                .tag(request.getTag())
+                .createdAt(request.getCreatedAt())
+                .build();
+    }
+
+    private void apply(CommentEventBatchRequest.Event event) {
+        switch (event.getType()) {
+            case "new-comment" -> sseEmitterService.broadcastNewComment(event.getBoothId(),
+                    toCommentResponse(event.getComment()));
+            case "update-comment" -> sseEmitterService.broadcastUpdateComment(event.getBoothId(),
+                    toCommentResponse(event.getComment()));
+            case "delete-comment" -> sseEmitterService.broadcastDeleteComment(event.getBoothId(),
+                    event.getCommentId());
+            default -> log.warn("알 수 없는 댓글 이벤트 무시: {}", event.getType());
+        }
+    }
+}
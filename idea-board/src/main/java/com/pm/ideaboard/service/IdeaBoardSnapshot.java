@@ -0,0 +1,94 @@
+package com.pm.ideaboard.service;
+
+import com.pm.ideaboard.dto.CommentResponse;
+import com.pm.ideaboard.dto.IdeaBoardResponse;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 부스 1개의 아이디어 보드 (댓글+리뷰 최신순) 불변 스냅샷.
+ *
+ * 댓글 이벤트마다 정렬 위치에만 끼워 넣은 새 스냅샷을 만들고, init SSE 프레임은 처음 필요할 때 한 번만 직렬화한다.
+ */
+final class IdeaBoardSnapshot {
+
+    private static final Comparator<CommentResponse> LATEST_FIRST =
+            Comparator.comparing(CommentResponse::getCreatedAt).reversed();
+
+    private final IdeaBoardResponse board;
+    private volatile SseFrame initFrame;
+
+    private IdeaBoardSnapshot(IdeaBoardResponse board) {
+        this.board = board;
+    }
+
+    /** comments는 최신순으로 정렬되어 있어야 한다 */
+    static IdeaBoardSnapshot of(IdeaBoardResponse board) {
+        return new IdeaBoardSnapshot(withComments(board, List.copyOf(board.getComments())));
+    }
+
+    IdeaBoardResponse board() {
+        return board;
+    }
+
+    SseFrame initFrame(ObjectMapper objectMapper) {
+        SseFrame frame = initFrame;
+        if (frame == null) {
+            frame = SseFrame.of(objectMapper, "init", board);
+            initFrame = frame;
+        }
+        return frame;
+    }
+
+    /** 같은 ID가 있으면 교체(리뷰 재작성), 없으면 추가 */
+    IdeaBoardSnapshot upsert(CommentResponse comment) {
+        List<CommentResponse> comments = new ArrayList<>(board.getComments().size() + 1);
+        for (CommentResponse c : board.getComments()) {
+            if (!c.getId().equals(comment.getId())) {
+                comments.add(c);
+            }
+        }
+        int index = insertionPoint(comments, comment);
+        comments.add(index, comment);
+        return new IdeaBoardSnapshot(withComments(board, List.copyOf(comments)));
+    }
+
+    IdeaBoardSnapshot remove(Long commentId) {
+        List<CommentResponse> comments = board.getComments().stream()
+                .filter(c -> !c.getId().equals(commentId))
+                .toList();
+        if (comments.size() == board.getComments().size()) {
+            return this;
+        }
+        return new IdeaBoardSnapshot(withComments(board, comments));
+    }
+
+    /** 같은 시각이면 기존 항목 뒤 - 전체 재정렬(stable sort) 결과와 같은 순서 */
+    private static int insertionPoint(List<CommentResponse> comments, CommentResponse comment) {
+        int low = 0;
+        int high = comments.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (LATEST_FIRST.compare(comments.get(mid), comment) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static IdeaBoardResponse withComments(IdeaBoardResponse board, List<CommentResponse> comments) {
+        return IdeaBoardResponse.builder()
+                .boothId(board.getBoothId())
+                .boothName(board.getBoothName())
+                .logoEmoji(board.getLogoEmoji())
+                .themeColor(board.getThemeColor())
+                .category(board.getCategory())
+                .comments(comments)
+                .build();
+    }
+}
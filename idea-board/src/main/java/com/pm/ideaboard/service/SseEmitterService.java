@@ -2,103 +2,121 @@ package com.pm.ideaboard.service;
 
 import com.pm.ideaboard.dto.CommentResponse;
 import com.pm.ideaboard.dto.IdeaBoardResponse;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import tools.jackson.databind.ObjectMapper;
 
-import java.io.IOException;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+// 부스별 보드 스냅샷을 메모리에 두고 내부 댓글 이벤트로 갱신한다. 조회/구독(init)은 DB를 읽지 않는다.
+// 스냅샷 갱신+브로드캐스트와 구독(연결 등록+init 전송)은 같은 부스 단위 compute 안에서 처리해
+// 새 연결이 init과 이벤트 사이에서 변경을 놓치지 않게 한다.
+// 하트비트는 SseDispatcher가 전체 연결에 한 번에 보낸다.
 
 @Service
+@RequiredArgsConstructor
 public class SseEmitterService {
 
-    private static final Logger log = LoggerFactory.getLogger(SseEmitterService.class);
     private static final long TIMEOUT = 10 * 60 * 1000L; // 10분
-    private static final long HEARTBEAT_INTERVAL = 30_000L; // 30초
-
-    private final Map<Long, Set<SseEmitter>> emitters = new ConcurrentHashMap<>();
-    private final ScheduledExecutorService heartbeatScheduler = Executors.newSingleThreadScheduledExecutor();
 
-    public SseEmitterService() {
-        heartbeatScheduler.scheduleAtFixedRate(this::sendHeartbeats,
-                HEARTBEAT_INTERVAL, HEARTBEAT_INTERVAL, TimeUnit.MILLISECONDS);
+    private final ObjectMapper objectMapper;
+    private final SseDispatcher dispatcher;
+    private final IdeaBoardService ideaBoardService;
+    private final Map<Long, Set<SseDispatcher.Connection>> connections = new ConcurrentHashMap<>();
+    // boothId -> 보드 스냅샷 (부스별 최초 조회 시 1회 DB 적재)
+    private final Map<Long, IdeaBoardSnapshot> snapshots = new ConcurrentHashMap<>();
+
+    public IdeaBoardResponse getBoard(Long boothId) {
+        IdeaBoardSnapshot snapshot = snapshots.get(boothId);
+        if (snapshot != null) {
+            return snapshot.board();
+        }
+        // 같은 부스를 동시에 여는 요청은 한 번의 적재를 기다린다
+        return snapshots.computeIfAbsent(boothId, id -> IdeaBoardSnapshot.of(ideaBoardService.getBoard(id))).board();
     }
 
-    public SseEmitter subscribe(Long boothId) {
+    public SseDispatcher.Connection subscribe(Long boothId) {
         SseEmitter emitter = new SseEmitter(TIMEOUT);
-        Set<SseEmitter> boothEmitters = emitters.computeIfAbsent(boothId,
-                k -> ConcurrentHashMap.newKeySet());
-        boothEmitters.add(emitter);
+        SseDispatcher.Connection connection = dispatcher.register(emitter);
+
+        emitter.onCompletion(() -> removeConnection(boothId, connection));
+        emitter.onTimeout(() -> removeConnection(boothId, connection));
+        emitter.onError(e -> removeConnection(boothId, connection));
+
+        try {
+            snapshots.compute(boothId, (id, snapshot) -> {
+                IdeaBoardSnapshot current = snapshot != null ? snapshot : IdeaBoardSnapshot.of(ideaBoardService.getBoard(id));
+                connections.computeIfAbsent(id, k -> ConcurrentHashMap.newKeySet()).add(connection);
+                connection.send(current.initFrame(objectMapper));
+                return current;
+            });
+        } catch (IllegalArgumentException e) {
+            connection.close();
+            throw e;
+        }
 
-        emitter.onCompletion(() -> removeEmitter(boothId, emitter));
-        emitter.onTimeout(() -> removeEmitter(boothId, emitter));
-        emitter.onError(e -> removeEmitter(boothId, emitter));
+        return connection;
+    }
 
-        return emitter;
+    /** 메모리에 적재된 부스 스냅샷이 하나라도 있는지 */
+    public boolean hasSnapshots() {
+        return !snapshots.isEmpty();
     }
 
-    public void sendInit(SseEmitter emitter, IdeaBoardResponse board) {
-        try {
-            emitter.send(SseEmitter.event()
-                    .name("init")
-                    .data(board));
-        } catch (IOException e) {
-            log.warn("init 이벤트 전송 실패: {}", e.getMessage());
+    /** 이벤트 유실 복구 - 적재된 스냅샷을 모두 DB에서 다시 읽고 구독자에게 init으로 다시 보낸다 */
+    public void reloadAll() {
+        for (Long boothId : Set.copyOf(snapshots.keySet())) {
+            snapshots.computeIfPresent(boothId, (id, snapshot) -> {
+                IdeaBoardSnapshot reloaded;
+                try {
+                    reloaded = IdeaBoardSnapshot.of(ideaBoardService.getBoard(id));
+                } catch (IllegalArgumentException e) {
+                    return null; // 삭제된 부스
+                }
+                Set<SseDispatcher.Connection> boothConnections = connections.get(id);
+                if (boothConnections != null && !boothConnections.isEmpty()) {
+                    dispatcher.broadcast(boothConnections, reloaded.initFrame(objectMapper));
+                }
+                return reloaded;
+            });
         }
     }
 
     public void broadcastNewComment(Long boothId, CommentResponse comment) {
-        broadcast(boothId, "new-comment", comment);
+        broadcast(boothId, snapshot -> snapshot.upsert(comment), "new-comment", comment);
     }
 
     public void broadcastUpdateComment(Long boothId, CommentResponse comment) {
-        broadcast(boothId, "update-comment", comment);
+        broadcast(boothId, snapshot -> snapshot.upsert(comment), "update-comment", comment);
     }
 
     public void broadcastDeleteComment(Long boothId, Long commentId) {
-        broadcast(boothId, "delete-comment", Map.of("id", commentId));
-    }
-
-    private void broadcast(Long boothId, String eventName, Object data) {
-        Set<SseEmitter> boothEmitters = emitters.get(boothId);
-        if (boothEmitters == null || boothEmitters.isEmpty()) {
-            return;
-        }
-
-        for (SseEmitter emitter : boothEmitters) {
-            try {
-                emitter.send(SseEmitter.event()
-                        .name(eventName)
-                        .data(data));
-            } catch (IOException e) {
-                removeEmitter(boothId, emitter);
-            }
-        }
+        broadcast(boothId, snapshot -> snapshot.remove(commentId), "delete-comment", Map.of("id", commentId));
     }
 
-    private void sendHeartbeats() {
-        emitters.forEach((boothId, boothEmitters) -> {
-            for (SseEmitter emitter : boothEmitters) {
-                try {
-                    emitter.send(SseEmitter.event()
-                            .name("heartbeat")
-                            .data(""));
-                } catch (IOException e) {
-                    removeEmitter(boothId, emitter);
-                }
+    // 스냅샷이 아직 없는 부스는 구독자도 없으므로 건너뛴다 (최초 적재 때 DB에서 읽힌다)
+    // 연결별 큐에 넣기만 하므로 내부 알림 요청은 클라이언트 전송을 기다리지 않는다
+    private void broadcast(Long boothId, UnaryOperator<IdeaBoardSnapshot> change, String eventName, Object data) {
+        snapshots.computeIfPresent(boothId, (id, snapshot) -> {
+            Set<SseDispatcher.Connection> boothConnections = connections.get(id);
+            if (boothConnections != null && !boothConnections.isEmpty()) {
+                dispatcher.broadcast(boothConnections, SseFrame.of(objectMapper, eventName, data));
             }
+            return change.apply(snapshot);
         });
     }
 
-    private void removeEmitter(Long boothId, SseEmitter emitter) {
-        Set<SseEmitter> boothEmitters = emitters.get(boothId);
-        if (boothEmitters != null) {
-            boothEmitters.remove(emitter);
-            if (boothEmitters.isEmpty()) {
-                emitters.remove(boothId);
+    private void removeConnection(Long boothId, SseDispatcher.Connection connection) {
+        connection.close();
+        Set<SseDispatcher.Connection> boothConnections = connections.get(boothId);
+        if (boothConnections != null) {
+            boothConnections.remove(connection);
+            if (boothConnections.isEmpty()) {
+                connections.remove(boothId);
             }
         }
     }
@@ -0,0 +1,124 @@
+package com.pm.investment.jmh;
+
+import com.pm.investment.InvestmentApplication;
+import com.pm.investment.entity.Booth;
+import com.pm.investment.entity.StockAccount;
+import com.pm.investment.entity.StockBooth;
+import com.pm.investment.entity.StockBoothVisit;
+import com.pm.investment.entity.StockRating;
+import com.pm.investment.entity.User;
+import com.pm.investment.repository.BoothRepository;
+import com.pm.investment.repository.StockAccountRepository;
+import com.pm.investment.repository.StockBoothRepository;
+import com.pm.investment.repository.StockBoothVisitRepository;
+import com.pm.investment.repository.StockRatingRepository;
+import com.pm.investment.service.InvestmentService;
+import com.pm.investment.service.StockEligibilityIndex;
+import com.pm.investment.service.StockLedger;
+import com.pm.investment.service.StockLedgerWriter;
+import com.pm.investment.service.StockService;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 행사 규모 데이터를 H2에 적재한 애플리케이션 컨텍스트 (벤치마크 1회당 1번 기동).
+ *
+ * data.sql 시드(약 400명, AM 부스 30여 개) 위에 전원 전체 부스 방문/평가,
+ * AM 거래 TRADES건, PM 투자 PM_TRADES건을 실제 서비스 경로로 쌓는다.
+ */
+@State(Scope.Benchmark)
+public class EventFixture {
+
+    static final int TRADES = 40_000;
+    static final int PM_TRADES = 4_000;
+    static final long AMOUNT = 10_000L;
+
+    ConfigurableApplicationContext context;
+    StockService stockService;
+    List<long[]> tradablePairs;   // [userId, boothId] - 자기 소속 부스 제외
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = SpringApplication.run(InvestmentApplication.class,
+                "--spring.main.web-application-type=none",
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN",
+                "--spring.jpa.show-sql=false",
+                "--stock.ledger.journal-dir=build/jmh/ledger");
+        stockService = context.getBean(StockService.class);
+
+        List<StockAccount> accounts = context.getBean(StockAccountRepository.class).findAllWithUser();
+        List<StockBooth> booths = context.getBean(StockBoothRepository.class).findAll();
+        seedVisitsAndRatings(accounts, booths);
+
+        tradablePairs = new ArrayList<>();
+        for (StockAccount account : accounts) {
+            User user = account.getUser();
+            Long ownBoothId = user.getBelongingStockBooth() != null ? user.getBelongingStockBooth().getId() : null;
+            for (StockBooth booth : booths) {
+                if (!booth.getId().equals(ownBoothId)) {
+                    tradablePairs.add(new long[]{user.getId(), booth.getId()});
+                }
+            }
+        }
+
+        // 매수 2건당 매도 1건 - 보유액이 쌓이되 잔액은 바닥나지 않는 비율
+        StockLedger ledger = context.getBean(StockLedger.class);
+        Random random = new Random(42);
+        for (int i = 0; i < TRADES; i++) {
+            long[] pair = tradablePairs.get(random.nextInt(tradablePairs.size()));
+            if (i % 3 == 2 && ledger.getHolding(pair[0], pair[1]) >= AMOUNT) {
+                stockService.sell(pair[0], pair[1], AMOUNT);
+            } else {
+                stockService.buy(pair[0], pair[1], AMOUNT);
+            }
+        }
+        context.getBean(StockLedgerWriter.class).flush();
+
+        InvestmentService investmentService = context.getBean(InvestmentService.class);
+        List<Booth> pmBooths = context.getBean(BoothRepository.class).findAll();
+        for (int i = 0; i < PM_TRADES; i++) {
+            User user = accounts.get(random.nextInt(accounts.size())).getUser();
+            Booth booth = pmBooths.get(random.nextInt(pmBooths.size()));
+            try {
+                investmentService.invest(user.getId(), booth.getId(), AMOUNT);
+            } catch (IllegalStateException e) {
+                // rookie 자기 계열사 부스 등 규칙상 거부되는 조합은 건너뛴다
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    private void seedVisitsAndRatings(List<StockAccount> accounts, List<StockBooth> booths) {
+        StockEligibilityIndex eligibility = context.getBean(StockEligibilityIndex.class);
+        List<StockBoothVisit> visits = new ArrayList<>();
+        List<StockRating> ratings = new ArrayList<>();
+        for (StockAccount account : accounts) {
+            User user = account.getUser();
+            for (StockBooth booth : booths) {
+                if (!eligibility.hasVisited(user.getId(), booth.getId())) {
+                    visits.add(new StockBoothVisit(user, booth));
+                }
+                if (!eligibility.hasRated(user.getId(), booth.getId())) {
+                    ratings.add(new StockRating(user, booth, 4, 4, 4, 4, 4, 4, null));
+                }
+            }
+        }
+        context.getBean(StockBoothVisitRepository.class).saveAll(visits);
+        context.getBean(StockRatingRepository.class).saveAll(ratings);
+        eligibility.load();
+    }
+}
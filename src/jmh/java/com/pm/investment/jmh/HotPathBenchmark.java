@@ -0,0 +1,66 @@
+package com.pm.investment.jmh;
+
+import com.pm.investment.dto.AwardResponse;
+import com.pm.investment.dto.CospiResponse;
+import com.pm.investment.dto.RankingResponse;
+import com.pm.investment.service.AwardService;
+import com.pm.investment.service.RankingService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 거래/랭킹 핫패스 벤치마크. 실행: ./gradlew jmh → build/results/jmh/results.json
+ * 커밋 간 비교는 두 JSON 파일의 score를 diff 한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HotPathBenchmark {
+
+    /** 스레드마다 다른 (사용자, 부스) 조합을 순서대로 돈다 */
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int next;
+
+        @Setup(Level.Trial)
+        public void start() {
+            next = (int) (Thread.currentThread().threadId() * 7919);
+        }
+
+        long[] nextPair(EventFixture fixture) {
+            List<long[]> pairs = fixture.tradablePairs;
+            return pairs.get(Math.floorMod(next++, pairs.size()));
+        }
+    }
+
+    /** 매수 후 같은 금액 매도 - 잔액/보유액이 반복 중에 변하지 않도록 */
+    @Benchmark
+    public void stockBuyAndSell(EventFixture fixture, Cursor cursor) {
+        long[] pair = cursor.nextPair(fixture);
+        fixture.stockService.buy(pair[0], pair[1], EventFixture.AMOUNT);
+        fixture.stockService.sell(pair[0], pair[1], EventFixture.AMOUNT);
+    }
+
+    @Benchmark
+    public List<RankingResponse> stockRanking(EventFixture fixture) {
+        return fixture.context.getBean(RankingService.class).getStockRanking();
+    }
+
+    @Benchmark
+    public List<AwardResponse> awards(EventFixture fixture) {
+        return fixture.context.getBean(AwardService.class).getAwards();
+    }
+
+    @Benchmark
+    public CospiResponse cospi(EventFixture fixture) {
+        return fixture.stockService.getCospiData();
+    }
+}
@@ -14,15 +14,22 @@ import com.pm.investment.dto.TicketUseRequest;
 import com.pm.investment.dto.UserMissionResponse;
 import com.pm.investment.service.AwardService;
 import com.pm.investment.service.BoothService;
+import com.pm.investment.service.IdeaBoardNotifier;
 import com.pm.investment.service.MissionService;
 import com.pm.investment.service.RankingService;
+import com.pm.investment.service.ReportBatchService;
 import com.pm.investment.service.ReportSnapshotService;
 import com.pm.investment.service.SettingService;
+import com.pm.investment.service.SseDispatcher;
 import com.pm.investment.service.SseEmitterService;
 import com.pm.investment.service.StockPriceService;
 import com.pm.investment.service.StockRatingService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -38,10 +45,13 @@ public class AdminController {
     private final RankingService rankingService;
     private final AwardService awardService;
     private final SseEmitterService sseEmitterService;
+    private final SseDispatcher sseDispatcher;
+    private final IdeaBoardNotifier ideaBoardNotifier;
     private final StockPriceService stockPriceService;
     private final StockRatingService stockRatingService;
     private final MissionService missionService;
     private final ReportSnapshotService reportSnapshotService;
+    private final ReportBatchService reportBatchService;
     private final BoothService boothService;
 
     @GetMapping("/results/status")
@@ -173,6 +183,16 @@ public class AdminController {
         return ResponseEntity.ok(Map.of("missionId", missionId, "completedCount", count));
     }
 
+    @GetMapping("/sse/stats")
+    public ResponseEntity<Map<String, Object>> getSseStats() {
+        return ResponseEntity.ok(sseDispatcher.getStats());
+    }
+
+    @GetMapping("/idea-board/notify/stats")
+    public ResponseEntity<Map<String, Object>> getIdeaBoardNotifyStats() {
+        return ResponseEntity.ok(ideaBoardNotifier.getStats());
+    }
+
     @GetMapping("/representative-result")
     public ResponseEntity<RepresentativeResultResponse> getRepresentativeResult() {
         return ResponseEntity.ok(rankingService.getRepresentativeResult());
@@ -200,19 +220,69 @@ public class AdminController {
         return ResponseEntity.ok(reportSnapshotService.generateAllSnapshots());
     }
 
+    // 참가자 개인 리포트 일괄 생성 (행사 종료 시) - 이후 /api/report는 미리 만든 결과를 반환
+    @PostMapping("/reports/personal/generate")
+    public ResponseEntity<Map<String, Object>> generatePersonalReports() {
+        return ResponseEntity.ok(reportBatchService.generateAll());
+    }
+
+    // 메모리에 준비된 바이트를 그대로 전송. If-None-Match가 맞으면 304, gzip을 받으면 압축본
     @GetMapping("/reports/executive")
-    public ResponseEntity<ExecutiveInvestmentResponse> getExecutiveSnapshot() {
-        return ResponseEntity.ok(reportSnapshotService.getExecutiveSnapshot());
+    public ResponseEntity<byte[]> getExecutiveSnapshot(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return snapshotResponse(ReportSnapshotService.EXECUTIVE, ifNoneMatch, acceptEncoding);
     }
 
     @GetMapping("/reports/rookie")
-    public ResponseEntity<RookieInvestmentResponse> getRookieSnapshot() {
-        return ResponseEntity.ok(reportSnapshotService.getRookieSnapshot());
+    public ResponseEntity<byte[]> getRookieSnapshot(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return snapshotResponse(ReportSnapshotService.ROOKIE, ifNoneMatch, acceptEncoding);
     }
 
     @GetMapping("/reports/combined")
-    public ResponseEntity<CombinedInvestmentResponse> getCombinedSnapshot() {
-        return ResponseEntity.ok(reportSnapshotService.getCombinedSnapshot());
+    public ResponseEntity<byte[]> getCombinedSnapshot(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return snapshotResponse(ReportSnapshotService.COMBINED, ifNoneMatch, acceptEncoding);
+    }
+
+    private ResponseEntity<byte[]> snapshotResponse(String type, String ifNoneMatch, String acceptEncoding) {
+        ReportSnapshotService.EncodedSnapshot snapshot = reportSnapshotService.getEncodedSnapshot(type);
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+        String etag = gzip ? snapshot.gzipEtag() : snapshot.etag();
+        // 두 표현은 같은 내용이므로 어느 쪽 태그든 맞으면 304
+        if (etagMatches(ifNoneMatch, snapshot.etag()) || etagMatches(ifNoneMatch, snapshot.gzipEtag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache())
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(snapshot.gzip());
+        }
+        return response.body(snapshot.json());
+    }
+
+    private static boolean etagMatches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            // If-None-Match는 약한 비교 - W/ 접두어를 떼고 비교
+            if (tag.equals("*") || (tag.startsWith("W/") ? tag.substring(2) : tag).equals(etag)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @PostMapping("/missions/uncomplete-all")
@@ -1,5 +1,6 @@
 package com.pm.investment.controller;
 
+import com.pm.investment.dto.CursorPageResponse;
 import com.pm.investment.dto.InvestRequest;
 import com.pm.investment.dto.InvestmentHistoryResponse;
 import com.pm.investment.dto.InvestmentResponse;
@@ -45,8 +46,11 @@ public class InvestmentController {
     }
 
     @GetMapping("/history")
-    public ResponseEntity<List<InvestmentHistoryResponse>> getMyHistory(HttpServletRequest request) {
+    public ResponseEntity<CursorPageResponse<InvestmentHistoryResponse>> getMyHistory(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "30") int size,
+            HttpServletRequest request) {
         Long userId = (Long) request.getAttribute("userId");
-        return ResponseEntity.ok(investmentService.getMyHistory(userId));
+        return ResponseEntity.ok(investmentService.getMyHistory(userId, cursor, size));
     }
 }
@@ -1,5 +1,6 @@
 package com.pm.investment.controller;
 
+import com.pm.investment.dto.CursorPageResponse;
 import com.pm.investment.dto.NoteRequest;
 import com.pm.investment.dto.NoteResponse;
 import com.pm.investment.dto.UserSearchResponse;
@@ -30,15 +31,21 @@ public class NoteController {
     }
 
     @GetMapping("/received")
-    public ResponseEntity<List<NoteResponse>> getReceivedNotes(HttpServletRequest request) {
+    public ResponseEntity<CursorPageResponse<NoteResponse>> getReceivedNotes(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "30") int size,
+            HttpServletRequest request) {
         Long userId = (Long) request.getAttribute("userId");
-        return ResponseEntity.ok(noteService.getReceivedNotes(userId));
+        return ResponseEntity.ok(noteService.getReceivedNotes(userId, cursor, size));
     }
 
     @GetMapping("/sent")
-    public ResponseEntity<List<NoteResponse>> getSentNotes(HttpServletRequest request) {
+    public ResponseEntity<CursorPageResponse<NoteResponse>> getSentNotes(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "30") int size,
+            HttpServletRequest request) {
         Long userId = (Long) request.getAttribute("userId");
-        return ResponseEntity.ok(noteService.getSentNotes(userId));
+        return ResponseEntity.ok(noteService.getSentNotes(userId, cursor, size));
     }
 
     @PatchMapping("/{noteId}/read")
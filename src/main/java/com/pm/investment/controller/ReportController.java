@@ -1,5 +1,6 @@
 package com.pm.investment.controller;
 
+import com.pm.investment.dto.CursorPageResponse;
 import com.pm.investment.dto.ReportEligibilityResponse;
 import com.pm.investment.dto.ReportResponse;
 import com.pm.investment.dto.ShareReportRequest;
@@ -11,7 +12,6 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -49,7 +49,9 @@ public class ReportController {
     }
 
     @GetMapping("/shared")
-    public ResponseEntity<List<SharedReportResponse>> getSharedReports() {
-        return ResponseEntity.ok(reportService.getSharedReports());
+    public ResponseEntity<CursorPageResponse<SharedReportResponse>> getSharedReports(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "30") int size) {
+        return ResponseEntity.ok(reportService.getSharedReports(cursor, size));
     }
 }
@@ -1,6 +1,8 @@
 package com.pm.investment.controller;
 
 import com.pm.investment.dto.RankingResponse;
+import com.pm.investment.service.EventStreamService;
+import com.pm.investment.service.MarketDataService;
 import com.pm.investment.service.RankingService;
 import com.pm.investment.service.SettingService;
 import com.pm.investment.service.SseEmitterService;
@@ -21,6 +23,8 @@ public class ResultController {
     private final SettingService settingService;
     private final RankingService rankingService;
     private final SseEmitterService sseEmitterService;
+    private final EventStreamService eventStreamService;
+    private final MarketDataService marketDataService;
 
     @GetMapping("/status")
     public ResponseEntity<Map<String, Boolean>> getStatus() {
@@ -66,9 +70,26 @@ public class ResultController {
     }
 
     @GetMapping(value = "/announce", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public SseEmitter subscribe() {
-        // DB 조회를 컨트롤러에서 먼저 수행하여 트랜잭션/커넥션을 즉시 반환
-        Map<String, String> currentAnnouncement = settingService.getAnnouncement();
-        return sseEmitterService.subscribe(currentAnnouncement);
+    public SseEmitter subscribe(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        // 재연결이면 놓친 이벤트를 메모리에서 재전송하고, 그럴 수 없을 때만 현재 공지를 DB에서 조회
+        return sseEmitterService.subscribe(lastEventId, settingService::getAnnouncement);
+    }
+
+    /**
+     * 통합 스트림 - 예: ?topics=announcement,mission-complete,settings,market,idea-board:3
+     * 토픽을 바꿔 다시 연결할 때는 헤더를 직접 지정할 수 없으므로 lastEventId 파라미터도 받는다.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeStream(@RequestParam List<String> topics,
+                                      @RequestHeader(value = "Last-Event-ID", required = false) String lastEventIdHeader,
+                                      @RequestParam(required = false) String lastEventId) {
+        return eventStreamService.subscribe(topics,
+                lastEventIdHeader != null ? lastEventIdHeader : lastEventId,
+                settingService::getAnnouncement);
+    }
+
+    @GetMapping(value = "/market", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeMarket() {
+        return marketDataService.subscribe();
     }
 }
@@ -75,9 +75,12 @@ public class StockController {
     }
 
     @GetMapping("/history")
-    public ResponseEntity<List<StockTradeHistoryResponse>> getMyTradeHistory(HttpServletRequest request) {
+    public ResponseEntity<CursorPageResponse<StockTradeHistoryResponse>> getMyTradeHistory(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "30") int size,
+            HttpServletRequest request) {
         Long userId = (Long) request.getAttribute("userId");
-        return ResponseEntity.ok(stockService.getMyTradeHistory(userId));
+        return ResponseEntity.ok(stockService.getMyTradeHistory(userId, cursor, size));
     }
 
     @GetMapping("/account")
@@ -111,11 +114,13 @@ public class StockController {
     }
 
     @GetMapping("/booths/{id}/my-history")
-    public ResponseEntity<List<StockTradeHistoryResponse>> getMyTradeHistoryByBooth(
+    public ResponseEntity<CursorPageResponse<StockTradeHistoryResponse>> getMyTradeHistoryByBooth(
             @PathVariable Long id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "30") int size,
             HttpServletRequest request) {
         Long userId = (Long) request.getAttribute("userId");
-        return ResponseEntity.ok(stockService.getMyTradeHistoryByBooth(userId, id));
+        return ResponseEntity.ok(stockService.getMyTradeHistoryByBooth(userId, id, cursor, size));
     }
 
     @GetMapping("/booths/{id}/comments")
@@ -0,0 +1,56 @@
+package com.pm.investment.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * PM 투자 잔액. 로그인/랭킹에서 계속 읽히는 users 행과 분리해 잔액 갱신이 users 행을 잠그지 않도록 한다.
+ */
+@Entity
+@Table(name = "investment_accounts")
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class InvestmentAccount {
+
+    public static final long DEFAULT_BALANCE = 100_000_000L;
+    public static final long EXECUTIVE_BALANCE = 1_000_000_000L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false, unique = true)
+    private User user;
+
+    @Column(nullable = false)
+    private Long balance = DEFAULT_BALANCE;
+
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    public InvestmentAccount(User user) {
+        this.user = user;
+        this.balance = Boolean.TRUE.equals(user.getIsExecutive()) ? EXECUTIVE_BALANCE : DEFAULT_BALANCE;
+    }
+}
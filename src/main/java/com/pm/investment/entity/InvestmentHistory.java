@@ -9,14 +9,18 @@ import lombok.Setter;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "investment_history")
+@Table(name = "investment_history", indexes = {
+        @Index(name = "idx_history_user_created", columnList = "user_id, created_at DESC, id DESC")
+})
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class InvestmentHistory {
 
+    // 배치 INSERT를 위해 IDENTITY 대신 풀링 시퀀스 (100개 단위로 ID 블록 확보)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "investment_history_seq")
+    @SequenceGenerator(name = "investment_history_seq", sequenceName = "investment_history_seq", allocationSize = 100)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -9,7 +9,10 @@ import lombok.Setter;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "notes")
+@Table(name = "notes", indexes = {
+        @Index(name = "idx_receiver_created", columnList = "receiver_id, created_at DESC, id DESC"),
+        @Index(name = "idx_sender_created", columnList = "sender_id, created_at DESC, id DESC")
+})
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
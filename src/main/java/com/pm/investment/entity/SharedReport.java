@@ -8,6 +8,8 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "shared_reports", uniqueConstraints = {
         @UniqueConstraint(name = "uk_shared_report_user", columnNames = {"user_id"})
+}, indexes = {
+        @Index(name = "idx_shared_report_created", columnList = "created_at DESC, id DESC")
 })
 @Getter
 @Setter
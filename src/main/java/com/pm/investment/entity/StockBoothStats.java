@@ -0,0 +1,40 @@
+package com.pm.investment.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 부스별 AM 보유 집계 (읽기 모델). 거래 반영과 같은 트랜잭션에서 증분 갱신된다.
+ */
+@Entity
+@Table(name = "stock_booth_stats")
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StockBoothStats {
+
+    @Id
+    @Column(name = "stock_booth_id")
+    private Long stockBoothId;
+
+    @Column(name = "total_amount", nullable = false)
+    private Long totalAmount = 0L;
+
+    @Column(name = "holder_count", nullable = false)
+    private Long holderCount = 0L;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public StockBoothStats(Long stockBoothId, Long totalAmount, Long holderCount, LocalDateTime updatedAt) {
+        this.stockBoothId = stockBoothId;
+        this.totalAmount = totalAmount;
+        this.holderCount = holderCount;
+        this.updatedAt = updatedAt;
+    }
+}
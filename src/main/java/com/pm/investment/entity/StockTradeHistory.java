@@ -9,14 +9,19 @@ import lombok.Setter;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "stock_trade_history")
+@Table(name = "stock_trade_history", indexes = {
+        @Index(name = "idx_trade_user_created", columnList = "user_id, created_at DESC, id DESC"),
+        @Index(name = "idx_trade_user_booth_created", columnList = "user_id, stock_booth_id, created_at DESC, id DESC")
+})
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class StockTradeHistory {
 
+    // 배치 INSERT를 위해 IDENTITY 대신 풀링 시퀀스 (100개 단위로 ID 블록 확보)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "stock_trade_history_seq")
+    @SequenceGenerator(name = "stock_trade_history_seq", sequenceName = "stock_trade_history_seq", allocationSize = 100)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -40,12 +45,17 @@ public class StockTradeHistory {
     @Column(name = "balance_after", nullable = false)
     private Long balanceAfter;
 
+    @Column(name = "trade_seq", unique = true)
+    private Long tradeSeq;
+
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
 
     @PrePersist
     protected void onCreate() {
-        createdAt = LocalDateTime.now();
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
     }
 
     public StockTradeHistory(User user, StockBooth stockBooth, TradeType type, Long amount, Long priceAtTrade, Long balanceAfter) {
@@ -28,9 +28,6 @@ public class User {
     @Column(length = 100)
     private String company;
 
-    @Column(nullable = false)
-    private Long balance = 100_000_000L;
-
     @Column(name = "is_executive", nullable = false)
     private Boolean isExecutive = false;
 
@@ -61,6 +58,5 @@ public class User {
     public User(String uniqueCode, String name) {
         this.uniqueCode = uniqueCode;
         this.name = name;
-        this.balance = 100_000_000L;
     }
 }
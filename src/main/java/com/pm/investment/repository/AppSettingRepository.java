@@ -1,7 +1,17 @@
 package com.pm.investment.repository;
 
 import com.pm.investment.entity.AppSetting;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
 
 public interface AppSettingRepository extends JpaRepository<AppSetting, String> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM AppSetting s WHERE s.key = :key")
+    Optional<AppSetting> findByKeyWithLock(@Param("key") String key);
 }
@@ -15,5 +15,8 @@ public interface BoothMemoRepository extends JpaRepository<BoothMemo, Long> {
     @Query("SELECT m FROM BoothMemo m JOIN FETCH m.user JOIN FETCH m.booth WHERE m.user.id IN :userIds")
     List<BoothMemo> findAllByUserIdIn(@Param("userIds") List<Long> userIds);
 
+    @Query("SELECT m.user.id, m.booth.id, m.content FROM BoothMemo m WHERE m.user.isExecutive = true")
+    List<Object[]> findExecutiveMemoRows();
+
     void deleteByUserIdAndBoothId(Long userId, Long boothId);
 }
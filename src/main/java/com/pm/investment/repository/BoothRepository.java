@@ -2,6 +2,7 @@ package com.pm.investment.repository;
 
 import com.pm.investment.entity.Booth;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 import java.util.Optional;
@@ -12,6 +13,9 @@ public interface BoothRepository extends JpaRepository<Booth, Long> {
 
     List<Booth> findAllByOrderByDisplayOrderAsc();
 
+    @Query("SELECT b FROM Booth b LEFT JOIN FETCH b.zone ORDER BY b.displayOrder ASC")
+    List<Booth> findAllWithZoneOrderByDisplayOrderAsc();
+
     List<Booth> findByZoneIdOrderByDisplayOrderAsc(Long zoneId);
 
     List<Booth> findByZoneZoneCodeOrderByDisplayOrderAsc(String zoneCode);
@@ -0,0 +1,38 @@
+package com.pm.investment.repository;
+
+import com.pm.investment.entity.InvestmentAccount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface InvestmentAccountRepository extends JpaRepository<InvestmentAccount, Long> {
+
+    Optional<InvestmentAccount> findByUserId(Long userId);
+
+    boolean existsByUserId(Long userId);
+
+    @Query("SELECT ia.balance FROM InvestmentAccount ia WHERE ia.user.id = :userId")
+    Optional<Long> findBalanceByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT ia.user.id, ia.balance FROM InvestmentAccount ia WHERE ia.user.isExecutive = true OR ia.user.isRookie = true")
+    List<Object[]> findExecutiveAndRookieBalances();
+
+    @Query("SELECT ia.user.id, ia.balance FROM InvestmentAccount ia WHERE ia.user.id IN :userIds")
+    List<Object[]> findBalancesByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
+    /** 잔액이 충분할 때만 차감. 반영된 행 수(0 또는 1)를 반환 */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE InvestmentAccount ia SET ia.balance = ia.balance - :amount, ia.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE ia.user.id = :userId AND ia.balance >= :amount")
+    int debit(@Param("userId") Long userId, @Param("amount") Long amount);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE InvestmentAccount ia SET ia.balance = ia.balance + :amount, ia.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE ia.user.id = :userId")
+    int credit(@Param("userId") Long userId, @Param("amount") Long amount);
+}
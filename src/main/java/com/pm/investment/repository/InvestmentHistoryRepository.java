@@ -1,27 +1,33 @@
 package com.pm.investment.repository;
 
 import com.pm.investment.entity.InvestmentHistory;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
 
 public interface InvestmentHistoryRepository extends JpaRepository<InvestmentHistory, Long> {
 
-    List<InvestmentHistory> findByUserIdOrderByCreatedAtDesc(Long userId);
+    /** 커서 이전 이력 [id, 부스 id, 유형, 금액, 거래 후 잔액, 시각] (created_at, id 내림차순) */
+    @Query("SELECT h.id, h.booth.id, h.type, h.amount, h.balanceAfter, h.createdAt " +
+           "FROM InvestmentHistory h " +
+           "WHERE h.user.id = :userId AND (h.createdAt < :createdAt OR (h.createdAt = :createdAt AND h.id < :id)) " +
+           "ORDER BY h.createdAt DESC, h.id DESC")
+    List<Object[]> findPageByUserId(@Param("userId") Long userId, @Param("createdAt") LocalDateTime createdAt,
+                                    @Param("id") Long id, Limit limit);
 
     long countByUserId(Long userId);
 
     long countByUserIdAndType(Long userId, InvestmentHistory.InvestmentType type);
 
-    @Query("SELECT ih.user.id, COUNT(ih) FROM InvestmentHistory ih WHERE ih.type = :type AND ih.user.isRookie = true GROUP BY ih.user.id ORDER BY COUNT(ih) DESC")
-    List<Object[]> countByTypeGroupedByRookieUser(@Param("type") InvestmentHistory.InvestmentType type);
+    /** rookie 유저별 · 유형별 [userId, type, 건수, 최종 시각] */
+    @Query("SELECT ih.user.id, ih.type, COUNT(ih), MAX(ih.createdAt) FROM InvestmentHistory ih WHERE ih.user.isRookie = true GROUP BY ih.user.id, ih.type")
+    List<Object[]> getCountAndLatestByRookieUserAndType();
 
-    @Query("SELECT ih FROM InvestmentHistory ih WHERE ih.type = :type AND ih.user.isRookie = true ORDER BY ih.createdAt DESC LIMIT 1")
-    Optional<InvestmentHistory> findLatestByTypeAndRookie(@Param("type") InvestmentHistory.InvestmentType type);
-
-    @Query("SELECT ih.user.id, MAX(ih.createdAt) FROM InvestmentHistory ih WHERE ih.user.isRookie = true GROUP BY ih.user.id")
-    List<Object[]> getLatestTimeByRookieUser();
+    /** 유저별 · 유형별 [userId, type, 건수] (활동 요약 적재용) */
+    @Query("SELECT ih.user.id, ih.type, COUNT(ih) FROM InvestmentHistory ih GROUP BY ih.user.id, ih.type")
+    List<Object[]> getCountByUserAndType();
 }
@@ -2,26 +2,56 @@ package com.pm.investment.repository;
 
 import com.pm.investment.entity.Investment;
 import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface InvestmentRepository extends JpaRepository<Investment, Long> {
 
     Optional<Investment> findByUserIdAndBoothId(Long userId, Long boothId);
 
+    /**
+     * 보고서 집계용 [userId, boothId, isExecutive, isRookie, amount] 스트림 (경영진/신입사원, 투자금 있는 행만).
+     * 엔티티를 만들지 않고 fetch size 단위로 커서에서 읽는다 (MySQL은 useCursorFetch). 트랜잭션 안에서 닫아야 한다.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT i.user.id, i.booth.id, i.user.isExecutive, i.user.isRookie, i.amount FROM Investment i " +
+            "WHERE (i.user.isExecutive = true OR i.user.isRookie = true) AND i.amount > 0")
+    Stream<Object[]> streamExecutiveAndRookieInvestments();
+
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT i FROM Investment i WHERE i.user.id = :userId AND i.booth.id = :boothId")
     Optional<Investment> findByUserIdAndBoothIdWithLock(@Param("userId") Long userId, @Param("boothId") Long boothId);
 
+    /** 기존 투자 행에 금액 가산. 행이 없으면 0 반환 */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Investment i SET i.amount = i.amount + :amount, i.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE i.user.id = :userId AND i.booth.id = :boothId")
+    int addAmount(@Param("userId") Long userId, @Param("boothId") Long boothId, @Param("amount") Long amount);
+
+    /** 투자금이 충분할 때만 차감. 반영된 행 수(0 또는 1)를 반환 */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Investment i SET i.amount = i.amount - :amount, i.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE i.user.id = :userId AND i.booth.id = :boothId AND i.amount >= :amount")
+    int subtractAmount(@Param("userId") Long userId, @Param("boothId") Long boothId, @Param("amount") Long amount);
+
     List<Investment> findByBoothId(Long boothId);
 
     List<Investment> findByUserIdAndAmountGreaterThan(Long userId, Long amount);
 
+    List<Investment> findByUserIdInAndAmountGreaterThan(Collection<Long> userIds, Long amount);
+
     @Query("SELECT COALESCE(SUM(i.amount), 0) FROM Investment i WHERE i.booth.id = :boothId")
     Long getTotalInvestmentByBoothId(@Param("boothId") Long boothId);
 
@@ -31,15 +61,13 @@ public interface InvestmentRepository extends JpaRepository<Investment, Long> {
     @Query("SELECT i.booth.id, COALESCE(SUM(i.amount), 0), COUNT(i), MAX(i.updatedAt) FROM Investment i WHERE i.amount > 0 GROUP BY i.booth.id")
     List<Object[]> getInvestmentStatsByBooth();
 
+    /** 부스의 남은 투자 중 가장 최근 변경 시각 (없으면 null) */
+    @Query("SELECT MAX(i.updatedAt) FROM Investment i WHERE i.booth.id = :boothId AND i.amount > 0")
+    LocalDateTime findLatestUpdatedAtByBoothId(@Param("boothId") Long boothId);
+
     @Query("SELECT i.booth.id, i.amount FROM Investment i WHERE i.user.id = :userId AND i.amount > 0")
     List<Object[]> getMyInvestmentAmounts(@Param("userId") Long userId);
 
-    @Query("SELECT i FROM Investment i JOIN FETCH i.user u JOIN FETCH i.booth b WHERE u.isExecutive = true AND i.amount > 0 ORDER BY u.name, b.name")
-    List<Investment> findAllByExecutiveUsersWithAmount();
 
-    @Query("SELECT i FROM Investment i JOIN FETCH i.user u JOIN FETCH i.booth b WHERE u.isRookie = true AND i.amount > 0 ORDER BY u.name, b.name")
-    List<Investment> findAllByRookieUsersWithAmount();
 
-    @Query("SELECT i FROM Investment i JOIN FETCH i.user u JOIN FETCH i.booth b WHERE (u.isExecutive = true OR u.isRookie = true) AND i.amount > 0 ORDER BY u.name, b.name")
-    List<Investment> findAllByExecutiveOrRookieUsersWithAmount();
 }
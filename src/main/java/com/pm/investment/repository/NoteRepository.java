@@ -1,19 +1,30 @@
 package com.pm.investment.repository;
 
 import com.pm.investment.entity.Note;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface NoteRepository extends JpaRepository<Note, Long> {
 
-    @Query("SELECT n FROM Note n JOIN FETCH n.sender JOIN FETCH n.receiver WHERE n.receiver.id = :receiverId ORDER BY n.createdAt DESC")
-    List<Note> findByReceiverIdWithUsers(@Param("receiverId") Long receiverId);
+    /** 커서 이전 받은 쪽지 [id, 발신자 id, 이름, 회사, 수신자 id, 이름, 회사, 내용, 읽음, 시각] (created_at, id 내림차순) */
+    @Query("SELECT n.id, s.id, s.name, s.company, r.id, r.name, r.company, n.content, n.isRead, n.createdAt " +
+           "FROM Note n JOIN n.sender s JOIN n.receiver r " +
+           "WHERE r.id = :receiverId AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.id < :id)) " +
+           "ORDER BY n.createdAt DESC, n.id DESC")
+    List<Object[]> findPageByReceiverId(@Param("receiverId") Long receiverId, @Param("createdAt") LocalDateTime createdAt,
+                                        @Param("id") Long id, Limit limit);
 
-    @Query("SELECT n FROM Note n JOIN FETCH n.sender JOIN FETCH n.receiver WHERE n.sender.id = :senderId ORDER BY n.createdAt DESC")
-    List<Note> findBySenderIdWithUsers(@Param("senderId") Long senderId);
+    @Query("SELECT n.id, s.id, s.name, s.company, r.id, r.name, r.company, n.content, n.isRead, n.createdAt " +
+           "FROM Note n JOIN n.sender s JOIN n.receiver r " +
+           "WHERE s.id = :senderId AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.id < :id)) " +
+           "ORDER BY n.createdAt DESC, n.id DESC")
+    List<Object[]> findPageBySenderId(@Param("senderId") Long senderId, @Param("createdAt") LocalDateTime createdAt,
+                                      @Param("id") Long id, Limit limit);
 
     @Query("SELECT COUNT(n) FROM Note n WHERE n.receiver.id = :receiverId AND n.isRead = false")
     long countUnreadByReceiverId(@Param("receiverId") Long receiverId);
@@ -1,13 +1,23 @@
 package com.pm.investment.repository;
 
 import com.pm.investment.entity.SharedReport;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface SharedReportRepository extends JpaRepository<SharedReport, Long> {
 
     boolean existsByUserId(Long userId);
 
-    List<SharedReport> findAllByOrderByCreatedAtDesc();
+    /** 커서 이전 공유 리포트 [id, 사용자 id, 이름, 회사, 성향 타입/이름/이모지/한줄, 비전, 시각] (created_at, id 내림차순) */
+    @Query("SELECT sr.id, u.id, u.name, u.company, sr.tendencyType, sr.tendencyName, sr.tendencyEmoji, " +
+           "sr.tendencyOneLiner, sr.vision, sr.createdAt " +
+           "FROM SharedReport sr JOIN sr.user u " +
+           "WHERE sr.createdAt < :createdAt OR (sr.createdAt = :createdAt AND sr.id < :id) " +
+           "ORDER BY sr.createdAt DESC, sr.id DESC")
+    List<Object[]> findPage(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
 }
@@ -7,6 +7,8 @@ import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface StockAccountRepository extends JpaRepository<StockAccount, Long> {
@@ -16,4 +18,12 @@ public interface StockAccountRepository extends JpaRepository<StockAccount, Long
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT sa FROM StockAccount sa WHERE sa.user.id = :userId")
     Optional<StockAccount> findByUserIdWithLock(@Param("userId") Long userId);
+
+    @Query("SELECT sa FROM StockAccount sa JOIN FETCH sa.user WHERE sa.user.id = :userId")
+    Optional<StockAccount> findByUserIdWithUser(@Param("userId") Long userId);
+
+    @Query("SELECT sa FROM StockAccount sa JOIN FETCH sa.user")
+    List<StockAccount> findAllWithUser();
+
+    List<StockAccount> findByUserIdIn(Collection<Long> userIds);
 }
@@ -19,4 +19,7 @@ public interface StockBoothRepository extends JpaRepository<StockBooth, Long> {
     List<StockBooth> findByZoneIdOrderByDisplayOrderAsc(Long zoneId);
 
     Optional<StockBooth> findByName(String name);
+
+    @Query("SELECT sb.id FROM StockBooth sb")
+    List<Long> findAllIds();
 }
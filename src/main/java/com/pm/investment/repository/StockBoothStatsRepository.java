@@ -0,0 +1,20 @@
+package com.pm.investment.repository;
+
+import com.pm.investment.entity.StockBoothStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface StockBoothStatsRepository extends JpaRepository<StockBoothStats, Long> {
+
+    /** 거래 배치의 부스별 증분 반영 (보유액 합계, 0 ↔ 양수 전환에 따른 보유자 수) */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE StockBoothStats s SET s.totalAmount = s.totalAmount + :amount, " +
+            "s.holderCount = s.holderCount + :holders, s.updatedAt = :updatedAt " +
+            "WHERE s.stockBoothId = :stockBoothId")
+    int applyDelta(@Param("stockBoothId") Long stockBoothId, @Param("amount") long amount,
+                   @Param("holders") long holders, @Param("updatedAt") LocalDateTime updatedAt);
+}
@@ -20,4 +20,7 @@ public interface StockCommentRepository extends JpaRepository<StockComment, Long
 
     @Query("SELECT sc.user.id, COUNT(sc) FROM StockComment sc WHERE sc.user.isRookie = true GROUP BY sc.user.id ORDER BY COUNT(sc) DESC")
     List<Object[]> getCommentCountByRookieUser();
+
+    @Query("SELECT sc.user.id, COUNT(sc) FROM StockComment sc GROUP BY sc.user.id")
+    List<Object[]> getCommentCountByUser();
 }
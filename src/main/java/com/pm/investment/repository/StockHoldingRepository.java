@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -32,8 +33,16 @@ public interface StockHoldingRepository extends JpaRepository<StockHolding, Long
     @Query("SELECT COUNT(sh) FROM StockHolding sh WHERE sh.stockBooth.id = :stockBoothId AND sh.amount > 0")
     Long getHolderCountByStockBoothId(@Param("stockBoothId") Long stockBoothId);
 
-    @Query("SELECT sh.user.id, COUNT(sh) FROM StockHolding sh WHERE sh.amount > 0 AND sh.user.isRookie = true GROUP BY sh.user.id ORDER BY COUNT(sh) DESC")
-    List<Object[]> getBoothCountByRookieUser();
+    @Query("SELECT sh.stockBooth.id, COUNT(sh) FROM StockHolding sh WHERE sh.amount > 0 GROUP BY sh.stockBooth.id")
+    List<Object[]> getHolderCountByAllBooths();
+
+    @Query("SELECT sh.stockBooth.id, sh.user.id, sh.updatedAt FROM StockHolding sh WHERE sh.amount > 0")
+    List<Object[]> getHolderUpdatedAts();
 
     List<StockHolding> findByAmountGreaterThan(Long amount);
+
+    @Query("SELECT sh.user.id, sh.stockBooth.id, sh.amount FROM StockHolding sh")
+    List<Object[]> getAllHoldingAmounts();
+
+    List<StockHolding> findByUserIdIn(Collection<Long> userIds);
 }
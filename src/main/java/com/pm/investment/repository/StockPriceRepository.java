@@ -3,9 +3,13 @@ package com.pm.investment.repository;
 import com.pm.investment.entity.StockPrice;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface StockPriceRepository extends JpaRepository<StockPrice, Long> {
 
     Optional<StockPrice> findByStockBoothId(Long stockBoothId);
+
+    List<StockPrice> findByStockBoothIdIn(Collection<Long> stockBoothIds);
 }
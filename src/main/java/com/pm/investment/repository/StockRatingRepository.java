@@ -17,6 +17,9 @@ public interface StockRatingRepository extends JpaRepository<StockRating, Long>
     @Query("SELECT r.stockBooth.id FROM StockRating r WHERE r.user.id = :userId")
     List<Long> findRatedStockBoothIdsByUserId(@Param("userId") Long userId);
 
+    @Query("SELECT r.user.id, r.stockBooth.id FROM StockRating r")
+    List<Object[]> findAllUserAndStockBoothIds();
+
     long countByUserIdAndReviewIsNotNull(Long userId);
 
     @Query("SELECT r FROM StockRating r JOIN FETCH r.user WHERE r.stockBooth.id = :stockBoothId AND r.review IS NOT NULL ORDER BY r.updatedAt DESC")
@@ -34,4 +37,8 @@ public interface StockRatingRepository extends JpaRepository<StockRating, Long>
     Double getAverageScoreByUserId(@Param("userId") Long userId);
 
     long countByUserId(Long userId);
+
+    /** [userId, stockBoothId, 6개 항목 점수 합] */
+    @Query("SELECT r.user.id, r.stockBooth.id, r.scoreFirst + r.scoreBest + r.scoreDifferent + r.scoreNumberOne + r.scoreGap + r.scoreGlobal FROM StockRating r")
+    List<Object[]> findAllScoreTotals();
 }
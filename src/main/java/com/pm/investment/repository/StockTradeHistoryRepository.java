@@ -1,28 +1,43 @@
 package com.pm.investment.repository;
 
 import com.pm.investment.entity.StockTradeHistory;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
-
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
 
 public interface StockTradeHistoryRepository extends JpaRepository<StockTradeHistory, Long> {
 
-    List<StockTradeHistory> findByUserIdOrderByCreatedAtDesc(Long userId);
-
-    List<StockTradeHistory> findByUserIdAndStockBoothIdOrderByCreatedAtDesc(Long userId, Long stockBoothId);
-
-    List<StockTradeHistory> findAllByOrderByCreatedAtAsc();
+    /** 커서 이전 거래 [id, 부스 id, 유형, 수량, 거래가, 거래 후 잔액, 시각, 원장 seq] (created_at, id 내림차순) */
+    @Query("SELECT h.id, h.stockBooth.id, h.type, h.amount, h.priceAtTrade, h.balanceAfter, h.createdAt, h.tradeSeq " +
+           "FROM StockTradeHistory h " +
+           "WHERE h.user.id = :userId AND (h.createdAt < :createdAt OR (h.createdAt = :createdAt AND h.id < :id)) " +
+           "ORDER BY h.createdAt DESC, h.id DESC")
+    List<Object[]> findPageByUserId(@Param("userId") Long userId, @Param("createdAt") LocalDateTime createdAt,
+                                    @Param("id") Long id, Limit limit);
+
+    @Query("SELECT h.id, h.stockBooth.id, h.type, h.amount, h.priceAtTrade, h.balanceAfter, h.createdAt, h.tradeSeq " +
+           "FROM StockTradeHistory h " +
+           "WHERE h.user.id = :userId AND h.stockBooth.id = :stockBoothId " +
+           "AND (h.createdAt < :createdAt OR (h.createdAt = :createdAt AND h.id < :id)) " +
+           "ORDER BY h.createdAt DESC, h.id DESC")
+    List<Object[]> findPageByUserIdAndStockBoothId(@Param("userId") Long userId, @Param("stockBoothId") Long stockBoothId,
+                                                   @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                                   Limit limit);
+
+    @Query("SELECT sth.type, sth.amount, sth.createdAt FROM StockTradeHistory sth ORDER BY sth.createdAt ASC, sth.id ASC")
+    List<Object[]> findAllTypeAmountTimeOrderByCreatedAtAsc();
 
     long countByUserId(Long userId);
 
     long countByUserIdAndType(Long userId, StockTradeHistory.TradeType type);
 
-    @Query("SELECT sth FROM StockTradeHistory sth WHERE sth.user.isRookie = true ORDER BY sth.createdAt DESC LIMIT 1")
-    Optional<StockTradeHistory> findLatestByRookieUser();
-
     @Query("SELECT sth.user.id, MAX(sth.createdAt) FROM StockTradeHistory sth WHERE sth.user.isRookie = true GROUP BY sth.user.id")
     List<Object[]> getLatestTimeByRookieUser();
+
+    @Query("SELECT MAX(sth.tradeSeq) FROM StockTradeHistory sth")
+    Long findMaxTradeSeq();
 }
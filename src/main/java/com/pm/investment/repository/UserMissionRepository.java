@@ -16,9 +16,13 @@ public interface UserMissionRepository extends JpaRepository<UserMission, Long>
 
     List<UserMission> findByUser_Id(Long userId);
 
-    @Query("SELECT um FROM UserMission um JOIN FETCH um.user WHERE um.missionId = :missionId ORDER BY um.progress DESC, um.completedAt ASC")
-    List<UserMission> findRankingByMissionId(@Param("missionId") String missionId);
-
-    @Query("SELECT um FROM UserMission um JOIN FETCH um.user WHERE um.missionId IN :missionIds")
-    List<UserMission> findByMissionIdIn(@Param("missionIds") List<String> missionIds);
+    /** 랭킹 집계용: userId, 이름, 회사, progress (progress 내림차순, 먼저 완료한 순) */
+    @Query("SELECT um.user.id, um.user.name, um.user.company, um.progress FROM UserMission um " +
+            "WHERE um.missionId = :missionId ORDER BY um.progress DESC, um.completedAt ASC")
+    List<Object[]> findRankingRowsByMissionId(@Param("missionId") String missionId);
+
+    /** rookie의 완료 미션 [userId, missionId, completedAt] */
+    @Query("SELECT um.user.id, um.missionId, um.completedAt FROM UserMission um " +
+            "WHERE um.missionId IN :missionIds AND um.isCompleted = true AND um.user.isRookie = true")
+    List<Object[]> findCompletedRookieRows(@Param("missionIds") List<String> missionIds);
 }
@@ -26,6 +26,17 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     List<User> findByNameContainingAndIdNot(String name, Long id);
 
-    @Query("SELECT u.company, COUNT(u) FROM User u WHERE u.isRookie = true AND u.company IS NOT NULL GROUP BY u.company")
-    List<Object[]> countRookiesByCompany();
+    @Query("SELECT u.id, u.name, u.company FROM User u WHERE u.isRookie = true")
+    List<Object[]> findRookieNames();
+
+    @Query("SELECT u.id FROM User u ORDER BY u.id")
+    List<Long> findAllIds();
+
+    @Query("SELECT u.id, u.belongingStockBooth.id FROM User u WHERE u.belongingStockBooth IS NOT NULL")
+    List<Object[]> findAllUserAndBelongingStockBoothIds();
+
+    /** 보고서 대상자 [id, name, company, isExecutive, isRookie], 이름순 */
+    @Query("SELECT u.id, u.name, u.company, u.isExecutive, u.isRookie FROM User u " +
+            "WHERE u.isExecutive = true OR u.isRookie = true ORDER BY u.name, u.id")
+    List<Object[]> findExecutiveAndRookieRows();
 }
@@ -2,623 +2,339 @@ package com.pm.investment.service;
 
 import com.pm.investment.dto.AwardRankingItem;
 import com.pm.investment.dto.AwardResponse;
-import com.pm.investment.entity.*;
+import com.pm.investment.entity.InvestmentHistory;
 import com.pm.investment.repository.*;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
-import java.util.stream.Collectors;
-
+import java.util.function.Function;
+
+/**
+ * 시상 9종과 종목별 전체 랭킹.
+ *
+ * 원천 데이터(rookie 명단, 부스, 보유 주식, 방문, 미션, PM 이력, AM 거래, 댓글)를 각각 한 번씩만 읽어
+ * id 기준 맵으로 모은 뒤 모든 종목의 정렬된 랭킹을 한 번에 만든다. 수상자는 각 랭킹의 1위.
+ * 결과는 DataVersion과 함께 보관해 데이터가 바뀌지 않았으면 시상식 중 새로고침은 그대로 돌려준다.
+ */
 @Service
 @RequiredArgsConstructor
 public class AwardService {
 
     private static final List<String> MISSION_IDS = List.of("renew", "dream", "result", "again", "sincere", "together");
+    private static final int ALL_MISSIONS = (1 << MISSION_IDS.size()) - 1;
     private static final DateTimeFormatter TIME_FMT = DateTimeFormatter.ofPattern("HH:mm:ss");
 
     private final StockHoldingRepository stockHoldingRepository;
-    private final StockBoothRepository stockBoothRepository;
+    private final StockBoothStatsIndex stockBoothStatsIndex;
+    private final BoothCatalog boothCatalog;
     private final StockBoothVisitRepository stockBoothVisitRepository;
     private final UserMissionRepository userMissionRepository;
     private final InvestmentHistoryRepository investmentHistoryRepository;
     private final StockTradeHistoryRepository stockTradeHistoryRepository;
     private final StockCommentRepository stockCommentRepository;
     private final UserRepository userRepository;
+    private final DataVersion dataVersion;
 
-    @Transactional(readOnly = true)
-    public List<AwardResponse> getAwards() {
-        List<AwardResponse> awards = new ArrayList<>();
-
-        awards.add(get11thBooth());
-        awards.add(getTopProfitInvestor());
-        awards.add(getOctopusInvestor());
-        awards.add(getFootworkInvestor());
-        awards.add(getEarlyBirdInvestor());
-        awards.add(getTransferInvestor());
-        awards.add(getLastTrainInvestor());
-        awards.add(getDreamBigAward());
-        awards.add(getTryAgainAward());
-
-        return awards;
+    /** 이름/회사 (rookie 또는 부스) */
+    private record Person(String name, String company) {
     }
 
-    /**
-     * 11번째 발표 부스: 오전 부스 중 가장 많은 투자금을 받은 부스
-     */
-    private AwardResponse get11thBooth() {
-        List<Object[]> holdings = stockHoldingRepository.getTotalHoldingByAllBooths();
-        if (holdings.isEmpty()) {
-            return emptyAward("11번째 발표 부스", "오전 부스 중 가장 많은 투자금을 받은 부스");
-        }
-
-        // holdings: [stockBoothId, totalAmount, lastUpdatedAt]
-        Long topBoothId = (Long) holdings.get(0)[0];
-        long topAmount = ((Number) holdings.get(0)[1]).longValue();
-        StockBooth booth = stockBoothRepository.findById(topBoothId).orElse(null);
-
-        return AwardResponse.builder()
-                .awardName("11번째 발표 부스")
-                .description("오전 부스 중 가장 많은 투자금을 받은 부스")
-                .winnerName(booth != null ? booth.getName() : "없음")
-                .winnerCompany(booth != null ? booth.getCategory() : "")
-                .detail(formatAmount(topAmount))
-                .build();
+    /** 정렬된 랭킹 한 줄. value와 time이 모두 같으면 공동 순위 */
+    private record Row(Person person, long value, LocalDateTime time) {
     }
 
-    /**
-     * 하고잡이 투자자상: 투자처 순위 가중치 기반 점수가 가장 높은 개인 (is_rookie만)
-     *
-     * 부스 순위별 가중치:
-     * 1위=10, 2위=9, 3위=8, 4위=7, 5위=6, 6~7위=5, 8~10위=4, 11~15위=3, 16~22위=2, 23위~=1
-     *
-     * 점수 = SUM(투자금액 × 해당 부스의 가중치)
-     */
-    private AwardResponse getTopProfitInvestor() {
-        // 1. 부스별 총 투자금 순위 산출
-        List<Object[]> boothHoldings = stockHoldingRepository.getTotalHoldingByAllBooths();
-
-        // boothId → 가중치 매핑
-        Map<Long, Integer> boothWeightMap = new HashMap<>();
-        for (int i = 0; i < boothHoldings.size(); i++) {
-            Long boothId = (Long) boothHoldings.get(i)[0];
-            boothWeightMap.put(boothId, rankToWeight(i + 1));
-        }
-
-        // 2. rookie 유저의 보유 주식으로 가중치 점수 계산
-        List<StockHolding> allHoldings = stockHoldingRepository.findByAmountGreaterThan(0L);
-
-        Set<Long> rookieIds = userRepository.findAll().stream()
-                .filter(u -> Boolean.TRUE.equals(u.getIsRookie()))
-                .map(User::getId)
-                .collect(Collectors.toSet());
-
-        // 유저별 가중치 점수 합산
-        Map<Long, Long> scoreMap = new HashMap<>();
-        for (StockHolding holding : allHoldings) {
-            Long userId = holding.getUser().getId();
-            if (!rookieIds.contains(userId)) continue;
-            int weight = boothWeightMap.getOrDefault(holding.getStockBooth().getId(), 1);
-            scoreMap.merge(userId, holding.getAmount() * weight, Long::sum);
-        }
-
-        if (scoreMap.isEmpty()) {
-            return emptyAward("하고잡이 투자자상", "투자처 순위 가중치 점수가 가장 높은 개인");
-        }
+    /** 한 데이터 버전의 계산 결과 */
+    private record AwardBoard(long version, List<AwardResponse> awards, List<List<AwardRankingItem>> rankings) {
+    }
 
-        // 3. 최고 점수 유저
-        Map.Entry<Long, Long> best = scoreMap.entrySet().stream()
-                .max(Map.Entry.comparingByValue())
-                .orElse(null);
+    private volatile AwardBoard board;
 
-        User winner = userRepository.findById(best.getKey()).orElse(null);
-        return AwardResponse.builder()
-                .awardName("하고잡이 투자자상")
-                .description("투자처 순위 가중치 점수가 가장 높은 개인")
-                .winnerName(winner != null ? winner.getName() : "없음")
-                .winnerCompany(winner != null ? winner.getCompany() : "")
-                .detail("가중치 점수 " + formatAmount(best.getValue()))
-                .build();
+    public List<AwardResponse> getAwards() {
+        return board().awards();
     }
 
-    private int rankToWeight(int rank) {
-        if (rank == 1) return 10;
-        if (rank == 2) return 9;
-        if (rank == 3) return 8;
-        if (rank == 4) return 7;
-        if (rank == 5) return 6;
-        if (rank <= 7) return 5;
-        if (rank <= 10) return 4;
-        if (rank <= 15) return 3;
-        if (rank <= 22) return 2;
-        return 1;
+    public List<AwardRankingItem> getAwardRanking(int index) {
+        List<List<AwardRankingItem>> rankings = board().rankings();
+        return index >= 0 && index < rankings.size() ? rankings.get(index) : List.of();
     }
 
-    /**
-     * 문어발 투자자상: 오전 투자에서 가장 많은 부스에 투자한 개인 (is_rookie만)
-     */
-    private AwardResponse getOctopusInvestor() {
-        List<Object[]> boothCounts = stockHoldingRepository.getBoothCountByRookieUser();
-        if (boothCounts.isEmpty()) {
-            return emptyAward("문어발 투자자상", "오전 투자에서 가장 많은 부스에 투자한 개인");
+    private AwardBoard board() {
+        AwardBoard current = board;
+        if (current != null && current.version() == dataVersion.get()) {
+            return current;
+        }
+        synchronized (this) {
+            // 계산 전에 버전을 읽어 두면, 계산 중 반영된 변경은 다음 조회에서 다시 계산된다
+            long version = dataVersion.get();
+            current = board;
+            if (current == null || current.version() != version) {
+                current = compute(version);
+                board = current;
+            }
+            return current;
         }
+    }
 
-        Long userId = (Long) boothCounts.get(0)[0];
-        long count = ((Number) boothCounts.get(0)[1]).longValue();
-        User winner = userRepository.findById(userId).orElse(null);
+    private AwardBoard compute(long version) {
+        Map<Long, Person> rookies = new HashMap<>();
+        for (Object[] row : userRepository.findRookieNames()) {
+            rookies.put((Long) row[0], new Person((String) row[1], (String) row[2]));
+        }
+        Map<Long, Person> booths = new HashMap<>();
+        for (BoothCatalog.Entry booth : boothCatalog.stockBooths()) {
+            booths.put(booth.id(), new Person(booth.name(), booth.category()));
+        }
 
-        return AwardResponse.builder()
-                .awardName("문어발 투자자상")
-                .description("오전 투자에서 가장 많은 부스에 투자한 개인")
-                .winnerName(winner != null ? winner.getName() : "없음")
-                .winnerCompany(winner != null ? winner.getCompany() : "")
-                .detail(count + "개 부스 투자")
-                .build();
-    }
+        // 부스 총 투자금 순위 → 11번째 발표 부스, 하고잡이 가중치
+        List<StockBoothStatsIndex.Stats> boothRanking = stockBoothStatsIndex.getRanked();
+        List<Row> boothRows = new ArrayList<>(boothRanking.size());
+        Map<Long, Integer> boothWeight = new HashMap<>();
+        for (int i = 0; i < boothRanking.size(); i++) {
+            StockBoothStatsIndex.Stats stats = boothRanking.get(i);
+            boothRows.add(new Row(booths.getOrDefault(stats.boothId(), new Person("없음", "")), stats.totalAmount(), null));
+            boothWeight.put(stats.boothId(), rankToWeight(i + 1));
+        }
 
-    /**
-     * 발품투자자상: 오전 투자에서 가장 많은 부스에 방문한 개인 (is_rookie만)
-     */
-    private AwardResponse getFootworkInvestor() {
-        List<Object[]> visitCounts = stockBoothVisitRepository.getVisitCountByRookieUser();
-        if (visitCounts.isEmpty()) {
-            return emptyAward("발품투자자상", "오전 투자에서 가장 많은 부스에 방문한 개인");
+        // 보유 주식 1회 순회 → 가중치 점수, 투자 부스 수
+        Map<Long, Long> weightedScore = new HashMap<>();
+        Map<Long, Long> heldBooths = new HashMap<>();
+        for (Object[] row : stockHoldingRepository.getAllHoldingAmounts()) {
+            Long userId = (Long) row[0];
+            long amount = ((Number) row[2]).longValue();
+            if (amount <= 0 || !rookies.containsKey(userId)) continue;
+            weightedScore.merge(userId, amount * boothWeight.getOrDefault((Long) row[1], 1), Long::sum);
+            heldBooths.merge(userId, 1L, Long::sum);
         }
 
-        Long userId = (Long) visitCounts.get(0)[0];
-        long count = ((Number) visitCounts.get(0)[1]).longValue();
-        User winner = userRepository.findById(userId).orElse(null);
+        // 방문 1회 순회 → 유저별 방문 부스 수(rookie), 부스별 방문자 수와 마지막 방문 시각
+        Map<Long, Long> visitedBooths = new HashMap<>();
+        Map<Long, Long> boothVisitors = new HashMap<>();
+        Map<Long, LocalDateTime> boothLastVisit = new HashMap<>();
+        for (Object[] row : stockBoothVisitRepository.findAllVisitRows()) {
+            Long userId = (Long) row[0];
+            Long boothId = (Long) row[1];
+            LocalDateTime visitedAt = (LocalDateTime) row[2];
+            if (rookies.containsKey(userId)) {
+                visitedBooths.merge(userId, 1L, Long::sum);
+            }
+            boothVisitors.merge(boothId, 1L, Long::sum);
+            if (visitedAt != null) {
+                boothLastVisit.merge(boothId, visitedAt, (a, b) -> a.isAfter(b) ? a : b);
+            }
+        }
 
-        return AwardResponse.builder()
-                .awardName("발품투자자상")
-                .description("오전 투자에서 가장 많은 부스에 방문한 개인")
-                .winnerName(winner != null ? winner.getName() : "없음")
-                .winnerCompany(winner != null ? winner.getCompany() : "")
-                .detail(count + "개 부스 방문")
-                .build();
-    }
+        // 미션: 완료한 미션을 비트로, 마지막 완료 시각
+        Map<Long, Integer> missionMask = new HashMap<>();
+        Map<Long, LocalDateTime> missionLast = new HashMap<>();
+        for (Object[] row : userMissionRepository.findCompletedRookieRows(MISSION_IDS)) {
+            Long userId = (Long) row[0];
+            LocalDateTime completedAt = (LocalDateTime) row[2];
+            missionMask.merge(userId, 1 << MISSION_IDS.indexOf((String) row[1]), (a, b) -> a | b);
+            if (completedAt != null) {
+                missionLast.merge(userId, completedAt, (a, b) -> a.isAfter(b) ? a : b);
+            }
+        }
 
-    /**
-     * 얼리버드 투자자상: 하고잡이 미션 6개를 가장 먼저 완수한 개인 (is_rookie만)
-     */
-    private AwardResponse getEarlyBirdInvestor() {
-        List<UserMission> allMissions = userMissionRepository.findByMissionIdIn(MISSION_IDS);
-
-        // rookie 유저 ID 세트
-        Set<Long> rookieIds = userRepository.findAll().stream()
-                .filter(u -> Boolean.TRUE.equals(u.getIsRookie()))
-                .map(User::getId)
-                .collect(Collectors.toSet());
-
-        // 유저별 완료된 미션 그룹핑 (rookie만)
-        Map<Long, List<UserMission>> byUser = allMissions.stream()
-                .filter(um -> Boolean.TRUE.equals(um.getIsCompleted()))
-                .filter(um -> rookieIds.contains(um.getUser().getId()))
-                .collect(Collectors.groupingBy(um -> um.getUser().getId()));
-
-        Long bestUserId = null;
-        LocalDateTime earliestCompletion = null;
-
-        for (Map.Entry<Long, List<UserMission>> entry : byUser.entrySet()) {
-            Set<String> completedMissions = entry.getValue().stream()
-                    .map(UserMission::getMissionId)
-                    .collect(Collectors.toSet());
-
-            if (completedMissions.containsAll(MISSION_IDS)) {
-                // 6개 모두 완료 → 마지막 미션 완료 시간이 가장 빠른 유저
-                LocalDateTime lastCompleted = entry.getValue().stream()
-                        .filter(um -> MISSION_IDS.contains(um.getMissionId()))
-                        .map(UserMission::getCompletedAt)
-                        .filter(Objects::nonNull)
-                        .max(LocalDateTime::compareTo)
-                        .orElse(null);
-
-                if (lastCompleted != null && (earliestCompletion == null || lastCompleted.isBefore(earliestCompletion))) {
-                    earliestCompletion = lastCompleted;
-                    bestUserId = entry.getKey();
-                }
+        // PM 이력 → 철회 횟수, 마지막 투자(INVEST) 시각, 마지막 투자/철회 시각
+        Map<Long, Long> withdrawCount = new HashMap<>();
+        Map<Long, LocalDateTime> lastInvest = new HashMap<>();
+        Map<Long, LocalDateTime> lastActivity = new HashMap<>();
+        for (Object[] row : investmentHistoryRepository.getCountAndLatestByRookieUserAndType()) {
+            Long userId = (Long) row[0];
+            InvestmentHistory.InvestmentType type = (InvestmentHistory.InvestmentType) row[1];
+            LocalDateTime latest = (LocalDateTime) row[3];
+            if (type == InvestmentHistory.InvestmentType.WITHDRAW) {
+                withdrawCount.put(userId, ((Number) row[2]).longValue());
+            } else {
+                lastInvest.put(userId, latest);
             }
+            lastActivity.merge(userId, latest, (a, b) -> a.isAfter(b) ? a : b);
+        }
+        // AM 거래 → 마지막 거래 시각 (PM 시각과 합쳐 더 늦은 쪽)
+        Map<Long, LocalDateTime> lastTrade = new HashMap<>();
+        for (Object[] row : stockTradeHistoryRepository.getLatestTimeByRookieUser()) {
+            lastTrade.put((Long) row[0], (LocalDateTime) row[1]);
         }
+        lastTrade.forEach((userId, time) -> lastActivity.merge(userId, time, (a, b) -> a.isAfter(b) ? a : b));
 
-        if (bestUserId == null) {
-            return emptyAward("얼리버드 투자자상", "하고잡이 미션 6개를 가장 먼저 완수한 개인");
+        Map<Long, Long> commentCount = new HashMap<>();
+        for (Object[] row : stockCommentRepository.getCommentCountByRookieUser()) {
+            commentCount.put((Long) row[0], ((Number) row[1]).longValue());
         }
 
-        User winner = userRepository.findById(bestUserId).orElse(null);
-        return AwardResponse.builder()
-                .awardName("얼리버드 투자자상")
-                .description("하고잡이 미션 6개를 가장 먼저 완수한 개인")
-                .winnerName(winner != null ? winner.getName() : "없음")
-                .winnerCompany(winner != null ? winner.getCompany() : "")
-                .detail("완수 시각 " + earliestCompletion.format(TIME_FMT))
-                .build();
-    }
+        // ──────── 종목별 랭킹 ────────
 
-    /**
-     * 환승투자자상: 철회 횟수가 가장 많은 개인 (is_rookie만)
-     */
-    private AwardResponse getTransferInvestor() {
-        List<Object[]> withdrawCounts = investmentHistoryRepository
-                .countByTypeGroupedByRookieUser(InvestmentHistory.InvestmentType.WITHDRAW);
+        List<Row> topProfit = countRows(weightedScore, rookies);
+        List<Row> octopus = countRows(heldBooths, rookies);
+        List<Row> footwork = countRows(visitedBooths, rookies);
+        List<Row> transfer = countRows(withdrawCount, rookies);
+        List<Row> dreamBig = countRows(commentCount, rookies);
 
-        if (withdrawCounts.isEmpty()) {
-            return emptyAward("환승투자자상", "철회 횟수가 가장 많은 개인");
+        // 얼리버드: 완료 미션 수 DESC → 마지막 완료 시각 ASC
+        List<Row> earlyBird = new ArrayList<>();
+        missionMask.forEach((userId, mask) -> {
+            if (rookies.containsKey(userId)) {
+                earlyBird.add(new Row(rookies.get(userId), Integer.bitCount(mask), missionLast.get(userId)));
+            }
+        });
+        earlyBird.sort(Comparator.comparingLong(Row::value).reversed()
+                .thenComparing(Row::time, Comparator.nullsLast(Comparator.naturalOrder())));
+
+        // 막차: 마지막 투자/거래 시각 DESC
+        List<Row> lastTrain = new ArrayList<>();
+        lastActivity.forEach((userId, time) -> {
+            if (rookies.containsKey(userId)) {
+                lastTrain.add(new Row(rookies.get(userId), 0, time));
+            }
+        });
+        lastTrain.sort(Comparator.comparing(Row::time, Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder())));
+
+        // 안돼도 다시: 방문자 수 DESC → 먼저 달성(마지막 방문이 빠른) 부스. 공동 순위는 방문자 수로만
+        List<Long> visitedBoothIds = new ArrayList<>(boothVisitors.keySet());
+        visitedBoothIds.sort(Comparator.comparingLong((Long id) -> boothVisitors.get(id)).reversed()
+                .thenComparing(boothLastVisit::get, Comparator.nullsLast(Comparator.naturalOrder())));
+        List<Row> tryAgain = new ArrayList<>(visitedBoothIds.size());
+        for (Long boothId : visitedBoothIds) {
+            tryAgain.add(new Row(booths.getOrDefault(boothId, new Person("없음", "")), boothVisitors.get(boothId), null));
         }
 
-        Long userId = (Long) withdrawCounts.get(0)[0];
-        long count = ((Number) withdrawCounts.get(0)[1]).longValue();
-        User winner = userRepository.findById(userId).orElse(null);
-
-        return AwardResponse.builder()
-                .awardName("환승투자자상")
-                .description("철회 횟수가 가장 많은 개인")
-                .winnerName(winner != null ? winner.getName() : "없음")
-                .winnerCompany(winner != null ? winner.getCompany() : "")
-                .detail("철회 " + count + "회")
-                .build();
+        // ──────── 수상자 ────────
+
+        List<AwardResponse> awards = List.of(
+                award("11번째 발표 부스", "오전 부스 중 가장 많은 투자금을 받은 부스",
+                        boothRows, r -> formatAmount(r.value())),
+                award("하고잡이 투자자상", "투자처 순위 가중치 점수가 가장 높은 개인",
+                        topProfit, r -> "가중치 점수 " + formatAmount(r.value())),
+                award("문어발 투자자상", "오전 투자에서 가장 많은 부스에 투자한 개인",
+                        octopus, r -> r.value() + "개 부스 투자"),
+                award("발품투자자상", "오전 투자에서 가장 많은 부스에 방문한 개인",
+                        footwork, r -> r.value() + "개 부스 방문"),
+                award("얼리버드 투자자상", "하고잡이 미션 6개를 가장 먼저 완수한 개인",
+                        earlyBird.isEmpty() || earlyBird.get(0).value() < Integer.bitCount(ALL_MISSIONS)
+                                || earlyBird.get(0).time() == null ? List.of() : earlyBird,
+                        r -> "완수 시각 " + r.time().format(TIME_FMT)),
+                award("환승투자자상", "철회 횟수가 가장 많은 개인",
+                        transfer, r -> "철회 " + r.value() + "회"),
+                lastTrainAward(lastInvest, lastTrade, rookies),
+                award("꿈을 원대하게상", "아이디어 디벨롭 댓글 횟수 1위인 개인",
+                        dreamBig, r -> "댓글 " + r.value() + "개"),
+                award("안돼도 다시 상", "방문 인원이 가장 많은 부스",
+                        tryAgain, r -> "방문자 " + r.value() + "명"));
+
+        List<List<AwardRankingItem>> rankings = List.of(
+                rankingItems(boothRows, r -> formatAmount(r.value())),
+                rankingItems(topProfit, r -> formatAmount(r.value())),
+                rankingItems(octopus, r -> r.value() + "개 부스"),
+                rankingItems(footwork, r -> r.value() + "개 부스"),
+                rankingItems(earlyBird, r -> r.value() + "/" + MISSION_IDS.size() + " 완료"),
+                rankingItems(transfer, r -> r.value() + "회"),
+                rankingItems(lastTrain, r -> ""),
+                rankingItems(dreamBig, r -> r.value() + "개"),
+                rankingItems(tryAgain, r -> r.value() + "명"));
+
+        return new AwardBoard(version, awards, rankings);
     }
 
     /**
-     * 막차투자자상: 장 마감 전 가장 마지막으로 투자한 개인 (is_rookie만)
+     * 막차투자자상: 장 마감 전 가장 마지막으로 투자한 개인 (is_rookie만).
+     * PM은 투자(INVEST)만, AM은 매수/매도 모두 (랭킹은 PM 철회도 포함한 마지막 활동 시각)
      */
-    private AwardResponse getLastTrainInvestor() {
-        // PM 마지막 투자
-        Optional<InvestmentHistory> lastInvest = investmentHistoryRepository
-                .findLatestByTypeAndRookie(InvestmentHistory.InvestmentType.INVEST);
-        // AM 마지막 거래
-        Optional<StockTradeHistory> lastTrade = stockTradeHistoryRepository
-                .findLatestByRookieUser();
-
-        User winner = null;
+    private AwardResponse lastTrainAward(Map<Long, LocalDateTime> lastInvest, Map<Long, LocalDateTime> lastTrade,
+                                         Map<Long, Person> rookies) {
+        Long winnerId = null;
         LocalDateTime lastTime = null;
-
-        if (lastInvest.isPresent()) {
-            winner = lastInvest.get().getUser();
-            lastTime = lastInvest.get().getCreatedAt();
-        }
-        if (lastTrade.isPresent()) {
-            LocalDateTime tradeTime = lastTrade.get().getCreatedAt();
-            if (lastTime == null || tradeTime.isAfter(lastTime)) {
-                winner = lastTrade.get().getUser();
-                lastTime = tradeTime;
+        for (Map<Long, LocalDateTime> times : List.of(lastInvest, lastTrade)) {
+            for (Map.Entry<Long, LocalDateTime> entry : times.entrySet()) {
+                if (entry.getValue() != null && (lastTime == null || entry.getValue().isAfter(lastTime))) {
+                    winnerId = entry.getKey();
+                    lastTime = entry.getValue();
+                }
             }
         }
-
+        Person winner = winnerId != null ? rookies.get(winnerId) : null;
         if (winner == null) {
             return emptyAward("막차투자자상", "장 마감 전 가장 마지막으로 투자한 개인");
         }
-
         return AwardResponse.builder()
                 .awardName("막차투자자상")
                 .description("장 마감 전 가장 마지막으로 투자한 개인")
-                .winnerName(winner.getName())
-                .winnerCompany(winner.getCompany())
+                .winnerName(winner.name())
+                .winnerCompany(winner.company())
                 .detail("마지막 투자 " + lastTime.format(TIME_FMT))
                 .build();
     }
 
     /**
-     * 꿈을 원대하게상: 아이디어 디벨롭 댓글 횟수 1위인 개인 (is_rookie만)
-     */
-    private AwardResponse getDreamBigAward() {
-        List<Object[]> commentCounts = stockCommentRepository.getCommentCountByRookieUser();
-        if (commentCounts.isEmpty()) {
-            return emptyAward("꿈을 원대하게상", "아이디어 디벨롭 댓글 횟수 1위인 개인");
-        }
-
-        Long userId = (Long) commentCounts.get(0)[0];
-        long count = ((Number) commentCounts.get(0)[1]).longValue();
-        User winner = userRepository.findById(userId).orElse(null);
-
-        return AwardResponse.builder()
-                .awardName("꿈을 원대하게상")
-                .description("아이디어 디벨롭 댓글 횟수 1위인 개인")
-                .winnerName(winner != null ? winner.getName() : "없음")
-                .winnerCompany(winner != null ? winner.getCompany() : "")
-                .detail("댓글 " + count + "개")
-                .build();
-    }
-
-    /**
-     * 안돼도 다시 상: 방문 인원이 가장 많은 부스
+     * 하고잡이 투자자상 부스 순위별 가중치:
+     * 1위=10, 2위=9, 3위=8, 4위=7, 5위=6, 6~7위=5, 8~10위=4, 11~15위=3, 16~22위=2, 23위~=1
      */
-    private AwardResponse getTryAgainAward() {
-        List<Object[]> visitors = stockBoothVisitRepository.getVisitorCountByBooth();
-        if (visitors.isEmpty()) {
-            return emptyAward("안돼도 다시 상", "방문 인원이 가장 많은 부스");
-        }
-
-        // [boothId, boothName, count, category, maxVisitedAt]
-        String boothName = (String) visitors.get(0)[1];
-        long count = ((Number) visitors.get(0)[2]).longValue();
-        String category = (String) visitors.get(0)[3];
-
-        return AwardResponse.builder()
-                .awardName("안돼도 다시 상")
-                .description("방문 인원이 가장 많은 부스")
-                .winnerName(boothName)
-                .winnerCompany(category)
-                .detail("방문자 " + count + "명")
-                .build();
-    }
-
-    // ──────────────────────────────────────────────
-    // 전체 랭킹 조회 (시상 종목별 상세)
-    // ──────────────────────────────────────────────
-
-    @Transactional(readOnly = true)
-    public List<AwardRankingItem> getAwardRanking(int index) {
-        return switch (index) {
-            case 0 -> ranking11thBooth();
-            case 1 -> rankingTopProfit();
-            case 2 -> rankingOctopus();
-            case 3 -> rankingFootwork();
-            case 4 -> rankingEarlyBird();
-            case 5 -> rankingTransfer();
-            case 6 -> rankingLastTrain();
-            case 7 -> rankingDreamBig();
-            case 8 -> rankingTryAgain();
-            default -> List.of();
-        };
-    }
-
-    /** 11번째 발표 부스 — 부스별 총 투자금 순위 */
-    private List<AwardRankingItem> ranking11thBooth() {
-        List<Object[]> holdings = stockHoldingRepository.getTotalHoldingByAllBooths();
-        List<AwardRankingItem> items = new ArrayList<>();
-        long prevAmount = -1;
-        int prevRank = 0;
-        for (int i = 0; i < holdings.size(); i++) {
-            Long boothId = (Long) holdings.get(i)[0];
-            long amount = ((Number) holdings.get(i)[1]).longValue();
-            int rank = (amount == prevAmount) ? prevRank : i + 1;
-            prevAmount = amount;
-            prevRank = rank;
-            StockBooth booth = stockBoothRepository.findById(boothId).orElse(null);
-            items.add(AwardRankingItem.builder()
-                    .rank(rank)
-                    .name(booth != null ? booth.getName() : "없음")
-                    .company(booth != null ? booth.getCategory() : "")
-                    .value(formatAmount(amount))
-                    .build());
-        }
-        return items;
+    private int rankToWeight(int rank) {
+        if (rank == 1) return 10;
+        if (rank == 2) return 9;
+        if (rank == 3) return 8;
+        if (rank == 4) return 7;
+        if (rank == 5) return 6;
+        if (rank <= 7) return 5;
+        if (rank <= 10) return 4;
+        if (rank <= 15) return 3;
+        if (rank <= 22) return 2;
+        return 1;
     }
 
-    /** 하고잡이 투자자상 — 가중치 점수 순위 */
-    private List<AwardRankingItem> rankingTopProfit() {
-        List<Object[]> boothHoldings = stockHoldingRepository.getTotalHoldingByAllBooths();
-        Map<Long, Integer> boothWeightMap = new HashMap<>();
-        for (int i = 0; i < boothHoldings.size(); i++) {
-            boothWeightMap.put((Long) boothHoldings.get(i)[0], rankToWeight(i + 1));
-        }
-
-        List<StockHolding> allHoldings = stockHoldingRepository.findByAmountGreaterThan(0L);
-        Map<Long, User> rookieMap = getRookieMap();
-
-        Map<Long, Long> scoreMap = new HashMap<>();
-        for (StockHolding holding : allHoldings) {
-            Long userId = holding.getUser().getId();
-            if (!rookieMap.containsKey(userId)) continue;
-            int weight = boothWeightMap.getOrDefault(holding.getStockBooth().getId(), 1);
-            scoreMap.merge(userId, holding.getAmount() * weight, Long::sum);
-        }
-
-        List<Map.Entry<Long, Long>> sorted = scoreMap.entrySet().stream()
-                .sorted(Map.Entry.<Long, Long>comparingByValue().reversed())
-                .toList();
+    // ──────── 공통 헬퍼 ────────
 
-        List<AwardRankingItem> items = new ArrayList<>();
-        long prevScore = -1;
-        int prevRank = 0;
-        for (int i = 0; i < sorted.size(); i++) {
-            long score = sorted.get(i).getValue();
-            int rank = (score == prevScore) ? prevRank : i + 1;
-            prevScore = score;
-            prevRank = rank;
-            User user = rookieMap.get(sorted.get(i).getKey());
-            items.add(AwardRankingItem.builder()
-                    .rank(rank)
-                    .name(user.getName())
-                    .company(user.getCompany())
-                    .value(formatAmount(score))
-                    .build());
+    /** userId → 값 맵을 값 내림차순 랭킹으로 (rookie만, 동률은 userId 순) */
+    private List<Row> countRows(Map<Long, Long> values, Map<Long, Person> rookies) {
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(values.entrySet());
+        entries.sort(Map.Entry.<Long, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()));
+        List<Row> rows = new ArrayList<>(entries.size());
+        for (Map.Entry<Long, Long> entry : entries) {
+            Person person = rookies.get(entry.getKey());
+            if (person != null) {
+                rows.add(new Row(person, entry.getValue(), null));
+            }
         }
-        return items;
-    }
-
-    /** 문어발 투자자상 — 투자 부스 수 순위 */
-    private List<AwardRankingItem> rankingOctopus() {
-        return buildSimpleRanking(stockHoldingRepository.getBoothCountByRookieUser(), "개 부스");
-    }
-
-    /** 발품투자자상 — 방문 부스 수 순위 */
-    private List<AwardRankingItem> rankingFootwork() {
-        return buildSimpleRanking(stockBoothVisitRepository.getVisitCountByRookieUser(), "개 부스");
+        return rows;
     }
 
-    /** 얼리버드 투자자상 — 미션 완수 시각 순위 */
-    private List<AwardRankingItem> rankingEarlyBird() {
-        List<UserMission> allMissions = userMissionRepository.findByMissionIdIn(MISSION_IDS);
-        Map<Long, User> rookieMap = getRookieMap();
-
-        Map<Long, List<UserMission>> byUser = allMissions.stream()
-                .filter(um -> Boolean.TRUE.equals(um.getIsCompleted()))
-                .filter(um -> rookieMap.containsKey(um.getUser().getId()))
-                .collect(Collectors.groupingBy(um -> um.getUser().getId()));
-
-        // 유저별 (완료 미션 수, 마지막 완료 시각)
-        List<long[]> userIds = new ArrayList<>();
-        Map<Long, LocalDateTime> completionTimeMap = new HashMap<>();
-        Map<Long, Integer> completedCountMap = new HashMap<>();
-
-        for (Map.Entry<Long, List<UserMission>> entry : byUser.entrySet()) {
-            Set<String> completedMissions = entry.getValue().stream()
-                    .map(UserMission::getMissionId)
-                    .collect(Collectors.toSet());
-
-            int completedCount = (int) MISSION_IDS.stream().filter(completedMissions::contains).count();
-            completedCountMap.put(entry.getKey(), completedCount);
-
-            LocalDateTime lastCompleted = entry.getValue().stream()
-                    .filter(um -> MISSION_IDS.contains(um.getMissionId()))
-                    .map(UserMission::getCompletedAt)
-                    .filter(Objects::nonNull)
-                    .max(LocalDateTime::compareTo)
-                    .orElse(null);
-            completionTimeMap.put(entry.getKey(), lastCompleted);
-        }
-
-        // 정렬: 완료 미션 수 DESC → 마지막 완료 시각 ASC
-        List<Long> sortedUserIds = byUser.keySet().stream()
-                .sorted(Comparator.<Long, Integer>comparing(id -> completedCountMap.getOrDefault(id, 0)).reversed()
-                        .thenComparing(id -> completionTimeMap.getOrDefault(id, LocalDateTime.MAX)))
-                .toList();
-
-        List<AwardRankingItem> items = new ArrayList<>();
-        int prevCount = -1;
-        LocalDateTime prevTime = null;
+    /** 정렬된 랭킹 → 공동 순위 적용한 응답 */
+    private List<AwardRankingItem> rankingItems(List<Row> rows, Function<Row, String> value) {
+        List<AwardRankingItem> items = new ArrayList<>(rows.size());
+        Row prev = null;
         int prevRank = 0;
-        for (int i = 0; i < sortedUserIds.size(); i++) {
-            Long userId = sortedUserIds.get(i);
-            User user = rookieMap.get(userId);
-            int count = completedCountMap.getOrDefault(userId, 0);
-            LocalDateTime time = completionTimeMap.get(userId);
-            boolean tied = (count == prevCount) && Objects.equals(time, prevTime);
+        for (int i = 0; i < rows.size(); i++) {
+            Row row = rows.get(i);
+            boolean tied = prev != null && prev.value() == row.value() && Objects.equals(prev.time(), row.time());
             int rank = tied ? prevRank : i + 1;
-            prevCount = count;
-            prevTime = time;
-            prevRank = rank;
-            items.add(AwardRankingItem.builder()
-                    .rank(rank)
-                    .name(user.getName())
-                    .company(user.getCompany())
-                    .value(count + "/" + MISSION_IDS.size() + " 완료")
-                    .time(time != null ? time.format(TIME_FMT) : null)
-                    .build());
-        }
-        return items;
-    }
-
-    /** 환승투자자상 — 철회 횟수 순위 */
-    private List<AwardRankingItem> rankingTransfer() {
-        return buildSimpleRanking(
-                investmentHistoryRepository.countByTypeGroupedByRookieUser(InvestmentHistory.InvestmentType.WITHDRAW),
-                "회");
-    }
-
-    /** 막차투자자상 — 마지막 투자 시각 순위 */
-    private List<AwardRankingItem> rankingLastTrain() {
-        Map<Long, User> rookieMap = getRookieMap();
-
-        // PM 최종 투자 시각
-        Map<Long, LocalDateTime> pmTimeMap = investmentHistoryRepository.getLatestTimeByRookieUser()
-                .stream().collect(Collectors.toMap(r -> (Long) r[0], r -> (LocalDateTime) r[1]));
-
-        // AM 최종 거래 시각
-        Map<Long, LocalDateTime> amTimeMap = stockTradeHistoryRepository.getLatestTimeByRookieUser()
-                .stream().collect(Collectors.toMap(r -> (Long) r[0], r -> (LocalDateTime) r[1]));
-
-        // 합산: 더 늦은 시각
-        Map<Long, LocalDateTime> mergedMap = new HashMap<>();
-        Set<Long> allUserIds = new HashSet<>(pmTimeMap.keySet());
-        allUserIds.addAll(amTimeMap.keySet());
-
-        for (Long userId : allUserIds) {
-            if (!rookieMap.containsKey(userId)) continue;
-            LocalDateTime pm = pmTimeMap.get(userId);
-            LocalDateTime am = amTimeMap.get(userId);
-            LocalDateTime latest = pm;
-            if (am != null && (latest == null || am.isAfter(latest))) latest = am;
-            mergedMap.put(userId, latest);
-        }
-
-        // 시각 내림차순 (가장 늦은 사람이 1위)
-        List<Map.Entry<Long, LocalDateTime>> sorted = mergedMap.entrySet().stream()
-                .sorted(Map.Entry.<Long, LocalDateTime>comparingByValue().reversed())
-                .toList();
-
-        List<AwardRankingItem> items = new ArrayList<>();
-        LocalDateTime prevTime = null;
-        int prevRank = 0;
-        for (int i = 0; i < sorted.size(); i++) {
-            User user = rookieMap.get(sorted.get(i).getKey());
-            LocalDateTime time = sorted.get(i).getValue();
-            int rank = Objects.equals(time, prevTime) ? prevRank : i + 1;
-            prevTime = time;
-            prevRank = rank;
-            items.add(AwardRankingItem.builder()
-                    .rank(rank)
-                    .name(user.getName())
-                    .company(user.getCompany())
-                    .value("")
-                    .time(time != null ? time.format(TIME_FMT) : null)
-                    .build());
-        }
-        return items;
-    }
-
-    /** 꿈을 원대하게상 — 댓글 수 순위 */
-    private List<AwardRankingItem> rankingDreamBig() {
-        return buildSimpleRanking(stockCommentRepository.getCommentCountByRookieUser(), "개");
-    }
-
-    /** 안돼도 다시 상 — 부스별 방문자 수 순위 (공동 순위 적용) */
-    private List<AwardRankingItem> rankingTryAgain() {
-        List<Object[]> visitors = stockBoothVisitRepository.getVisitorCountByBooth();
-        List<AwardRankingItem> items = new ArrayList<>();
-        long prevCount = -1;
-        int prevRank = 0;
-        for (int i = 0; i < visitors.size(); i++) {
-            long count = ((Number) visitors.get(i)[2]).longValue();
-            int rank = (count == prevCount) ? prevRank : i + 1;
-            prevCount = count;
+            prev = row;
             prevRank = rank;
             items.add(AwardRankingItem.builder()
                     .rank(rank)
-                    .name((String) visitors.get(i)[1])
-                    .company((String) visitors.get(i)[3])
-                    .value(count + "명")
+                    .name(row.person().name())
+                    .company(row.person().company())
+                    .value(value.apply(row))
+                    .time(row.time() != null ? row.time().format(TIME_FMT) : null)
                     .build());
         }
-        return items;
-    }
-
-    // ──────── 공통 헬퍼 ────────
-
-    /** userId → User (rookie만) */
-    private Map<Long, User> getRookieMap() {
-        return userRepository.findAll().stream()
-                .filter(u -> Boolean.TRUE.equals(u.getIsRookie()))
-                .collect(Collectors.toMap(User::getId, u -> u));
+        return List.copyOf(items);
     }
 
-    /** [userId, count] 형태 쿼리 결과를 랭킹으로 변환 (공동 순위 적용) */
-    private List<AwardRankingItem> buildSimpleRanking(List<Object[]> rows, String unit) {
-        Map<Long, User> rookieMap = getRookieMap();
-        List<AwardRankingItem> items = new ArrayList<>();
-        long prevCount = -1;
-        int prevRank = 0;
-        for (int i = 0; i < rows.size(); i++) {
-            Long userId = (Long) rows.get(i)[0];
-            long count = ((Number) rows.get(i)[1]).longValue();
-            User user = rookieMap.get(userId);
-            if (user == null) continue;
-            int position = items.size() + 1;
-            int rank = (count == prevCount) ? prevRank : position;
-            prevCount = count;
-            prevRank = rank;
-            items.add(AwardRankingItem.builder()
-                    .rank(rank)
-                    .name(user.getName())
-                    .company(user.getCompany())
-                    .value(count + unit)
-                    .build());
+    /** 랭킹 1위를 수상자로 (없으면 해당 없음) */
+    private AwardResponse award(String name, String description, List<Row> rows, Function<Row, String> detail) {
+        if (rows.isEmpty()) {
+            return emptyAward(name, description);
         }
-        return items;
+        Row winner = rows.get(0);
+        return AwardResponse.builder()
+                .awardName(name)
+                .description(description)
+                .winnerName(winner.person().name())
+                .winnerCompany(winner.person().company())
+                .detail(detail.apply(winner))
+                .build();
     }
 
     private AwardResponse emptyAward(String name, String description) {
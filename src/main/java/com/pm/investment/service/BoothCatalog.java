@@ -0,0 +1,160 @@
+package com.pm.investment.service;
+
+import com.pm.investment.entity.Booth;
+import com.pm.investment.entity.StockBooth;
+import com.pm.investment.entity.Zone;
+import com.pm.investment.repository.BoothRepository;
+import com.pm.investment.repository.StockBoothRepository;
+import com.pm.investment.repository.ZoneRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * PM 부스 / AM 주식 부스 / 구역 메타데이터(이름, 이모지, 색상, 구역 등)의 불변 스냅샷.
+ *
+ * 행사 중에는 사실상 바뀌지 않으므로 기동 시 한 번 읽어 두고, 조회 경로는 모두 여기서 꺼내 쓴다.
+ * 관리자 수정(신입사원 Pick 부스 교체)이 커밋되면 새 스냅샷을 만들어 통째로 교체한다.
+ * 엔티티 연관관계가 필요한 쓰기 경로는 존재 확인만 여기서 하고 getReferenceById로 참조를 건다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BoothCatalog {
+
+    private static final Logger log = LoggerFactory.getLogger(BoothCatalog.class);
+
+    private final BoothRepository boothRepository;
+    private final StockBoothRepository stockBoothRepository;
+    private final ZoneRepository zoneRepository;
+
+    public record ZoneEntry(Long id, String zoneCode, String name, String floorInfo, String floor,
+                            Integer displayOrder) {
+    }
+
+    /** PM 부스와 AM 주식 부스 공용. zone은 구역 미지정이면 null */
+    public record Entry(Long id, String name, String category, String description, String shortDescription,
+                        Integer displayOrder, String logoEmoji, String themeColor, String boothUuid,
+                        ZoneEntry zone) {
+    }
+
+    /** 한 시점의 전체 카탈로그. 목록은 displayOrder 순, 모든 컬렉션은 불변 */
+    private record Snapshot(List<Entry> booths, Map<Long, Entry> boothsById,
+                            List<Entry> stockBooths, Map<Long, Entry> stockBoothsById,
+                            Map<String, Entry> stockBoothsByUuid,
+                            List<ZoneEntry> zones, Map<String, ZoneEntry> zonesByCode,
+                            Map<Long, List<Entry>> stockBoothsByZone) {
+    }
+
+    private volatile Snapshot snapshot;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        Snapshot loaded = current();
+        log.info("부스 카탈로그 적재 완료: PM 부스 {}개, 주식 부스 {}개, 구역 {}개",
+                loaded.booths().size(), loaded.stockBooths().size(), loaded.zones().size());
+    }
+
+    /** 부스/구역 정보를 바꾼 트랜잭션의 커밋 후에 호출 - 새 스냅샷을 만들어 통째로 교체한다 */
+    void reload() {
+        rebuild();
+    }
+
+    public List<Entry> booths() {
+        return current().booths();
+    }
+
+    public Optional<Entry> findBooth(Long boothId) {
+        return Optional.ofNullable(current().boothsById().get(boothId));
+    }
+
+    public List<Entry> stockBooths() {
+        return current().stockBooths();
+    }
+
+    public Optional<Entry> findStockBooth(Long stockBoothId) {
+        return Optional.ofNullable(current().stockBoothsById().get(stockBoothId));
+    }
+
+    public Optional<Entry> findStockBoothByUuid(String boothUuid) {
+        return Optional.ofNullable(current().stockBoothsByUuid().get(boothUuid));
+    }
+
+    public List<ZoneEntry> zones() {
+        return current().zones();
+    }
+
+    public Optional<ZoneEntry> findZone(String zoneCode) {
+        return Optional.ofNullable(current().zonesByCode().get(zoneCode));
+    }
+
+    public List<Entry> stockBoothsInZone(Long zoneId) {
+        return current().stockBoothsByZone().getOrDefault(zoneId, List.of());
+    }
+
+    // 다른 기동 리스너가 먼저 조회해도 되도록 첫 조회 시 적재
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            return snapshot != null ? snapshot : rebuild();
+        }
+    }
+
+    private synchronized Snapshot rebuild() {
+        Map<Long, ZoneEntry> zonesById = new LinkedHashMap<>();
+        for (Zone zone : zoneRepository.findAllByOrderByDisplayOrderAsc()) {
+            zonesById.put(zone.getId(), new ZoneEntry(zone.getId(), zone.getZoneCode(), zone.getName(),
+                    zone.getFloorInfo(), zone.getFloor(), zone.getDisplayOrder()));
+        }
+
+        List<Entry> booths = new ArrayList<>();
+        for (Booth b : boothRepository.findAllWithZoneOrderByDisplayOrderAsc()) {
+            booths.add(new Entry(b.getId(), b.getName(), b.getCategory(), b.getDescription(), b.getShortDescription(),
+                    b.getDisplayOrder(), b.getLogoEmoji(), b.getThemeColor(), b.getBoothUuid(),
+                    b.getZone() != null ? zonesById.get(b.getZone().getId()) : null));
+        }
+        List<Entry> stockBooths = new ArrayList<>();
+        for (StockBooth b : stockBoothRepository.findAllWithZoneOrderByDisplayOrderAsc()) {
+            stockBooths.add(new Entry(b.getId(), b.getName(), b.getCategory(), b.getDescription(), b.getShortDescription(),
+                    b.getDisplayOrder(), b.getLogoEmoji(), b.getThemeColor(), b.getBoothUuid(),
+                    b.getZone() != null ? zonesById.get(b.getZone().getId()) : null));
+        }
+
+        Map<Long, Entry> boothsById = new HashMap<>();
+        booths.forEach(b -> boothsById.put(b.id(), b));
+        Map<Long, Entry> stockBoothsById = new HashMap<>();
+        Map<String, Entry> stockBoothsByUuid = new HashMap<>();
+        Map<Long, List<Entry>> stockBoothsByZone = new HashMap<>();
+        for (Entry b : stockBooths) {
+            stockBoothsById.put(b.id(), b);
+            if (b.boothUuid() != null) {
+                stockBoothsByUuid.put(b.boothUuid(), b);
+            }
+            if (b.zone() != null) {
+                stockBoothsByZone.computeIfAbsent(b.zone().id(), k -> new ArrayList<>()).add(b);
+            }
+        }
+        Map<String, ZoneEntry> zonesByCode = new HashMap<>();
+        zonesById.values().forEach(z -> zonesByCode.put(z.zoneCode(), z));
+        Map<Long, List<Entry>> frozenByZone = new HashMap<>();
+        stockBoothsByZone.forEach((zoneId, list) -> frozenByZone.put(zoneId, List.copyOf(list)));
+
+        Snapshot next = new Snapshot(List.copyOf(booths), Map.copyOf(boothsById),
+                List.copyOf(stockBooths), Map.copyOf(stockBoothsById), Map.copyOf(stockBoothsByUuid),
+                List.copyOf(zonesById.values()), Map.copyOf(zonesByCode), Map.copyOf(frozenByZone));
+        snapshot = next;
+        return next;
+    }
+}
@@ -0,0 +1,120 @@
+package com.pm.investment.service;
+
+import com.pm.investment.dto.RankingResponse;
+import com.pm.investment.repository.InvestmentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * PM 투자 / AM 주식 부스 순위표.
+ *
+ * - PM: 기동 시 investments를 한 번 집계해 적재하고, 이후 투자/철회 커밋마다 해당 부스만 갱신한다.
+ * - AM: StockBoothStatsIndex가 재집계(rebuild)와 거래 반영(record) 때 같은 값을 넘겨준다.
+ * 조회(순위 목록, 부스별 순위)는 DB를 읽지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BoothLeaderboards implements SmartInitializingSingleton {
+
+    private final BoothCatalog boothCatalog;
+    private final InvestmentRepository investmentRepository;
+
+    private final Leaderboard pm = new Leaderboard();
+    private final Leaderboard stock = new Leaderboard();
+
+    /**
+     * 모든 빈(data.sql 초기화 포함) 생성 직후, 웹 서버가 요청을 받기 전에 PM 순위표를 적재한다.
+     * 적재 중에는 투자 요청이 들어오지 않으므로 누락·이중 반영 없이 이후 투자/철회만 증분 반영된다.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        loadPm();
+    }
+
+    public void loadPm() {
+        Map<Long, Leaderboard.Standing> standings = new HashMap<>();
+        for (Object[] row : investmentRepository.getInvestmentStatsByBooth()) {
+            standings.put((Long) row[0], new Leaderboard.Standing(
+                    ((Number) row[1]).longValue(), ((Number) row[2]).longValue(), (LocalDateTime) row[3]));
+        }
+        pm.reset(pmBooths(), standings);
+    }
+
+    /** StockBoothStatsIndex.rebuild에서 호출 */
+    void resetStock(Map<Long, Leaderboard.Standing> standings) {
+        stock.reset(toInfos(boothCatalog.stockBooths()), standings);
+    }
+
+    void updateStock(Long boothId, Leaderboard.Standing standing) {
+        stock.update(boothId, previous -> standing);
+    }
+
+    /** 투자 커밋 후 호출. newInvestor: 이 부스에 0원이던 사용자의 첫 투자 */
+    public void recordInvest(Long boothId, long amount, boolean newInvestor, LocalDateTime updatedAt) {
+        pm.update(boothId, s -> new Leaderboard.Standing(
+                s.total() + amount,
+                s.count() + (newInvestor ? 1 : 0),
+                s.lastUpdatedAt() == null || updatedAt.isAfter(s.lastUpdatedAt()) ? updatedAt : s.lastUpdatedAt()));
+    }
+
+    /**
+     * 철회 커밋 후 호출. 남은 투자금이 있으면 updatedAt이 최신 시각이 되고,
+     * 전액 철회면 투자자에서 빠지므로 latestUpdatedAt(남은 투자 중 최신 시각, 없으면 null)으로 바꾼다.
+     */
+    public void recordWithdraw(Long boothId, long amount, boolean investorLeft, LocalDateTime updatedAt,
+                               LocalDateTime latestUpdatedAt) {
+        pm.update(boothId, s -> new Leaderboard.Standing(
+                s.total() - amount,
+                s.count() - (investorLeft ? 1 : 0),
+                investorLeft ? latestUpdatedAt
+                        : s.lastUpdatedAt() == null || updatedAt.isAfter(s.lastUpdatedAt()) ? updatedAt : s.lastUpdatedAt()));
+    }
+
+    /** 신입사원 Pick 부스 교체 등 부스 표시 정보 변경 후 호출 */
+    public void refreshPmBooth(Long boothId) {
+        pmBooths().stream()
+                .filter(info -> info.boothId().equals(boothId))
+                .findFirst()
+                .ifPresent(pm::updateBooth);
+    }
+
+    public List<RankingResponse> getPmRanking() {
+        return pm.getRanking();
+    }
+
+    public Integer getPmRank(Long boothId) {
+        return pm.getRank(boothId);
+    }
+
+    public List<RankingResponse> getStockRanking() {
+        return stock.getRanking();
+    }
+
+    public Integer getStockRank(Long boothId) {
+        return stock.getRank(boothId);
+    }
+
+    // 동률 순서는 기존처럼 부스 ID 순
+    private List<Leaderboard.BoothInfo> pmBooths() {
+        return toInfos(boothCatalog.booths().stream()
+                .sorted(Comparator.comparing(BoothCatalog.Entry::id))
+                .toList());
+    }
+
+    private static List<Leaderboard.BoothInfo> toInfos(List<BoothCatalog.Entry> booths) {
+        List<Leaderboard.BoothInfo> infos = new ArrayList<>(booths.size());
+        for (int i = 0; i < booths.size(); i++) {
+            BoothCatalog.Entry b = booths.get(i);
+            infos.add(new Leaderboard.BoothInfo(b.id(), i, b.name(), b.category(), b.logoEmoji(), b.themeColor()));
+        }
+        return infos;
+    }
+}
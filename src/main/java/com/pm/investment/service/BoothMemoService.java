@@ -1,6 +1,5 @@
 package com.pm.investment.service;
 
-import com.pm.investment.entity.Booth;
 import com.pm.investment.entity.BoothMemo;
 import com.pm.investment.entity.User;
 import com.pm.investment.repository.BoothMemoRepository;
@@ -20,13 +19,15 @@ public class BoothMemoService {
     private final BoothMemoRepository boothMemoRepository;
     private final UserRepository userRepository;
     private final BoothRepository boothRepository;
+    private final BoothCatalog boothCatalog;
 
     @Transactional(readOnly = true)
     public List<Map<String, Object>> getAllMemos(Long userId) {
         return boothMemoRepository.findAllByUserIdIn(List.of(userId)).stream()
                 .map(memo -> Map.<String, Object>of(
                         "boothId", memo.getBooth().getId(),
-                        "boothName", memo.getBooth().getName(),
+                        "boothName", boothCatalog.findBooth(memo.getBooth().getId())
+                                .map(BoothCatalog.Entry::name).orElse(""),
                         "content", memo.getContent()
                 ))
                 .toList();
@@ -51,9 +52,10 @@ public class BoothMemoService {
                 .orElseGet(() -> {
                     User user = userRepository.findById(userId)
                             .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
-                    Booth booth = boothRepository.findById(boothId)
-                            .orElseThrow(() -> new IllegalArgumentException("부스를 찾을 수 없습니다"));
-                    return new BoothMemo(user, booth, content);
+                    if (boothCatalog.findBooth(boothId).isEmpty()) {
+                        throw new IllegalArgumentException("부스를 찾을 수 없습니다");
+                    }
+                    return new BoothMemo(user, boothRepository.getReferenceById(boothId), content);
                 });
         memo.setContent(content);
         boothMemoRepository.save(memo);
@@ -3,10 +3,8 @@ package com.pm.investment.service;
 import com.pm.investment.dto.BoothResponse;
 import com.pm.investment.entity.Booth;
 import com.pm.investment.entity.Investment;
-import com.pm.investment.entity.StockBooth;
 import com.pm.investment.repository.BoothRepository;
 import com.pm.investment.repository.InvestmentRepository;
-import com.pm.investment.repository.StockBoothRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,11 +21,12 @@ public class BoothService {
 
     private final BoothRepository boothRepository;
     private final InvestmentRepository investmentRepository;
-    private final StockBoothRepository stockBoothRepository;
+    private final BoothCatalog boothCatalog;
+    private final BoothLeaderboards boothLeaderboards;
 
     @Transactional(readOnly = true)
     public List<BoothResponse> getAllBooths(Long userId) {
-        List<Booth> booths = boothRepository.findAllByOrderByDisplayOrderAsc();
+        List<BoothCatalog.Entry> booths = boothCatalog.booths();
 
         // 1개 쿼리로 전체 부스 투자 통계 조회 (N+1 제거)
         Map<Long, Long> totalMap = investmentRepository.getInvestmentStatsByBooth()
@@ -48,23 +47,23 @@ public class BoothService {
                 : Map.of();
 
         return booths.stream().map(booth -> BoothResponse.builder()
-                .id(booth.getId())
-                .name(booth.getName())
-                .category(booth.getCategory())
-                .description(booth.getDescription())
-                .shortDescription(booth.getShortDescription())
-                .displayOrder(booth.getDisplayOrder())
-                .logoEmoji(booth.getLogoEmoji())
-                .themeColor(booth.getThemeColor())
-                .totalInvestment(totalMap.getOrDefault(booth.getId(), 0L))
-                .myInvestment(myMap.getOrDefault(booth.getId(), 0L))
+                .id(booth.id())
+                .name(booth.name())
+                .category(booth.category())
+                .description(booth.description())
+                .shortDescription(booth.shortDescription())
+                .displayOrder(booth.displayOrder())
+                .logoEmoji(booth.logoEmoji())
+                .themeColor(booth.themeColor())
+                .totalInvestment(totalMap.getOrDefault(booth.id(), 0L))
+                .myInvestment(myMap.getOrDefault(booth.id(), 0L))
                 .build()
         ).toList();
     }
 
     @Transactional(readOnly = true)
     public BoothResponse getBooth(Long boothId, Long userId) {
-        Booth booth = boothRepository.findById(boothId)
+        BoothCatalog.Entry booth = boothCatalog.findBooth(boothId)
                 .orElseThrow(() -> new IllegalArgumentException("부스를 찾을 수 없습니다"));
 
         Long totalInvestment = investmentRepository.getTotalInvestmentByBoothId(boothId);
@@ -76,14 +75,14 @@ public class BoothService {
         }
 
         return BoothResponse.builder()
-                .id(booth.getId())
-                .name(booth.getName())
-                .category(booth.getCategory())
-                .description(booth.getDescription())
-                .shortDescription(booth.getShortDescription())
-                .displayOrder(booth.getDisplayOrder())
-                .logoEmoji(booth.getLogoEmoji())
-                .themeColor(booth.getThemeColor())
+                .id(booth.id())
+                .name(booth.name())
+                .category(booth.category())
+                .description(booth.description())
+                .shortDescription(booth.shortDescription())
+                .displayOrder(booth.displayOrder())
+                .logoEmoji(booth.logoEmoji())
+                .themeColor(booth.themeColor())
                 .totalInvestment(totalInvestment)
                 .myInvestment(myInvestment)
                 .build();
@@ -94,14 +93,19 @@ public class BoothService {
         Booth pickBooth = boothRepository.findById(PICK_BOOTH_ID)
                 .orElseThrow(() -> new IllegalArgumentException("신입사원 Pick 부스를 찾을 수 없습니다"));
 
-        StockBooth stockBooth = stockBoothRepository.findById(stockBoothId)
+        BoothCatalog.Entry stockBooth = boothCatalog.findStockBooth(stockBoothId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 주식 부스를 찾을 수 없습니다"));
 
-        pickBooth.setName(stockBooth.getName());
-        pickBooth.setCategory(stockBooth.getCategory());
-        pickBooth.setDescription(stockBooth.getDescription());
-        pickBooth.setShortDescription(stockBooth.getShortDescription());
-        pickBooth.setLogoEmoji(stockBooth.getLogoEmoji());
-        pickBooth.setThemeColor(stockBooth.getThemeColor());
+        pickBooth.setName(stockBooth.name());
+        pickBooth.setCategory(stockBooth.category());
+        pickBooth.setDescription(stockBooth.description());
+        pickBooth.setShortDescription(stockBooth.shortDescription());
+        pickBooth.setLogoEmoji(stockBooth.logoEmoji());
+        pickBooth.setThemeColor(stockBooth.themeColor());
+        // 커밋 후 카탈로그 스냅샷을 새로 만든 뒤 순위표의 부스 이름/아이콘도 교체
+        AfterCommit.run(() -> {
+            boothCatalog.reload();
+            boothLeaderboards.refreshPmBooth(PICK_BOOTH_ID);
+        });
     }
 }
@@ -0,0 +1,179 @@
+package com.pm.investment.service;
+
+import com.pm.investment.dto.CospiResponse;
+import com.pm.investment.entity.StockTradeHistory;
+import com.pm.investment.repository.StockTradeHistoryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * COSPI(전체 AM 보유 총액) 실시간 집계.
+ *
+ * 거래마다 누적값만 갱신하고, 차트는 초/분 단위 링 버퍼(마지막 값)로 보관한다.
+ * 조회 비용은 거래 건수와 무관하게 버퍼 크기로 고정된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CospiIndex {
+
+    private static final int SECOND_BUCKETS = 600;   // 최근 거래 구간은 초 단위 (거래가 있었던 초 600개)
+    private static final int MINUTE_BUCKETS = 1440;  // 그 이전은 분 단위 (최대 1440분)
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private final StockTradeHistoryRepository stockTradeHistoryRepository;
+
+    private final Buckets seconds = new Buckets(SECOND_BUCKETS);
+    private final Buckets minutes = new Buckets(MINUTE_BUCKETS);
+
+    private long currentTotal;
+    private long previousTotal;
+    private LocalDateTime firstTradeAt;
+    private long version;
+
+    private long cachedVersion = -1;
+    private CospiResponse cached;
+
+    /**
+     * 기동 시 1회 전체 거래를 재생해 집계를 채운다. StockLedger가 거래를 받기 전에 호출.
+     */
+    public synchronized void rebuild() {
+        currentTotal = 0;
+        previousTotal = 0;
+        firstTradeAt = null;
+        seconds.clear();
+        minutes.clear();
+        for (Object[] row : stockTradeHistoryRepository.findAllTypeAmountTimeOrderByCreatedAtAsc()) {
+            apply((StockTradeHistory.TradeType) row[0], ((Number) row[1]).longValue(), (LocalDateTime) row[2]);
+        }
+        version++;
+    }
+
+    public synchronized void record(StockLedger.Entry entry) {
+        if (entry.type() == StockLedger.EntryType.DEPOSIT) {
+            return;
+        }
+        apply(entry.type() == StockLedger.EntryType.BUY
+                ? StockTradeHistory.TradeType.BUY : StockTradeHistory.TradeType.SELL,
+                entry.amount(), entry.createdAt());
+        version++;
+    }
+
+    public synchronized long getCurrentTotal() {
+        return currentTotal;
+    }
+
+    public synchronized CospiResponse getResponse() {
+        if (cachedVersion == version && cached != null) {
+            return cached;
+        }
+
+        List<CospiResponse.CospiPoint> history = new ArrayList<>();
+        if (firstTradeAt != null) {
+            history.add(point(0L, firstTradeAt.minusSeconds(1)));
+        }
+        // 초 단위 버퍼가 덮는 구간 이전만 분 단위로 채운다
+        long secondsFrom = seconds.size() > 0 ? seconds.timeAt(0) : Long.MAX_VALUE;
+        for (int i = 0; i < minutes.size(); i++) {
+            long minuteStart = minutes.timeAt(i) * 60;
+            if (minuteStart + 59 >= secondsFrom) break;
+            history.add(point(minutes.valueAt(i), toDateTime(minuteStart + 59)));
+        }
+        for (int i = 0; i < seconds.size(); i++) {
+            history.add(point(seconds.valueAt(i), toDateTime(seconds.timeAt(i))));
+        }
+
+        long change = currentTotal - previousTotal;
+        double changeRate = previousTotal != 0 ? (double) change / previousTotal * 100 : 0;
+
+        cached = CospiResponse.builder()
+                .currentTotal(currentTotal)
+                .previousTotal(previousTotal)
+                .change(change)
+                .changeRate(Math.round(changeRate * 100.0) / 100.0)
+                .history(history)
+                .build();
+        cachedVersion = version;
+        return cached;
+    }
+
+    private void apply(StockTradeHistory.TradeType type, long amount, LocalDateTime at) {
+        if (firstTradeAt == null) {
+            firstTradeAt = at;
+        }
+        previousTotal = currentTotal;
+        currentTotal += type == StockTradeHistory.TradeType.BUY ? amount : -amount;
+
+        long epochSecond = at.atZone(ZONE).toEpochSecond();
+        seconds.put(epochSecond, currentTotal);
+        minutes.put(Math.floorDiv(epochSecond, 60), currentTotal);
+    }
+
+    private static CospiResponse.CospiPoint point(long price, LocalDateTime changedAt) {
+        return CospiResponse.CospiPoint.builder()
+                .price(price)
+                .changedAt(changedAt)
+                .build();
+    }
+
+    private static LocalDateTime toDateTime(long epochSecond) {
+        return LocalDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), ZONE);
+    }
+
+    /**
+     * (버킷 시각, 마지막 값) 링 버퍼. 같은 버킷이면 값만 덮어쓰고, 가득 차면 가장 오래된 버킷을 버린다.
+     * 시각이 역행하는 기록(동시 거래의 미세한 순서 차이)은 마지막 버킷에 합친다.
+     */
+    private static final class Buckets {
+        private final long[] times;
+        private final long[] values;
+        private int start;
+        private int size;
+
+        private Buckets(int capacity) {
+            this.times = new long[capacity];
+            this.values = new long[capacity];
+        }
+
+        private void put(long time, long value) {
+            if (size > 0 && time <= timeAt(size - 1)) {
+                values[index(size - 1)] = value;
+                return;
+            }
+            if (size == times.length) {
+                start = (start + 1) % times.length;
+                size--;
+            }
+            int idx = index(size);
+            times[idx] = time;
+            values[idx] = value;
+            size++;
+        }
+
+        private void clear() {
+            start = 0;
+            size = 0;
+        }
+
+        private int size() {
+            return size;
+        }
+
+        private long timeAt(int i) {
+            return times[index(i)];
+        }
+
+        private long valueAt(int i) {
+            return values[index(i)];
+        }
+
+        private int index(int i) {
+            return (start + i) % times.length;
+        }
+    }
+}
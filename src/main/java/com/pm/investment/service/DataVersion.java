@@ -0,0 +1,24 @@
+package com.pm.investment.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 활동 데이터(AM 거래 반영, PM 투자 이력, 부스 방문, 미션 완료, 댓글)가 DB에 반영될 때마다 오르는 버전.
+ * 집계 결과를 캐시하는 쪽은 계산 전에 읽은 버전과 함께 저장해 두고, 버전이 같으면 그대로 쓴다.
+ */
+@Component
+public class DataVersion {
+
+    private final AtomicLong version = new AtomicLong();
+
+    public long get() {
+        return version.get();
+    }
+
+    /** 트랜잭션 안이면 커밋 후에 올린다 (커밋 전 데이터로 계산한 결과가 최신으로 남지 않도록) */
+    public void bump() {
+        AfterCommit.run(version::incrementAndGet);
+    }
+}
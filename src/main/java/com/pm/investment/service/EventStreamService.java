@@ -0,0 +1,98 @@
+package com.pm.investment.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * 클라이언트당 SSE 연결 1개로 여러 토픽을 받는 통합 스트림.
+ *
+ * 토픽: announcement, mission-complete, settings, market, idea-board:{부스ID}
+ * 연결 1개(SseDispatcher.Connection)를 각 서비스의 토픽별 연결 목록에 함께 등록하므로,
+ * 이벤트 라우팅과 초기 상태 전송은 기존 스트림과 같은 코드를 탄다.
+ */
+@Service
+@RequiredArgsConstructor
+public class EventStreamService {
+
+    public static final String MARKET = "market";
+    private static final String IDEA_BOARD_PREFIX = "idea-board:";
+    private static final int MAX_IDEA_BOARDS = 5;
+    private static final long TIMEOUT = 10 * 60 * 1000L; // 10분
+
+    private final SseDispatcher dispatcher;
+    private final SseEmitterService sseEmitterService;
+    private final MarketDataService marketDataService;
+    private final IdeaBoardSseService ideaBoardSseService;
+
+    public SseEmitter subscribe(List<String> topics, String lastEventId,
+                                Supplier<Map<String, String>> currentAnnouncement) {
+        Set<String> notices = new HashSet<>();
+        boolean market = false;
+        List<Long> boothIds = new ArrayList<>();
+        for (String topic : topics) {
+            String name = topic.trim();
+            if (SseEmitterService.TOPICS.contains(name)) {
+                notices.add(name);
+            } else if (MARKET.equals(name)) {
+                market = true;
+            } else if (name.startsWith(IDEA_BOARD_PREFIX)) {
+                boothIds.add(parseBoothId(name));
+            } else if (!name.isEmpty()) {
+                throw new IllegalArgumentException("알 수 없는 토픽입니다: " + name);
+            }
+        }
+        if (notices.isEmpty() && !market && boothIds.isEmpty()) {
+            throw new IllegalArgumentException("구독할 토픽을 지정해주세요");
+        }
+        if (boothIds.size() > MAX_IDEA_BOARDS) {
+            throw new IllegalArgumentException("아이디어 보드는 최대 " + MAX_IDEA_BOARDS + "개까지 구독할 수 있습니다");
+        }
+
+        SseEmitter emitter = new SseEmitter(TIMEOUT);
+        SseDispatcher.Connection connection = dispatcher.register(emitter);
+
+        // 붙이지 않은 토픽의 detach는 아무 일도 하지 않는다
+        Runnable cleanup = () -> {
+            sseEmitterService.detach(connection);
+            marketDataService.detach(connection);
+            boothIds.forEach(boothId -> ideaBoardSseService.detach(boothId, connection));
+            connection.close();
+        };
+        emitter.onCompletion(cleanup);
+        emitter.onTimeout(cleanup);
+        emitter.onError(e -> cleanup.run());
+
+        try {
+            for (Long boothId : boothIds) {
+                ideaBoardSseService.attach(boothId, connection);
+            }
+        } catch (IllegalArgumentException e) {
+            cleanup.run();
+            throw e;
+        }
+        if (!notices.isEmpty()) {
+            sseEmitterService.attach(connection, notices, lastEventId, currentAnnouncement);
+        }
+        if (market) {
+            marketDataService.attach(connection);
+        }
+
+        return emitter;
+    }
+
+    private static Long parseBoothId(String topic) {
+        try {
+            return Long.parseLong(topic.substring(IDEA_BOARD_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("알 수 없는 토픽입니다: " + topic);
+        }
+    }
+}
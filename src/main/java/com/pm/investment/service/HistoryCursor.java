@@ -0,0 +1,70 @@
+package com.pm.investment.service;
+
+import com.pm.investment.dto.CursorPageResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 이력 목록의 (created_at, id) 키셋 페이지 커서.
+ *
+ * 목록은 created_at DESC, id DESC 순서이고, 다음 페이지는 직전 페이지 마지막 행보다 "작은" 행부터 읽는다.
+ * OFFSET을 쓰지 않으므로 이력이 아무리 쌓여도 페이지 비용은 (user_id, created_at, id) 인덱스 범위 스캔 한 번이다.
+ * 클라이언트에는 base64url 문자열로 내보내고, 첫 페이지는 cursor 없이 요청한다.
+ */
+record HistoryCursor(LocalDateTime createdAt, Long id) {
+
+    static final int DEFAULT_SIZE = 30;
+    private static final int MAX_SIZE = 100;
+
+    /** 첫 페이지: 모든 행보다 큰 값 (MySQL DATETIME 최댓값) */
+    private static final HistoryCursor FIRST = new HistoryCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    static HistoryCursor parse(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.lastIndexOf('|');
+            return new HistoryCursor(LocalDateTime.parse(decoded.substring(0, separator)),
+                    Long.parseLong(decoded.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 페이지 커서입니다");
+        }
+    }
+
+    String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((createdAt + "|" + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** 한 행 더 읽기 위한 조회 건수 (다음 페이지 존재 여부 판단용) */
+    static int fetchSize(int size) {
+        return pageSize(size) + 1;
+    }
+
+    /**
+     * fetchSize(size)만큼 읽은 행을 페이지로 만든다.
+     * createdAtIndex/idIndex: 행에서 커서로 쓸 created_at, id 칸
+     */
+    static <T> CursorPageResponse<T> page(List<Object[]> rows, int size, int createdAtIndex, int idIndex,
+                                          Function<Object[], T> mapper) {
+        int pageSize = pageSize(size);
+        boolean hasNext = rows.size() > pageSize;
+        List<Object[]> pageRows = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            Object[] last = pageRows.get(pageSize - 1);
+            nextCursor = new HistoryCursor((LocalDateTime) last[createdAtIndex], (Long) last[idIndex]).encode();
+        }
+        return new CursorPageResponse<>(pageRows.stream().map(mapper).toList(), nextCursor);
+    }
+
+    private static int pageSize(int size) {
+        return Math.clamp(size, 1, MAX_SIZE);
+    }
+}
@@ -1,15 +1,31 @@
 package com.pm.investment.service;
 
 import com.pm.investment.dto.StockCommentResponse;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestClient;
 
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
+/**
+ * idea-board 댓글 알림 송신 큐.
+ *
+ * 알림은 커밋된 뒤 순번(seq)을 붙여 큐에 넣기만 하고, 스케줄러가 모아서 /internal/comments/batch 한 번으로 보낸다.
+ * - 전송 실패 시 같은 배치를 지수 백오프로 재시도하고, max-attempts를 넘기면 버린다.
+ * - 큐가 가득 차면 가장 오래된 알림부터 버린다.
+ * 버려진 순번은 idea-board가 빈 순번으로 감지해 보드를 다시 읽어 재동기화한다.
+ * 배치를 버린 뒤 새 알림이 없으면 빈 순번이 드러나지 않으므로, 이벤트 없이 lastSeq만 담은 빈 배치를 보내 재동기화시킨다.
+ */
 @Service
 public class IdeaBoardNotifier {
 
@@ -17,63 +33,164 @@ public class IdeaBoardNotifier {
 
     private final RestClient restClient;
     private final String internalApiKey;
+    private final int queueCapacity;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long backoffMs;
+    private final long maxBackoffMs;
+
+    // 서버 기동마다 달라지는 값 - idea-board가 순번 초기화를 알아챌 수 있도록 함께 보낸다
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final ArrayDeque<Map<String, Object>> queue = new ArrayDeque<>();
+    private long sequence;
+    private long dropped;
+
+    // 아래 필드는 flushLock 안에서만 접근 (스케줄러와 종료 시 flush가 겹치지 않도록)
+    private final Object flushLock = new Object();
+    private List<Map<String, Object>> pending;
+    private int attempts;
+    private long nextAttemptAt;
+    // 전송을 포기한 마지막 순번 (idea-board에 알리기 전이면 0이 아님)
+    private long abandonedThrough;
 
     public IdeaBoardNotifier(
             @Value("${idea-board.url:}") String ideaBoardUrl,
-            @Value("${idea-board.internal-api-key:idea-board-secret-key}") String internalApiKey) {
+            @Value("${idea-board.internal-api-key:idea-board-secret-key}") String internalApiKey,
+            @Value("${idea-board.notify.queue-capacity:5000}") int queueCapacity,
+            @Value("${idea-board.notify.batch-size:100}") int batchSize,
+            @Value("${idea-board.notify.max-attempts:5}") int maxAttempts,
+            @Value("${idea-board.notify.backoff-ms:200}") long backoffMs,
+            @Value("${idea-board.notify.max-backoff-ms:5000}") long maxBackoffMs) {
         this.internalApiKey = internalApiKey;
+        this.queueCapacity = queueCapacity;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.backoffMs = backoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+
+        // 응답이 없는 idea-board 때문에 flush 스레드가 묶이지 않도록 타임아웃 지정
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(Duration.ofSeconds(2));
+        requestFactory.setReadTimeout(Duration.ofSeconds(3));
         this.restClient = RestClient.builder()
                 .baseUrl(ideaBoardUrl.isEmpty() ? "http://localhost:8081" : ideaBoardUrl)
+                .requestFactory(requestFactory)
                 .build();
     }
 
-    @Async
     public void notifyNewComment(Long boothId, StockCommentResponse comment) {
-        postInternal("/internal/comments/notify", Map.of(
-                "boothId", boothId,
-                "commentId", comment.getId(),
-                "userId", comment.getUserId(),
-                "userName", comment.getUserName(),
-                "userCompany", comment.getUserCompany() != null ? comment.getUserCompany() : "",
-                "content", comment.getContent(),
-                "tag", comment.getTag() != null ? comment.getTag() : "",
-                "createdAt", comment.getCreatedAt().toString()
-        ));
+        AfterCommit.run(() -> enqueue("new-comment", boothId, comment.getId(), toPayload(boothId, comment)));
     }
 
-    @Async
     public void notifyUpdateComment(Long boothId, StockCommentResponse comment) {
-        postInternal("/internal/comments/update", Map.of(
-                "boothId", boothId,
-                "commentId", comment.getId(),
-                "userId", comment.getUserId(),
-                "userName", comment.getUserName(),
-                "userCompany", comment.getUserCompany() != null ? comment.getUserCompany() : "",
-                "content", comment.getContent(),
-                "tag", comment.getTag() != null ? comment.getTag() : "",
-                "createdAt", comment.getCreatedAt().toString()
-        ));
+        AfterCommit.run(() -> enqueue("update-comment", boothId, comment.getId(), toPayload(boothId, comment)));
     }
 
-    @Async
     public void notifyDeleteComment(Long boothId, Long commentId) {
-        postInternal("/internal/comments/delete", Map.of(
-                "boothId", boothId,
-                "commentId", commentId
-        ));
+        AfterCommit.run(() -> enqueue("delete-comment", boothId, commentId, null));
+    }
+
+    @Scheduled(fixedDelayString = "${idea-board.notify.flush-interval-ms:100}")
+    public void flush() {
+        synchronized (flushLock) {
+            while (System.currentTimeMillis() >= nextAttemptAt) {
+                if (pending == null) {
+                    pending = drain();
+                    if (pending.isEmpty() && abandonedThrough == 0) {
+                        pending = null;
+                        return;
+                    }
+                }
+                if (!send(pending)) {
+                    return;
+                }
+                pending = null;
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        synchronized (flushLock) {
+            nextAttemptAt = 0;
+        }
+        flush();
+    }
+
+    public synchronized Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("epoch", epoch);
+        stats.put("lastSeq", sequence);
+        stats.put("queued", queue.size());
+        stats.put("dropped", dropped);
+        return stats;
+    }
+
+    private synchronized void enqueue(String type, Long boothId, Long commentId, Map<String, Object> comment) {
+        if (queue.size() >= queueCapacity) {
+            queue.pollFirst();
+            dropped++;
+            log.warn("idea-board 알림 큐 가득 참 - 가장 오래된 알림 폐기 (누적 {}건)", dropped);
+        }
+        Map<String, Object> event = new LinkedHashMap<>();
+        event.put("seq", ++sequence);
+        event.put("type", type);
+        event.put("boothId", boothId);
+        event.put("commentId", commentId);
+        event.put("comment", comment);
+        queue.addLast(event);
+    }
+
+    private synchronized List<Map<String, Object>> drain() {
+        List<Map<String, Object>> batch = new ArrayList<>(Math.min(queue.size(), batchSize));
+        while (batch.size() < batchSize && !queue.isEmpty()) {
+            batch.add(queue.pollFirst());
+        }
+        return batch;
     }
 
-    private void postInternal(String uri, Map<String, Object> body) {
+    /** 성공하면 true. 실패하면 백오프를 걸고, 시도 횟수를 넘긴 배치는 버린다 */
+    private boolean send(List<Map<String, Object>> batch) {
+        // 빈 배치는 포기한 순번을 알리는 재동기화 신호
+        long lastSeq = batch.isEmpty() ? abandonedThrough : (Long) batch.get(batch.size() - 1).get("seq");
         try {
             restClient.post()
-                    .uri(uri)
+                    .uri("/internal/comments/batch")
                     .header("X-Internal-Api-Key", internalApiKey)
                     .header("Content-Type", "application/json")
-                    .body(body)
+                    .body(Map.of("epoch", epoch, "events", batch, "lastSeq", lastSeq))
                     .retrieve()
                     .toBodilessEntity();
+            attempts = 0;
+            nextAttemptAt = 0;
+            abandonedThrough = 0;
+            return true;
         } catch (Exception e) {
-            log.warn("idea-board 알림 전송 실패 (무시): {}", e.getMessage());
+            attempts++;
+            if (attempts >= maxAttempts) {
+                log.warn("idea-board 알림 {}건 전송 포기 ({}회 실패): {}", batch.size(), attempts, e.getMessage());
+                pending = null;
+                attempts = 0;
+                abandonedThrough = Math.max(abandonedThrough, lastSeq);
+            } else {
+                log.warn("idea-board 알림 전송 실패 ({}회), 재시도 예정: {}", attempts, e.getMessage());
+            }
+            nextAttemptAt = System.currentTimeMillis()
+                    + Math.min(backoffMs << Math.min(attempts, 20), maxBackoffMs);
+            return false;
         }
     }
+
+    private static Map<String, Object> toPayload(Long boothId, StockCommentResponse comment) {
+        return Map.of(
+                "boothId", boothId,
+                "commentId", comment.getId(),
+                "userId", comment.getUserId(),
+                "userName", comment.getUserName(),
+                "userCompany", comment.getUserCompany() != null ? comment.getUserCompany() : "",
+                "content", comment.getContent(),
+                "tag", comment.getTag() != null ? comment.getTag() : "",
+                "createdAt", comment.getCreatedAt().toString()
+        );
+    }
 }
@@ -0,0 +1,73 @@
+package com.pm.investment.service;
+
+import com.pm.investment.dto.IdeaBoardResponse;
+import com.pm.investment.dto.StockCommentResponse;
+import com.pm.investment.repository.StockCommentRepository;
+import com.pm.investment.repository.StockRatingRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+// DB에서 보드를 새로 만든다. 조회/구독은 IdeaBoardSseService의 부스별 스냅샷을 사용하고, 이 메서드는 스냅샷 최초 적재 시에만 호출된다
+
+@Service
+@RequiredArgsConstructor
+public class IdeaBoardService {
+
+    private final BoothCatalog boothCatalog;
+    private final StockCommentRepository stockCommentRepository;
+    private final StockRatingRepository stockRatingRepository;
+
+    @Transactional(readOnly = true)
+    public IdeaBoardResponse loadBoard(Long boothId) {
+        BoothCatalog.Entry booth = boothCatalog.findStockBooth(boothId)
+                .orElseThrow(() -> new IllegalArgumentException("부스를 찾을 수 없습니다"));
+
+        // 댓글
+        List<StockCommentResponse> taggedComments = stockCommentRepository
+                .findByStockBoothIdOrderByCreatedAtDesc(boothId)
+                .stream()
+                .map(c -> StockCommentResponse.builder()
+                        .id(c.getId())
+                        .userId(c.getUser().getId())
+                        .userName(c.getUser().getName())
+                        .userCompany(c.getUser().getCompany())
+                        .content(c.getContent())
+                        .tag("꿈을 원대하게")
+                        .createdAt(c.getCreatedAt())
+                        .build())
+                .toList();
+
+        // 리뷰(sincere)도 포함
+        List<StockCommentResponse> reviewComments = stockRatingRepository
+                .findByStockBoothIdAndReviewIsNotNullOrderByUpdatedAtDesc(boothId)
+                .stream()
+                .map(r -> StockCommentResponse.builder()
+                        .id(-r.getId()) // 음수 ID로 댓글과 구분
+                        .userId(r.getUser().getId())
+                        .userName(r.getUser().getName())
+                        .userCompany(r.getUser().getCompany())
+                        .content(r.getReview())
+                        .tag("진정성 있게")
+                        .createdAt(r.getCreatedAt())
+                        .build())
+                .toList();
+
+        List<StockCommentResponse> merged = new ArrayList<>(taggedComments);
+        merged.addAll(reviewComments);
+        merged.sort(Comparator.comparing(StockCommentResponse::getCreatedAt).reversed());
+
+        return IdeaBoardResponse.builder()
+                .boothId(booth.id())
+                .boothName(booth.name())
+                .logoEmoji(booth.logoEmoji())
+                .themeColor(booth.themeColor())
+                .category(booth.category())
+                .comments(merged)
+                .build();
+    }
+}
@@ -1,65 +1,113 @@
 package com.pm.investment.service;
 
+import com.pm.investment.dto.IdeaBoardResponse;
 import com.pm.investment.dto.StockCommentResponse;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import tools.jackson.databind.ObjectMapper;
 
-import java.io.IOException;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+// 부스별 보드 스냅샷을 메모리에 두고 댓글 이벤트로 갱신한다. 조회/구독(init)은 DB를 읽지 않는다.
+// 스냅샷 갱신+브로드캐스트와 구독(연결 등록+init 전송)은 같은 부스 단위 compute 안에서 처리해
+// 새 연결이 init과 이벤트 사이에서 변경을 놓치지 않게 한다. 이벤트는 커밋 이후에만 반영한다.
 
 @Service
 public class IdeaBoardSseService {
 
     private static final long TIMEOUT = 10 * 60 * 1000L; // 10분
 
-    // boothId -> Set<SseEmitter>
-    private final Map<Long, Set<SseEmitter>> emitterMap = new ConcurrentHashMap<>();
+    private final ObjectMapper objectMapper;
+    private final SseDispatcher dispatcher;
+    private final IdeaBoardService ideaBoardService;
+
+    // boothId -> 연결 목록
+    private final Map<Long, Set<SseDispatcher.Connection>> connectionMap = new ConcurrentHashMap<>();
+    // boothId -> 보드 스냅샷 (부스별 최초 조회 시 1회 DB 적재)
+    private final Map<Long, IdeaBoardSnapshot> snapshots = new ConcurrentHashMap<>();
+
+    public IdeaBoardSseService(ObjectMapper objectMapper, SseDispatcher dispatcher, IdeaBoardService ideaBoardService) {
+        this.objectMapper = objectMapper;
+        this.dispatcher = dispatcher;
+        this.ideaBoardService = ideaBoardService;
+    }
+
+    public IdeaBoardResponse getBoard(Long boothId) {
+        return snapshot(boothId).board();
+    }
 
     public SseEmitter subscribe(Long boothId) {
         SseEmitter emitter = new SseEmitter(TIMEOUT);
-        emitterMap.computeIfAbsent(boothId, k -> ConcurrentHashMap.newKeySet()).add(emitter);
+        SseDispatcher.Connection connection = dispatcher.register(emitter);
 
         Runnable cleanup = () -> {
-            Set<SseEmitter> set = emitterMap.get(boothId);
-            if (set != null) {
-                set.remove(emitter);
-                if (set.isEmpty()) emitterMap.remove(boothId);
-            }
+            detach(boothId, connection);
+            connection.close();
         };
         emitter.onCompletion(cleanup);
         emitter.onTimeout(cleanup);
         emitter.onError(e -> cleanup.run());
 
+        try {
+            attach(boothId, connection);
+        } catch (IllegalArgumentException e) {
+            connection.close();
+            throw e;
+        }
+
         return emitter;
     }
 
+    /** 이미 열린 연결에 부스 보드를 붙이고 init을 보낸다 (보드 스트림, 통합 스트림 공용) */
+    public void attach(Long boothId, SseDispatcher.Connection connection) {
+        snapshots.compute(boothId, (id, snapshot) -> {
+            IdeaBoardSnapshot current = snapshot != null ? snapshot : IdeaBoardSnapshot.of(ideaBoardService.loadBoard(id));
+            connectionMap.computeIfAbsent(id, k -> ConcurrentHashMap.newKeySet()).add(connection);
+            connection.send(current.initFrame(objectMapper));
+            return current;
+        });
+    }
+
+    public void detach(Long boothId, SseDispatcher.Connection connection) {
+        connectionMap.computeIfPresent(boothId, (id, set) -> {
+            set.remove(connection);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
     public void broadcastNewComment(Long boothId, StockCommentResponse comment) {
-        broadcast(boothId, "new-comment", comment);
+        AfterCommit.run(() -> apply(boothId, snapshot -> snapshot.upsert(comment), "new-comment", comment));
     }
 
     public void broadcastUpdateComment(Long boothId, StockCommentResponse comment) {
-        broadcast(boothId, "update-comment", comment);
+        AfterCommit.run(() -> apply(boothId, snapshot -> snapshot.upsert(comment), "update-comment", comment));
     }
 
     public void broadcastDeleteComment(Long boothId, Long commentId) {
-        broadcast(boothId, "delete-comment", Map.of("id", commentId));
+        AfterCommit.run(() -> apply(boothId, snapshot -> snapshot.remove(commentId), "delete-comment", Map.of("id", commentId)));
     }
 
-    private void broadcast(Long boothId, String eventName, Object data) {
-        Set<SseEmitter> emitters = emitterMap.get(boothId);
-        if (emitters == null || emitters.isEmpty()) return;
-
-        List<SseEmitter> dead = new ArrayList<>();
-        for (SseEmitter emitter : emitters) {
-            try {
-                emitter.send(SseEmitter.event()
-                        .name(eventName)
-                        .data(data));
-            } catch (IOException e) {
-                dead.add(emitter);
-            }
+    private IdeaBoardSnapshot snapshot(Long boothId) {
+        IdeaBoardSnapshot snapshot = snapshots.get(boothId);
+        if (snapshot != null) {
+            return snapshot;
         }
-        emitters.removeAll(dead);
+        // 같은 부스를 동시에 여는 요청은 한 번의 적재를 기다린다
+        return snapshots.computeIfAbsent(boothId, id -> IdeaBoardSnapshot.of(ideaBoardService.loadBoard(id)));
+    }
+
+    // 스냅샷이 아직 없으면 갱신할 필요 없음 (최초 적재 때 커밋된 내용이 DB에서 읽힌다)
+    // 큐에 넣기만 하므로 댓글 작성 요청 스레드는 클라이언트 전송을 기다리지 않는다
+    private void apply(Long boothId, UnaryOperator<IdeaBoardSnapshot> change,
+                       String eventName, Object data) {
+        snapshots.computeIfPresent(boothId, (id, snapshot) -> {
+            Set<SseDispatcher.Connection> connections = connectionMap.get(id);
+            if (connections != null && !connections.isEmpty()) {
+                dispatcher.broadcast(connections, SseFrame.of(objectMapper, eventName, data));
+            }
+            return change.apply(snapshot);
+        });
     }
 }
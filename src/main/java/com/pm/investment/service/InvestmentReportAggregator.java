@@ -0,0 +1,327 @@
+package com.pm.investment.service;
+
+import com.pm.investment.dto.CombinedInvestmentResponse;
+import com.pm.investment.dto.ExecutiveInvestmentResponse;
+import com.pm.investment.dto.RepresentativeResultResponse;
+import com.pm.investment.dto.RookieInvestmentResponse;
+import com.pm.investment.repository.BoothMemoRepository;
+import com.pm.investment.repository.InvestmentAccountRepository;
+import com.pm.investment.repository.InvestmentRepository;
+import com.pm.investment.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Stream;
+
+/**
+ * 경영진 / 신입사원 / 통합 투자 보고서와 대표작 결과를 investments 1회 순회로 함께 만든다.
+ *
+ * 투자 행은 엔티티 없이 [userId, boothId, 역할, 금액]만 커서로 읽어 대상자별 보유 목록과
+ * 부스별 합계(경영진/신입사원/통합)에 바로 누적한다. 대상자·부스·잔액·메모는 각각 한 번씩만 조회한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class InvestmentReportAggregator {
+
+    private final InvestmentRepository investmentRepository;
+    private final UserRepository userRepository;
+    private final BoothCatalog boothCatalog;
+    private final InvestmentAccountRepository investmentAccountRepository;
+    private final BoothMemoRepository boothMemoRepository;
+
+    public record Reports(ExecutiveInvestmentResponse executive, RookieInvestmentResponse rookie,
+                          CombinedInvestmentResponse combined, RepresentativeResultResponse representative) {
+    }
+
+    /** 보고서 대상자 1명과 투자 목록 */
+    private static final class Person {
+        private final Long id;
+        private final String name;
+        private final String company;
+        private final boolean executive;
+        private final boolean rookie;
+        private final List<long[]> holdings = new ArrayList<>(); // [boothId, amount]
+        private long totalInvested;
+
+        private Person(Long id, String name, String company, boolean executive, boolean rookie) {
+            this.id = id;
+            this.name = name;
+            this.company = company;
+            this.executive = executive;
+            this.rookie = rookie;
+        }
+    }
+
+    /** 부스별 [금액 합, 투자자 수] */
+    private static final class BoothTotals {
+        private final Map<Long, long[]> byBooth = new HashMap<>();
+
+        private void add(long boothId, long amount) {
+            long[] stats = byBooth.computeIfAbsent(boothId, k -> new long[2]);
+            stats[0] += amount;
+            stats[1]++;
+        }
+
+        private long amount(Long boothId) {
+            long[] stats = byBooth.get(boothId);
+            return stats != null ? stats[0] : 0L;
+        }
+
+        private int count(Long boothId) {
+            long[] stats = byBooth.get(boothId);
+            return stats != null ? (int) stats[1] : 0;
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public Reports aggregate() {
+        List<BoothCatalog.Entry> booths = boothCatalog.booths();
+        Map<Long, BoothCatalog.Entry> boothMap = new HashMap<>();
+        booths.forEach(booth -> boothMap.put(booth.id(), booth));
+
+        // 대상자 (이름순)
+        List<Person> people = new ArrayList<>();
+        Map<Long, Person> personMap = new HashMap<>();
+        for (Object[] row : userRepository.findExecutiveAndRookieRows()) {
+            Person person = new Person((Long) row[0], (String) row[1], (String) row[2],
+                    Boolean.TRUE.equals(row[3]), Boolean.TRUE.equals(row[4]));
+            people.add(person);
+            personMap.put(person.id, person);
+        }
+
+        BoothTotals executiveTotals = new BoothTotals();
+        BoothTotals rookieTotals = new BoothTotals();
+        BoothTotals combinedTotals = new BoothTotals();
+        try (Stream<Object[]> rows = investmentRepository.streamExecutiveAndRookieInvestments()) {
+            rows.forEach(row -> {
+                Person person = personMap.get((Long) row[0]);
+                long boothId = (Long) row[1];
+                long amount = ((Number) row[4]).longValue();
+                if (person == null || !boothMap.containsKey(boothId)) return;
+                person.holdings.add(new long[]{boothId, amount});
+                person.totalInvested += amount;
+                if (person.executive) executiveTotals.add(boothId, amount);
+                if (person.rookie) rookieTotals.add(boothId, amount);
+                combinedTotals.add(boothId, amount);
+            });
+        }
+        // 보고서의 투자 목록은 부스 이름순
+        Comparator<long[]> byBoothName = Comparator.comparing(h -> boothMap.get(h[0]).name());
+        people.forEach(person -> person.holdings.sort(byBoothName));
+
+        Map<Long, Long> balanceMap = new HashMap<>();
+        for (Object[] row : investmentAccountRepository.findExecutiveAndRookieBalances()) {
+            balanceMap.put((Long) row[0], ((Number) row[1]).longValue());
+        }
+        Map<Long, Map<Long, String>> memoMap = new HashMap<>();
+        for (Object[] row : boothMemoRepository.findExecutiveMemoRows()) {
+            memoMap.computeIfAbsent((Long) row[0], k -> new HashMap<>()).put((Long) row[1], (String) row[2]);
+        }
+
+        return new Reports(
+                executiveReport(people, booths, boothMap, executiveTotals, balanceMap, memoMap),
+                rookieReport(people, booths, boothMap, rookieTotals, balanceMap),
+                combinedReport(people, booths, boothMap, combinedTotals, balanceMap),
+                representativeResult(people, booths, executiveTotals, rookieTotals));
+    }
+
+    private ExecutiveInvestmentResponse executiveReport(List<Person> people, List<BoothCatalog.Entry> booths,
+                                                        Map<Long, BoothCatalog.Entry> boothMap, BoothTotals totals, Map<Long, Long> balanceMap,
+                                                        Map<Long, Map<Long, String>> memoMap) {
+        List<ExecutiveInvestmentResponse.ExecutiveDetail> executives = people.stream()
+                .filter(person -> person.executive)
+                .map(person -> {
+                    Map<Long, String> memos = memoMap.getOrDefault(person.id, Map.of());
+                    List<ExecutiveInvestmentResponse.InvestmentItem> items = person.holdings.stream().map(h -> {
+                        BoothCatalog.Entry booth = boothMap.get(h[0]);
+                        return ExecutiveInvestmentResponse.InvestmentItem.builder()
+                                .boothId(booth.id())
+                                .boothName(booth.name())
+                                .category(booth.category())
+                                .logoEmoji(booth.logoEmoji())
+                                .amount(h[1])
+                                .memo(memos.get(booth.id()))
+                                .build();
+                    }).toList();
+                    return ExecutiveInvestmentResponse.ExecutiveDetail.builder()
+                            .userId(person.id)
+                            .name(person.name)
+                            .company(person.company)
+                            .balance(balanceMap.getOrDefault(person.id, 0L))
+                            .totalInvested(person.totalInvested)
+                            .investments(items)
+                            .build();
+                }).toList();
+
+        List<ExecutiveInvestmentResponse.BoothSummary> boothSummaries = booths.stream()
+                .map(booth -> ExecutiveInvestmentResponse.BoothSummary.builder()
+                        .boothId(booth.id())
+                        .boothName(booth.name())
+                        .category(booth.category())
+                        .logoEmoji(booth.logoEmoji())
+                        .themeColor(booth.themeColor())
+                        .executiveInvestment(totals.amount(booth.id()))
+                        .executiveInvestorCount(totals.count(booth.id()))
+                        .build())
+                .sorted(Comparator.comparingLong(ExecutiveInvestmentResponse.BoothSummary::getExecutiveInvestment).reversed())
+                .toList();
+
+        return ExecutiveInvestmentResponse.builder()
+                .executives(executives)
+                .boothSummaries(boothSummaries)
+                .build();
+    }
+
+    private RookieInvestmentResponse rookieReport(List<Person> people, List<BoothCatalog.Entry> booths,
+                                                  Map<Long, BoothCatalog.Entry> boothMap, BoothTotals totals, Map<Long, Long> balanceMap) {
+        List<RookieInvestmentResponse.RookieDetail> rookies = people.stream()
+                .filter(person -> person.rookie)
+                .map(person -> RookieInvestmentResponse.RookieDetail.builder()
+                        .userId(person.id)
+                        .name(person.name)
+                        .company(person.company)
+                        .balance(balanceMap.getOrDefault(person.id, 0L))
+                        .totalInvested(person.totalInvested)
+                        .investments(person.holdings.stream().map(h -> {
+                            BoothCatalog.Entry booth = boothMap.get(h[0]);
+                            return RookieInvestmentResponse.InvestmentItem.builder()
+                                    .boothId(booth.id())
+                                    .boothName(booth.name())
+                                    .category(booth.category())
+                                    .amount(h[1])
+                                    .build();
+                        }).toList())
+                        .build())
+                .toList();
+
+        List<RookieInvestmentResponse.BoothSummary> boothSummaries = booths.stream()
+                .map(booth -> RookieInvestmentResponse.BoothSummary.builder()
+                        .boothId(booth.id())
+                        .boothName(booth.name())
+                        .category(booth.category())
+                        .rookieInvestment(totals.amount(booth.id()))
+                        .rookieInvestorCount(totals.count(booth.id()))
+                        .build())
+                .sorted(Comparator.comparingLong(RookieInvestmentResponse.BoothSummary::getRookieInvestment).reversed())
+                .toList();
+
+        return RookieInvestmentResponse.builder()
+                .rookies(rookies)
+                .boothSummaries(boothSummaries)
+                .build();
+    }
+
+    private CombinedInvestmentResponse combinedReport(List<Person> people, List<BoothCatalog.Entry> booths,
+                                                      Map<Long, BoothCatalog.Entry> boothMap, BoothTotals totals, Map<Long, Long> balanceMap) {
+        List<CombinedInvestmentResponse.PersonDetail> persons = people.stream()
+                .map(person -> CombinedInvestmentResponse.PersonDetail.builder()
+                        .userId(person.id)
+                        .name(person.name)
+                        .company(person.company)
+                        .role(person.executive ? "경영진" : "신입사원")
+                        .balance(balanceMap.getOrDefault(person.id, 0L))
+                        .totalInvested(person.totalInvested)
+                        .investments(person.holdings.stream().map(h -> {
+                            BoothCatalog.Entry booth = boothMap.get(h[0]);
+                            return CombinedInvestmentResponse.InvestmentItem.builder()
+                                    .boothId(booth.id())
+                                    .boothName(booth.name())
+                                    .category(booth.category())
+                                    .amount(h[1])
+                                    .build();
+                        }).toList())
+                        .build())
+                .toList();
+
+        List<CombinedInvestmentResponse.BoothSummary> boothSummaries = booths.stream()
+                .map(booth -> CombinedInvestmentResponse.BoothSummary.builder()
+                        .boothId(booth.id())
+                        .boothName(booth.name())
+                        .category(booth.category())
+                        .totalInvestment(totals.amount(booth.id()))
+                        .investorCount(totals.count(booth.id()))
+                        .build())
+                .sorted(Comparator.comparingLong(CombinedInvestmentResponse.BoothSummary::getTotalInvestment).reversed())
+                .toList();
+
+        return CombinedInvestmentResponse.builder()
+                .persons(persons)
+                .boothSummaries(boothSummaries)
+                .build();
+    }
+
+    private RepresentativeResultResponse representativeResult(List<Person> people, List<BoothCatalog.Entry> booths,
+                                                              BoothTotals executiveTotals, BoothTotals rookieTotals) {
+        // 회사별 rookie 인원수
+        Map<String, Long> companyHeadcount = new HashMap<>();
+        for (Person person : people) {
+            if (person.rookie && person.company != null) {
+                companyHeadcount.merge(person.company, 1L, Long::sum);
+            }
+        }
+
+        // 부스별 결과 계산
+        List<RepresentativeResultResponse.BoothResult> results = booths.stream().map(booth -> {
+            long rookieRaw = rookieTotals.amount(booth.id());
+            long execAmount = executiveTotals.amount(booth.id());
+
+            // rookie 점수: (실제 투자금) / (304 - 해당 회사 인원수) * 234
+            double rookieScore = 0.0;
+            String category = booth.category();
+            if (!"전체".equals(category)) {
+                long headcount = companyHeadcount.getOrDefault(category, 0L);
+                long divisor = 304 - headcount;
+                if (divisor > 0 && rookieRaw > 0) {
+                    rookieScore = (double) rookieRaw / divisor * 234;
+                }
+            } else {
+                // "전체" 카테고리(신입사원 Pick!)는 공식 미적용, 원금 그대로
+                rookieScore = rookieRaw;
+            }
+
+            double totalScore = rookieScore + execAmount;
+
+            return RepresentativeResultResponse.BoothResult.builder()
+                    .boothId(booth.id())
+                    .boothName(booth.name())
+                    .category(category)
+                    .rookieRawInvestment(rookieRaw)
+                    .rookieScore(Math.round(rookieScore * 100.0) / 100.0)
+                    .executiveInvestment(execAmount)
+                    .totalScore(Math.round(totalScore * 100.0) / 100.0)
+                    .build();
+        }).toList();
+
+        return RepresentativeResultResponse.builder()
+                .combinedRanking(rankByScore(results, RepresentativeResultResponse.BoothResult::getTotalScore))
+                .rookieRanking(rankByScore(results, RepresentativeResultResponse.BoothResult::getRookieScore))
+                .executiveRanking(rankByScore(results, r -> (double) r.getExecutiveInvestment()))
+                .build();
+    }
+
+    private List<RepresentativeResultResponse.BoothResult> rankByScore(
+            List<RepresentativeResultResponse.BoothResult> results,
+            ToDoubleFunction<RepresentativeResultResponse.BoothResult> scoreExtractor) {
+
+        List<RepresentativeResultResponse.BoothResult> sorted = results.stream()
+                .sorted(Comparator.comparingDouble(scoreExtractor).reversed())
+                .toList();
+
+        AtomicInteger rank = new AtomicInteger(1);
+        return sorted.stream().map(r -> RepresentativeResultResponse.BoothResult.builder()
+                .rank(rank.getAndIncrement())
+                .boothId(r.getBoothId())
+                .boothName(r.getBoothName())
+                .category(r.getCategory())
+                .rookieRawInvestment(r.getRookieRawInvestment())
+                .rookieScore(r.getRookieScore())
+                .executiveInvestment(r.getExecutiveInvestment())
+                .totalScore(r.getTotalScore())
+                .build()
+        ).toList();
+    }
+}
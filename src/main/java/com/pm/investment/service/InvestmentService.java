@@ -1,121 +1,227 @@
 package com.pm.investment.service;
 
+import com.pm.investment.dto.CursorPageResponse;
 import com.pm.investment.dto.InvestmentHistoryResponse;
 import com.pm.investment.dto.InvestmentResponse;
 import com.pm.investment.entity.*;
 import com.pm.investment.repository.*;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Supplier;
 
 @Service
 @RequiredArgsConstructor
 public class InvestmentService {
 
+    private static final Logger log = LoggerFactory.getLogger(InvestmentService.class);
+    private static final int MAX_ATTEMPTS = 3;
+
     private final UserRepository userRepository;
+    private final InvestmentAccountRepository investmentAccountRepository;
     private final BoothRepository boothRepository;
+    private final BoothCatalog boothCatalog;
     private final InvestmentRepository investmentRepository;
     private final InvestmentHistoryRepository investmentHistoryRepository;
     private final SettingService settingService;
+    private final TransactionTemplate transactionTemplate;
+    private final MarketDataService marketDataService;
+    private final BoothLeaderboards boothLeaderboards;
+    private final UserActivityIndex userActivityIndex;
+    private final DataVersion dataVersion;
+
+    /** 커밋된 거래 결과: 거래 후 이 부스 투자 행, (전액 철회 시) 부스의 남은 투자 중 최신 시각 */
+    private record Outcome(Investment investment, LocalDateTime latestUpdatedAt) {
+    }
 
-    @Transactional
+    /**
+     * 잔액 차감 → 투자금 가산을 조건부 UPDATE로 처리한다 (SELECT ... FOR UPDATE 없음).
+     * 행 잠금 순서는 항상 investment_accounts → investments. 이력은 같은 트랜잭션에서 INSERT해 잔액 변경과 함께 커밋되고
+     * (풀링 시퀀스라 ID 조회 왕복 없이 커밋 시 flush), 커밋 후 DataVersion을 올려 시상 집계 캐시를 무효화한다.
+     */
     public void invest(Long userId, Long boothId, Long amount) {
         if (!settingService.isInvestmentEnabled()) {
             throw new IllegalStateException("현재 투자가 중지된 상태입니다");
         }
         validateAmount(amount);
 
-        User user = userRepository.findByIdWithLock(userId)
+        User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
 
-        Booth booth = boothRepository.findById(boothId)
+        BoothCatalog.Entry booth = boothCatalog.findBooth(boothId)
                 .orElseThrow(() -> new IllegalArgumentException("부스를 찾을 수 없습니다"));
 
         // rookie는 자기 계열사 부스에 투자 불가
         if (Boolean.TRUE.equals(user.getIsRookie())
                 && user.getCompany() != null
-                && user.getCompany().equals(booth.getCategory())) {
+                && user.getCompany().equals(booth.category())) {
             throw new IllegalStateException("자기 계열사 대표작에는 투자할 수 없습니다");
         }
 
-        if (user.getBalance() < amount) {
-            throw new IllegalStateException("보유 잔액이 부족합니다");
-        }
-
-        Investment investment = investmentRepository.findByUserIdAndBoothIdWithLock(userId, boothId)
-                .orElseGet(() -> {
-                    Investment newInvestment = new Investment(user, booth);
-                    return investmentRepository.save(newInvestment);
-                });
-
-        user.setBalance(user.getBalance() - amount);
-        investment.setAmount(investment.getAmount() + amount);
-
-        investmentHistoryRepository.save(
-                new InvestmentHistory(user, booth, InvestmentHistory.InvestmentType.INVEST, amount, user.getBalance())
-        );
+        Outcome outcome = executeWithRetry(() -> {
+            if (investmentAccountRepository.debit(userId, amount) == 0) {
+                findBalance(userId); // 계좌 자체가 없으면 여기서 예외
+                throw new IllegalStateException("보유 잔액이 부족합니다");
+            }
+            if (investmentRepository.addAmount(userId, boothId, amount) == 0) {
+                // 첫 투자: 동시에 같은 행이 생성되면 유니크 제약 위반 → 재시도 시 UPDATE 경로로 간다
+                Investment investment = new Investment(userRepository.getReferenceById(userId),
+                        boothRepository.getReferenceById(boothId));
+                investment.setAmount(amount);
+                investmentRepository.saveAndFlush(investment);
+            }
+            saveHistory(userId, boothId, InvestmentHistory.InvestmentType.INVEST, amount, findBalance(userId));
+            dataVersion.bump();
+            return new Outcome(findInvestment(userId, boothId), null);
+        });
+        userActivityIndex.recordTrade(userId, InvestmentHistory.InvestmentType.INVEST);
+        // 거래 후 금액이 이번 투자액과 같으면 0원에서 시작한 투자 → 투자자 수 +1
+        Investment investment = outcome.investment();
+        boothLeaderboards.recordInvest(boothId, amount, investment.getAmount() == amount, investment.getUpdatedAt());
+        marketDataService.markRankingDirty();
     }
 
-    @Transactional
     public void withdraw(Long userId, Long boothId, Long amount) {
         if (!settingService.isInvestmentEnabled()) {
             throw new IllegalStateException("현재 투자가 중지된 상태입니다");
         }
         validateAmount(amount);
 
-        User user = userRepository.findByIdWithLock(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
-
-        Booth booth = boothRepository.findById(boothId)
-                .orElseThrow(() -> new IllegalArgumentException("부스를 찾을 수 없습니다"));
-
-        Investment investment = investmentRepository.findByUserIdAndBoothIdWithLock(userId, boothId)
-                .orElseThrow(() -> new IllegalStateException("해당 부스에 투자한 내역이 없습니다"));
+        if (!userRepository.existsById(userId)) {
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다");
+        }
 
-        if (investment.getAmount() < amount) {
-            throw new IllegalStateException("철회 금액이 투자 금액을 초과합니다");
+        if (boothCatalog.findBooth(boothId).isEmpty()) {
+            throw new IllegalArgumentException("부스를 찾을 수 없습니다");
         }
 
-        user.setBalance(user.getBalance() + amount);
-        investment.setAmount(investment.getAmount() - amount);
+        Outcome outcome = executeWithRetry(() -> {
+            if (investmentAccountRepository.credit(userId, amount) == 0) {
+                throw new IllegalArgumentException("투자 계좌를 찾을 수 없습니다");
+            }
+            if (investmentRepository.subtractAmount(userId, boothId, amount) == 0) {
+                if (investmentRepository.findByUserIdAndBoothId(userId, boothId).isEmpty()) {
+                    throw new IllegalStateException("해당 부스에 투자한 내역이 없습니다");
+                }
+                throw new IllegalStateException("철회 금액이 투자 금액을 초과합니다");
+            }
+            Investment investment = findInvestment(userId, boothId);
+            LocalDateTime latestUpdatedAt = investment.getAmount() == 0
+                    ? investmentRepository.findLatestUpdatedAtByBoothId(boothId) : null;
+            saveHistory(userId, boothId, InvestmentHistory.InvestmentType.WITHDRAW, amount, findBalance(userId));
+            dataVersion.bump();
+            return new Outcome(investment, latestUpdatedAt);
+        });
+        userActivityIndex.recordTrade(userId, InvestmentHistory.InvestmentType.WITHDRAW);
+        Investment investment = outcome.investment();
+        boothLeaderboards.recordWithdraw(boothId, amount, investment.getAmount() == 0,
+                investment.getUpdatedAt(), outcome.latestUpdatedAt());
+        marketDataService.markRankingDirty();
+    }
 
-        investmentHistoryRepository.save(
-                new InvestmentHistory(user, booth, InvestmentHistory.InvestmentType.WITHDRAW, amount, user.getBalance())
-        );
+    @Transactional(readOnly = true)
+    public long getBalance(Long userId) {
+        return findBalance(userId);
     }
 
     @Transactional(readOnly = true)
     public List<InvestmentResponse> getMyInvestments(Long userId) {
+        // 부스 프록시는 id만 읽으므로 초기화되지 않고, 표시 정보는 카탈로그에서 채운다
         return investmentRepository.findByUserIdAndAmountGreaterThan(userId, 0L)
                 .stream()
-                .map(inv -> InvestmentResponse.builder()
-                        .boothId(inv.getBooth().getId())
-                        .boothName(inv.getBooth().getName())
-                        .logoEmoji(inv.getBooth().getLogoEmoji())
-                        .themeColor(inv.getBooth().getThemeColor())
-                        .amount(inv.getAmount())
-                        .build())
+                .map(inv -> {
+                    BoothCatalog.Entry booth = boothCatalog.findBooth(inv.getBooth().getId())
+                            .orElseThrow(() -> new IllegalStateException("부스를 찾을 수 없습니다"));
+                    return InvestmentResponse.builder()
+                            .boothId(booth.id())
+                            .boothName(booth.name())
+                            .logoEmoji(booth.logoEmoji())
+                            .themeColor(booth.themeColor())
+                            .amount(inv.getAmount())
+                            .build();
+                })
                 .toList();
     }
 
+    /** 투자 이력 한 페이지 ((created_at, id) 키셋 1쿼리, 부스 정보는 카탈로그) */
     @Transactional(readOnly = true)
-    public List<InvestmentHistoryResponse> getMyHistory(Long userId) {
-        return investmentHistoryRepository.findByUserIdOrderByCreatedAtDesc(userId)
-                .stream()
-                .map(h -> InvestmentHistoryResponse.builder()
-                        .id(h.getId())
-                        .boothId(h.getBooth().getId())
-                        .boothName(h.getBooth().getName())
-                        .logoEmoji(h.getBooth().getLogoEmoji())
-                        .themeColor(h.getBooth().getThemeColor())
-                        .type(h.getType().name())
-                        .amount(h.getAmount())
-                        .balanceAfter(h.getBalanceAfter())
-                        .createdAt(h.getCreatedAt())
-                        .build())
-                .toList();
+    public CursorPageResponse<InvestmentHistoryResponse> getMyHistory(Long userId, String cursor, int size) {
+        HistoryCursor after = HistoryCursor.parse(cursor);
+        List<Object[]> rows = investmentHistoryRepository.findPageByUserId(
+                userId, after.createdAt(), after.id(), Limit.of(HistoryCursor.fetchSize(size)));
+        return HistoryCursor.page(rows, size, 5, 0, row -> {
+            Long boothId = (Long) row[1];
+            BoothCatalog.Entry booth = boothCatalog.findBooth(boothId)
+                    .orElseThrow(() -> new IllegalStateException("부스를 찾을 수 없습니다"));
+            return InvestmentHistoryResponse.builder()
+                    .id((Long) row[0])
+                    .boothId(boothId)
+                    .boothName(booth.name())
+                    .logoEmoji(booth.logoEmoji())
+                    .themeColor(booth.themeColor())
+                    .type(((InvestmentHistory.InvestmentType) row[2]).name())
+                    .amount((Long) row[3])
+                    .balanceAfter((Long) row[4])
+                    .createdAt((LocalDateTime) row[5])
+                    .build();
+        });
+    }
+
+    /**
+     * 교착 상태나 첫 투자 행 동시 생성 충돌(유니크 키 위반) 시 트랜잭션 전체를 다시 실행한다.
+     * 그 밖의 제약 위반은 재시도해도 같은 결과이므로 그대로 던진다.
+     * 반환값은 커밋된 트랜잭션의 거래 결과.
+     */
+    private Outcome executeWithRetry(Supplier<Outcome> work) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> work.get());
+            } catch (ConcurrencyFailureException | DataIntegrityViolationException e) {
+                if (e instanceof DataIntegrityViolationException && !isDuplicateKey(e)) {
+                    throw e;
+                }
+                if (attempt >= MAX_ATTEMPTS) {
+                    log.warn("투자 처리 재시도 초과: {}", e.getMessage());
+                    throw new IllegalStateException("요청이 몰려 처리하지 못했습니다. 잠시 후 다시 시도해주세요");
+                }
+            }
+        }
+    }
+
+    private static boolean isDuplicateKey(DataAccessException e) {
+        if (e instanceof DuplicateKeyException) {
+            return true;
+        }
+        return e.getCause() instanceof ConstraintViolationException cause
+                && cause.getKind() == ConstraintViolationException.ConstraintKind.UNIQUE;
+    }
+
+    private void saveHistory(Long userId, Long boothId, InvestmentHistory.InvestmentType type, long amount,
+                             long balanceAfter) {
+        investmentHistoryRepository.save(new InvestmentHistory(userRepository.getReferenceById(userId),
+                boothRepository.getReferenceById(boothId), type, amount, balanceAfter));
+    }
+
+    private Investment findInvestment(Long userId, Long boothId) {
+        return investmentRepository.findByUserIdAndBoothId(userId, boothId)
+                .orElseThrow(() -> new IllegalStateException("해당 부스에 투자한 내역이 없습니다"));
+    }
+
+    private long findBalance(Long userId) {
+        return investmentAccountRepository.findBalanceByUserId(userId)
+                .orElseThrow(() -> new IllegalArgumentException("투자 계좌를 찾을 수 없습니다"));
     }
 
     private void validateAmount(Long amount) {
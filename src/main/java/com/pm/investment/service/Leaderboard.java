@@ -0,0 +1,119 @@
+package com.pm.investment.service;
+
+import com.pm.investment.dto.RankingResponse;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.UnaryOperator;
+
+/**
+ * 부스 순위표 1개 (총액 내림차순 · 동률이면 먼저 달성한(lastUpdatedAt이 빠른) 부스 · 그다음 부스 표시 순서).
+ *
+ * 거래마다 해당 부스 항목만 TreeSet에서 빼고 다시 넣는다(O(log n)). 순위 목록과 부스별 순위는
+ * 변경 이후 처음 조회할 때 한 번 만들어 두고, 다음 변경 전까지 그대로 돌려준다.
+ */
+final class Leaderboard {
+
+    /** 응답에 들어가는 부스 정보. order는 동률(총액, 시각 모두 같음)일 때의 순서 */
+    record BoothInfo(Long boothId, int order, String name, String category, String logoEmoji, String themeColor) {
+    }
+
+    /** 부스 1개의 집계. lastUpdatedAt은 투자가 없으면 null (동률 시 가장 뒤) */
+    record Standing(long total, long count, LocalDateTime lastUpdatedAt) {
+        static final Standing EMPTY = new Standing(0L, 0L, null);
+    }
+
+    private record Entry(BoothInfo booth, Standing standing) {
+    }
+
+    private static final Comparator<Entry> ORDER = Comparator
+            .comparingLong((Entry e) -> e.standing().total()).reversed()
+            .thenComparing(e -> e.standing().lastUpdatedAt(), Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparingInt(e -> e.booth().order());
+
+    private final TreeSet<Entry> ordered = new TreeSet<>(ORDER);
+    private final Map<Long, Entry> entries = new HashMap<>();
+
+    // 변경 후 첫 조회 때 다시 만든다
+    private List<RankingResponse> ranking;
+    private Map<Long, Integer> ranks;
+
+    /** 전체 교체. standings에 없는 부스는 집계 0 */
+    synchronized void reset(List<BoothInfo> booths, Map<Long, Standing> standings) {
+        ordered.clear();
+        entries.clear();
+        for (BoothInfo booth : booths) {
+            Entry entry = new Entry(booth, standings.getOrDefault(booth.boothId(), Standing.EMPTY));
+            entries.put(booth.boothId(), entry);
+            ordered.add(entry);
+        }
+        invalidate();
+    }
+
+    /** 부스 1개의 집계만 갱신. 모르는 부스면 무시 */
+    synchronized void update(Long boothId, UnaryOperator<Standing> change) {
+        Entry entry = entries.get(boothId);
+        if (entry == null) {
+            return;
+        }
+        ordered.remove(entry);
+        Entry updated = new Entry(entry.booth(), change.apply(entry.standing()));
+        entries.put(boothId, updated);
+        ordered.add(updated);
+        invalidate();
+    }
+
+    /** 부스 이름 등 표시 정보만 교체 (집계 유지) */
+    synchronized void updateBooth(BoothInfo booth) {
+        Entry entry = entries.get(booth.boothId());
+        if (entry == null) {
+            return;
+        }
+        ordered.remove(entry);
+        Entry updated = new Entry(booth, entry.standing());
+        entries.put(booth.boothId(), updated);
+        ordered.add(updated);
+        invalidate();
+    }
+
+    synchronized List<RankingResponse> getRanking() {
+        if (ranking == null) {
+            List<RankingResponse> result = new ArrayList<>(ordered.size());
+            Map<Long, Integer> rankMap = new HashMap<>();
+            int rank = 1;
+            for (Entry entry : ordered) {
+                BoothInfo booth = entry.booth();
+                result.add(RankingResponse.builder()
+                        .rank(rank)
+                        .boothId(booth.boothId())
+                        .boothName(booth.name())
+                        .category(booth.category())
+                        .logoEmoji(booth.logoEmoji())
+                        .themeColor(booth.themeColor())
+                        .totalInvestment(entry.standing().total())
+                        .investorCount(entry.standing().count())
+                        .build());
+                rankMap.put(booth.boothId(), rank++);
+            }
+            ranking = List.copyOf(result);
+            ranks = rankMap;
+        }
+        return ranking;
+    }
+
+    /** 모르는 부스면 null */
+    synchronized Integer getRank(Long boothId) {
+        getRanking();
+        return ranks.get(boothId);
+    }
+
+    private void invalidate() {
+        ranking = null;
+        ranks = null;
+    }
+}
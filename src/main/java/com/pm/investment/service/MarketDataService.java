@@ -0,0 +1,140 @@
+package com.pm.investment.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 시세 SSE 스트림 (부스 주가/보유 총액/순위 + PM 투자 랭킹).
+ *
+ * 거래마다 전송하지 않고, 주기(market.stream.interval-ms)마다 토픽별로 변경이 있었을 때만
+ * 최신 상태를 한 프레임으로 묶어 보낸다. 거래가 몰려도 토픽당 전송 횟수는 주기로 제한된다.
+ */
+@Service
+@RequiredArgsConstructor
+public class MarketDataService {
+
+    private static final long TIMEOUT = 5 * 60 * 1000L; // 5분
+    private static final String STOCK_EVENT = "stock-market";
+    private static final String RANKING_EVENT = "ranking";
+
+    private final StockPriceEngine stockPriceEngine;
+    private final CospiIndex cospiIndex;
+    private final RankingService rankingService;
+    private final SettingService settingService;
+    private final ObjectMapper objectMapper;
+    private final SseDispatcher dispatcher;
+
+    private final Set<SseDispatcher.Connection> connections = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean rankingDirty = new AtomicBoolean(true);
+    private final Map<Long, Integer> previousRanks = new HashMap<>();
+    private long lastStockVersion = -1;
+
+    // 마지막으로 보낸 프레임 (인코딩된 바이트) - 신규 구독자 초기 상태로 재사용
+    private volatile SseFrame lastStockFrame;
+    private volatile SseFrame lastRankingFrame;
+
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(TIMEOUT);
+        SseDispatcher.Connection connection = dispatcher.register(emitter);
+
+        Runnable cleanup = () -> {
+            detach(connection);
+            connection.close();
+        };
+        emitter.onCompletion(cleanup);
+        emitter.onTimeout(cleanup);
+        emitter.onError(e -> cleanup.run());
+
+        attach(connection);
+        return emitter;
+    }
+
+    /** 이미 열린 연결에 시세 토픽을 붙인다 (시세 스트림, 통합 스트림 공용) */
+    public void attach(SseDispatcher.Connection connection) {
+        connections.add(connection);
+
+        // 마지막으로 보낸 프레임을 초기 상태로 전송 (DB 조회, 직렬화 없음)
+        SseFrame stockFrame = lastStockFrame;
+        if (stockFrame != null) {
+            connection.send(stockFrame);
+        }
+        // 결과 공개가 꺼진 뒤 다음 주기 전에 붙은 구독자에게 이전 랭킹이 나가지 않도록 플래그를 다시 확인
+        SseFrame rankingFrame = lastRankingFrame;
+        if (rankingFrame != null && settingService.isResultsRevealed()) {
+            connection.send(rankingFrame);
+        }
+    }
+
+    public void detach(SseDispatcher.Connection connection) {
+        connections.remove(connection);
+    }
+
+    /** PM 투자/철회 후 호출 - 다음 주기에 랭킹을 한 번만 다시 계산한다 */
+    public void markRankingDirty() {
+        rankingDirty.set(true);
+    }
+
+    @Scheduled(fixedRateString = "${market.stream.interval-ms:500}")
+    public synchronized void publish() {
+        long version = stockPriceEngine.getVersion();
+        if (version != lastStockVersion) {
+            lastStockVersion = version;
+            lastStockFrame = SseFrame.of(objectMapper, STOCK_EVENT, buildStockFrame());
+            // 시세/랭킹은 최신 프레임만 의미가 있으므로 밀린 연결은 대기 중인 이전 프레임을 대체
+            dispatcher.broadcastLatest(connections, lastStockFrame);
+        }
+
+        if (!settingService.isResultsRevealed()) {
+            // 결과 비공개: 이전 랭킹 프레임을 버리고, 다시 공개되는 즉시 새로 보낼 수 있도록 플래그 유지
+            lastRankingFrame = null;
+            rankingDirty.set(true);
+        } else if (rankingDirty.getAndSet(false)) {
+            lastRankingFrame = SseFrame.of(objectMapper, RANKING_EVENT, rankingService.getRanking());
+            dispatcher.broadcastLatest(connections, lastRankingFrame);
+        }
+    }
+
+    private Map<String, Object> buildStockFrame() {
+        // 보유 총액 내림차순, 동률이면 부스 ID 순
+        List<StockPriceEngine.Quote> quotes = new ArrayList<>(stockPriceEngine.snapshot());
+        quotes.sort(Comparator.comparingLong(StockPriceEngine.Quote::totalHolding).reversed()
+                .thenComparing(StockPriceEngine.Quote::boothId));
+
+        List<Map<String, Object>> booths = new ArrayList<>(quotes.size());
+        for (int i = 0; i < quotes.size(); i++) {
+            StockPriceEngine.Quote q = quotes.get(i);
+            int rank = i + 1;
+            Integer previousRank = previousRanks.put(q.boothId(), rank);
+            double changeRate = q.openPrice() != 0 ? (double) (q.price() - q.openPrice()) / q.openPrice() * 100 : 0;
+
+            Map<String, Object> booth = new LinkedHashMap<>();
+            booth.put("boothId", q.boothId());
+            booth.put("price", q.price());
+            booth.put("changeRate", Math.round(changeRate * 100.0) / 100.0);
+            booth.put("totalHolding", q.totalHolding());
+            booth.put("rank", rank);
+            booth.put("rankChange", previousRank != null ? previousRank - rank : 0);
+            booths.add(booth);
+        }
+
+        Map<String, Object> frame = new LinkedHashMap<>();
+        frame.put("booths", booths);
+        frame.put("cospi", cospiIndex.getCurrentTotal());
+        frame.put("timestamp", LocalDateTime.now());
+        return frame;
+    }
+}
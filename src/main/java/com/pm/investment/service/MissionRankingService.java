@@ -0,0 +1,144 @@
+package com.pm.investment.service;
+
+import com.pm.investment.dto.MissionRankingResponse;
+import com.pm.investment.repository.StockBoothVisitRepository;
+import com.pm.investment.repository.UserMissionRepository;
+import com.pm.investment.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 미션별 랭킹을 주기(epoch)마다 한 번 계산해 두고 조회는 메모리에서만 처리한다.
+ *
+ * - 진행도가 바뀐 미션만 커밋 후 dirty로 표시하고, 다음 주기에 다시 계산한다.
+ * - 주기마다 상위 TOP_K 목록과 userId → 순위 행 인덱스를 불변으로 만들어 통째로 교체한다.
+ * - 등락(rankChange)은 직전 주기 순위와 비교한 값이라 누가 언제 조회하든 같다.
+ * - 한 번도 조회되지 않은 미션은 계산하지 않고, 첫 조회 때 만든다.
+ */
+@Service
+@RequiredArgsConstructor
+public class MissionRankingService {
+
+    /** "안돼도 다시" 미션은 부스 방문자 수 랭킹 */
+    static final String BOOTH_VISITOR_MISSION = "again";
+    private static final int TOP_K = 20;
+
+    private final UserMissionRepository userMissionRepository;
+    private final StockBoothVisitRepository stockBoothVisitRepository;
+    private final UserRepository userRepository;
+
+    /** 한 주기의 랭킹. byUser: 조회자 userId → 내 순위 행 ("again"은 소속 부스의 행) */
+    private record Epoch(long number, List<MissionRankingResponse> top, Map<Long, MissionRankingResponse> byUser,
+                         Map<Long, Integer> ranks) {
+    }
+
+    private final Map<String, Epoch> epochs = new ConcurrentHashMap<>();
+    private final Set<String> dirty = ConcurrentHashMap.newKeySet();
+
+    public Map<String, Object> getRanking(String missionId, Long currentUserId) {
+        Epoch epoch = epochs.get(missionId);
+        if (epoch == null) {
+            epoch = recompute(missionId);
+        }
+        Map<String, Object> result = new HashMap<>();
+        result.put("rankings", epoch.top());
+        result.put("myRanking", currentUserId != null ? epoch.byUser().get(currentUserId) : null);
+        result.put("epoch", epoch.number());
+        return result;
+    }
+
+    /** 진행도 변경 후 호출 - 트랜잭션 안이면 커밋 후 표시해 커밋 전 데이터로 계산하지 않는다 */
+    public void markDirty(String missionId) {
+        AfterCommit.run(() -> dirty.add(missionId));
+    }
+
+    @Scheduled(fixedDelayString = "${mission.ranking.epoch-ms:5000}")
+    public void advance() {
+        for (String missionId : List.copyOf(dirty)) {
+            dirty.remove(missionId);
+            if (epochs.containsKey(missionId)) {
+                recompute(missionId);
+            }
+        }
+    }
+
+    // 스케줄러와 첫 조회가 겹쳐도 주기 번호와 직전 순위가 꼬이지 않도록 직렬화
+    private synchronized Epoch recompute(String missionId) {
+        Epoch previous = epochs.get(missionId);
+        Map<Long, Integer> previousRanks = previous != null ? previous.ranks() : Map.of();
+        long number = previous != null ? previous.number() + 1 : 1;
+
+        Epoch epoch = BOOTH_VISITOR_MISSION.equals(missionId)
+                ? boothVisitorEpoch(number, previousRanks)
+                : userEpoch(missionId, number, previousRanks);
+        epochs.put(missionId, epoch);
+        return epoch;
+    }
+
+    private Epoch userEpoch(String missionId, long number, Map<Long, Integer> previousRanks) {
+        List<Object[]> rows = userMissionRepository.findRankingRowsByMissionId(missionId);
+        List<MissionRankingResponse> top = new ArrayList<>(Math.min(rows.size(), TOP_K));
+        Map<Long, MissionRankingResponse> byUser = new HashMap<>();
+        Map<Long, Integer> ranks = new HashMap<>();
+
+        for (int i = 0; i < rows.size(); i++) {
+            Object[] row = rows.get(i);
+            Long userId = (Long) row[0];
+            int rank = i + 1;
+            MissionRankingResponse response = new MissionRankingResponse(
+                    rank, userId, (String) row[1], (String) row[2], ((Number) row[3]).intValue(),
+                    rankChange(previousRanks, userId, rank));
+            if (rank <= TOP_K) {
+                top.add(response);
+            }
+            byUser.put(userId, response);
+            ranks.put(userId, rank);
+        }
+        return new Epoch(number, List.copyOf(top), Map.copyOf(byUser), Map.copyOf(ranks));
+    }
+
+    /** 부스별 방문자 수 랭킹. userId 칸에는 부스 ID가 들어가고, 내 순위는 소속 부스의 행 */
+    private Epoch boothVisitorEpoch(long number, Map<Long, Integer> previousRanks) {
+        List<Object[]> rows = stockBoothVisitRepository.getVisitorCountByBooth();
+        List<MissionRankingResponse> top = new ArrayList<>(Math.min(rows.size(), TOP_K));
+        Map<Long, MissionRankingResponse> byBooth = new HashMap<>();
+        Map<Long, Integer> ranks = new HashMap<>();
+
+        for (int i = 0; i < rows.size(); i++) {
+            Object[] row = rows.get(i);
+            Long boothId = (Long) row[0];
+            int rank = i + 1;
+            MissionRankingResponse response = new MissionRankingResponse(
+                    rank, boothId, (String) row[1], (String) row[3], ((Number) row[2]).intValue(),
+                    rankChange(previousRanks, boothId, rank));
+            if (rank <= TOP_K) {
+                top.add(response);
+            }
+            byBooth.put(boothId, response);
+            ranks.put(boothId, rank);
+        }
+
+        Map<Long, MissionRankingResponse> byUser = new HashMap<>();
+        for (Object[] row : userRepository.findAllUserAndBelongingStockBoothIds()) {
+            MissionRankingResponse response = byBooth.get((Long) row[1]);
+            if (response != null) {
+                byUser.put((Long) row[0], response);
+            }
+        }
+        return new Epoch(number, List.copyOf(top), Map.copyOf(byUser), Map.copyOf(ranks));
+    }
+
+    /** 직전 주기에 없던 항목은 0 */
+    private static int rankChange(Map<Long, Integer> previousRanks, Long id, int rank) {
+        Integer previous = previousRanks.get(id);
+        return previous != null ? previous - rank : 0;
+    }
+}
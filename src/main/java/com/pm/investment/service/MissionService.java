@@ -1,11 +1,8 @@
 package com.pm.investment.service;
 
-import com.pm.investment.dto.MissionRankingResponse;
 import com.pm.investment.dto.UserMissionResponse;
-import com.pm.investment.entity.StockAccount;
 import com.pm.investment.entity.User;
 import com.pm.investment.entity.UserMission;
-import com.pm.investment.repository.StockAccountRepository;
 import com.pm.investment.repository.UserMissionRepository;
 import com.pm.investment.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -14,7 +11,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 @Service
@@ -23,9 +19,11 @@ public class MissionService {
 
     private final UserMissionRepository userMissionRepository;
     private final UserRepository userRepository;
-    private final StockAccountRepository stockAccountRepository;
+    private final StockLedger stockLedger;
     private final SettingService settingService;
     private final com.pm.investment.repository.StockBoothVisitRepository stockBoothVisitRepository;
+    private final MissionRankingService missionRankingService;
+    private final DataVersion dataVersion;
 
     /** 함께하는 하고잡이 미션 전용 고정 UUID */
     private static final String TOGETHER_SPACE_UUID = "a1b2c3d4-e5f6-7890-abcd-ef1234567890";
@@ -33,9 +31,6 @@ public class MissionService {
     /** 내일 더 새롭게 미션 전용 고정 UUID */
     private static final String RENEW_SPACE_UUID = "b2c3d4e5-f6a7-8901-bcde-f12345678901";
 
-    /** 랭킹 스냅샷: missionId → (userId → 이전 순위). 조회 시마다 갱신 */
-    private final Map<String, Map<Long, Integer>> previousRankSnapshots = new ConcurrentHashMap<>();
-
     private static final Map<String, Integer> MISSION_TARGETS = Map.ofEntries(
             Map.entry("renew", 1),
             Map.entry("dream", 5),
@@ -76,10 +71,17 @@ public class MissionService {
                 um.setIsCompleted(true);
                 um.setCompletedAt(LocalDateTime.now());
                 userMissionRepository.save(um);
+                progressChanged(photoId);
             }
         }
     }
 
+    /** 진행도/완료 변경 후: 미션 랭킹 재계산 대상 표시 + 시상 집계 버전 갱신 (모두 커밋 후 반영) */
+    private void progressChanged(String missionId) {
+        missionRankingService.markDirty(missionId);
+        dataVersion.bump();
+    }
+
     /**
      * PM 부스 소속 rookie의 "안돼도 다시" 미션 자동 완료 처리.
      * 자기 부스에 투자할 수 없는 대신 미션 완료 + 티켓 사용 가능 보장.
@@ -101,6 +103,7 @@ public class MissionService {
             um.setIsCompleted(true);
             um.setCompletedAt(LocalDateTime.now());
             userMissionRepository.save(um);
+            progressChanged("again");
         }
     }
 
@@ -158,6 +161,7 @@ public class MissionService {
         }
 
         userMissionRepository.save(um);
+        progressChanged(missionId);
 
         if (!wasCompleted && um.getIsCompleted()) {
             autoCompletePhotoTickets(user, missionId);
@@ -188,6 +192,7 @@ public class MissionService {
         um.setIsCompleted(true);
         um.setCompletedAt(LocalDateTime.now());
         userMissionRepository.save(um);
+        progressChanged(missionId);
 
         autoCompletePhotoTickets(user, missionId);
 
@@ -225,10 +230,9 @@ public class MissionService {
 
         UserMissionResponse response = completeMission(userId, "renew");
 
-        StockAccount account = stockAccountRepository.findByUserIdWithLock(userId)
-                .orElseThrow(() -> new IllegalArgumentException("주식 계좌를 찾을 수 없습니다"));
-        account.setBalance(account.getBalance() + 100_000_000L);
-        stockAccountRepository.save(account);
+        // 잔액의 기준은 StockLedger - DB 반영은 원장 writer가 처리
+        // 미션 완료가 커밋된 뒤에만 지급 (QR 중복 스캔으로 유니크 제약에 걸려 롤백되면 지급하지 않음)
+        AfterCommit.run(() -> stockLedger.deposit(userId, 100_000_000L));
 
         return response;
     }
@@ -335,117 +339,14 @@ public class MissionService {
     }
 
     /**
-     * 미션별 랭킹: progress 내림차순, 등락 포함 (페이지 접속 시 실시간 계산)
+     * 미션별 랭킹: progress 내림차순, 등락 포함 ("again"은 부스 방문자 수 기준).
+     * 주기마다 계산해 둔 랭킹에서 상위 20명과 내 순위만 꺼낸다.
      */
-    @Transactional(readOnly = true)
     public Map<String, Object> getMissionRanking(String missionId, Long currentUserId) {
         if (!MISSION_TARGETS.containsKey(missionId)) {
             throw new IllegalArgumentException("존재하지 않는 미션입니다: " + missionId);
         }
-
-        // "again" 미션은 부스 방문자 수 기반 랭킹
-        if ("again".equals(missionId)) {
-            return getBoothVisitorRanking(currentUserId);
-        }
-
-        // progress 내림차순 정렬
-        List<UserMission> allMissions = userMissionRepository.findRankingByMissionId(missionId);
-
-        // 이전 스냅샷으로 등락 계산
-        Map<Long, Integer> snapshot = previousRankSnapshots.getOrDefault(missionId, Map.of());
-
-        List<MissionRankingResponse> rankings = new ArrayList<>();
-        Map<Long, Integer> newSnapshot = new HashMap<>();
-
-        for (int i = 0; i < allMissions.size(); i++) {
-            UserMission um = allMissions.get(i);
-            int rank = i + 1;
-            int prevRank = snapshot.getOrDefault(um.getUser().getId(), 0);
-            int rankChange = prevRank > 0 ? prevRank - rank : 0;
-
-            rankings.add(new MissionRankingResponse(
-                    rank,
-                    um.getUser().getId(),
-                    um.getUser().getName(),
-                    um.getUser().getCompany(),
-                    um.getProgress(),
-                    rankChange
-            ));
-
-            newSnapshot.put(um.getUser().getId(), rank);
-        }
-
-        // 현재 순위를 다음 조회 시 비교용으로 저장
-        previousRankSnapshots.put(missionId, newSnapshot);
-
-        MissionRankingResponse myRanking = rankings.stream()
-                .filter(r -> r.getUserId().equals(currentUserId))
-                .findFirst()
-                .orElse(null);
-
-        List<MissionRankingResponse> top20 = rankings.stream()
-                .limit(20)
-                .collect(Collectors.toList());
-
-        Map<String, Object> result = new HashMap<>();
-        result.put("rankings", top20);
-        result.put("myRanking", myRanking);
-        return result;
-    }
-
-    /**
-     * "안돼도 다시" 전용: 부스별 방문자 수 랭킹
-     */
-    private Map<String, Object> getBoothVisitorRanking(Long currentUserId) {
-        List<Object[]> boothVisitors = stockBoothVisitRepository.getVisitorCountByBooth();
-
-        Map<Long, Integer> snapshot = previousRankSnapshots.getOrDefault("again", Map.of());
-        List<MissionRankingResponse> rankings = new ArrayList<>();
-        Map<Long, Integer> newSnapshot = new HashMap<>();
-
-        for (int i = 0; i < boothVisitors.size(); i++) {
-            Object[] row = boothVisitors.get(i);
-            Long boothId = (Long) row[0];
-            String boothName = (String) row[1];
-            int visitorCount = ((Number) row[2]).intValue();
-            String category = (String) row[3];
-            int rank = i + 1;
-            int prevRank = snapshot.getOrDefault(boothId, 0);
-            int rankChange = prevRank > 0 ? prevRank - rank : 0;
-
-            rankings.add(new MissionRankingResponse(
-                    rank,
-                    boothId,
-                    boothName,
-                    category,
-                    visitorCount,
-                    rankChange
-            ));
-
-            newSnapshot.put(boothId, rank);
-        }
-
-        previousRankSnapshots.put("again", newSnapshot);
-
-        // 현재 유저의 소속 stock_booth 찾기
-        MissionRankingResponse myRanking = null;
-        User currentUser = userRepository.findById(currentUserId).orElse(null);
-        if (currentUser != null && currentUser.getBelongingStockBooth() != null) {
-            Long myStockBoothId = currentUser.getBelongingStockBooth().getId();
-            myRanking = rankings.stream()
-                    .filter(r -> myStockBoothId.equals(r.getUserId()))
-                    .findFirst()
-                    .orElse(null);
-        }
-
-        List<MissionRankingResponse> top20 = rankings.stream()
-                .limit(20)
-                .collect(Collectors.toList());
-
-        Map<String, Object> result = new HashMap<>();
-        result.put("rankings", top20);
-        result.put("myRanking", myRanking);
-        return result;
+        return missionRankingService.getRanking(missionId, currentUserId);
     }
 
     /**
@@ -474,6 +375,7 @@ public class MissionService {
                 count++;
             }
         }
+        progressChanged(missionId);
         return count;
     }
 
@@ -499,6 +401,7 @@ public class MissionService {
                 count++;
             }
         }
+        progressChanged(missionId);
         return count;
     }
 }
@@ -1,5 +1,6 @@
 package com.pm.investment.service;
 
+import com.pm.investment.dto.CursorPageResponse;
 import com.pm.investment.dto.NoteResponse;
 import com.pm.investment.dto.UserSearchResponse;
 import com.pm.investment.entity.Note;
@@ -7,9 +8,11 @@ import com.pm.investment.entity.User;
 import com.pm.investment.repository.NoteRepository;
 import com.pm.investment.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Service
@@ -35,19 +38,19 @@ public class NoteService {
     }
 
     @Transactional(readOnly = true)
-    public List<NoteResponse> getReceivedNotes(Long userId) {
-        return noteRepository.findByReceiverIdWithUsers(userId)
-                .stream()
-                .map(this::toResponse)
-                .toList();
+    public CursorPageResponse<NoteResponse> getReceivedNotes(Long userId, String cursor, int size) {
+        HistoryCursor after = HistoryCursor.parse(cursor);
+        List<Object[]> rows = noteRepository.findPageByReceiverId(
+                userId, after.createdAt(), after.id(), Limit.of(HistoryCursor.fetchSize(size)));
+        return HistoryCursor.page(rows, size, 9, 0, this::toResponse);
     }
 
     @Transactional(readOnly = true)
-    public List<NoteResponse> getSentNotes(Long userId) {
-        return noteRepository.findBySenderIdWithUsers(userId)
-                .stream()
-                .map(this::toResponse)
-                .toList();
+    public CursorPageResponse<NoteResponse> getSentNotes(Long userId, String cursor, int size) {
+        HistoryCursor after = HistoryCursor.parse(cursor);
+        List<Object[]> rows = noteRepository.findPageBySenderId(
+                userId, after.createdAt(), after.id(), Limit.of(HistoryCursor.fetchSize(size)));
+        return HistoryCursor.page(rows, size, 9, 0, this::toResponse);
     }
 
     @Transactional
@@ -80,18 +83,18 @@ public class NoteService {
                 .toList();
     }
 
-    private NoteResponse toResponse(Note note) {
+    private NoteResponse toResponse(Object[] row) {
         return NoteResponse.builder()
-                .id(note.getId())
-                .senderId(note.getSender().getId())
-                .senderName(note.getSender().getName())
-                .senderCompany(note.getSender().getCompany())
-                .receiverId(note.getReceiver().getId())
-                .receiverName(note.getReceiver().getName())
-                .receiverCompany(note.getReceiver().getCompany())
-                .content(note.getContent())
-                .isRead(note.getIsRead())
-                .createdAt(note.getCreatedAt())
+                .id((Long) row[0])
+                .senderId((Long) row[1])
+                .senderName((String) row[2])
+                .senderCompany((String) row[3])
+                .receiverId((Long) row[4])
+                .receiverName((String) row[5])
+                .receiverCompany((String) row[6])
+                .content((String) row[7])
+                .isRead((Boolean) row[8])
+                .createdAt((LocalDateTime) row[9])
                 .build();
     }
 }
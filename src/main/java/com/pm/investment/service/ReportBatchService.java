@@ -0,0 +1,135 @@
+package com.pm.investment.service;
+
+import com.pm.investment.entity.Investment;
+import com.pm.investment.entity.User;
+import com.pm.investment.repository.InvestmentAccountRepository;
+import com.pm.investment.repository.InvestmentRepository;
+import com.pm.investment.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 행사 종료 시 관리자가 실행하는 개인 리포트 일괄 생성.
+ *
+ * 자격을 갖춘 사용자를 파티션으로 나눠 전용 ForkJoinPool에서 병렬로 처리한다.
+ * 파티션마다 사용자/투자/잔액을 IN 쿼리 3번으로 읽고 (부스 정보는 카탈로그), 만든 리포트는 ReportService에 저장해
+ * /api/report가 DB 조회 없이 내보내게 한다. 생성 뒤 활동이 바뀐 사용자는 조회 시 즉석 생성으로 돌아간다.
+ */
+@Service
+public class ReportBatchService {
+
+    private static final Logger log = LoggerFactory.getLogger(ReportBatchService.class);
+
+    private final ReportService reportService;
+    private final UserActivityIndex userActivityIndex;
+    private final UserRepository userRepository;
+    private final InvestmentRepository investmentRepository;
+    private final InvestmentAccountRepository investmentAccountRepository;
+    private final int parallelism;
+    private final int partitionSize;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public ReportBatchService(ReportService reportService,
+                              UserActivityIndex userActivityIndex,
+                              UserRepository userRepository,
+                              InvestmentRepository investmentRepository,
+                              InvestmentAccountRepository investmentAccountRepository,
+                              @Value("${report.bulk.parallelism:4}") int parallelism,
+                              @Value("${report.bulk.partition-size:100}") int partitionSize) {
+        this.reportService = reportService;
+        this.userActivityIndex = userActivityIndex;
+        this.userRepository = userRepository;
+        this.investmentRepository = investmentRepository;
+        this.investmentAccountRepository = investmentAccountRepository;
+        this.parallelism = parallelism;
+        this.partitionSize = partitionSize;
+    }
+
+    public Map<String, Object> generateAll() {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("개인 리포트를 이미 생성하고 있습니다");
+        }
+        try {
+            LocalDate today = LocalDate.now();
+            long started = System.currentTimeMillis();
+
+            // 자격 검사는 메모리 요약만으로 끝나므로 전체 사용자 ID만 읽어 걸러낸다
+            List<Long> eligible = userRepository.findAllIds().stream()
+                    .filter(userId -> userActivityIndex.summarize(userId, today).isEligible())
+                    .toList();
+
+            List<Callable<Integer>> tasks = new ArrayList<>();
+            for (int from = 0; from < eligible.size(); from += partitionSize) {
+                List<Long> partition = eligible.subList(from, Math.min(from + partitionSize, eligible.size()));
+                tasks.add(() -> generatePartition(partition, today));
+            }
+
+            int generated = 0;
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                for (Future<Integer> result : pool.invokeAll(tasks)) {
+                    generated += result.get();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("개인 리포트 생성이 중단되었습니다", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("개인 리포트 생성에 실패했습니다", e.getCause());
+            } finally {
+                pool.shutdown();
+            }
+
+            log.info("개인 리포트 일괄 생성: {}건 / 대상 {}명, {}ms", generated, eligible.size(),
+                    System.currentTimeMillis() - started);
+            return Map.of(
+                    "message", "개인 리포트 " + generated + "건이 생성되었습니다.",
+                    "count", generated,
+                    "generatedAt", LocalDateTime.now().toString()
+            );
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private int generatePartition(List<Long> userIds, LocalDate today) {
+        // 요약을 DB 조회보다 먼저 읽어야 그 사이 커밋된 거래가 리비전 불일치로 걸러진다
+        Map<Long, UserActivityIndex.Summary> activities = new HashMap<>();
+        for (Long userId : userIds) {
+            activities.put(userId, userActivityIndex.summarize(userId, today));
+        }
+
+        Map<Long, List<Investment>> investmentsByUser = new HashMap<>();
+        for (Investment investment : investmentRepository.findByUserIdInAndAmountGreaterThan(userIds, 0L)) {
+            investmentsByUser.computeIfAbsent(investment.getUser().getId(), k -> new ArrayList<>()).add(investment);
+        }
+        Map<Long, Long> balances = new HashMap<>();
+        for (Object[] row : investmentAccountRepository.findBalancesByUserIdIn(userIds)) {
+            balances.put((Long) row[0], (Long) row[1]);
+        }
+
+        int generated = 0;
+        for (User user : userRepository.findAllById(userIds)) {
+            UserActivityIndex.Summary activity = activities.get(user.getId());
+            reportService.storePrecomputed(user.getId(), today, activity, reportService.buildReport(
+                    user, activity, investmentsByUser.getOrDefault(user.getId(), List.of()),
+                    balances.getOrDefault(user.getId(), 0L)));
+            generated++;
+        }
+        return generated;
+    }
+}
@@ -1,15 +1,16 @@
 package com.pm.investment.service;
 
+import com.pm.investment.dto.CursorPageResponse;
 import com.pm.investment.dto.ReportEligibilityResponse;
 import com.pm.investment.dto.ReportResponse;
 import com.pm.investment.dto.SharedReportResponse;
 import com.pm.investment.entity.Investment;
-import com.pm.investment.entity.InvestmentHistory;
 import com.pm.investment.entity.SharedReport;
 import com.pm.investment.entity.User;
 import com.pm.investment.repository.*;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,6 +18,8 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 @RequiredArgsConstructor
@@ -24,32 +27,30 @@ public class ReportService {
 
     private final UserRepository userRepository;
     private final InvestmentRepository investmentRepository;
-    private final InvestmentHistoryRepository investmentHistoryRepository;
-    private final StockBoothVisitRepository stockBoothVisitRepository;
-    private final StockCommentRepository stockCommentRepository;
-    private final StockRatingRepository stockRatingRepository;
+    private final InvestmentAccountRepository investmentAccountRepository;
     private final SharedReportRepository sharedReportRepository;
+    private final UserActivityIndex userActivityIndex;
+    private final BoothCatalog boothCatalog;
 
     private static final int TOTAL_BOOTH_COUNT = 9;
 
-    @Transactional(readOnly = true)
-    public ReportEligibilityResponse checkEligibility(Long userId) {
-        LocalDate today = LocalDate.now();
-        LocalDateTime morningStart = today.atTime(9, 0);
-        LocalDateTime morningEnd = today.atTime(12, 0);
-        LocalDateTime afternoonStart = today.atTime(12, 0);
-        LocalDateTime afternoonEnd = today.atTime(14, 0);
+    /** 일괄 생성된 리포트. 생성 기준 날짜와 활동 리비전이 지금과 같을 때만 그대로 내보낸다 */
+    private record Precomputed(LocalDate day, long revision, ReportResponse report) {
+    }
 
-        // 오전(9시~12시): stock_booth_visits만 집계
-        long morningStock = stockBoothVisitRepository.countByUserIdAndVisitedAtBetween(userId, morningStart, morningEnd);
-        int morningTotal = (int) morningStock;
+    private final Map<Long, Precomputed> precomputed = new ConcurrentHashMap<>();
+
+    // 오전(9시~12시) / 오후(12시~14시) 방문 수는 stock_booth_visits 기준 - UserActivityIndex가 메모리에서 센다
+    public ReportEligibilityResponse checkEligibility(Long userId) {
+        return toEligibility(userActivityIndex.summarize(userId, LocalDate.now()));
+    }
 
-        // 오후(12시~14시): stock_booth_visits만 집계
-        long afternoonStock = stockBoothVisitRepository.countByUserIdAndVisitedAtBetween(userId, afternoonStart, afternoonEnd);
-        int afternoonTotal = (int) afternoonStock;
+    private static ReportEligibilityResponse toEligibility(UserActivityIndex.Summary activity) {
+        int morningTotal = activity.morningVisits();
+        int afternoonTotal = activity.afternoonVisits();
 
         return ReportEligibilityResponse.builder()
-                .eligible(morningTotal >= 10 && afternoonTotal >= 5)
+                .eligible(activity.isEligible())
                 .morningVisitCount(morningTotal)
                 .afternoonVisitCount(afternoonTotal)
                 .morningRequired(10)
@@ -57,34 +58,53 @@ public class ReportService {
                 .build();
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * ReportBatchService가 미리 만든 리포트가 있고 그 뒤로 활동 변화가 없으면 DB 조회 없이 그대로 반환,
+     * 아니면 즉석에서 만든다. 투자 목록은 부스까지 JOIN FETCH로 읽으므로 트랜잭션 없이 조회한다.
+     */
     public ReportResponse generateReport(Long userId) {
-        ReportEligibilityResponse eligibility = checkEligibility(userId);
-        if (!eligibility.isEligible()) {
-            return ReportResponse.builder()
-                    .eligible(false)
-                    .ineligibleReason("리포트 수령 조건을 충족하지 못했습니다")
-                    .build();
+        LocalDate today = LocalDate.now();
+        UserActivityIndex.Summary activity = userActivityIndex.summarize(userId, today);
+        if (!activity.isEligible()) {
+            return ineligibleReport();
+        }
+        Precomputed ready = precomputed.get(userId);
+        if (ready != null && ready.day().equals(today) && ready.revision() == activity.revision()) {
+            return ready.report();
         }
 
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
+        return buildReport(user, activity, investmentRepository.findByUserIdAndAmountGreaterThan(userId, 0L),
+                investmentAccountRepository.findBalanceByUserId(userId).orElse(0L));
+    }
 
-        // AM 투자 정보 수집
-        List<Investment> investments = investmentRepository.findByUserIdAndAmountGreaterThan(userId, 0L);
+    /** 일괄 생성 결과 저장. activity는 DB 조회 전에 읽은 요약이어야 한다 (그 사이 거래가 있으면 리비전이 달라 버려진다) */
+    void storePrecomputed(Long userId, LocalDate day, UserActivityIndex.Summary activity, ReportResponse report) {
+        precomputed.put(userId, new Precomputed(day, activity.revision(), report));
+    }
+
+    private static ReportResponse ineligibleReport() {
+        return ReportResponse.builder()
+                .eligible(false)
+                .ineligibleReason("리포트 수령 조건을 충족하지 못했습니다")
+                .build();
+    }
+
+    /** 자격을 갖춘 사용자의 리포트 계산 (DB 조회 없음). investments: 금액이 남은 PM 투자, 부스 포함 */
+    ReportResponse buildReport(User user, UserActivityIndex.Summary activity, List<Investment> investments, long balance) {
         long totalInvested = investments.stream().mapToLong(Investment::getAmount).sum();
         int investedBoothCount = investments.size();
 
-        // AM 거래 내역만 수집 (investmentHistory only)
-        long amTradeCount = investmentHistoryRepository.countByUserId(userId);
-        long amWithdrawCount = investmentHistoryRepository.countByUserIdAndType(userId, InvestmentHistory.InvestmentType.WITHDRAW);
+        // AM 거래 내역 (investmentHistory 기준 건수)
+        long amTradeCount = activity.tradeCount();
+        long amWithdrawCount = activity.withdrawCount();
 
         // 새 메트릭: 아이디어 참여도 (develop zone 댓글 수)
-        long ideaCount = stockCommentRepository.countByUserId(userId);
+        long ideaCount = activity.ideaCount();
 
         // 새 메트릭: 별점 평가 평균점수 (1.0~5.0 스케일)
-        Double ratingAvg = stockRatingRepository.getAverageScoreByUserId(userId);
-        double ratingAverage = ratingAvg != null ? ratingAvg : 0.0;
+        double ratingAverage = activity.ratingAverage();
 
         // 메트릭 계산
         double diversification = (investedBoothCount / (double) TOTAL_BOOTH_COUNT) * 100;
@@ -103,14 +123,17 @@ public class ReportService {
         // 포트폴리오 데이터
         List<ReportResponse.PortfolioItem> portfolio = investments.stream()
                 .sorted(Comparator.comparingLong(Investment::getAmount).reversed())
-                .map(inv -> ReportResponse.PortfolioItem.builder()
-                        .boothId(inv.getBooth().getId())
-                        .boothName(inv.getBooth().getName())
-                        .logoEmoji(inv.getBooth().getLogoEmoji())
-                        .themeColor(inv.getBooth().getThemeColor())
-                        .amount(inv.getAmount())
-                        .percentage(totalInvested > 0 ? Math.round(inv.getAmount() / (double) totalInvested * 1000) / 10.0 : 0)
-                        .build())
+                .map(inv -> {
+                    BoothCatalog.Entry booth = booth(inv);
+                    return ReportResponse.PortfolioItem.builder()
+                            .boothId(booth.id())
+                            .boothName(booth.name())
+                            .logoEmoji(booth.logoEmoji())
+                            .themeColor(booth.themeColor())
+                            .amount(inv.getAmount())
+                            .percentage(totalInvested > 0 ? Math.round(inv.getAmount() / (double) totalInvested * 1000) / 10.0 : 0)
+                            .build();
+                })
                 .toList();
 
         // 최대 투자 부스
@@ -132,18 +155,24 @@ public class ReportService {
                 .creativity(creativity)
                 .insight(insight)
                 .totalInvested(totalInvested)
-                .currentBalance(user.getBalance())
+                .currentBalance(balance)
                 .investedBoothCount(investedBoothCount)
                 .totalTradeCount((int) amTradeCount)
                 .ideaCount((int) ideaCount)
                 .ratingAverage(Math.round(ratingAverage * 10) / 10.0)
                 .portfolio(portfolio)
-                .topBoothName(topInvestment != null ? topInvestment.getBooth().getName() : null)
-                .topBoothEmoji(topInvestment != null ? topInvestment.getBooth().getLogoEmoji() : null)
+                .topBoothName(topInvestment != null ? booth(topInvestment).name() : null)
+                .topBoothEmoji(topInvestment != null ? booth(topInvestment).logoEmoji() : null)
                 .topBoothAmount(topInvestment != null ? topInvestment.getAmount() : 0)
                 .build();
     }
 
+    // 투자 행의 부스 프록시는 id만 읽고 (초기화 없음) 표시 정보는 카탈로그에서 찾는다
+    private BoothCatalog.Entry booth(Investment investment) {
+        return boothCatalog.findBooth(investment.getBooth().getId())
+                .orElseThrow(() -> new IllegalStateException("부스를 찾을 수 없습니다"));
+    }
+
     @Transactional
     public void shareReport(Long userId, String vision) {
         if (sharedReportRepository.existsByUserId(userId)) {
@@ -155,11 +184,9 @@ public class ReportService {
             throw new IllegalStateException("리포트 수령 조건을 충족하지 못했습니다");
         }
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
-
+        // generateReport에서 사용자 존재를 이미 확인했다
         SharedReport sharedReport = SharedReport.builder()
-                .user(user)
+                .user(userRepository.getReferenceById(userId))
                 .vision(vision)
                 .tendencyType(report.getTendencyType())
                 .tendencyName(report.getTendencyName())
@@ -176,20 +203,21 @@ public class ReportService {
     }
 
     @Transactional(readOnly = true)
-    public List<SharedReportResponse> getSharedReports() {
-        return sharedReportRepository.findAllByOrderByCreatedAtDesc().stream()
-                .map(sr -> SharedReportResponse.builder()
-                        .userId(sr.getUser().getId())
-                        .userName(sr.getUser().getName())
-                        .userCompany(sr.getUser().getCompany())
-                        .tendencyType(sr.getTendencyType())
-                        .tendencyName(sr.getTendencyName())
-                        .tendencyEmoji(sr.getTendencyEmoji())
-                        .tendencyOneLiner(sr.getTendencyOneLiner())
-                        .vision(sr.getVision())
-                        .createdAt(sr.getCreatedAt())
-                        .build())
-                .toList();
+    public CursorPageResponse<SharedReportResponse> getSharedReports(String cursor, int size) {
+        HistoryCursor after = HistoryCursor.parse(cursor);
+        List<Object[]> rows = sharedReportRepository.findPage(
+                after.createdAt(), after.id(), Limit.of(HistoryCursor.fetchSize(size)));
+        return HistoryCursor.page(rows, size, 9, 0, row -> SharedReportResponse.builder()
+                .userId((Long) row[1])
+                .userName((String) row[2])
+                .userCompany((String) row[3])
+                .tendencyType((String) row[4])
+                .tendencyName((String) row[5])
+                .tendencyEmoji((String) row[6])
+                .tendencyOneLiner((String) row[7])
+                .vision((String) row[8])
+                .createdAt((LocalDateTime) row[9])
+                .build());
     }
 
     /**
@@ -1,8 +1,5 @@
 package com.pm.investment.service;
 
-import com.pm.investment.dto.CombinedInvestmentResponse;
-import com.pm.investment.dto.ExecutiveInvestmentResponse;
-import com.pm.investment.dto.RookieInvestmentResponse;
 import com.pm.investment.entity.ReportSnapshot;
 import com.pm.investment.repository.ReportSnapshotRepository;
 import lombok.RequiredArgsConstructor;
@@ -10,63 +7,108 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import tools.jackson.databind.ObjectMapper;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
+import java.util.HexFormat;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPOutputStream;
+
+// 보고서 조회는 유형별 최신 스냅샷을 전송용 바이트(JSON 원본 + gzip)와 ETag로 메모리에 들고 있다가 그대로 내보낸다
+// 캐시는 generateAllSnapshots 커밋 시에만 교체되고, 재기동 직후 첫 조회 때 DB의 최신 행으로 한 번 채운다
 
 @Service
 @RequiredArgsConstructor
 public class ReportSnapshotService {
 
+    public static final String EXECUTIVE = "EXECUTIVE";
+    public static final String ROOKIE = "ROOKIE";
+    public static final String COMBINED = "COMBINED";
+
     private final ReportSnapshotRepository snapshotRepository;
-    private final RankingService rankingService;
+    private final InvestmentReportAggregator investmentReportAggregator;
     private final ObjectMapper objectMapper;
 
+    /**
+     * 전송 준비가 끝난 스냅샷. etag는 JSON 바이트의 SHA-256 기반 강한 ETag,
+     * gzipEtag는 압축본용 ETag (표현마다 바이트가 다르므로 강한 ETag도 달라야 한다)
+     */
+    public record EncodedSnapshot(byte[] json, byte[] gzip, String etag, String gzipEtag, LocalDateTime createdAt) {
+    }
+
+    private final Map<String, EncodedSnapshot> encoded = new ConcurrentHashMap<>();
+
     @Transactional
     public Map<String, String> generateAllSnapshots() {
-        generateSnapshot("EXECUTIVE", rankingService.getExecutiveInvestments());
-        generateSnapshot("ROOKIE", rankingService.getRookieInvestments());
-        generateSnapshot("COMBINED", rankingService.getCombinedInvestments());
+        // 세 보고서를 investments 1회 순회로 함께 집계
+        InvestmentReportAggregator.Reports reports = investmentReportAggregator.aggregate();
+        Map<String, EncodedSnapshot> generated = Map.of(
+                EXECUTIVE, generateSnapshot(EXECUTIVE, reports.executive()),
+                ROOKIE, generateSnapshot(ROOKIE, reports.rookie()),
+                COMBINED, generateSnapshot(COMBINED, reports.combined()));
+        AfterCommit.run(() -> encoded.putAll(generated));
         return Map.of(
                 "message", "보고서 3건이 생성되었습니다.",
                 "generatedAt", LocalDateTime.now().toString()
         );
     }
 
-    private void generateSnapshot(String type, Object data) {
-        String json = objectMapper.writeValueAsString(data);
+    private EncodedSnapshot generateSnapshot(String type, Object data) {
+        byte[] json = objectMapper.writeValueAsBytes(data);
         ReportSnapshot snapshot = ReportSnapshot.builder()
                 .reportType(type)
-                .data(json)
+                .data(new String(json, StandardCharsets.UTF_8))
                 .build();
         snapshotRepository.save(snapshot);
+        return encode(json, snapshot.getCreatedAt());
     }
 
-    @Transactional(readOnly = true)
-    public ExecutiveInvestmentResponse getExecutiveSnapshot() {
-        return getSnapshot("EXECUTIVE", ExecutiveInvestmentResponse.class);
+    /** 유형별 최신 스냅샷 (캐시에 없을 때만 DB 조회, 역직렬화 없음) */
+    public EncodedSnapshot getEncodedSnapshot(String type) {
+        EncodedSnapshot cached = encoded.get(type);
+        if (cached != null) {
+            return cached;
+        }
+        return encoded.computeIfAbsent(type, t -> snapshotRepository.findFirstByReportTypeOrderByCreatedAtDesc(t)
+                .map(snapshot -> encode(snapshot.getData().getBytes(StandardCharsets.UTF_8), snapshot.getCreatedAt()))
+                .orElseThrow(() -> new IllegalStateException("생성된 보고서가 없습니다. 관리자 페이지에서 보고서를 먼저 생성해주세요.")));
     }
 
-    @Transactional(readOnly = true)
-    public RookieInvestmentResponse getRookieSnapshot() {
-        return getSnapshot("ROOKIE", RookieInvestmentResponse.class);
+    public LocalDateTime getSnapshotCreatedAt(String type) {
+        try {
+            return getEncodedSnapshot(type).createdAt();
+        } catch (IllegalStateException e) {
+            return null;
+        }
     }
 
-    @Transactional(readOnly = true)
-    public CombinedInvestmentResponse getCombinedSnapshot() {
-        return getSnapshot("COMBINED", CombinedInvestmentResponse.class);
+    private static EncodedSnapshot encode(byte[] json, LocalDateTime createdAt) {
+        String etag = etag(json);
+        String gzipEtag = etag.substring(0, etag.length() - 1) + "-gz\"";
+        return new EncodedSnapshot(json, gzip(json), etag, gzipEtag, createdAt);
     }
 
-    @Transactional(readOnly = true)
-    public LocalDateTime getSnapshotCreatedAt(String type) {
-        return snapshotRepository.findFirstByReportTypeOrderByCreatedAtDesc(type)
-                .map(ReportSnapshot::getCreatedAt)
-                .orElse(null);
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
     }
 
-    private <T> T getSnapshot(String type, Class<T> clazz) {
-        ReportSnapshot snapshot = snapshotRepository
-                .findFirstByReportTypeOrderByCreatedAtDesc(type)
-                .orElseThrow(() -> new IllegalStateException("생성된 보고서가 없습니다. 관리자 페이지에서 보고서를 먼저 생성해주세요."));
-        return objectMapper.readValue(snapshot.getData(), clazz);
+    private static String etag(byte[] data) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(data);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 }
@@ -3,13 +3,20 @@ package com.pm.investment.service;
 import com.pm.investment.entity.AppSetting;
 import com.pm.investment.repository.AppSettingRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
-// 단순 단건 조회(findById)는 @Transactional 없이 사용 — 커넥션을 즉시 반환하여 풀 고갈 방지
+// 조회는 메모리 스냅샷(volatile 읽기)만 사용 — DB는 변경 시와 버전 동기화 시에만 접근
+// 여러 인스턴스가 같은 app_settings를 공유하므로, 변경 시 settings_version을 올리고
+// 각 인스턴스는 주기적으로 버전 행 하나만 읽어 달라졌을 때 전체를 다시 적재한다
 
 @Service
 @RequiredArgsConstructor
@@ -23,136 +30,83 @@ public class SettingService {
     private static final String MISSION_RESULT_REVEALED_KEY = "mission_result_revealed";
     private static final String DREAM_ENABLED_KEY = "dream_enabled";
     private static final String STOCK_RANKING_ENABLED_KEY = "stock_ranking_enabled";
+    private static final String VERSION_KEY = "settings_version";
 
     private final AppSettingRepository appSettingRepository;
+    private final SseEmitterService sseEmitterService;
+
+    private volatile Snapshot snapshot;
+
+    private record Snapshot(long version, Map<String, String> values) {
+
+        boolean flag(String key, boolean defaultValue) {
+            String value = values.get(key);
+            return value != null ? "true".equals(value) : defaultValue;
+        }
+    }
+
+    public long getVersion() {
+        return current().version();
+    }
 
     public boolean isResultsRevealed() {
-        return appSettingRepository.findById(RESULTS_REVEALED_KEY)
-                .map(s -> "true".equals(s.getValue()))
-                .orElse(false);
+        return current().flag(RESULTS_REVEALED_KEY, false);
     }
 
     @Transactional
     public boolean toggleResults() {
-        AppSetting setting = appSettingRepository.findById(RESULTS_REVEALED_KEY)
-                .orElseGet(() -> {
-                    AppSetting newSetting = new AppSetting(RESULTS_REVEALED_KEY, "false");
-                    return appSettingRepository.save(newSetting);
-                });
-
-        boolean newValue = !"true".equals(setting.getValue());
-        setting.setValue(String.valueOf(newValue));
-        appSettingRepository.save(setting);
-        return newValue;
+        return toggle(RESULTS_REVEALED_KEY, false);
     }
 
     public boolean isInvestmentEnabled() {
-        return appSettingRepository.findById(INVESTMENT_ENABLED_KEY)
-                .map(s -> "true".equals(s.getValue()))
-                .orElse(true);
+        return current().flag(INVESTMENT_ENABLED_KEY, true);
     }
 
     @Transactional
     public boolean toggleInvestment() {
-        AppSetting setting = appSettingRepository.findById(INVESTMENT_ENABLED_KEY)
-                .orElseGet(() -> {
-                    AppSetting newSetting = new AppSetting(INVESTMENT_ENABLED_KEY, "true");
-                    return appSettingRepository.save(newSetting);
-                });
-
-        boolean newValue = !"true".equals(setting.getValue());
-        setting.setValue(String.valueOf(newValue));
-        appSettingRepository.save(setting);
-        return newValue;
+        return toggle(INVESTMENT_ENABLED_KEY, true);
     }
 
     public boolean isMissionResultRevealed() {
-        return appSettingRepository.findById(MISSION_RESULT_REVEALED_KEY)
-                .map(s -> "true".equals(s.getValue()))
-                .orElse(false);
+        return current().flag(MISSION_RESULT_REVEALED_KEY, false);
     }
 
     @Transactional
     public boolean toggleMissionResult() {
-        AppSetting setting = appSettingRepository.findById(MISSION_RESULT_REVEALED_KEY)
-                .orElseGet(() -> {
-                    AppSetting newSetting = new AppSetting(MISSION_RESULT_REVEALED_KEY, "false");
-                    return appSettingRepository.save(newSetting);
-                });
-
-        boolean newValue = !"true".equals(setting.getValue());
-        setting.setValue(String.valueOf(newValue));
-        appSettingRepository.save(setting);
-        return newValue;
+        return toggle(MISSION_RESULT_REVEALED_KEY, false);
     }
 
     public boolean isStockEnabled() {
-        return appSettingRepository.findById(STOCK_ENABLED_KEY)
-                .map(s -> "true".equals(s.getValue()))
-                .orElse(true);
+        return current().flag(STOCK_ENABLED_KEY, true);
     }
 
     @Transactional
     public boolean toggleStock() {
-        AppSetting setting = appSettingRepository.findById(STOCK_ENABLED_KEY)
-                .orElseGet(() -> {
-                    AppSetting newSetting = new AppSetting(STOCK_ENABLED_KEY, "true");
-                    return appSettingRepository.save(newSetting);
-                });
-
-        boolean newValue = !"true".equals(setting.getValue());
-        setting.setValue(String.valueOf(newValue));
-        appSettingRepository.save(setting);
-        return newValue;
+        return toggle(STOCK_ENABLED_KEY, true);
     }
 
     public boolean isDreamEnabled() {
-        return appSettingRepository.findById(DREAM_ENABLED_KEY)
-                .map(s -> "true".equals(s.getValue()))
-                .orElse(false);
+        return current().flag(DREAM_ENABLED_KEY, false);
     }
 
     @Transactional
     public boolean toggleDream() {
-        AppSetting setting = appSettingRepository.findById(DREAM_ENABLED_KEY)
-                .orElseGet(() -> {
-                    AppSetting newSetting = new AppSetting(DREAM_ENABLED_KEY, "false");
-                    return appSettingRepository.save(newSetting);
-                });
-
-        boolean newValue = !"true".equals(setting.getValue());
-        setting.setValue(String.valueOf(newValue));
-        appSettingRepository.save(setting);
-        return newValue;
+        return toggle(DREAM_ENABLED_KEY, false);
     }
 
     public boolean isStockRankingEnabled() {
-        return appSettingRepository.findById(STOCK_RANKING_ENABLED_KEY)
-                .map(s -> "true".equals(s.getValue()))
-                .orElse(true);
+        return current().flag(STOCK_RANKING_ENABLED_KEY, true);
     }
 
     @Transactional
     public boolean toggleStockRanking() {
-        AppSetting setting = appSettingRepository.findById(STOCK_RANKING_ENABLED_KEY)
-                .orElseGet(() -> {
-                    AppSetting newSetting = new AppSetting(STOCK_RANKING_ENABLED_KEY, "true");
-                    return appSettingRepository.save(newSetting);
-                });
-
-        boolean newValue = !"true".equals(setting.getValue());
-        setting.setValue(String.valueOf(newValue));
-        appSettingRepository.save(setting);
-        return newValue;
+        return toggle(STOCK_RANKING_ENABLED_KEY, true);
     }
 
     public Map<String, String> getAnnouncement() {
-        String message = appSettingRepository.findById(ANNOUNCEMENT_MESSAGE_KEY)
-                .map(AppSetting::getValue)
-                .orElse(null);
-        String updatedAt = appSettingRepository.findById(ANNOUNCEMENT_UPDATED_AT_KEY)
-                .map(AppSetting::getValue)
-                .orElse(null);
+        Map<String, String> values = current().values();
+        String message = values.get(ANNOUNCEMENT_MESSAGE_KEY);
+        String updatedAt = values.get(ANNOUNCEMENT_UPDATED_AT_KEY);
         return Map.of(
                 "message", message != null ? message : "",
                 "updatedAt", updatedAt != null ? updatedAt : ""
@@ -180,6 +134,7 @@ public class SettingService {
         timeSetting.setValue(now);
         appSettingRepository.save(timeSetting);
 
+        bumpVersion();
         return Map.of("message", message, "updatedAt", now);
     }
 
@@ -187,5 +142,87 @@ public class SettingService {
     public void clearAnnouncement() {
         appSettingRepository.deleteById(ANNOUNCEMENT_MESSAGE_KEY);
         appSettingRepository.deleteById(ANNOUNCEMENT_UPDATED_AT_KEY);
+        bumpVersion();
+    }
+
+    /**
+     * 다른 인스턴스의 변경 감지: 버전 행 1건만 조회하고, 다르면 전체 재적재 후 SSE로 알린다.
+     */
+    @Scheduled(fixedDelayString = "${settings.sync-interval-ms:1000}")
+    public void syncFromDatabase() {
+        long dbVersion = appSettingRepository.findById(VERSION_KEY)
+                .map(s -> parseVersion(s.getValue()))
+                .orElse(0L);
+        if (snapshot == null || dbVersion != snapshot.version()) {
+            reloadAndPublish();
+        }
+    }
+
+    /** 플래그 반전: 행 잠금으로 읽어 여러 인스턴스의 동시 토글에도 변경이 유실되지 않는다 */
+    private boolean toggle(String key, boolean defaultValue) {
+        AppSetting setting = appSettingRepository.findByKeyWithLock(key)
+                .orElseGet(() -> appSettingRepository.save(new AppSetting(key, String.valueOf(defaultValue))));
+
+        boolean newValue = !"true".equals(setting.getValue());
+        setting.setValue(String.valueOf(newValue));
+        appSettingRepository.save(setting);
+        bumpVersion();
+        return newValue;
+    }
+
+    /** 버전 증가 + 커밋 후 이 인스턴스의 스냅샷 즉시 갱신 */
+    private void bumpVersion() {
+        AppSetting version = appSettingRepository.findByKeyWithLock(VERSION_KEY)
+                .orElseGet(() -> appSettingRepository.save(new AppSetting(VERSION_KEY, "0")));
+        version.setValue(String.valueOf(parseVersion(version.getValue()) + 1));
+        appSettingRepository.save(version);
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                reloadAndPublish();
+            }
+        });
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        return current != null ? current : reload();
+    }
+
+    private synchronized Snapshot reload() {
+        Map<String, String> values = new HashMap<>();
+        appSettingRepository.findAll().forEach(s -> values.put(s.getKey(), s.getValue()));
+        Snapshot loaded = new Snapshot(parseVersion(values.get(VERSION_KEY)), Map.copyOf(values));
+        snapshot = loaded;
+        return loaded;
+    }
+
+    private void reloadAndPublish() {
+        Snapshot previous = snapshot;
+        Snapshot loaded = reload();
+        if (previous != null && previous.version() == loaded.version()) {
+            return;
+        }
+        Map<String, Object> flags = new LinkedHashMap<>();
+        flags.put("version", loaded.version());
+        flags.put("resultsRevealed", loaded.flag(RESULTS_REVEALED_KEY, false));
+        flags.put("investmentEnabled", loaded.flag(INVESTMENT_ENABLED_KEY, true));
+        flags.put("missionResultRevealed", loaded.flag(MISSION_RESULT_REVEALED_KEY, false));
+        flags.put("stockEnabled", loaded.flag(STOCK_ENABLED_KEY, true));
+        flags.put("dreamEnabled", loaded.flag(DREAM_ENABLED_KEY, false));
+        flags.put("stockRankingEnabled", loaded.flag(STOCK_RANKING_ENABLED_KEY, true));
+        sseEmitterService.broadcastSettings(flags);
+    }
+
+    private static long parseVersion(String value) {
+        if (value == null) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
     }
 }
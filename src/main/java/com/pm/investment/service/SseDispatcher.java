@@ -0,0 +1,190 @@
+package com.pm.investment.service;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SSE 연결별 송신 큐 + 가상 스레드 전송.
+ *
+ * 브로드캐스트는 각 연결의 큐에 프레임을 넣기만 하고 바로 반환한다. 실제 소켓 쓰기는 연결마다
+ * 가상 스레드 하나가 순서대로 처리하므로, 느린 클라이언트는 자기 큐만 밀린다.
+ * - send: 큐가 가득 차거나 한 프레임 쓰기가 stall-timeout을 넘기면 연결을 끊는다(evict). 클라이언트는 재연결 후 초기 상태를 다시 받는다.
+ * - trySend: 최신 값이 이전 값을 대체하는 프레임(시세, 랭킹)용. 큐에 남은 같은 이벤트는 버린다(drop).
+ * 하트비트는 스트림별 타이머 없이 여기서 전체 연결에 한 번에 보낸다.
+ *
+ * idea-board 모듈(com.pm.ideaboard.service)에 패키지만 다른 같은 파일이 있다. 별도 빌드/배포 단위라 공유 모듈 없이 복사해 두므로 함께 고친다.
+ */
+@Component
+public class SseDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(SseDispatcher.class);
+
+    private final int queueCapacity;
+    private final long stallTimeoutNanos;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Set<Connection> connections = ConcurrentHashMap.newKeySet();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong evicted = new AtomicLong();
+
+    public SseDispatcher(@Value("${sse.queue-capacity:32}") int queueCapacity,
+                         @Value("${sse.stall-timeout-ms:10000}") long stallTimeoutMs) {
+        this.queueCapacity = queueCapacity;
+        this.stallTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(stallTimeoutMs);
+    }
+
+    /** emitter의 completion/timeout/error 콜백에서 반드시 Connection.close()를 호출할 것 */
+    public Connection register(SseEmitter emitter) {
+        Connection connection = new Connection(emitter);
+        connections.add(connection);
+        return connection;
+    }
+
+    public void broadcast(Collection<Connection> targets, SseFrame frame) {
+        for (Connection connection : targets) {
+            connection.send(frame);
+        }
+    }
+
+    /** 밀려 있는 연결은 이전 프레임을 이번 프레임으로 대체 - 최신 상태만 의미 있는 이벤트에만 사용 */
+    public void broadcastLatest(Collection<Connection> targets, SseFrame frame) {
+        for (Connection connection : targets) {
+            connection.trySend(frame);
+        }
+    }
+
+    /** 프록시 유휴 타임아웃 방지 - 공지/시세/아이디어 보드 모든 연결에 주석 프레임 전송 */
+    @Scheduled(fixedRateString = "${sse.heartbeat-ms:20000}")
+    public void sendHeartbeats() {
+        for (Connection connection : connections) {
+            connection.trySend(SseFrame.HEARTBEAT);
+        }
+    }
+
+    /** 연결 수, 큐 적체, 누적 drop/evict 수 */
+    public Map<String, Object> getStats() {
+        int queued = 0;
+        int maxDepth = 0;
+        for (Connection connection : connections) {
+            int depth = connection.depth();
+            queued += depth;
+            maxDepth = Math.max(maxDepth, depth);
+        }
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("connections", connections.size());
+        stats.put("queuedFrames", queued);
+        stats.put("maxQueueDepth", maxDepth);
+        stats.put("queueCapacity", queueCapacity);
+        stats.put("dropped", dropped.get());
+        stats.put("evicted", evicted.get());
+        return stats;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /** 연결 1개의 송신 큐. 상태는 인스턴스 락으로 보호, 소켓 쓰기는 락 밖에서 */
+    public final class Connection {
+        private final SseEmitter emitter;
+        private final ArrayDeque<SseFrame> queue = new ArrayDeque<>();
+        private boolean open = true;
+        private boolean draining;
+        private long writeStartedAt;
+
+        private Connection(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        public SseEmitter emitter() {
+            return emitter;
+        }
+
+        public synchronized void send(SseFrame frame) {
+            if (!open) return;
+            if (queue.size() >= queueCapacity || isStalled()) {
+                evict();
+                return;
+            }
+            enqueue(frame);
+        }
+
+        /** 아직 보내지 못한 같은 이벤트 프레임은 버리고 최신 프레임으로 대체한다 */
+        public synchronized void trySend(SseFrame frame) {
+            if (!open) return;
+            if (queue.removeIf(queued -> queued.eventName().equals(frame.eventName()))) {
+                dropped.incrementAndGet();
+            }
+            send(frame);
+        }
+
+        /** 콜백(완료/타임아웃/오류)에서 호출 - 남은 프레임은 버린다 */
+        public synchronized void close() {
+            open = false;
+            queue.clear();
+            connections.remove(this);
+        }
+
+        private synchronized int depth() {
+            return queue.size();
+        }
+
+        private void enqueue(SseFrame frame) {
+            queue.addLast(frame);
+            if (!draining) {
+                draining = true;
+                executor.execute(this::drain);
+            }
+        }
+
+        private boolean isStalled() {
+            return writeStartedAt != 0 && System.nanoTime() - writeStartedAt > stallTimeoutNanos;
+        }
+
+        private void evict() {
+            evicted.incrementAndGet();
+            log.warn("SSE 느린 연결 종료 (대기 {}건)", queue.size());
+            close();
+            // 진행 중인 쓰기가 emitter 락을 잡고 있을 수 있으므로 호출 스레드에서 complete 하지 않는다
+            executor.execute(emitter::complete);
+        }
+
+        private void drain() {
+            while (true) {
+                SseFrame frame;
+                synchronized (this) {
+                    frame = queue.pollFirst();
+                    if (frame == null || !open) {
+                        draining = false;
+                        return;
+                    }
+                    writeStartedAt = System.nanoTime();
+                }
+                boolean sent = frame.sendTo(emitter);
+                synchronized (this) {
+                    writeStartedAt = 0;
+                }
+                if (!sent) {
+                    close();
+                    return;
+                }
+            }
+        }
+    }
+}
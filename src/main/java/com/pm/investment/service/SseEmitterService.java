@@ -1,85 +1,123 @@
 package com.pm.investment.service;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import tools.jackson.databind.ObjectMapper;
 
-import java.io.IOException;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+// 브로드캐스트는 이벤트마다 SseFrame을 한 번만 인코딩해 SseDispatcher의 연결별 큐에 넣고 바로 반환한다
+// 모든 이벤트에 id를 붙여 최근 이벤트를 토픽별로 메모리에 보관하고, 재연결 시 Last-Event-ID 이후 이벤트만 다시 보낸다
+// 토픽(announcement, mission-complete, settings)별로 연결을 나눠 구독한 토픽의 이벤트만 보낸다
 
 @Service
 public class SseEmitterService {
 
+    public static final String ANNOUNCEMENT = "announcement";
+    public static final String MISSION_COMPLETE = "mission-complete";
+    public static final String SETTINGS = "settings";
+    public static final Set<String> TOPICS = Set.of(ANNOUNCEMENT, MISSION_COMPLETE, SETTINGS);
+
     private static final long TIMEOUT = 5 * 60 * 1000L; // 5분
-    private final Set<SseEmitter> emitters = ConcurrentHashMap.newKeySet();
 
-    public SseEmitter subscribe(Map<String, String> currentAnnouncement) {
+    private final ObjectMapper objectMapper;
+    private final SseDispatcher dispatcher;
+    private final SseReplayBuffer replay;
+    // 토픽 -> 연결 목록
+    private final Map<String, Set<SseDispatcher.Connection>> connections = Map.of(
+            ANNOUNCEMENT, ConcurrentHashMap.newKeySet(),
+            MISSION_COMPLETE, ConcurrentHashMap.newKeySet(),
+            SETTINGS, ConcurrentHashMap.newKeySet());
+
+    public SseEmitterService(ObjectMapper objectMapper, SseDispatcher dispatcher,
+                             @Value("${sse.replay-size:64}") int replaySize) {
+        this.objectMapper = objectMapper;
+        this.dispatcher = dispatcher;
+        this.replay = new SseReplayBuffer(objectMapper, TOPICS, replaySize);
+    }
+
+    /** 공지 전용 스트림 - 세 토픽 모두 구독 */
+    public SseEmitter subscribe(String lastEventId, Supplier<Map<String, String>> currentAnnouncement) {
         SseEmitter emitter = new SseEmitter(TIMEOUT);
-        emitters.add(emitter);
+        SseDispatcher.Connection connection = dispatcher.register(emitter);
 
-        Runnable cleanup = () -> emitters.remove(emitter);
+        Runnable cleanup = () -> {
+            detach(connection);
+            connection.close();
+        };
         emitter.onCompletion(cleanup);
         emitter.onTimeout(cleanup);
         emitter.onError(e -> cleanup.run());
 
-        // 이미 조회된 공지 데이터를 초기 이벤트로 전송 (DB 커넥션 미사용)
-        try {
-            String message = currentAnnouncement.get("message");
-            String updatedAt = currentAnnouncement.get("updatedAt");
+        attach(connection, TOPICS, lastEventId, currentAnnouncement);
+        return emitter;
+    }
+
+    /**
+     * 이미 열린 연결에 토픽을 붙인다 (공지 스트림, 통합 스트림 공용).
+     * lastEventId로 놓친 이벤트를 메모리에서 재전송할 수 있으면 그것만 보내고,
+     * 아니면(첫 연결, 서버 재기동, 버퍼에서 밀려남) currentAnnouncement로 현재 공지를 초기 이벤트로 보낸다.
+     */
+    public void attach(SseDispatcher.Connection connection, Set<String> topics, String lastEventId,
+                       Supplier<Map<String, String>> currentAnnouncement) {
+        // 재전송과 연결 등록 사이에 발행된 이벤트가 빠지거나 중복되지 않도록 발행과 같은 락 안에서 처리
+        synchronized (replay) {
+            List<SseFrame> missed = lastEventId != null ? replay.replayAfter(lastEventId, topics) : null;
+            if (missed != null) {
+                missed.forEach(connection::send);
+                topics.forEach(t -> connections.get(t).add(connection));
+                return;
+            }
+        }
+
+        // 재전송 불가 - 현재 공지를 초기 이벤트로 전송 (조회는 락 밖에서)
+        // 조회하는 동안 발행된 이벤트는 조회 직전 ID 이후분으로 이어 보낸다
+        String mark = replay.lastEventId();
+        Map<String, String> announcement = topics.contains(ANNOUNCEMENT) ? currentAnnouncement.get() : Map.of();
+        synchronized (replay) {
+            String message = announcement.get("message");
+            String updatedAt = announcement.get("updatedAt");
             if (message != null && !message.isEmpty()) {
-                emitter.send(SseEmitter.event()
-                        .name("announcement")
-                        .data(Map.of("message", message, "updatedAt", updatedAt)));
+                connection.send(SseFrame.of(objectMapper, "announcement", Map.of("message", message, "updatedAt", updatedAt)));
             }
-        } catch (IOException e) {
-            emitters.remove(emitter);
+            List<SseFrame> missed = replay.replayAfter(mark, topics);
+            if (missed != null) {
+                missed.forEach(connection::send);
+            }
+            topics.forEach(t -> connections.get(t).add(connection));
         }
+    }
 
-        return emitter;
+    public void detach(SseDispatcher.Connection connection) {
+        connections.values().forEach(set -> set.remove(connection));
     }
 
     public void broadcast(String message, String updatedAt) {
-        List<SseEmitter> deadEmitters = new ArrayList<>();
-        for (SseEmitter emitter : emitters) {
-            try {
-                emitter.send(SseEmitter.event()
-                        .name("announcement")
-                        .data(Map.of("message", message, "updatedAt", updatedAt)));
-            } catch (IOException e) {
-                deadEmitters.add(emitter);
-            }
-        }
-        emitters.removeAll(deadEmitters);
+        publish(ANNOUNCEMENT, "announcement", Map.of("message", message, "updatedAt", updatedAt));
     }
 
     public void broadcastMissionComplete(String missionId) {
-        List<SseEmitter> deadEmitters = new ArrayList<>();
-        for (SseEmitter emitter : emitters) {
-            try {
-                emitter.send(SseEmitter.event()
-                        .name("mission-complete")
-                        .data(Map.of("missionId", missionId)));
-            } catch (IOException e) {
-                deadEmitters.add(emitter);
-            }
+        publish(MISSION_COMPLETE, "mission-complete", Map.of("missionId", missionId));
+    }
+
+    public void broadcastSettings(Map<String, Object> flags) {
+        synchronized (replay) {
+            dispatcher.broadcastLatest(connections.get(SETTINGS), replay.publish(SETTINGS, "settings", flags));
         }
-        emitters.removeAll(deadEmitters);
     }
 
     public void broadcastClear() {
-        List<SseEmitter> deadEmitters = new ArrayList<>();
-        for (SseEmitter emitter : emitters) {
-            try {
-                emitter.send(SseEmitter.event()
-                        .name("cleared")
-                        .data(""));
-            } catch (IOException e) {
-                deadEmitters.add(emitter);
-            }
+        publish(ANNOUNCEMENT, "cleared", "");
+    }
+
+    private void publish(String topicName, String eventName, Object data) {
+        synchronized (replay) {
+            dispatcher.broadcast(connections.get(topicName), replay.publish(topicName, eventName, data));
         }
-        emitters.removeAll(deadEmitters);
     }
 }
@@ -0,0 +1,66 @@
+package com.pm.investment.service;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+/**
+ * 한 번 인코딩해 모든 연결에 그대로 쓰는 SSE 프레임 ("event:이름\ndata:JSON\n\n"의 UTF-8 바이트).
+ *
+ * SseEmitter.event().data(객체)는 연결마다 메시지 컨버터가 JSON 직렬화를 다시 하므로,
+ * 브로드캐스트는 이 프레임을 만들어 바이트 배열 그대로 전송한다.
+ *
+ * idea-board 모듈(com.pm.ideaboard.service)에 패키지만 다른 같은 파일이 있다. 별도 빌드/배포 단위라 공유 모듈 없이 복사해 두므로 함께 고친다.
+ */
+final class SseFrame {
+
+    /** 프록시 유휴 연결 종료 방지용 주석 프레임 - EventSource는 무시한다 */
+    static final SseFrame HEARTBEAT = new SseFrame(":heartbeat", ":\n\n".getBytes(StandardCharsets.UTF_8));
+
+    private final String eventName;
+    private final Set<ResponseBodyEmitter.DataWithMediaType> items;
+
+    private SseFrame(String eventName, byte[] bytes) {
+        this.eventName = eventName;
+        this.items = Set.of(new ResponseBodyEmitter.DataWithMediaType(bytes, MediaType.TEXT_PLAIN));
+    }
+
+    /** data가 String이면 그대로, 아니면 JSON으로 한 번만 직렬화한다 */
+    static SseFrame of(ObjectMapper objectMapper, String eventName, Object data) {
+        return of(objectMapper, null, eventName, data);
+    }
+
+    /** id가 있으면 "id:" 줄을 붙인다 - 클라이언트는 재연결 시 Last-Event-ID 헤더로 돌려준다 */
+    static SseFrame of(ObjectMapper objectMapper, String id, String eventName, Object data) {
+        String payload = data instanceof String s ? s : objectMapper.writeValueAsString(data);
+        StringBuilder sb = new StringBuilder(payload.length() + eventName.length() + 32);
+        if (id != null) {
+            sb.append("id:").append(id).append('\n');
+        }
+        sb.append("event:").append(eventName).append('\n');
+        for (String line : payload.split("\n", -1)) {
+            sb.append("data:").append(line).append('\n');
+        }
+        sb.append('\n');
+        return new SseFrame(eventName, sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    String eventName() {
+        return eventName;
+    }
+
+    /** 전송 실패 시 false (끊긴 연결, 이미 완료된 emitter) */
+    boolean sendTo(SseEmitter emitter) {
+        try {
+            emitter.send(items);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.pm.investment.service;
+
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * SSE 이벤트 ID 발급 + 토픽별 최근 이벤트 재전송 버퍼.
+ *
+ * ID는 "기동시각-순번" 형식이고 순번은 모든 토픽이 함께 쓴다. 버퍼는 토픽마다 따로 두어
+ * 한 토픽의 이벤트가 몰려도 다른 토픽의 최근 이벤트를 밀어내지 않는다.
+ * 재연결한 클라이언트의 Last-Event-ID가 현재 기동의 것이고 구독 토픽의 버퍼 안에 있으면
+ * 놓친 이벤트만 메모리에서 다시 보내고, 다른 기동의 ID이거나 이미 밀려났으면 재전송 불가로 판단한다.
+ */
+final class SseReplayBuffer {
+
+    private record Entry(long seq, SseFrame frame) {
+    }
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final ObjectMapper objectMapper;
+    private final int capacity;
+    private final Map<String, ArrayDeque<Entry>> rings = new HashMap<>();
+    // 토픽 -> 버퍼에서 밀려난 마지막 순번 (없으면 0)
+    private final Map<String, Long> evicted = new HashMap<>();
+    private long sequence;
+
+    SseReplayBuffer(ObjectMapper objectMapper, Set<String> topics, int capacity) {
+        this.objectMapper = objectMapper;
+        this.capacity = capacity;
+        for (String topic : topics) {
+            rings.put(topic, new ArrayDeque<>(capacity));
+            evicted.put(topic, 0L);
+        }
+    }
+
+    synchronized SseFrame publish(String topic, String eventName, Object data) {
+        long seq = ++sequence;
+        SseFrame frame = SseFrame.of(objectMapper, epoch + "-" + seq, eventName, data);
+        ArrayDeque<Entry> ring = rings.get(topic);
+        if (ring.size() == capacity) {
+            evicted.put(topic, ring.pollFirst().seq());
+        }
+        ring.addLast(new Entry(seq, frame));
+        return frame;
+    }
+
+    /** 마지막으로 발행한 이벤트 ID (발행 전이면 순번 0) */
+    synchronized String lastEventId() {
+        return epoch + "-" + sequence;
+    }
+
+    /** topics의 lastEventId 이후 이벤트를 발행 순서대로 (없으면 빈 목록). 재전송할 수 없으면 null */
+    synchronized List<SseFrame> replayAfter(String lastEventId, Set<String> topics) {
+        int dash = lastEventId.lastIndexOf('-');
+        if (dash < 0 || !epoch.equals(lastEventId.substring(0, dash))) {
+            return null;
+        }
+        long lastSeq;
+        try {
+            lastSeq = Long.parseLong(lastEventId.substring(dash + 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        if (lastSeq < 0 || lastSeq > sequence) {
+            return null;
+        }
+        List<Entry> missed = new ArrayList<>();
+        for (String topic : topics) {
+            if (evicted.get(topic) > lastSeq) {
+                return null;
+            }
+            for (Entry entry : rings.get(topic)) {
+                if (entry.seq() > lastSeq) {
+                    missed.add(entry);
+                }
+            }
+        }
+        missed.sort(Comparator.comparingLong(Entry::seq));
+        return missed.stream().map(Entry::frame).toList();
+    }
+}
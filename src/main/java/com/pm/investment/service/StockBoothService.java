@@ -4,23 +4,18 @@ import com.pm.investment.dto.MyStockBoothVisitorResponse;
 import com.pm.investment.dto.MyStockVisitResponse;
 import com.pm.investment.dto.StockBoothResponse;
 import com.pm.investment.dto.StockBoothVisitResponse;
-import com.pm.investment.entity.StockBooth;
 import com.pm.investment.entity.StockBoothVisit;
 import com.pm.investment.entity.User;
 import com.pm.investment.repository.StockBoothRepository;
 import com.pm.investment.repository.StockBoothVisitRepository;
-import com.pm.investment.repository.StockHoldingRepository;
-import com.pm.investment.repository.StockRatingRepository;
 import com.pm.investment.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -28,90 +23,75 @@ import java.util.stream.Collectors;
 public class StockBoothService {
 
     private final StockBoothRepository stockBoothRepository;
-    private final StockHoldingRepository stockHoldingRepository;
+    private final BoothCatalog boothCatalog;
+    private final StockBoothStatsIndex stockBoothStatsIndex;
+    private final StockLedger stockLedger;
     private final StockBoothVisitRepository stockBoothVisitRepository;
-    private final StockRatingRepository stockRatingRepository;
+    private final StockEligibilityIndex stockEligibilityIndex;
+    private final UserActivityIndex userActivityIndex;
     private final UserRepository userRepository;
     private final MissionService missionService;
+    private final MissionRankingService missionRankingService;
+    private final DataVersion dataVersion;
 
-    @Transactional(readOnly = true)
     public List<StockBoothResponse> getAllStockBooths(Long userId) {
-        List<StockBooth> booths = stockBoothRepository.findAllWithZoneOrderByDisplayOrderAsc();
+        List<BoothCatalog.Entry> booths = boothCatalog.stockBooths();
 
-        // 1개 쿼리로 전체 부스 보유 통계 조회 (N+1 제거)
-        Map<Long, Long> totalMap = stockHoldingRepository.getTotalHoldingByAllBooths()
-                .stream()
-                .collect(Collectors.toMap(
-                        row -> (Long) row[0],
-                        row -> ((Number) row[1]).longValue()
-                ));
+        // 부스별 보유 총액은 메모리 집계에서 조회
+        Map<Long, StockBoothStatsIndex.Stats> statsMap = stockBoothStatsIndex.getAll();
 
         // 유저별 데이터 일괄 조회 (N+1 제거)
         Map<Long, Long> myMap = Map.of();
-        Set<Long> visitedSet = Set.of();
-        Set<Long> ratedSet = Set.of();
         if (userId != null) {
-            myMap = stockHoldingRepository.getMyHoldingAmounts(userId)
-                    .stream()
-                    .collect(Collectors.toMap(
-                            row -> (Long) row[0],
-                            row -> ((Number) row[1]).longValue()
-                    ));
-            visitedSet = new HashSet<>(stockBoothVisitRepository.findVisitedStockBoothIdsByUserId(userId));
-            ratedSet = new HashSet<>(stockRatingRepository.findRatedStockBoothIdsByUserId(userId));
+            myMap = stockLedger.getHoldings(userId);
         }
 
         final Map<Long, Long> finalMyMap = myMap;
-        final Set<Long> finalVisitedSet = visitedSet;
-        final Set<Long> finalRatedSet = ratedSet;
 
         return booths.stream().map(booth -> StockBoothResponse.builder()
-                .id(booth.getId())
-                .name(booth.getName())
-                .category(booth.getCategory())
-                .description(booth.getDescription())
-                .shortDescription(booth.getShortDescription())
-                .displayOrder(booth.getDisplayOrder())
-                .logoEmoji(booth.getLogoEmoji())
-                .themeColor(booth.getThemeColor())
-                .totalHolding(totalMap.getOrDefault(booth.getId(), 0L))
-                .myHolding(finalMyMap.getOrDefault(booth.getId(), 0L))
-                .hasVisited(finalVisitedSet.contains(booth.getId()))
-                .hasRated(finalRatedSet.contains(booth.getId()))
-                .zoneName(booth.getZone() != null ? booth.getZone().getName() : null)
-                .floorInfo(booth.getZone() != null ? booth.getZone().getFloorInfo() : null)
+                .id(booth.id())
+                .name(booth.name())
+                .category(booth.category())
+                .description(booth.description())
+                .shortDescription(booth.shortDescription())
+                .displayOrder(booth.displayOrder())
+                .logoEmoji(booth.logoEmoji())
+                .themeColor(booth.themeColor())
+                .totalHolding(statsMap.containsKey(booth.id()) ? statsMap.get(booth.id()).totalAmount() : 0L)
+                .myHolding(finalMyMap.getOrDefault(booth.id(), 0L))
+                .hasVisited(userId != null && stockEligibilityIndex.hasVisited(userId, booth.id()))
+                .hasRated(userId != null && stockEligibilityIndex.hasRated(userId, booth.id()))
+                .zoneName(booth.zone() != null ? booth.zone().name() : null)
+                .floorInfo(booth.zone() != null ? booth.zone().floorInfo() : null)
                 .build()
         ).toList();
     }
 
-    @Transactional(readOnly = true)
     public StockBoothResponse getStockBooth(Long boothId, Long userId) {
-        StockBooth booth = stockBoothRepository.findById(boothId)
+        BoothCatalog.Entry booth = boothCatalog.findStockBooth(boothId)
                 .orElseThrow(() -> new IllegalArgumentException("부스를 찾을 수 없습니다"));
 
-        Long totalHolding = stockHoldingRepository.getTotalHoldingByStockBoothId(boothId);
+        Long totalHolding = stockBoothStatsIndex.get(boothId).totalAmount();
         Long myHolding = 0L;
         if (userId != null) {
-            myHolding = stockHoldingRepository.findByUserIdAndStockBoothId(userId, boothId)
-                    .map(sh -> sh.getAmount())
-                    .orElse(0L);
+            myHolding = stockLedger.getHolding(userId, boothId);
         }
 
         return StockBoothResponse.builder()
-                .id(booth.getId())
-                .name(booth.getName())
-                .category(booth.getCategory())
-                .description(booth.getDescription())
-                .shortDescription(booth.getShortDescription())
-                .displayOrder(booth.getDisplayOrder())
-                .logoEmoji(booth.getLogoEmoji())
-                .themeColor(booth.getThemeColor())
+                .id(booth.id())
+                .name(booth.name())
+                .category(booth.category())
+                .description(booth.description())
+                .shortDescription(booth.shortDescription())
+                .displayOrder(booth.displayOrder())
+                .logoEmoji(booth.logoEmoji())
+                .themeColor(booth.themeColor())
                 .totalHolding(totalHolding)
                 .myHolding(myHolding)
-                .hasVisited(userId != null && stockBoothVisitRepository.existsByUserIdAndStockBoothId(userId, boothId))
-                .hasRated(userId != null && stockRatingRepository.existsByUserIdAndStockBoothId(userId, boothId))
-                .zoneName(booth.getZone() != null ? booth.getZone().getName() : null)
-                .floorInfo(booth.getZone() != null ? booth.getZone().getFloorInfo() : null)
+                .hasVisited(userId != null && stockEligibilityIndex.hasVisited(userId, boothId))
+                .hasRated(userId != null && stockEligibilityIndex.hasRated(userId, boothId))
+                .zoneName(booth.zone() != null ? booth.zone().name() : null)
+                .floorInfo(booth.zone() != null ? booth.zone().floorInfo() : null)
                 .build();
     }
 
@@ -120,28 +100,33 @@ public class StockBoothService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
 
-        StockBooth booth = stockBoothRepository.findByBoothUuid(boothUuid)
+        BoothCatalog.Entry booth = boothCatalog.findStockBoothByUuid(boothUuid)
                 .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 QR 코드입니다"));
 
-        if (stockBoothVisitRepository.existsByUserIdAndStockBoothId(userId, booth.getId())) {
+        if (stockEligibilityIndex.hasVisited(userId, booth.id())) {
             throw new IllegalStateException("이미 방문한 부스입니다");
         }
 
-        StockBoothVisit visit = new StockBoothVisit(user, booth);
+        StockBoothVisit visit = new StockBoothVisit(user, stockBoothRepository.getReferenceById(booth.id()));
         stockBoothVisitRepository.save(visit);
+        stockEligibilityIndex.markVisited(userId, booth.id());
+        userActivityIndex.recordVisit(userId, visit.getVisitedAt());
 
         // again 미션: 부스 소유자들의 방문자 수 업데이트
-        long visitorCount = stockBoothVisitRepository.countByStockBoothId(booth.getId());
-        List<User> boothOwners = userRepository.findByBelongingStockBooth_Id(booth.getId());
+        long visitorCount = stockBoothVisitRepository.countByStockBoothId(booth.id());
+        List<User> boothOwners = userRepository.findByBelongingStockBooth_Id(booth.id());
         for (User owner : boothOwners) {
             missionService.checkAndUpdateMission(owner.getId(), "again", (int) visitorCount);
         }
+        // "안돼도 다시" 랭킹은 부스 방문자 수 기준 - 소속 인원이 없는 부스도 순위가 바뀐다
+        missionRankingService.markDirty(MissionRankingService.BOOTH_VISITOR_MISSION);
+        dataVersion.bump();
 
         return StockBoothVisitResponse.builder()
-                .boothId(booth.getId())
-                .boothName(booth.getName())
-                .logoEmoji(booth.getLogoEmoji())
-                .message(booth.getName() + " 부스 방문이 기록되었습니다")
+                .boothId(booth.id())
+                .boothName(booth.name())
+                .logoEmoji(booth.logoEmoji())
+                .message(booth.name() + " 부스 방문이 기록되었습니다")
                 .build();
     }
 
@@ -149,12 +134,16 @@ public class StockBoothService {
     public List<MyStockVisitResponse> getMyVisits(Long userId) {
         return stockBoothVisitRepository.findByUserIdOrderByVisitedAtDesc(userId)
                 .stream()
-                .map(visit -> MyStockVisitResponse.builder()
-                        .boothId(visit.getStockBooth().getId())
-                        .boothName(visit.getStockBooth().getName())
-                        .logoEmoji(visit.getStockBooth().getLogoEmoji())
-                        .visitedAt(visit.getVisitedAt())
-                        .build())
+                .map(visit -> {
+                    BoothCatalog.Entry booth = boothCatalog.findStockBooth(visit.getStockBooth().getId())
+                            .orElseThrow(() -> new IllegalStateException("부스를 찾을 수 없습니다"));
+                    return MyStockVisitResponse.builder()
+                            .boothId(booth.id())
+                            .boothName(booth.name())
+                            .logoEmoji(booth.logoEmoji())
+                            .visitedAt(visit.getVisitedAt())
+                            .build();
+                })
                 .toList();
     }
 
@@ -163,15 +152,16 @@ public class StockBoothService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
 
-        StockBooth stockBooth = user.getBelongingStockBooth();
-        if (stockBooth == null) {
+        if (user.getBelongingStockBooth() == null) {
             return null;
         }
+        BoothCatalog.Entry stockBooth = boothCatalog.findStockBooth(user.getBelongingStockBooth().getId())
+                .orElseThrow(() -> new IllegalStateException("부스를 찾을 수 없습니다"));
 
         return MyStockBoothVisitorResponse.builder()
-                .boothName(stockBooth.getName())
-                .logoEmoji(stockBooth.getLogoEmoji())
-                .visitorCount(stockBoothVisitRepository.countByStockBoothId(stockBooth.getId()))
+                .boothName(stockBooth.name())
+                .logoEmoji(stockBooth.logoEmoji())
+                .visitorCount(stockBoothVisitRepository.countByStockBoothId(stockBooth.id()))
                 .build();
     }
 }
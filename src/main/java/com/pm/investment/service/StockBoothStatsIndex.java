@@ -0,0 +1,171 @@
+package com.pm.investment.service;
+
+import com.pm.investment.entity.StockBoothStats;
+import com.pm.investment.repository.StockBoothRepository;
+import com.pm.investment.repository.StockBoothStatsRepository;
+import com.pm.investment.repository.StockHoldingRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 부스별 AM 보유 총액/보유자 수 (stock_booth_stats의 메모리 사본).
+ *
+ * 거래마다 보유액 증감과 보유자 수 전환(0 → 양수 +1, 양수 → 0 -1)만 반영하므로
+ * 조회는 GROUP BY 없이 부스 수만큼의 조회로 끝난다. DB 행은 StockLedgerWriter가 같은 증분으로 갱신한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StockBoothStatsIndex {
+
+    private final StockBoothRepository stockBoothRepository;
+    private final StockHoldingRepository stockHoldingRepository;
+    private final StockBoothStatsRepository stockBoothStatsRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final BoothLeaderboards boothLeaderboards;
+
+    private final Map<Long, BoothStats> stats = new ConcurrentHashMap<>();
+
+    /** 부스 1개의 집계 스냅샷. updatedAt은 보유자가 없으면 null */
+    public record Stats(Long boothId, long totalAmount, long holderCount, LocalDateTime updatedAt) {
+    }
+
+    /**
+     * 부스별 집계 상태. 필드는 인스턴스 락으로 보호.
+     * updatedAt은 보유 중인 사람들의 마지막 거래 시각 중 최댓값 (PM의 MAX(updatedAt) WHERE amount > 0과 같은 규칙)
+     */
+    private static final class BoothStats {
+        private long totalAmount;
+        private long holderCount;
+        private LocalDateTime updatedAt;
+        // userId → 마지막 거래 시각 (보유액 > 0인 사람만)
+        private final Map<Long, LocalDateTime> holderUpdatedAt = new HashMap<>();
+
+        private BoothStats(long totalAmount, long holderCount, LocalDateTime updatedAt) {
+            this.totalAmount = totalAmount;
+            this.holderCount = holderCount;
+            this.updatedAt = updatedAt;
+        }
+    }
+
+    /**
+     * stock_holdings에서 한 번 다시 집계해 메모리와 stock_booth_stats를 맞춘다.
+     * StockLedger 적재 과정(저널 복구 이후, 거래를 받기 전)에 호출.
+     */
+    public void rebuild() {
+        Map<Long, Object[]> totals = new HashMap<>();
+        for (Object[] row : stockHoldingRepository.getTotalHoldingByAllBooths()) {
+            totals.put((Long) row[0], row);
+        }
+        Map<Long, Long> holders = new HashMap<>();
+        for (Object[] row : stockHoldingRepository.getHolderCountByAllBooths()) {
+            holders.put((Long) row[0], ((Number) row[1]).longValue());
+        }
+
+        stats.clear();
+        for (Long boothId : stockBoothRepository.findAllIds()) {
+            Object[] row = totals.get(boothId);
+            stats.put(boothId, new BoothStats(
+                    row != null ? ((Number) row[1]).longValue() : 0L,
+                    holders.getOrDefault(boothId, 0L),
+                    row != null ? (LocalDateTime) row[2] : null));
+        }
+        for (Object[] row : stockHoldingRepository.getHolderUpdatedAts()) {
+            BoothStats state = stats.get((Long) row[0]);
+            if (state != null) {
+                state.holderUpdatedAt.put((Long) row[1], (LocalDateTime) row[2]);
+            }
+        }
+
+        Map<Long, Leaderboard.Standing> standings = new HashMap<>();
+        stats.forEach((boothId, state) -> standings.put(boothId, standing(state)));
+        boothLeaderboards.resetStock(standings);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Map<Long, StockBoothStats> existing = new HashMap<>();
+            stockBoothStatsRepository.findAll().forEach(s -> existing.put(s.getStockBoothId(), s));
+            List<StockBoothStats> rows = new ArrayList<>();
+            stats.forEach((boothId, state) -> {
+                StockBoothStats row = existing.get(boothId);
+                if (row == null) {
+                    row = new StockBoothStats(boothId, 0L, 0L, null);
+                }
+                row.setTotalAmount(state.totalAmount);
+                row.setHolderCount(state.holderCount);
+                row.setUpdatedAt(state.updatedAt);
+                rows.add(row);
+            });
+            stockBoothStatsRepository.saveAll(rows);
+        });
+    }
+
+    public void record(StockLedger.Entry entry) {
+        if (entry.boothId() == null) {
+            return;
+        }
+        BoothStats state = stats.get(entry.boothId());
+        if (state == null) {
+            return;
+        }
+        synchronized (state) {
+            state.totalAmount += entry.holdingAfter() - entry.holdingBefore();
+            state.holderCount += holderDelta(entry);
+            if (entry.holdingAfter() > 0) {
+                state.holderUpdatedAt.put(entry.userId(), entry.createdAt());
+                if (state.updatedAt == null || entry.createdAt().isAfter(state.updatedAt)) {
+                    state.updatedAt = entry.createdAt();
+                }
+            } else if (state.holderUpdatedAt.remove(entry.userId()) != null) {
+                // 전량 매도: 남은 보유자 중 가장 최근 거래 시각으로 되돌린다
+                state.updatedAt = state.holderUpdatedAt.values().stream()
+                        .max(Comparator.naturalOrder()).orElse(null);
+            }
+            // 같은 부스 갱신끼리 순서가 뒤바뀌지 않도록 부스 락 안에서 순위표에 반영
+            boothLeaderboards.updateStock(entry.boothId(), standing(state));
+        }
+    }
+
+    /** 보유액이 없으면 달성 시각 없음 (동률 시 가장 뒤) */
+    private static Leaderboard.Standing standing(BoothStats state) {
+        return new Leaderboard.Standing(state.totalAmount, state.holderCount,
+                state.totalAmount > 0 ? state.updatedAt : null);
+    }
+
+    /** 보유자 수 전환: 0 → 양수면 +1, 양수 → 0이면 -1 */
+    public static long holderDelta(StockLedger.Entry entry) {
+        return (entry.holdingAfter() > 0 ? 1 : 0) - (entry.holdingBefore() > 0 ? 1 : 0);
+    }
+
+    public Stats get(Long boothId) {
+        BoothStats state = stats.get(boothId);
+        if (state == null) {
+            return new Stats(boothId, 0L, 0L, null);
+        }
+        synchronized (state) {
+            return new Stats(boothId, state.totalAmount, state.holderCount, state.updatedAt);
+        }
+    }
+
+    public Map<Long, Stats> getAll() {
+        Map<Long, Stats> result = new HashMap<>();
+        stats.keySet().forEach(boothId -> result.put(boothId, get(boothId)));
+        return result;
+    }
+
+    /** 보유액이 있는 부스만, 총액 내림차순 · 동률이면 먼저 달성한(updatedAt이 빠른) 부스 우선 */
+    public List<Stats> getRanked() {
+        return getAll().values().stream()
+                .filter(s -> s.totalAmount() > 0)
+                .sorted(Comparator.comparingLong(Stats::totalAmount).reversed()
+                        .thenComparing(Stats::updatedAt, Comparator.nullsLast(Comparator.naturalOrder())))
+                .toList();
+    }
+}
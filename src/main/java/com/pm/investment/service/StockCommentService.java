@@ -1,7 +1,6 @@
 package com.pm.investment.service;
 
 import com.pm.investment.dto.StockCommentResponse;
-import com.pm.investment.entity.StockBooth;
 import com.pm.investment.entity.StockComment;
 import com.pm.investment.entity.User;
 import com.pm.investment.repository.StockBoothRepository;
@@ -21,10 +20,13 @@ public class StockCommentService {
     private final StockCommentRepository stockCommentRepository;
     private final UserRepository userRepository;
     private final StockBoothRepository stockBoothRepository;
+    private final BoothCatalog boothCatalog;
     private final StockBoothVisitRepository stockBoothVisitRepository;
     private final MissionService missionService;
     private final IdeaBoardNotifier ideaBoardNotifier;
     private final IdeaBoardSseService ideaBoardSseService;
+    private final DataVersion dataVersion;
+    private final UserActivityIndex userActivityIndex;
 
     @Transactional(readOnly = true)
     public List<StockCommentResponse> getComments(Long boothId) {
@@ -51,11 +53,14 @@ public class StockCommentService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("유저를 찾을 수 없습니다"));
 
-        StockBooth stockBooth = stockBoothRepository.findById(boothId)
-                .orElseThrow(() -> new IllegalArgumentException("부스를 찾을 수 없습니다"));
+        if (boothCatalog.findStockBooth(boothId).isEmpty()) {
+            throw new IllegalArgumentException("부스를 찾을 수 없습니다");
+        }
 
-        StockComment comment = new StockComment(user, stockBooth, content);
+        StockComment comment = new StockComment(user, stockBoothRepository.getReferenceById(boothId), content);
         stockCommentRepository.save(comment);
+        dataVersion.bump();
+        userActivityIndex.recordComment(userId, 1);
 
         // dream 미션: 70자 이상 댓글 수를 progress로 반영
         long commentCount = stockCommentRepository.countByUserIdAndContentMinLength(userId, 70);
@@ -123,6 +128,8 @@ public class StockCommentService {
 
         Long boothId = comment.getStockBooth().getId();
         stockCommentRepository.delete(comment);
+        dataVersion.bump();
+        userActivityIndex.recordComment(userId, -1);
 
         // dream 미션: 삭제 후 70자 이상 댓글 수 재계산
         long commentCount = stockCommentRepository.countByUserIdAndContentMinLength(userId, 70);
@@ -0,0 +1,109 @@
+package com.pm.investment.service;
+
+import com.pm.investment.repository.StockBoothRepository;
+import com.pm.investment.repository.StockBoothVisitRepository;
+import com.pm.investment.repository.StockRatingRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.BitSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 사용자별 부스 방문/평가 여부 비트셋 (AM 거래 자격 검사용).
+ *
+ * 부스 ID를 0부터 시작하는 조밀한 인덱스로 바꿔 사용자마다 방문/평가 비트셋 2개를 둔다.
+ * 기동 시 1회 적재하고 이후에는 방문 기록/평가 등록 커밋 시점에만 비트를 켠다.
+ * 방문/평가는 삭제되지 않으므로 비트는 켜기만 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StockEligibilityIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(StockEligibilityIndex.class);
+
+    private final StockBoothRepository stockBoothRepository;
+    private final StockBoothVisitRepository stockBoothVisitRepository;
+    private final StockRatingRepository stockRatingRepository;
+
+    private final Map<Long, Integer> boothIndex = new ConcurrentHashMap<>();
+    private final AtomicInteger nextIndex = new AtomicInteger();
+    private final Map<Long, UserBits> users = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+
+    /** 사용자별 비트셋. 필드는 인스턴스 락으로 보호 */
+    private static final class UserBits {
+        private final BitSet visited = new BitSet();
+        private final BitSet rated = new BitSet();
+    }
+
+    /**
+     * data.sql 초기화가 끝난 뒤 전체 방문/평가를 한 번씩 읽어 채운다.
+     * 적재 중 커밋된 방문/평가도 비트를 켜기만 하므로 유실되지 않는다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        stockBoothRepository.findAllIds().stream().sorted().forEach(this::indexOf);
+        for (Object[] row : stockBoothVisitRepository.findAllUserAndStockBoothIds()) {
+            set((Long) row[0], (Long) row[1], false);
+        }
+        for (Object[] row : stockRatingRepository.findAllUserAndStockBoothIds()) {
+            set((Long) row[0], (Long) row[1], true);
+        }
+        loaded = true;
+        log.info("방문/평가 비트셋 적재 완료: 사용자 {}명, 부스 {}개", users.size(), boothIndex.size());
+    }
+
+    public boolean hasVisited(Long userId, Long boothId) {
+        if (!loaded) {
+            return stockBoothVisitRepository.existsByUserIdAndStockBoothId(userId, boothId);
+        }
+        return test(userId, boothId, false);
+    }
+
+    public boolean hasRated(Long userId, Long boothId) {
+        if (!loaded) {
+            return stockRatingRepository.existsByUserIdAndStockBoothId(userId, boothId);
+        }
+        return test(userId, boothId, true);
+    }
+
+    /** 방문 저장 트랜잭션 안에서 호출 - 커밋된 뒤에만 반영된다 */
+    public void markVisited(Long userId, Long boothId) {
+        AfterCommit.run(() -> set(userId, boothId, false));
+    }
+
+    /** 평가 저장 트랜잭션 안에서 호출 - 커밋된 뒤에만 반영된다 */
+    public void markRated(Long userId, Long boothId) {
+        AfterCommit.run(() -> set(userId, boothId, true));
+    }
+
+    private boolean test(Long userId, Long boothId, boolean rated) {
+        UserBits bits = users.get(userId);
+        Integer index = boothIndex.get(boothId);
+        if (bits == null || index == null) {
+            return false;
+        }
+        synchronized (bits) {
+            return (rated ? bits.rated : bits.visited).get(index);
+        }
+    }
+
+    private void set(Long userId, Long boothId, boolean rated) {
+        UserBits bits = users.computeIfAbsent(userId, k -> new UserBits());
+        int index = indexOf(boothId);
+        synchronized (bits) {
+            (rated ? bits.rated : bits.visited).set(index);
+        }
+    }
+
+    private int indexOf(Long boothId) {
+        return boothIndex.computeIfAbsent(boothId, k -> nextIndex.getAndIncrement());
+    }
+}
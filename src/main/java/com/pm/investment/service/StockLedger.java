@@ -0,0 +1,311 @@
+package com.pm.investment.service;
+
+import com.pm.investment.entity.StockAccount;
+import com.pm.investment.entity.User;
+import com.pm.investment.repository.StockAccountRepository;
+import com.pm.investment.repository.StockBoothRepository;
+import com.pm.investment.repository.StockHoldingRepository;
+import com.pm.investment.repository.StockTradeHistoryRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * AM 주식 거래의 기준 원장 (잔액 + 부스별 보유액).
+ *
+ * 매수/매도는 메모리에서 검증·반영하고 저널에 기록해 fsync가 끝나면 반환한다.
+ * stock_accounts / stock_holdings / stock_trade_history 반영은 StockLedgerWriter가 배치로 처리한다.
+ * 단일 백엔드 인스턴스를 전제로 하며, stock_accounts 잔액 변경은 반드시 이 원장을 거쳐야 한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class StockLedger implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(StockLedger.class);
+    private static final long MAX_PER_BOOTH = 30_000_000L;
+
+    private final StockAccountRepository stockAccountRepository;
+    private final StockHoldingRepository stockHoldingRepository;
+    private final StockBoothRepository stockBoothRepository;
+    private final StockTradeHistoryRepository stockTradeHistoryRepository;
+    private final StockTradeJournal journal;
+    private final StockLedgerWriter writer;
+    private final CospiIndex cospiIndex;
+    private final StockBoothStatsIndex stockBoothStatsIndex;
+    private final StockPriceEngine stockPriceEngine;
+
+    private final Map<Long, Account> accounts = new ConcurrentHashMap<>();
+    private final ReentrantLock sequenceLock = new ReentrantLock();
+    private volatile Set<Long> boothIds = Set.of();
+    private volatile boolean ready;
+    private long sequence;
+
+    public enum EntryType {
+        BUY, SELL, DEPOSIT, CORRECTION
+    }
+
+    /**
+     * 원장 변경 1건. price(체결 시점 주가)와 holdingAfter는 DEPOSIT일 때 0.
+     * CORRECTION은 DB에 반영할 수 없어 격리된 기록을 되돌린 잔액 보정이며, price에 격리된 기록의 seq를 담는다.
+     */
+    public record Entry(long seq, EntryType type, long userId, Long boothId, long amount, long price,
+                        long balanceAfter, long holdingAfter, LocalDateTime createdAt) {
+
+        /** 거래 직전 보유액 (DEPOSIT, CORRECTION은 0) */
+        public long holdingBefore() {
+            return switch (type) {
+                case BUY -> holdingAfter - amount;
+                case SELL -> holdingAfter + amount;
+                case DEPOSIT, CORRECTION -> 0L;
+            };
+        }
+
+        /** 이 기록이 바꾼 잔액 (BUY는 음수) */
+        public long balanceDelta() {
+            return switch (type) {
+                case BUY -> -amount;
+                case SELL, DEPOSIT, CORRECTION -> amount;
+            };
+        }
+    }
+
+    /** 사용자별 원장 상태. 모든 필드는 인스턴스 락으로 보호 */
+    private static final class Account {
+        private final long userId;
+        private final boolean executive;
+        private final Long belongingStockBoothId;
+        private final Map<Long, Long> holdings = new HashMap<>();
+        private long balance;
+
+        private Account(long userId, boolean executive, Long belongingStockBoothId, long balance) {
+            this.userId = userId;
+            this.executive = executive;
+            this.belongingStockBoothId = belongingStockBoothId;
+            this.balance = balance;
+        }
+    }
+
+    /** 모든 빈(data.sql 초기화 포함) 생성 직후, 웹 서버가 요청을 받기 전에 원장을 준비한다 */
+    @Override
+    public void afterSingletonsInstantiated() {
+        warmUp();
+    }
+
+    /**
+     * 재시작 복구 → DB 적재 순서로 원장을 준비한다.
+     */
+    public void warmUp() {
+        Long maxSeq = stockTradeHistoryRepository.findMaxTradeSeq();
+        long persistedSeq = maxSeq != null ? maxSeq : 0L;
+
+        List<Entry> pending = journal.readAfter(persistedSeq);
+        if (!pending.isEmpty()) {
+            log.info("원장 저널 복구: {}건 (seq {} ~ {})", pending.size(),
+                    pending.get(0).seq(), pending.get(pending.size() - 1).seq());
+            writer.recover(pending);
+            persistedSeq = pending.get(pending.size() - 1).seq();
+        }
+        journal.truncate();
+        cospiIndex.rebuild();
+        stockBoothStatsIndex.rebuild();
+        stockPriceEngine.load();
+
+        boothIds = Set.copyOf(stockBoothRepository.findAllIds());
+
+        accounts.clear();
+        for (StockAccount sa : stockAccountRepository.findAllWithUser()) {
+            accounts.put(sa.getUser().getId(), toAccount(sa));
+        }
+        for (Object[] row : stockHoldingRepository.getAllHoldingAmounts()) {
+            Account account = accounts.get((Long) row[0]);
+            long amount = ((Number) row[2]).longValue();
+            if (account != null && amount > 0) {
+                account.holdings.put((Long) row[1], amount);
+            }
+        }
+
+        sequence = persistedSeq;
+        writer.onParked(this::revertParked);
+        ready = true;
+        log.info("AM 원장 적재 완료: 계좌 {}개, 부스 {}개, seq {}", accounts.size(), boothIds.size(), sequence);
+    }
+
+    public Entry buy(Long userId, Long boothId, long amount, long price) {
+        Account account = getAccount(userId);
+        if (!boothIds.contains(boothId)) {
+            throw new IllegalArgumentException("부스를 찾을 수 없습니다");
+        }
+        Entry entry;
+        synchronized (account) {
+            // 자기 소속 부스에는 투자 불가
+            if (boothId.equals(account.belongingStockBoothId)) {
+                throw new IllegalStateException("자기 소속 부스에는 투자할 수 없습니다");
+            }
+            if (account.balance < amount) {
+                throw new IllegalStateException("보유 잔액이 부족합니다");
+            }
+            long holding = account.holdings.getOrDefault(boothId, 0L);
+            if (!account.executive && holding + amount > MAX_PER_BOOTH) {
+                throw new IllegalStateException("부스당 최대 투자 금액은 3,000만원입니다");
+            }
+
+            account.balance -= amount;
+            account.holdings.put(boothId, holding + amount);
+            entry = record(EntryType.BUY, account, boothId, amount, price, holding + amount);
+        }
+        journal.awaitDurable(entry.seq());
+        return entry;
+    }
+
+    public Entry sell(Long userId, Long boothId, long amount, long price) {
+        Account account = getAccount(userId);
+        if (!boothIds.contains(boothId)) {
+            throw new IllegalArgumentException("부스를 찾을 수 없습니다");
+        }
+        Entry entry;
+        synchronized (account) {
+            Long holding = account.holdings.get(boothId);
+            if (holding == null) {
+                throw new IllegalStateException("해당 부스에 보유한 투자금이 없습니다");
+            }
+            if (holding < amount) {
+                throw new IllegalStateException("철회 금액이 투자 금액을 초과합니다");
+            }
+
+            account.balance += amount;
+            account.holdings.put(boothId, holding - amount);
+            entry = record(EntryType.SELL, account, boothId, amount, price, holding - amount);
+        }
+        journal.awaitDurable(entry.seq());
+        return entry;
+    }
+
+    /** 미션 보상 등 거래 이외의 잔액 입금 */
+    public Entry deposit(Long userId, long amount) {
+        Account account = getAccount(userId);
+        Entry entry;
+        synchronized (account) {
+            account.balance += amount;
+            entry = record(EntryType.DEPOSIT, account, null, amount, 0L, 0L);
+        }
+        journal.awaitDurable(entry.seq());
+        return entry;
+    }
+
+    /**
+     * writer가 DB에 반영할 수 없어 격리한 기록을 메모리 원장에서 되돌리고, 잔액 절대값을 담은 CORRECTION 기록을 남긴다.
+     * 격리된 기록 뒤에 이미 쌓인 같은 사용자의 기록은 되돌리기 전 잔액을 담고 있으므로, CORRECTION이 그 뒤에 반영돼
+     * DB 잔액을 메모리와 맞춘다. CORRECTION이 저널에 확정된 뒤 반환하며, 반환값은 CORRECTION의 seq (되돌릴 게 없으면 0).
+     */
+    long revertParked(Entry parked) {
+        Account account = accounts.get(parked.userId());
+        if (account == null || parked.type() == EntryType.CORRECTION) {
+            return 0L;
+        }
+        Entry correction;
+        Entry reverse = null;
+        synchronized (account) {
+            account.balance -= parked.balanceDelta();
+            if (parked.boothId() != null) {
+                long holding = account.holdings.getOrDefault(parked.boothId(), 0L);
+                long restored = holding - (parked.holdingAfter() - parked.holdingBefore());
+                account.holdings.put(parked.boothId(), restored);
+                // 부스 집계/COSPI에서 격리된 거래를 상쇄하는 반대 방향 거래 (저널/DB에는 남기지 않는다)
+                reverse = new Entry(parked.seq(), parked.type() == EntryType.BUY ? EntryType.SELL : EntryType.BUY,
+                        parked.userId(), parked.boothId(), parked.amount(), parked.price(), account.balance, restored,
+                        LocalDateTime.now());
+            }
+            correction = record(EntryType.CORRECTION, account, null, -parked.balanceDelta(), parked.seq(), 0L);
+        }
+        journal.awaitDurable(correction.seq());
+        if (reverse != null) {
+            cospiIndex.record(reverse);
+            stockBoothStatsIndex.record(reverse);
+        }
+        log.error("격리된 원장 기록 되돌림 (seq {}, 보정 seq {}, userId {}, 보정 후 잔액 {})",
+                parked.seq(), correction.seq(), parked.userId(), correction.balanceAfter());
+        return correction.seq();
+    }
+
+    /** 체결됐지만 아직 DB 이력에 없는 매수/매도 (seq 오름차순). boothId가 null이면 전체 부스 */
+    public List<Entry> getPendingTrades(Long userId, Long boothId) {
+        return writer.pendingTrades(userId, boothId);
+    }
+
+    public long getBalance(Long userId) {
+        Account account = getAccount(userId);
+        synchronized (account) {
+            return account.balance;
+        }
+    }
+
+    /** boothId → 보유액 (0 초과만) */
+    public Map<Long, Long> getHoldings(Long userId) {
+        Account account = getAccount(userId);
+        Map<Long, Long> result = new HashMap<>();
+        synchronized (account) {
+            account.holdings.forEach((boothId, amount) -> {
+                if (amount > 0) result.put(boothId, amount);
+            });
+        }
+        return result;
+    }
+
+    public long getHolding(Long userId, Long boothId) {
+        Account account = getAccount(userId);
+        synchronized (account) {
+            return account.holdings.getOrDefault(boothId, 0L);
+        }
+    }
+
+    /**
+     * 계좌 락을 잡은 상태에서 호출. seq 부여 → 저널 → writer 큐 적재를 전역 순서로 묶는다.
+     */
+    private Entry record(EntryType type, Account account, Long boothId, long amount, long price, long holdingAfter) {
+        sequenceLock.lock();
+        try {
+            Entry entry = new Entry(++sequence, type, account.userId, boothId, amount, price,
+                    account.balance, holdingAfter, LocalDateTime.now());
+            journal.append(entry);
+            writer.enqueue(entry);
+            return entry;
+        } finally {
+            sequenceLock.unlock();
+        }
+    }
+
+    private Account getAccount(Long userId) {
+        if (!ready) {
+            throw new IllegalStateException("거래 시스템을 준비 중입니다. 잠시 후 다시 시도해주세요");
+        }
+        Account account = accounts.get(userId);
+        if (account != null) {
+            return account;
+        }
+        // 원장 적재 이후 로그인으로 생성된 계좌
+        StockAccount sa = stockAccountRepository.findByUserIdWithUser(userId)
+                .orElseThrow(() -> new IllegalArgumentException("주식 계좌를 찾을 수 없습니다"));
+        Account loaded = toAccount(sa);
+        for (Object[] row : stockHoldingRepository.getMyHoldingAmounts(userId)) {
+            loaded.holdings.put((Long) row[0], ((Number) row[1]).longValue());
+        }
+        Account existing = accounts.putIfAbsent(userId, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    private Account toAccount(StockAccount sa) {
+        User user = sa.getUser();
+        Long belongingId = user.getBelongingStockBooth() != null ? user.getBelongingStockBooth().getId() : null;
+        return new Account(user.getId(), Boolean.TRUE.equals(user.getIsExecutive()), belongingId, sa.getBalance());
+    }
+}
@@ -0,0 +1,263 @@
+package com.pm.investment.service;
+
+import com.pm.investment.entity.StockAccount;
+import com.pm.investment.entity.StockHolding;
+import com.pm.investment.entity.StockTradeHistory;
+import com.pm.investment.repository.StockAccountRepository;
+import com.pm.investment.repository.StockBoothRepository;
+import com.pm.investment.repository.StockBoothStatsRepository;
+import com.pm.investment.repository.StockHoldingRepository;
+import com.pm.investment.repository.StockTradeHistoryRepository;
+import com.pm.investment.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.ToLongFunction;
+
+/**
+ * StockLedger 변경분을 주기적으로 모아 한 트랜잭션으로 DB에 반영한다.
+ * 실패하면 남은 기록을 그대로 들고 다음 주기에 재시도하고, 성공한 seq까지 저널을 정리한다.
+ * 제약 위반(삭제된 사용자/부스 FK 등)으로 배치가 실패하면 한 건씩 반영해 문제 기록만 격리(park)하고 나머지는 진행한다.
+ * 격리된 기록은 StockLedger가 메모리에서 되돌리고 잔액 보정(CORRECTION) 기록을 남겨 DB와 원장을 다시 맞춘다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StockLedgerWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(StockLedgerWriter.class);
+
+    private final StockAccountRepository stockAccountRepository;
+    private final StockHoldingRepository stockHoldingRepository;
+    private final StockTradeHistoryRepository stockTradeHistoryRepository;
+    private final UserRepository userRepository;
+    private final StockBoothRepository stockBoothRepository;
+    private final StockBoothStatsRepository stockBoothStatsRepository;
+    private final StockBoothStatsIndex stockBoothStatsIndex;
+    private final StockTradeJournal journal;
+    private final TransactionTemplate transactionTemplate;
+    private final DataVersion dataVersion;
+
+    private final LinkedBlockingQueue<StockLedger.Entry> queue = new LinkedBlockingQueue<>();
+    private final List<StockLedger.Entry> pending = new ArrayList<>();
+    // 격리된 기록을 원장에서 되돌리고 CORRECTION seq를 돌려준다 (StockLedger가 적재를 마치며 등록)
+    private volatile ToLongFunction<StockLedger.Entry> parkedHandler;
+
+    public void enqueue(StockLedger.Entry entry) {
+        queue.add(entry);
+    }
+
+    /** 아직 DB에 반영되지 않은 이 사용자의 매수/매도 (seq 오름차순). boothId가 null이면 전체 부스 */
+    public synchronized List<StockLedger.Entry> pendingTrades(long userId, Long boothId) {
+        List<StockLedger.Entry> result = new ArrayList<>();
+        for (StockLedger.Entry entry : pending) {
+            if (isTradeOf(entry, userId, boothId)) result.add(entry);
+        }
+        for (StockLedger.Entry entry : queue) {
+            if (isTradeOf(entry, userId, boothId)) result.add(entry);
+        }
+        return result;
+    }
+
+    private static boolean isTradeOf(StockLedger.Entry entry, long userId, Long boothId) {
+        return entry.userId() == userId && entry.boothId() != null
+                && (boothId == null || boothId.equals(entry.boothId()));
+    }
+
+    void onParked(ToLongFunction<StockLedger.Entry> handler) {
+        this.parkedHandler = handler;
+    }
+
+    @Scheduled(fixedDelayString = "${stock.ledger.flush-interval-ms:200}")
+    public synchronized void flush() {
+        queue.drainTo(pending);
+        if (pending.isEmpty()) {
+            return;
+        }
+        journal.sync();
+        try {
+            persistNow(pending);
+            complete(pending.size());
+        } catch (DataIntegrityViolationException e) {
+            log.warn("원장 배치 반영 실패, 건별 반영으로 전환 ({}건): {}", pending.size(), e.getMessage());
+            complete(persistEach(pending, true));
+        } catch (RuntimeException e) {
+            log.error("원장 DB 반영 실패 ({}건 대기, 다음 주기에 재시도): {}", pending.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 재시작 복구용: 저널에 남은 기록을 반영한다. 격리되지 않은 실패가 남으면 기동을 중단한다.
+     * 이미 격리 파일에 있는 기록은 건너뛴다 (격리 전에 그 CORRECTION이 저널에 확정되어 있다).
+     */
+    public void recover(List<StockLedger.Entry> journaled) {
+        Set<Long> parked = journal.readParkedSeqs();
+        List<StockLedger.Entry> entries = new ArrayList<>(journaled);
+        entries.removeIf(entry -> parked.contains(entry.seq()));
+        try {
+            persistNow(entries);
+        } catch (DataIntegrityViolationException e) {
+            log.warn("원장 저널 복구 배치 실패, 건별 반영으로 전환 ({}건): {}", entries.size(), e.getMessage());
+            if (persistEach(entries, false) < entries.size()) {
+                throw new IllegalStateException("원장 저널 복구에 실패했습니다", e);
+            }
+        }
+    }
+
+    /** pending 앞쪽 count건을 반영 완료로 정리 */
+    private void complete(int count) {
+        if (count == 0) {
+            return;
+        }
+        List<StockLedger.Entry> done = pending.subList(0, count);
+        long lastSeq = done.get(count - 1).seq();
+        done.clear();
+        journal.checkpoint(lastSeq);
+        dataVersion.bump();
+    }
+
+    /**
+     * 앞에서부터 한 건씩 각자 트랜잭션으로 반영한다. 제약 위반 기록은 되돌린 뒤 격리 파일로 옮기고 건너뛰며,
+     * 그 밖의 실패(DB 연결 등)에서는 멈춘다. 처리(반영 또는 격리)한 건수를 반환.
+     * live: 원장이 메모리에서 되돌리고 CORRECTION을 남긴다. 복구 중이면 원장이 아직 비어 있으므로
+     * 목록 안의 CORRECTION을 찾고, 없으면 뒤따르는 같은 사용자의 기록에서 직접 되돌린다.
+     */
+    private int persistEach(List<StockLedger.Entry> entries, boolean live) {
+        int processed = 0;
+        for (int i = 0; i < entries.size(); i++) {
+            StockLedger.Entry entry = entries.get(i);
+            try {
+                persistNow(List.of(entry));
+            } catch (DataIntegrityViolationException e) {
+                log.error("원장 기록 격리 - 수동 확인 필요 (seq {}, {}, userId {}, boothId {}, 금액 {}): {}",
+                        entry.seq(), entry.type(), entry.userId(), entry.boothId(), entry.amount(), e.getMessage());
+                ToLongFunction<StockLedger.Entry> handler = parkedHandler;
+                long correctionSeq = live && handler != null
+                        ? handler.applyAsLong(entry) : revertFollowing(entries, i);
+                journal.park(entry, correctionSeq);
+            } catch (RuntimeException e) {
+                log.error("원장 건별 반영 중단 (seq {}, 다음 주기에 재시도): {}", entry.seq(), e.getMessage());
+                break;
+            }
+            processed++;
+        }
+        return processed;
+    }
+
+    /**
+     * 복구 중 격리된 entries[index]를 뒤따르는 같은 사용자 기록에서 되돌린다.
+     * 그 기록의 CORRECTION이 목록에 있으면 그것이 잔액을 맞추므로 그대로 두고 그 seq를 반환한다.
+     */
+    private static long revertFollowing(List<StockLedger.Entry> entries, int index) {
+        StockLedger.Entry parked = entries.get(index);
+        for (int i = index + 1; i < entries.size(); i++) {
+            StockLedger.Entry e = entries.get(i);
+            if (e.type() == StockLedger.EntryType.CORRECTION && e.price() == parked.seq()) {
+                return e.seq();
+            }
+        }
+        long holdingDelta = parked.holdingAfter() - parked.holdingBefore();
+        for (int i = index + 1; i < entries.size(); i++) {
+            StockLedger.Entry e = entries.get(i);
+            if (e.userId() != parked.userId()) continue;
+            boolean sameBooth = e.boothId() != null && e.boothId().equals(parked.boothId());
+            entries.set(i, new StockLedger.Entry(e.seq(), e.type(), e.userId(), e.boothId(), e.amount(), e.price(),
+                    e.balanceAfter() - parked.balanceDelta(),
+                    sameBooth ? e.holdingAfter() - holdingDelta : e.holdingAfter(),
+                    e.createdAt()));
+        }
+        return 0L;
+    }
+
+    /**
+     * seq 오름차순 기록을 한 트랜잭션으로 반영. 잔액/보유액은 마지막 기록의 절대값을 쓴다.
+     */
+    public void persistNow(List<StockLedger.Entry> entries) {
+        Map<Long, Long> balances = new HashMap<>();
+        Map<Long, Map<Long, Long>> holdings = new HashMap<>();
+        Map<Long, StatsDelta> statsDeltas = new HashMap<>();
+        for (StockLedger.Entry entry : entries) {
+            balances.put(entry.userId(), entry.balanceAfter());
+            if (entry.boothId() != null) {
+                holdings.computeIfAbsent(entry.userId(), k -> new LinkedHashMap<>())
+                        .put(entry.boothId(), entry.holdingAfter());
+                StatsDelta delta = statsDeltas.computeIfAbsent(entry.boothId(), k -> new StatsDelta());
+                delta.amount += entry.holdingAfter() - entry.holdingBefore();
+                delta.holders += StockBoothStatsIndex.holderDelta(entry);
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            for (StockAccount account : stockAccountRepository.findByUserIdIn(balances.keySet())) {
+                account.setBalance(balances.get(account.getUser().getId()));
+            }
+
+            if (!holdings.isEmpty()) {
+                Map<Long, Map<Long, StockHolding>> existing = new HashMap<>();
+                for (StockHolding holding : stockHoldingRepository.findByUserIdIn(holdings.keySet())) {
+                    existing.computeIfAbsent(holding.getUser().getId(), k -> new HashMap<>())
+                            .put(holding.getStockBooth().getId(), holding);
+                }
+                List<StockHolding> created = new ArrayList<>();
+                holdings.forEach((userId, byBooth) -> byBooth.forEach((boothId, amount) -> {
+                    StockHolding holding = existing.getOrDefault(userId, Map.of()).get(boothId);
+                    if (holding == null) {
+                        holding = new StockHolding(userRepository.getReferenceById(userId),
+                                stockBoothRepository.getReferenceById(boothId));
+                        created.add(holding);
+                    }
+                    holding.setAmount(amount);
+                }));
+                stockHoldingRepository.saveAll(created);
+            }
+
+            List<StockTradeHistory> histories = new ArrayList<>();
+            for (StockLedger.Entry entry : entries) {
+                if (entry.boothId() == null) continue; // DEPOSIT, CORRECTION은 잔액만
+                StockTradeHistory history = new StockTradeHistory(
+                        userRepository.getReferenceById(entry.userId()),
+                        stockBoothRepository.getReferenceById(entry.boothId()),
+                        entry.type() == StockLedger.EntryType.BUY
+                                ? StockTradeHistory.TradeType.BUY : StockTradeHistory.TradeType.SELL,
+                        entry.amount(), entry.price(), entry.balanceAfter());
+                history.setTradeSeq(entry.seq());
+                history.setCreatedAt(entry.createdAt());
+                histories.add(history);
+            }
+            stockTradeHistoryRepository.saveAll(histories);
+
+            // 같은 트랜잭션에서 증분 반영 - 저널 복구 시에도 반영되지 않은 기록만 재생되므로 중복되지 않는다
+            // 달성 시각은 전량 매도 시 남은 보유자 기준으로 되돌려야 하므로 메모리 집계 값을 그대로 쓴다
+            statsDeltas.forEach((boothId, delta) ->
+                    stockBoothStatsRepository.applyDelta(boothId, delta.amount, delta.holders,
+                            stockBoothStatsIndex.get(boothId).updatedAt()));
+        });
+    }
+
+    private static final class StatsDelta {
+        private long amount;
+        private long holders;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+        synchronized (this) {
+            if (!pending.isEmpty()) {
+                log.error("종료 시점 원장 미반영 {}건 - 다음 기동 시 저널에서 복구", pending.size());
+            }
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package com.pm.investment.service;
+
+import com.pm.investment.entity.StockPrice;
+import com.pm.investment.entity.StockPriceHistory;
+import com.pm.investment.repository.StockBoothRepository;
+import com.pm.investment.repository.StockPriceHistoryRepository;
+import com.pm.investment.repository.StockPriceRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 수요/공급 기반 AM 주가 엔진 (PLAN_REALTIME_MARKET.md 1장).
+ *
+ * 가격 = 기준가 × (1 + 순매수액 / 100만원 × 민감도), 기준가의 0.1배 ~ 10배로 제한.
+ * 거래마다 순매수액만 누적하고, 가격 재계산과 stock_prices / stock_price_history 기록은
+ * 틱(기본 500ms)마다 변동된 부스에 한해 1건씩 수행한다. 거래에는 직전 틱 가격이 찍힌다.
+ * 틱의 DB 기록은 락 밖에서 하므로, 계산 후 관리자 지정가가 들어온 부스(가격 버전 변경)는 기록하지 않고
+ * 관리자 지정 후 다음 틱에 현재가를 stock_prices에 다시 써서 DB와 메모리를 맞춘다.
+ */
+@Component
+public class StockPriceEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(StockPriceEngine.class);
+    private static final long DEFAULT_PRICE = 1_000_000_000L;
+    private static final long FLOW_UNIT = 1_000_000L;
+    private static final double MIN_RATIO = 0.1;
+    private static final double MAX_RATIO = 10.0;
+
+    private final StockBoothRepository stockBoothRepository;
+    private final StockPriceRepository stockPriceRepository;
+    private final StockPriceHistoryRepository stockPriceHistoryRepository;
+    private final StockBoothStatsIndex stockBoothStatsIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final double sensitivity;
+
+    private final Map<Long, BoothPrice> prices = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+
+    /** 시세 스냅샷 1건. openPrice는 기준가(기동 시 저장가 또는 관리자 지정가) */
+    public record Quote(Long boothId, long price, long openPrice, long totalHolding) {
+    }
+
+    /** 틱에서 기록할 가격. history: stock_price_history에도 남길지 (재동기화 기록은 false) */
+    private record PendingPrice(long price, long priceVersion, boolean history) {
+    }
+
+    public StockPriceEngine(StockBoothRepository stockBoothRepository,
+                            StockPriceRepository stockPriceRepository,
+                            StockPriceHistoryRepository stockPriceHistoryRepository,
+                            StockBoothStatsIndex stockBoothStatsIndex,
+                            TransactionTemplate transactionTemplate,
+                            @Value("${stock.price.sensitivity:0.0001}") double sensitivity) {
+        this.stockBoothRepository = stockBoothRepository;
+        this.stockPriceRepository = stockPriceRepository;
+        this.stockPriceHistoryRepository = stockPriceHistoryRepository;
+        this.stockBoothStatsIndex = stockBoothStatsIndex;
+        this.transactionTemplate = transactionTemplate;
+        this.sensitivity = sensitivity;
+    }
+
+    /** 부스별 가격 상태. 필드는 인스턴스 락으로 보호 */
+    private static final class BoothPrice {
+        private long basePrice;
+        private long anchorSupply;   // 기준가를 정한 시점의 순매수액
+        private long supply;         // 현재 순매수액 (= 전체 보유액)
+        private long currentPrice;
+        private long priceVersion;   // currentPrice가 바뀔 때마다 증가
+        private boolean dirty;
+        private boolean resync;      // 다음 틱에 현재가를 stock_prices에 다시 기록
+
+        private BoothPrice(long basePrice, long supply) {
+            this.basePrice = basePrice;
+            this.anchorSupply = supply;
+            this.supply = supply;
+            this.currentPrice = basePrice;
+        }
+    }
+
+    /**
+     * 저장된 현재가를 기준가로, 현재 전체 보유액을 기준 순매수액으로 적재한다.
+     * StockLedger 적재 과정에서 StockBoothStatsIndex 적재 이후, 거래를 받기 전에 호출.
+     */
+    public void load() {
+        Map<Long, Long> savedPrices = new HashMap<>();
+        stockPriceRepository.findAll().forEach(sp -> savedPrices.put(sp.getStockBooth().getId(), sp.getCurrentPrice()));
+        prices.clear();
+        for (Long boothId : stockBoothRepository.findAllIds()) {
+            prices.put(boothId, new BoothPrice(
+                    savedPrices.getOrDefault(boothId, DEFAULT_PRICE),
+                    stockBoothStatsIndex.get(boothId).totalAmount()));
+        }
+        version.incrementAndGet();
+    }
+
+    public long getPrice(Long boothId) {
+        BoothPrice state = prices.get(boothId);
+        if (state == null) {
+            return DEFAULT_PRICE;
+        }
+        synchronized (state) {
+            return state.currentPrice;
+        }
+    }
+
+    /** 매수/매도 순유입 반영. 가격은 다음 틱에 재계산 */
+    public void record(StockLedger.Entry entry) {
+        if (entry.boothId() == null) {
+            return;
+        }
+        BoothPrice state = prices.get(entry.boothId());
+        if (state == null) {
+            return;
+        }
+        synchronized (state) {
+            state.supply += entry.type() == StockLedger.EntryType.BUY ? entry.amount() : -entry.amount();
+            state.dirty = true;
+        }
+        version.incrementAndGet();
+    }
+
+    /** 가격 또는 보유 총액이 바뀔 때마다 증가 - 시세 스트림의 변경 감지용 */
+    public long getVersion() {
+        return version.get();
+    }
+
+    public List<Quote> snapshot() {
+        List<Quote> quotes = new ArrayList<>(prices.size());
+        prices.forEach((boothId, state) -> {
+            synchronized (state) {
+                quotes.add(new Quote(boothId, state.currentPrice, state.basePrice, state.supply));
+            }
+        });
+        return quotes;
+    }
+
+    /**
+     * 관리자 수동 가격 지정: 이후 변동은 이 가격을 기준으로 계산. 지정가 저장이 커밋된 뒤 호출.
+     * 그 사이 커밋된 틱 기록이 지정가를 덮었을 수 있으므로 다음 틱에 현재가를 다시 기록한다.
+     */
+    public void overridePrice(Long boothId, long newPrice) {
+        BoothPrice state = prices.get(boothId);
+        if (state == null) {
+            return;
+        }
+        synchronized (state) {
+            state.basePrice = newPrice;
+            state.anchorSupply = state.supply;
+            state.currentPrice = newPrice;
+            state.priceVersion++;
+            state.dirty = false;
+            state.resync = true;
+        }
+        version.incrementAndGet();
+    }
+
+    @Scheduled(fixedRateString = "${stock.price.tick-ms:500}")
+    public void tick() {
+        Map<Long, PendingPrice> changed = new HashMap<>();
+        prices.forEach((boothId, state) -> {
+            synchronized (state) {
+                if (state.dirty) {
+                    state.dirty = false;
+                    long newPrice = computePrice(state);
+                    if (newPrice != state.currentPrice) {
+                        state.currentPrice = newPrice;
+                        state.priceVersion++;
+                        changed.put(boothId, new PendingPrice(newPrice, state.priceVersion, true));
+                    }
+                }
+                if (state.resync) {
+                    state.resync = false;
+                    changed.putIfAbsent(boothId, new PendingPrice(state.currentPrice, state.priceVersion, false));
+                }
+            }
+        });
+        if (changed.isEmpty()) {
+            return;
+        }
+        if (changed.values().stream().anyMatch(PendingPrice::history)) {
+            version.incrementAndGet();
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Map<Long, StockPrice> existing = new HashMap<>();
+                stockPriceRepository.findByStockBoothIdIn(changed.keySet())
+                        .forEach(sp -> existing.put(sp.getStockBooth().getId(), sp));
+
+                List<StockPrice> created = new ArrayList<>();
+                List<StockPriceHistory> histories = new ArrayList<>();
+                changed.forEach((boothId, pending) -> {
+                    // 계산 이후 관리자 지정가가 들어왔으면 오래된 가격이므로 기록하지 않는다
+                    if (!isCurrent(boothId, pending.priceVersion())) {
+                        return;
+                    }
+                    StockPrice stockPrice = existing.get(boothId);
+                    if (stockPrice == null) {
+                        stockPrice = new StockPrice(stockBoothRepository.getReferenceById(boothId));
+                        created.add(stockPrice);
+                    }
+                    stockPrice.setCurrentPrice(pending.price());
+                    if (pending.history()) {
+                        histories.add(new StockPriceHistory(stockBoothRepository.getReferenceById(boothId), pending.price()));
+                    }
+                });
+                stockPriceRepository.saveAll(created);
+                stockPriceHistoryRepository.saveAll(histories);
+            });
+        } catch (RuntimeException e) {
+            // 메모리 가격은 이미 반영됨 - 다음 틱에 현재가를 다시 기록한다
+            log.error("주가 틱 기록 실패 ({}개 부스): {}", changed.size(), e.getMessage());
+            changed.keySet().forEach(this::markResync);
+        }
+    }
+
+    private boolean isCurrent(Long boothId, long priceVersion) {
+        BoothPrice state = prices.get(boothId);
+        if (state == null) {
+            return false;
+        }
+        synchronized (state) {
+            return state.priceVersion == priceVersion;
+        }
+    }
+
+    private void markResync(Long boothId) {
+        BoothPrice state = prices.get(boothId);
+        if (state == null) {
+            return;
+        }
+        synchronized (state) {
+            state.resync = true;
+        }
+    }
+
+    private long computePrice(BoothPrice state) {
+        double flowUnits = (double) (state.supply - state.anchorSupply) / FLOW_UNIT;
+        double ratio = Math.max(MIN_RATIO, Math.min(MAX_RATIO, 1 + flowUnits * sensitivity));
+        return Math.round(state.basePrice * ratio);
+    }
+}
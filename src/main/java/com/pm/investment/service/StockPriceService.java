@@ -1,7 +1,6 @@
 package com.pm.investment.service;
 
 import com.pm.investment.dto.StockPriceHistoryResponse;
-import com.pm.investment.entity.StockBooth;
 import com.pm.investment.entity.StockPrice;
 import com.pm.investment.entity.StockPriceHistory;
 import com.pm.investment.repository.StockBoothRepository;
@@ -18,17 +17,17 @@ import java.util.List;
 public class StockPriceService {
 
     private final StockBoothRepository stockBoothRepository;
+    private final BoothCatalog boothCatalog;
     private final StockPriceRepository stockPriceRepository;
     private final StockPriceHistoryRepository stockPriceHistoryRepository;
+    private final StockPriceEngine stockPriceEngine;
 
     @Transactional(readOnly = true)
     public StockPriceHistoryResponse getPriceHistory(Long boothId) {
-        StockBooth stockBooth = stockBoothRepository.findById(boothId)
+        BoothCatalog.Entry stockBooth = boothCatalog.findStockBooth(boothId)
                 .orElseThrow(() -> new IllegalArgumentException("부스를 찾을 수 없습니다"));
 
-        Long currentPrice = stockPriceRepository.findByStockBoothId(boothId)
-                .map(StockPrice::getCurrentPrice)
-                .orElse(1_000_000_000L);
+        long currentPrice = stockPriceEngine.getPrice(boothId);
 
         List<StockPriceHistoryResponse.PricePoint> pricePoints =
                 stockPriceHistoryRepository.findByStockBoothIdOrderByCreatedAtAsc(boothId)
@@ -41,7 +40,7 @@ public class StockPriceService {
 
         return StockPriceHistoryResponse.builder()
                 .boothId(boothId)
-                .boothName(stockBooth.getName())
+                .boothName(stockBooth.name())
                 .currentPrice(currentPrice)
                 .priceHistory(pricePoints)
                 .build();
@@ -49,16 +48,17 @@ public class StockPriceService {
 
     @Transactional
     public void changePrice(Long boothId, Long newPrice) {
-        StockBooth stockBooth = stockBoothRepository.findById(boothId)
-                .orElseThrow(() -> new IllegalArgumentException("부스를 찾을 수 없습니다"));
+        if (boothCatalog.findStockBooth(boothId).isEmpty()) {
+            throw new IllegalArgumentException("부스를 찾을 수 없습니다");
+        }
 
         StockPrice stockPrice = stockPriceRepository.findByStockBoothId(boothId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 부스의 가격 정보를 찾을 수 없습니다"));
 
         stockPrice.setCurrentPrice(newPrice);
 
-        stockPriceHistoryRepository.save(new StockPriceHistory(stockBooth, newPrice));
-
-        // TODO: SSE 또는 WebSocket으로 가격 변동 실시간 브로드캐스트
+        stockPriceHistoryRepository.save(new StockPriceHistory(stockBoothRepository.getReferenceById(boothId), newPrice));
+        // 지정가가 커밋된 뒤에만 메모리 가격을 바꾼다 (롤백되면 그대로)
+        AfterCommit.run(() -> stockPriceEngine.overridePrice(boothId, newPrice));
     }
 }
@@ -5,11 +5,9 @@ import com.pm.investment.dto.BoothReviewResponse;
 import com.pm.investment.dto.StockCommentResponse;
 import com.pm.investment.dto.StockRatingRequest;
 import com.pm.investment.dto.StockRatingResponse;
-import com.pm.investment.entity.StockBooth;
 import com.pm.investment.entity.StockRating;
 import com.pm.investment.entity.User;
 import com.pm.investment.repository.StockBoothRepository;
-import com.pm.investment.repository.StockBoothVisitRepository;
 import com.pm.investment.repository.StockRatingRepository;
 import com.pm.investment.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -28,14 +26,16 @@ public class StockRatingService {
     private final StockRatingRepository stockRatingRepository;
     private final UserRepository userRepository;
     private final StockBoothRepository stockBoothRepository;
-    private final StockBoothVisitRepository stockBoothVisitRepository;
+    private final BoothCatalog boothCatalog;
+    private final StockEligibilityIndex stockEligibilityIndex;
+    private final UserActivityIndex userActivityIndex;
     private final MissionService missionService;
     private final IdeaBoardSseService ideaBoardSseService;
     private final IdeaBoardNotifier ideaBoardNotifier;
 
     @Transactional
     public StockRatingResponse submitRating(Long userId, Long boothId, StockRatingRequest request) {
-        if (!stockBoothVisitRepository.existsByUserIdAndStockBoothId(userId, boothId)) {
+        if (!stockEligibilityIndex.hasVisited(userId, boothId)) {
             throw new IllegalStateException("부스를 방문한 후에 평가할 수 있습니다");
         }
 
@@ -46,8 +46,9 @@ public class StockRatingService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
 
-        StockBooth stockBooth = stockBoothRepository.findById(boothId)
-                .orElseThrow(() -> new IllegalArgumentException("부스를 찾을 수 없습니다"));
+        if (boothCatalog.findStockBooth(boothId).isEmpty()) {
+            throw new IllegalArgumentException("부스를 찾을 수 없습니다");
+        }
 
         Optional<StockRating> existing = stockRatingRepository.findByUserIdAndStockBoothId(userId, boothId);
 
@@ -62,13 +63,16 @@ public class StockRatingService {
             rating.setScoreGlobal(request.getScoreGlobal());
             rating.setReview(request.getReview());
         } else {
-            rating = new StockRating(user, stockBooth,
+            rating = new StockRating(user, stockBoothRepository.getReferenceById(boothId),
                     request.getScoreFirst(), request.getScoreBest(),
                     request.getScoreDifferent(), request.getScoreNumberOne(),
                     request.getScoreGap(), request.getScoreGlobal(),
                     request.getReview());
             stockRatingRepository.save(rating);
+            stockEligibilityIndex.markRated(userId, boothId);
         }
+        userActivityIndex.recordRating(userId, boothId, rating.getScoreFirst() + rating.getScoreBest()
+                + rating.getScoreDifferent() + rating.getScoreNumberOne() + rating.getScoreGap() + rating.getScoreGlobal());
 
         // sincere 미션 자동 달성 체크: 리뷰가 포함된 평가 수
         long reviewCount = stockRatingRepository.countByUserIdAndReviewIsNotNull(userId);
@@ -131,7 +135,7 @@ public class StockRatingService {
 
     @Transactional(readOnly = true)
     public List<AdminBoothRatingResponse> getAdminRatingResults() {
-        List<StockBooth> booths = stockBoothRepository.findAllByOrderByDisplayOrderAsc();
+        List<BoothCatalog.Entry> booths = boothCatalog.stockBooths();
         List<Object[]> aggregates = stockRatingRepository.getBoothRatingAggregates();
 
         Map<Long, Object[]> aggMap = new HashMap<>();
@@ -140,13 +144,13 @@ public class StockRatingService {
         }
 
         return booths.stream().map(booth -> {
-            Object[] agg = aggMap.get(booth.getId());
+            Object[] agg = aggMap.get(booth.id());
             if (agg == null) {
                 return AdminBoothRatingResponse.builder()
-                        .boothId(booth.getId())
-                        .boothName(booth.getName())
-                        .logoEmoji(booth.getLogoEmoji())
-                        .themeColor(booth.getThemeColor())
+                        .boothId(booth.id())
+                        .boothName(booth.name())
+                        .logoEmoji(booth.logoEmoji())
+                        .themeColor(booth.themeColor())
                         .ratingCount(0L)
                         .totalScoreSum(0L)
                         .avgFirst(0.0).avgBest(0.0).avgDifferent(0.0)
@@ -166,10 +170,10 @@ public class StockRatingService {
             Double avgTotal = count > 0 ? (double) totalSum / count : 0.0;
 
             return AdminBoothRatingResponse.builder()
-                    .boothId(booth.getId())
-                    .boothName(booth.getName())
-                    .logoEmoji(booth.getLogoEmoji())
-                    .themeColor(booth.getThemeColor())
+                    .boothId(booth.id())
+                    .boothName(booth.name())
+                    .logoEmoji(booth.logoEmoji())
+                    .themeColor(booth.themeColor())
                     .ratingCount(count)
                     .totalScoreSum(totalSum)
                     .avgFirst(avgFirst).avgBest(avgBest).avgDifferent(avgDifferent)
@@ -1,38 +1,43 @@
 package com.pm.investment.service;
 
 import com.pm.investment.dto.CospiResponse;
+import com.pm.investment.dto.CursorPageResponse;
 import com.pm.investment.dto.StockAccountResponse;
 import com.pm.investment.dto.StockHoldingResponse;
 import com.pm.investment.dto.StockTradeHistoryResponse;
 import com.pm.investment.entity.*;
 import com.pm.investment.repository.*;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class StockService {
 
     private static final long TRADE_UNIT = 10_000L;
-    private static final long COSPI_CACHE_TTL_MS = 3_000L; // 3초 캐시
 
-    private volatile CospiResponse cospiCache;
-    private volatile long cospiCacheTime;
-
-    private final StockAccountRepository stockAccountRepository;
-    private final StockBoothRepository stockBoothRepository;
-    private final StockHoldingRepository stockHoldingRepository;
+    private final BoothCatalog boothCatalog;
     private final StockTradeHistoryRepository stockTradeHistoryRepository;
     private final StockPriceRepository stockPriceRepository;
-    private final StockBoothVisitRepository stockBoothVisitRepository;
-    private final StockRatingRepository stockRatingRepository;
+    private final StockEligibilityIndex stockEligibilityIndex;
     private final SettingService settingService;
-
-    @Transactional
+    private final StockLedger stockLedger;
+    private final CospiIndex cospiIndex;
+    private final StockBoothStatsIndex stockBoothStatsIndex;
+    private final StockPriceEngine stockPriceEngine;
+
+    /**
+     * 잔액/보유액 검증과 반영은 StockLedger(메모리)에서 처리하고, DB 반영은 StockLedgerWriter가 모아서 한다.
+     */
     public void buy(Long userId, Long boothId, Long amount) {
         if (!settingService.isStockEnabled()) {
             throw new IllegalStateException("현재 AM 투자가 중지된 상태입니다");
@@ -40,46 +45,12 @@ public class StockService {
         validateAmount(amount);
         validateVisitAndRating(userId, boothId);
 
-        StockAccount account = stockAccountRepository.findByUserIdWithLock(userId)
-                .orElseThrow(() -> new IllegalArgumentException("주식 계좌를 찾을 수 없습니다"));
-
-        StockBooth stockBooth = stockBoothRepository.findById(boothId)
-                .orElseThrow(() -> new IllegalArgumentException("부스를 찾을 수 없습니다"));
-
-        // 자기 소속 부스에는 투자 불가
-        User user = account.getUser();
-        if (user.getBelongingStockBooth() != null
-                && user.getBelongingStockBooth().getId().equals(boothId)) {
-            throw new IllegalStateException("자기 소속 부스에는 투자할 수 없습니다");
-        }
-
-        if (account.getBalance() < amount) {
-            throw new IllegalStateException("보유 잔액이 부족합니다");
-        }
-
-        StockHolding holding = stockHoldingRepository.findByUserIdAndStockBoothIdWithLock(userId, boothId)
-                .orElseGet(() -> {
-                    StockHolding newHolding = new StockHolding(account.getUser(), stockBooth);
-                    return stockHoldingRepository.save(newHolding);
-                });
-
-        if (!Boolean.TRUE.equals(account.getUser().getIsExecutive())) {
-            long maxPerBooth = 30_000_000L;
-            if (holding.getAmount() + amount > maxPerBooth) {
-                throw new IllegalStateException("부스당 최대 투자 금액은 3,000만원입니다");
-            }
-        }
-
-        account.setBalance(account.getBalance() - amount);
-        holding.setAmount(holding.getAmount() + amount);
-
-        stockTradeHistoryRepository.save(
-                new StockTradeHistory(account.getUser(), stockBooth, StockTradeHistory.TradeType.BUY, amount, 0L, account.getBalance())
-        );
-        cospiCacheTime = 0; // COSPI 캐시 만료
+        StockLedger.Entry entry = stockLedger.buy(userId, boothId, amount, stockPriceEngine.getPrice(boothId));
+        stockPriceEngine.record(entry);
+        cospiIndex.record(entry);
+        stockBoothStatsIndex.record(entry);
     }
 
-    @Transactional
     public void sell(Long userId, Long boothId, Long amount) {
         if (!settingService.isStockEnabled()) {
             throw new IllegalStateException("현재 AM 투자가 중지된 상태입니다");
@@ -87,154 +58,117 @@ public class StockService {
         validateAmount(amount);
         validateVisitAndRating(userId, boothId);
 
-        StockAccount account = stockAccountRepository.findByUserIdWithLock(userId)
-                .orElseThrow(() -> new IllegalArgumentException("주식 계좌를 찾을 수 없습니다"));
-
-        StockBooth stockBooth = stockBoothRepository.findById(boothId)
-                .orElseThrow(() -> new IllegalArgumentException("부스를 찾을 수 없습니다"));
-
-        StockHolding holding = stockHoldingRepository.findByUserIdAndStockBoothIdWithLock(userId, boothId)
-                .orElseThrow(() -> new IllegalStateException("해당 부스에 보유한 투자금이 없습니다"));
-
-        if (holding.getAmount() < amount) {
-            throw new IllegalStateException("철회 금액이 투자 금액을 초과합니다");
-        }
-
-        account.setBalance(account.getBalance() + amount);
-        holding.setAmount(holding.getAmount() - amount);
-
-        stockTradeHistoryRepository.save(
-                new StockTradeHistory(account.getUser(), stockBooth, StockTradeHistory.TradeType.SELL, amount, 0L, account.getBalance())
-        );
-        cospiCacheTime = 0; // COSPI 캐시 만료
+        StockLedger.Entry entry = stockLedger.sell(userId, boothId, amount, stockPriceEngine.getPrice(boothId));
+        stockPriceEngine.record(entry);
+        cospiIndex.record(entry);
+        stockBoothStatsIndex.record(entry);
     }
 
-    @Transactional(readOnly = true)
     public List<StockHoldingResponse> getMyHoldings(Long userId) {
-        return stockHoldingRepository.findByUserIdAndAmountGreaterThan(userId, 0L)
-                .stream()
-                .map(holding -> {
-                    return StockHoldingResponse.builder()
-                            .boothId(holding.getStockBooth().getId())
-                            .boothName(holding.getStockBooth().getName())
-                            .logoEmoji(holding.getStockBooth().getLogoEmoji())
-                            .themeColor(holding.getStockBooth().getThemeColor())
-                            .amount(holding.getAmount())
-                            .build();
-                })
+        Map<Long, Long> holdings = stockLedger.getHoldings(userId);
+        if (holdings.isEmpty()) {
+            return List.of();
+        }
+        return holdings.keySet().stream()
+                .sorted()
+                .flatMap(boothId -> boothCatalog.findStockBooth(boothId).stream())
+                .map(booth -> StockHoldingResponse.builder()
+                        .boothId(booth.id())
+                        .boothName(booth.name())
+                        .logoEmoji(booth.logoEmoji())
+                        .themeColor(booth.themeColor())
+                        .amount(holdings.get(booth.id()))
+                        .build())
                 .toList();
     }
 
+    // 거래 이력은 (created_at, id) 키셋 페이지 단위로 읽고, 부스 정보는 카탈로그에서 채운다
     @Transactional(readOnly = true)
-    public List<StockTradeHistoryResponse> getMyTradeHistory(Long userId) {
-        return stockTradeHistoryRepository.findByUserIdOrderByCreatedAtDesc(userId)
-                .stream()
-                .map(h -> StockTradeHistoryResponse.builder()
-                        .id(h.getId())
-                        .boothId(h.getStockBooth().getId())
-                        .boothName(h.getStockBooth().getName())
-                        .logoEmoji(h.getStockBooth().getLogoEmoji())
-                        .themeColor(h.getStockBooth().getThemeColor())
-                        .type(h.getType().name())
-                        .amount(h.getAmount())
-                        .priceAtTrade(h.getPriceAtTrade())
-                        .balanceAfter(h.getBalanceAfter())
-                        .createdAt(h.getCreatedAt())
-                        .build())
-                .toList();
+    public CursorPageResponse<StockTradeHistoryResponse> getMyTradeHistory(Long userId, String cursor, int size) {
+        List<StockLedger.Entry> pendingTrades = firstPage(cursor) ? stockLedger.getPendingTrades(userId, null) : List.of();
+        HistoryCursor after = HistoryCursor.parse(cursor);
+        List<Object[]> rows = stockTradeHistoryRepository.findPageByUserId(
+                userId, after.createdAt(), after.id(), Limit.of(HistoryCursor.fetchSize(size)));
+        return withPendingTrades(pendingTrades, rows, HistoryCursor.page(rows, size, 6, 0, this::toTradeHistoryResponse));
     }
 
     @Transactional(readOnly = true)
-    public List<StockTradeHistoryResponse> getMyTradeHistoryByBooth(Long userId, Long boothId) {
-        return stockTradeHistoryRepository.findByUserIdAndStockBoothIdOrderByCreatedAtDesc(userId, boothId)
-                .stream()
-                .map(h -> StockTradeHistoryResponse.builder()
-                        .id(h.getId())
-                        .boothId(h.getStockBooth().getId())
-                        .boothName(h.getStockBooth().getName())
-                        .logoEmoji(h.getStockBooth().getLogoEmoji())
-                        .themeColor(h.getStockBooth().getThemeColor())
-                        .type(h.getType().name())
-                        .amount(h.getAmount())
-                        .priceAtTrade(h.getPriceAtTrade())
-                        .balanceAfter(h.getBalanceAfter())
-                        .createdAt(h.getCreatedAt())
-                        .build())
-                .toList();
+    public CursorPageResponse<StockTradeHistoryResponse> getMyTradeHistoryByBooth(Long userId, Long boothId,
+                                                                                 String cursor, int size) {
+        List<StockLedger.Entry> pendingTrades = firstPage(cursor) ? stockLedger.getPendingTrades(userId, boothId) : List.of();
+        HistoryCursor after = HistoryCursor.parse(cursor);
+        List<Object[]> rows = stockTradeHistoryRepository.findPageByUserIdAndStockBoothId(
+                userId, boothId, after.createdAt(), after.id(), Limit.of(HistoryCursor.fetchSize(size)));
+        return withPendingTrades(pendingTrades, rows, HistoryCursor.page(rows, size, 6, 0, this::toTradeHistoryResponse));
     }
 
-    @Transactional(readOnly = true)
-    public StockAccountResponse getMyAccount(Long userId) {
-        StockAccount account = stockAccountRepository.findByUserId(userId)
-                .orElseThrow(() -> new IllegalArgumentException("주식 계좌를 찾을 수 없습니다"));
-        return StockAccountResponse.builder()
-                .userId(userId)
-                .balance(account.getBalance())
-                .build();
+    private static boolean firstPage(String cursor) {
+        return cursor == null || cursor.isBlank();
     }
 
-    @Transactional(readOnly = true)
-    public CospiResponse getCospiData() {
-        CospiResponse cached = cospiCache;
-        if (cached != null && (System.currentTimeMillis() - cospiCacheTime) < COSPI_CACHE_TTL_MS) {
-            return cached;
+    /**
+     * 체결 후 writer가 아직 DB에 반영하지 않은 거래를 첫 페이지 맨 앞에 붙인다 (최신순).
+     * DB 조회 전에 읽어 두었으므로 그 사이 반영된 거래는 원장 seq로 걸러 중복을 막는다.
+     * 이 거래들은 DB id가 없어 -seq를 id로 쓴다.
+     */
+    private CursorPageResponse<StockTradeHistoryResponse> withPendingTrades(List<StockLedger.Entry> pendingTrades,
+                                                                            List<Object[]> rows,
+                                                                            CursorPageResponse<StockTradeHistoryResponse> page) {
+        if (pendingTrades.isEmpty()) {
+            return page;
         }
-
-        // 캐시 만료 시에도 1개 스레드만 갱신, 나머지는 이전 캐시 반환
-        synchronized (this) {
-            cached = cospiCache;
-            if (cached != null && (System.currentTimeMillis() - cospiCacheTime) < COSPI_CACHE_TTL_MS) {
-                return cached;
+        Set<Long> persistedSeqs = new HashSet<>();
+        for (Object[] row : rows) {
+            if (row[7] != null) persistedSeqs.add((Long) row[7]);
+        }
+        List<StockTradeHistoryResponse> items = new ArrayList<>();
+        for (int i = pendingTrades.size() - 1; i >= 0; i--) {
+            StockLedger.Entry entry = pendingTrades.get(i);
+            if (!persistedSeqs.contains(entry.seq())) {
+                items.add(toTradeHistoryResponse(new Object[]{
+                        -entry.seq(), entry.boothId(),
+                        entry.type() == StockLedger.EntryType.BUY ? StockTradeHistory.TradeType.BUY : StockTradeHistory.TradeType.SELL,
+                        entry.amount(), entry.price(), entry.balanceAfter(), entry.createdAt()}));
             }
+        }
+        items.addAll(page.getItems());
+        return new CursorPageResponse<>(items, page.getNextCursor());
+    }
 
-            List<StockTradeHistory> trades = stockTradeHistoryRepository.findAllByOrderByCreatedAtAsc();
-
-            List<CospiResponse.CospiPoint> history = new ArrayList<>();
-            long cumulative = 0;
-
-            if (!trades.isEmpty()) {
-                history.add(CospiResponse.CospiPoint.builder()
-                        .price(0L)
-                        .changedAt(trades.get(0).getCreatedAt().minusSeconds(1))
-                        .build());
-            }
+    private StockTradeHistoryResponse toTradeHistoryResponse(Object[] row) {
+        Long boothId = (Long) row[1];
+        BoothCatalog.Entry booth = boothCatalog.findStockBooth(boothId)
+                .orElseThrow(() -> new IllegalStateException("부스를 찾을 수 없습니다"));
+        return StockTradeHistoryResponse.builder()
+                .id((Long) row[0])
+                .boothId(boothId)
+                .boothName(booth.name())
+                .logoEmoji(booth.logoEmoji())
+                .themeColor(booth.themeColor())
+                .type(((StockTradeHistory.TradeType) row[2]).name())
+                .amount((Long) row[3])
+                .priceAtTrade((Long) row[4])
+                .balanceAfter((Long) row[5])
+                .createdAt((LocalDateTime) row[6])
+                .build();
+    }
 
-            for (StockTradeHistory trade : trades) {
-                if (trade.getType() == StockTradeHistory.TradeType.BUY) {
-                    cumulative += trade.getAmount();
-                } else {
-                    cumulative -= trade.getAmount();
-                }
-                history.add(CospiResponse.CospiPoint.builder()
-                        .price(cumulative)
-                        .changedAt(trade.getCreatedAt())
-                        .build());
-            }
+    public StockAccountResponse getMyAccount(Long userId) {
+        return StockAccountResponse.builder()
+                .userId(userId)
+                .balance(stockLedger.getBalance(userId))
+                .build();
+    }
 
-            long currentTotal = cumulative;
-            long previousTotal = history.size() >= 2 ? history.get(history.size() - 2).getPrice() : 0;
-            long change = currentTotal - previousTotal;
-            double changeRate = previousTotal != 0 ? (double) change / previousTotal * 100 : 0;
-
-            CospiResponse result = CospiResponse.builder()
-                    .currentTotal(currentTotal)
-                    .previousTotal(previousTotal)
-                    .change(change)
-                    .changeRate(Math.round(changeRate * 100.0) / 100.0)
-                    .history(history)
-                    .build();
-
-            cospiCache = result;
-            cospiCacheTime = System.currentTimeMillis();
-            return result;
-        }
+    public CospiResponse getCospiData() {
+        return cospiIndex.getResponse();
     }
 
     private void validateVisitAndRating(Long userId, Long boothId) {
-        if (!stockBoothVisitRepository.existsByUserIdAndStockBoothId(userId, boothId)) {
+        if (!stockEligibilityIndex.hasVisited(userId, boothId)) {
             throw new IllegalStateException("부스를 방문한 후에 거래할 수 있습니다");
         }
-        if (!stockRatingRepository.existsByUserIdAndStockBoothId(userId, boothId)) {
+        if (!stockEligibilityIndex.hasRated(userId, boothId)) {
             throw new IllegalStateException("부스 평가를 완료한 후에 거래할 수 있습니다");
         }
     }
@@ -0,0 +1,294 @@
+package com.pm.investment.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * AM 원장(StockLedger) 변경분을 DB 반영 전까지 보관하는 append-only 저널.
+ *
+ * 한 줄 = 한 건: seq|type|userId|boothId|amount|price|balanceAfter|holdingAfter|createdAt
+ * 잔액/보유액은 절대값으로 기록하므로 재시작 시 seq 순서대로 다시 적용해도 결과가 같다.
+ * 거래는 awaitDurable로 자기 기록이 fsync된 뒤에 반환한다. 동시에 기다리는 거래는 fsync 한 번으로 함께 확정된다 (group commit).
+ * stock.ledger.sync-on-trade=false면 fsync를 writer 주기(flush-interval-ms)에 맡기고, 그 주기만큼의 유실을 감수한다.
+ * DB 반영 중 제약 위반으로 격리된 기록은 stock-ledger.parked 파일에 남긴다.
+ * 거래가 끊이지 않아 저널을 통째로 비울 수 없으면, 파일이 ROTATE_BYTES를 넘을 때 stock-ledger.journal.1로 넘기고
+ * 새 파일에 이어 쓴다. 넘긴 파일은 그 안의 마지막 seq까지 DB에 반영되면 지운다.
+ * 기동 시마다 data.sql로 초기화되는 H2 프로필에서는 복구를 끈다 (stock.ledger.journal-recovery).
+ */
+@Component
+public class StockTradeJournal {
+
+    private static final Logger log = LoggerFactory.getLogger(StockTradeJournal.class);
+    private static final String FILE_NAME = "stock-ledger.journal";
+    private static final String ROTATED_FILE_NAME = "stock-ledger.journal.1";
+    private static final String PARKED_FILE_NAME = "stock-ledger.parked";
+    private static final long ROTATE_BYTES = 4L * 1024 * 1024;
+
+    private final Path file;
+    private final Path rotatedFile;
+    private final Path parkedFile;
+    private FileChannel channel;
+    private final boolean recoveryEnabled;
+    private final boolean syncOnTrade;
+    private final Object syncLock = new Object();
+    private long lastAppendedSeq;
+    // 넘긴 파일의 마지막 seq (넘긴 파일이 없으면 0)
+    private long rotatedLastSeq;
+    private volatile long syncedSeq;
+
+    public StockTradeJournal(
+            @Value("${stock.ledger.journal-dir:./data/ledger}") String journalDir,
+            @Value("${stock.ledger.journal-recovery:false}") boolean recoveryEnabled,
+            @Value("${stock.ledger.sync-on-trade:true}") boolean syncOnTrade) {
+        this.recoveryEnabled = recoveryEnabled;
+        this.syncOnTrade = syncOnTrade;
+        try {
+            Path dir = Path.of(journalDir);
+            Files.createDirectories(dir);
+            this.file = dir.resolve(FILE_NAME);
+            this.rotatedFile = dir.resolve(ROTATED_FILE_NAME);
+            this.parkedFile = dir.resolve(PARKED_FILE_NAME);
+            this.channel = open(file);
+            if (Files.exists(rotatedFile)) {
+                // 이전 기동에서 넘긴 파일 - 기동 복구 뒤 truncate로 지운다
+                this.rotatedLastSeq = Long.MAX_VALUE;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("원장 저널 파일을 열 수 없습니다: " + journalDir, e);
+        }
+    }
+
+    /**
+     * 호출자는 seq 순서를 보장해야 한다 (StockLedger가 전역 락 안에서 호출).
+     */
+    public synchronized void append(StockLedger.Entry entry) {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(format(entry).getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            lastAppendedSeq = entry.seq();
+        } catch (IOException e) {
+            throw new UncheckedIOException("원장 저널 기록에 실패했습니다", e);
+        }
+    }
+
+    /**
+     * seq까지의 기록이 디스크에 확정될 때까지 기다린다. 원장 락 밖에서 호출.
+     * fsync는 한 번에 하나만 돌고, 그동안 쌓인 기록은 다음 fsync 한 번으로 함께 확정된다.
+     */
+    public void awaitDurable(long seq) {
+        if (!syncOnTrade || syncedSeq >= seq) {
+            return;
+        }
+        synchronized (syncLock) {
+            if (syncedSeq >= seq) {
+                return;
+            }
+            long target;
+            FileChannel current;
+            synchronized (this) {
+                target = lastAppendedSeq;
+                current = channel;
+            }
+            try {
+                current.force(false);
+                syncedSeq = target;
+            } catch (ClosedChannelException e) {
+                // 그 사이 파일을 넘겼다 - 넘길 때 target까지 fsync했다
+                syncedSeq = target;
+            } catch (IOException e) {
+                // 원장 반영은 이미 끝났으므로 거래를 실패로 돌리지 않는다 - DB 반영은 writer 주기에 그대로 진행
+                log.error("원장 저널 fsync 실패 (seq {}까지 미확정): {}", target, e.getMessage());
+            }
+        }
+    }
+
+    public void sync() {
+        synchronized (syncLock) {
+            long target;
+            FileChannel current;
+            synchronized (this) {
+                target = lastAppendedSeq;
+                current = channel;
+            }
+            try {
+                current.force(false);
+                syncedSeq = target;
+            } catch (ClosedChannelException e) {
+                syncedSeq = target;
+            } catch (IOException e) {
+                log.warn("원장 저널 fsync 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * DB에 반영할 수 없는 기록을 격리 파일에 남긴다 (저널 정리 후에도 수동 확인 가능하도록).
+     * 한 줄 = 저널 기록 + |correctionSeq (되돌린 CORRECTION 기록의 seq, 없으면 0)
+     */
+    public synchronized void park(StockLedger.Entry entry, long correctionSeq) {
+        String line = format(entry).trim() + "|" + correctionSeq + "\n";
+        try {
+            Files.writeString(parkedFile, line, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.SYNC);
+        } catch (IOException e) {
+            log.error("원장 격리 기록 실패 - 기록 유실: {}", line.trim(), e);
+        }
+    }
+
+    /** 격리 파일에 있는 기록의 seq (재시작 복구 때 다시 반영하지 않도록) */
+    public synchronized Set<Long> readParkedSeqs() {
+        Set<Long> seqs = new HashSet<>();
+        if (!Files.exists(parkedFile)) {
+            return seqs;
+        }
+        try {
+            for (String line : Files.readAllLines(parkedFile, StandardCharsets.UTF_8)) {
+                int separator = line.indexOf('|');
+                if (separator > 0) {
+                    seqs.add(Long.parseLong(line.substring(0, separator)));
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            throw new IllegalStateException("원장 격리 파일을 읽을 수 없습니다", e);
+        }
+        return seqs;
+    }
+
+    /**
+     * DB에 persistedSeq까지 반영되었음을 알린다.
+     * 그 뒤로 추가된 기록이 없으면 저널을 비우고, 남은 기록이 있으면 파일이 커졌을 때 새 파일로 넘긴다.
+     */
+    public synchronized void checkpoint(long persistedSeq) {
+        try {
+            if (rotatedLastSeq > 0 && persistedSeq >= rotatedLastSeq) {
+                Files.deleteIfExists(rotatedFile);
+                rotatedLastSeq = 0;
+            }
+            if (persistedSeq >= lastAppendedSeq) {
+                channel.truncate(0);
+                channel.position(0);
+            } else if (rotatedLastSeq == 0 && channel.size() >= ROTATE_BYTES) {
+                rotate();
+            }
+        } catch (IOException e) {
+            log.warn("원장 저널 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    /** 기동 복구가 끝난 뒤 호출 - 넘긴 파일까지 모두 비운다 */
+    public synchronized void truncate() {
+        try {
+            Files.deleteIfExists(rotatedFile);
+            rotatedLastSeq = 0;
+            channel.truncate(0);
+            channel.position(0);
+        } catch (IOException e) {
+            log.warn("원장 저널 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    /** 현재 파일을 fsync해 stock-ledger.journal.1로 넘기고 빈 새 파일에 이어 쓴다 */
+    private void rotate() throws IOException {
+        channel.force(false);
+        channel.close();
+        Files.move(file, rotatedFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        channel = open(file);
+        rotatedLastSeq = lastAppendedSeq;
+    }
+
+    /**
+     * 재시작 복구용: afterSeq 이후의 기록을 seq 오름차순으로 반환. 마지막 줄이 잘려 있으면 버린다.
+     */
+    public synchronized List<StockLedger.Entry> readAfter(long afterSeq) {
+        List<StockLedger.Entry> entries = new ArrayList<>();
+        if (!recoveryEnabled) {
+            try {
+                if (channel.size() > 0 || Files.exists(rotatedFile)) {
+                    log.warn("원장 저널 복구가 꺼져 있어 남은 기록을 버립니다 (stock.ledger.journal-recovery=false)");
+                }
+            } catch (IOException e) {
+                log.warn("원장 저널 크기 확인 실패: {}", e.getMessage());
+            }
+            return entries;
+        }
+        List<String> lines = new ArrayList<>();
+        try {
+            if (Files.exists(rotatedFile)) {
+                lines.addAll(Files.readAllLines(rotatedFile, StandardCharsets.UTF_8));
+            }
+            lines.addAll(Files.readAllLines(file, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException("원장 저널을 읽을 수 없습니다", e);
+        }
+        for (String line : lines) {
+            String[] parts = line.split("\\|", -1);
+            if (parts.length != 9) {
+                log.warn("손상된 원장 저널 기록 무시: {}", line);
+                continue;
+            }
+            try {
+                long seq = Long.parseLong(parts[0]);
+                if (seq <= afterSeq) continue;
+                entries.add(new StockLedger.Entry(
+                        seq,
+                        StockLedger.EntryType.valueOf(parts[1]),
+                        Long.parseLong(parts[2]),
+                        parts[3].isEmpty() ? null : Long.parseLong(parts[3]),
+                        Long.parseLong(parts[4]),
+                        Long.parseLong(parts[5]),
+                        Long.parseLong(parts[6]),
+                        Long.parseLong(parts[7]),
+                        LocalDateTime.parse(parts[8])
+                ));
+            } catch (RuntimeException e) {
+                log.warn("손상된 원장 저널 기록 무시: {}", line);
+            }
+        }
+        return entries;
+    }
+
+    private static FileChannel open(Path path) throws IOException {
+        FileChannel opened = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        opened.position(opened.size());
+        return opened;
+    }
+
+    private static String format(StockLedger.Entry entry) {
+        return entry.seq() + "|" + entry.type() + "|" + entry.userId() + "|"
+                + (entry.boothId() != null ? entry.boothId() : "") + "|"
+                + entry.amount() + "|" + entry.price() + "|" + entry.balanceAfter() + "|" + entry.holdingAfter() + "|"
+                + entry.createdAt() + "\n";
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        try {
+            channel.force(false);
+            channel.close();
+        } catch (IOException e) {
+            log.warn("원장 저널 종료 실패: {}", e.getMessage());
+        }
+    }
+}
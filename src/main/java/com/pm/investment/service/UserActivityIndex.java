@@ -0,0 +1,170 @@
+package com.pm.investment.service;
+
+import com.pm.investment.entity.InvestmentHistory;
+import com.pm.investment.repository.InvestmentHistoryRepository;
+import com.pm.investment.repository.StockBoothVisitRepository;
+import com.pm.investment.repository.StockCommentRepository;
+import com.pm.investment.repository.StockRatingRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 사용자별 활동 요약 (리포트 자격 검사 / 리포트 지표용).
+ *
+ * 부스 방문은 시간대(날짜+시) 버킷별 건수로, PM 거래/철회 수, 아이디어(댓글) 수,
+ * 별점 평가 합계/건수는 카운터로 들고 있다.
+ * 웹 서버가 요청을 받기 전에 1회 적재하고 이후에는 방문/거래/댓글/평가 커밋 시점에만 갱신한다.
+ * 시간대 버킷은 시작 포함, 끝 미포함이다 (12:00:00 방문은 오후로만 센다).
+ */
+@Component
+@RequiredArgsConstructor
+public class UserActivityIndex implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(UserActivityIndex.class);
+
+    // 리포트 수령 조건 시간대: 오전 9~12시, 오후 12~14시
+    private static final int MORNING_START = 9;
+    private static final int MORNING_END = 12;
+    private static final int AFTERNOON_START = 12;
+    private static final int AFTERNOON_END = 14;
+
+    private final StockBoothVisitRepository stockBoothVisitRepository;
+    private final InvestmentHistoryRepository investmentHistoryRepository;
+    private final StockCommentRepository stockCommentRepository;
+    private final StockRatingRepository stockRatingRepository;
+
+    private final Map<Long, Activity> users = new ConcurrentHashMap<>();
+
+    /**
+     * 리포트 계산에 쓰는 하루 기준 요약.
+     * revision: 이 사용자의 활동이 반영될 때마다 오르는 값. 미리 만든 리포트의 유효성 확인용
+     */
+    public record Summary(int morningVisits, int afternoonVisits, long tradeCount, long withdrawCount,
+                          long ideaCount, double ratingAverage, long revision) {
+
+        public boolean isEligible() {
+            return morningVisits >= 10 && afternoonVisits >= 5;
+        }
+    }
+
+    /** 사용자별 누적 활동. 필드는 인스턴스 락으로 보호 */
+    private static final class Activity {
+        private final Map<Long, Integer> visitsByHour = new HashMap<>();
+        private long trades;
+        private long withdraws;
+        private long ideas;
+        private final Map<Long, Integer> ratingTotals = new HashMap<>();
+        private long ratingSum;
+        private long revision;
+    }
+
+    /** 모든 빈(data.sql 초기화 포함) 생성 직후, 웹 서버가 요청을 받기 전에 적재한다 */
+    @Override
+    public void afterSingletonsInstantiated() {
+        load();
+    }
+
+    public void load() {
+        for (Object[] row : stockBoothVisitRepository.findAllVisitRows()) {
+            applyVisit((Long) row[0], (LocalDateTime) row[2]);
+        }
+        for (Object[] row : investmentHistoryRepository.getCountByUserAndType()) {
+            long count = ((Number) row[2]).longValue();
+            boolean withdraw = row[1] == InvestmentHistory.InvestmentType.WITHDRAW;
+            update((Long) row[0], a -> {
+                a.trades += count;
+                if (withdraw) {
+                    a.withdraws += count;
+                }
+            });
+        }
+        for (Object[] row : stockCommentRepository.getCommentCountByUser()) {
+            long count = ((Number) row[1]).longValue();
+            update((Long) row[0], a -> a.ideas += count);
+        }
+        for (Object[] row : stockRatingRepository.findAllScoreTotals()) {
+            applyRating((Long) row[0], (Long) row[1], ((Number) row[2]).intValue());
+        }
+        log.info("사용자 활동 요약 적재 완료: 사용자 {}명", users.size());
+    }
+
+    public Summary summarize(Long userId, LocalDate day) {
+        Activity a = users.get(userId);
+        if (a == null) {
+            return new Summary(0, 0, 0, 0, 0, 0.0, 0);
+        }
+        long dayStart = day.toEpochDay() * 24;
+        synchronized (a) {
+            int ratingCount = a.ratingTotals.size();
+            return new Summary(
+                    countVisits(a, dayStart + MORNING_START, dayStart + MORNING_END),
+                    countVisits(a, dayStart + AFTERNOON_START, dayStart + AFTERNOON_END),
+                    a.trades, a.withdraws, a.ideas,
+                    ratingCount > 0 ? a.ratingSum / 6.0 / ratingCount : 0.0,
+                    a.revision);
+        }
+    }
+
+    /** 방문 저장 트랜잭션 안에서 호출 - 커밋된 뒤에만 반영된다 */
+    public void recordVisit(Long userId, LocalDateTime visitedAt) {
+        AfterCommit.run(() -> applyVisit(userId, visitedAt));
+    }
+
+    /** PM 투자/철회 커밋 후 호출 */
+    public void recordTrade(Long userId, InvestmentHistory.InvestmentType type) {
+        AfterCommit.run(() -> update(userId, a -> {
+            a.trades++;
+            if (type == InvestmentHistory.InvestmentType.WITHDRAW) {
+                a.withdraws++;
+            }
+        }));
+    }
+
+    /** 댓글 등록(+1)/삭제(-1) 트랜잭션 안에서 호출 */
+    public void recordComment(Long userId, int delta) {
+        AfterCommit.run(() -> update(userId, a -> a.ideas += delta));
+    }
+
+    /** 평가 등록/수정 트랜잭션 안에서 호출. scoreTotal: 6개 항목 점수 합 (수정이면 이전 값을 대체) */
+    public void recordRating(Long userId, Long boothId, int scoreTotal) {
+        AfterCommit.run(() -> applyRating(userId, boothId, scoreTotal));
+    }
+
+    private void applyVisit(Long userId, LocalDateTime visitedAt) {
+        long hour = visitedAt.toLocalDate().toEpochDay() * 24 + visitedAt.getHour();
+        update(userId, a -> a.visitsByHour.merge(hour, 1, Integer::sum));
+    }
+
+    private void applyRating(Long userId, Long boothId, int scoreTotal) {
+        update(userId, a -> {
+            Integer previous = a.ratingTotals.put(boothId, scoreTotal);
+            a.ratingSum += scoreTotal - (previous != null ? previous : 0);
+        });
+    }
+
+    private void update(Long userId, Consumer<Activity> change) {
+        Activity a = users.computeIfAbsent(userId, k -> new Activity());
+        synchronized (a) {
+            change.accept(a);
+            a.revision++;
+        }
+    }
+
+    private static int countVisits(Activity a, long fromHour, long toHour) {
+        int count = 0;
+        for (long hour = fromHour; hour < toHour; hour++) {
+            count += a.visitsByHour.getOrDefault(hour, 0);
+        }
+        return count;
+    }
+}
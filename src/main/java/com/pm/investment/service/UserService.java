@@ -3,8 +3,10 @@ package com.pm.investment.service;
 import com.pm.investment.dto.LoginRequest;
 import com.pm.investment.dto.LoginResponse;
 import com.pm.investment.dto.UserResponse;
+import com.pm.investment.entity.InvestmentAccount;
 import com.pm.investment.entity.StockAccount;
 import com.pm.investment.entity.User;
+import com.pm.investment.repository.InvestmentAccountRepository;
 import com.pm.investment.repository.StockAccountRepository;
 import com.pm.investment.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -19,6 +21,7 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final StockAccountRepository stockAccountRepository;
+    private final InvestmentAccountRepository investmentAccountRepository;
     private final MissionService missionService;
 
     @Transactional
@@ -31,12 +34,16 @@ public class UserService {
             stockAccountRepository.save(new StockAccount(user));
         }
 
+        // InvestmentAccount가 없으면 자동 생성
+        Long balance = investmentAccountRepository.findBalanceByUserId(user.getId())
+                .orElseGet(() -> investmentAccountRepository.save(new InvestmentAccount(user)).getBalance());
+
         // PM 부스 소속 rookie의 "안돼도 다시" 미션 자동 완료
         missionService.ensureAgainMissionForPmRookie(user.getId());
 
         String token = generateToken(user.getId());
 
-        return new LoginResponse(user.getId(), user.getName(), user.getCompany(), user.getBalance(), token, user.getIsExecutive(), user.getIsRookie());
+        return new LoginResponse(user.getId(), user.getName(), user.getCompany(), balance, token, user.getIsExecutive(), user.getIsRookie());
     }
 
     @Transactional(readOnly = true)
@@ -44,7 +51,8 @@ public class UserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
         Long belongingStockBoothId = user.getBelongingStockBooth() != null ? user.getBelongingStockBooth().getId() : null;
-        return new UserResponse(user.getId(), user.getUniqueCode(), user.getName(), user.getCompany(), user.getBalance(), user.getIsExecutive(), user.getIsRookie(), belongingStockBoothId);
+        Long balance = investmentAccountRepository.findBalanceByUserId(userId).orElse(0L);
+        return new UserResponse(user.getId(), user.getUniqueCode(), user.getName(), user.getCompany(), balance, user.getIsExecutive(), user.getIsRookie(), belongingStockBoothId);
     }
 
     private String generateToken(Long userId) {
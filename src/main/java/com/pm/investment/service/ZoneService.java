@@ -2,13 +2,8 @@ package com.pm.investment.service;
 
 import com.pm.investment.dto.ZoneResponse;
 import com.pm.investment.dto.ZoneResponse.ZoneBoothResponse;
-import com.pm.investment.entity.StockBooth;
-import com.pm.investment.entity.Zone;
-import com.pm.investment.repository.StockBoothRepository;
-import com.pm.investment.repository.ZoneRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -16,64 +11,38 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ZoneService {
 
-    private final ZoneRepository zoneRepository;
-    private final StockBoothRepository stockBoothRepository;
+    private final BoothCatalog boothCatalog;
 
-    @Transactional(readOnly = true)
+    // 구역별 부스 목록은 카탈로그에 미리 묶여 있으므로 구역 수만큼 쿼리하지 않는다
     public List<ZoneResponse> getAllZones() {
-        List<Zone> zones = zoneRepository.findAllByOrderByDisplayOrderAsc();
-
-        return zones.stream().map(zone -> {
-            List<StockBooth> booths = stockBoothRepository.findByZoneIdOrderByDisplayOrderAsc(zone.getId());
-
-            List<ZoneBoothResponse> boothResponses = booths.stream().map(booth ->
-                    ZoneBoothResponse.builder()
-                            .id(booth.getId())
-                            .name(booth.getName())
-                            .category(booth.getCategory())
-                            .shortDescription(booth.getShortDescription())
-                            .logoEmoji(booth.getLogoEmoji())
-                            .themeColor(booth.getThemeColor())
-                            .build()
-            ).toList();
-
-            return ZoneResponse.builder()
-                    .id(zone.getId())
-                    .zoneCode(zone.getZoneCode())
-                    .name(zone.getName())
-                    .floorInfo(zone.getFloorInfo())
-                    .floor(zone.getFloor())
-                    .displayOrder(zone.getDisplayOrder())
-                    .booths(boothResponses)
-                    .build();
-        }).toList();
+        return boothCatalog.zones().stream().map(this::toResponse).toList();
     }
 
-    @Transactional(readOnly = true)
     public ZoneResponse getZoneByCode(String zoneCode) {
-        Zone zone = zoneRepository.findByZoneCode(zoneCode)
+        BoothCatalog.ZoneEntry zone = boothCatalog.findZone(zoneCode)
                 .orElseThrow(() -> new IllegalArgumentException("구역을 찾을 수 없습니다"));
+        return toResponse(zone);
+    }
 
-        List<StockBooth> booths = stockBoothRepository.findByZoneIdOrderByDisplayOrderAsc(zone.getId());
-
-        List<ZoneBoothResponse> boothResponses = booths.stream().map(booth ->
+    private ZoneResponse toResponse(BoothCatalog.ZoneEntry zone) {
+        List<ZoneBoothResponse> boothResponses = boothCatalog.stockBoothsInZone(zone.id()).stream().map(booth ->
                 ZoneBoothResponse.builder()
-                        .id(booth.getId())
-                        .name(booth.getName())
-                        .category(booth.getCategory())
-                        .shortDescription(booth.getShortDescription())
-                        .logoEmoji(booth.getLogoEmoji())
-                        .themeColor(booth.getThemeColor())
+                        .id(booth.id())
+                        .name(booth.name())
+                        .category(booth.category())
+                        .shortDescription(booth.shortDescription())
+                        .logoEmoji(booth.logoEmoji())
+                        .themeColor(booth.themeColor())
                         .build()
         ).toList();
 
         return ZoneResponse.builder()
-                .id(zone.getId())
-                .zoneCode(zone.getZoneCode())
-                .name(zone.getName())
-                .floorInfo(zone.getFloorInfo())
-                .floor(zone.getFloor())
-                .displayOrder(zone.getDisplayOrder())
+                .id(zone.id())
+                .zoneCode(zone.zoneCode())
+                .name(zone.name())
+                .floorInfo(zone.floorInfo())
+                .floor(zone.floor())
+                .displayOrder(zone.displayOrder())
                 .booths(boothResponses)
                 .build();
     }
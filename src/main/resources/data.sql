@@ -12,6 +12,7 @@ TRUNCATE TABLE stock_price_history;
 TRUNCATE TABLE stock_prices;
 TRUNCATE TABLE stock_holdings;
 TRUNCATE TABLE stock_accounts;
+TRUNCATE TABLE investment_accounts;
 TRUNCATE TABLE stock_booth_visits;
 TRUNCATE TABLE report_snapshots;
 TRUNCATE TABLE users;
@@ -141,396 +142,398 @@ INSERT INTO booths (name, category, description, display_order, booth_uuid) VALU
 -- ──────────────────────────────────────────────
 -- users + stock_accounts
 -- ──────────────────────────────────────────────
-INSERT INTO users (unique_code, name, company, balance, is_executive, is_rookie) VALUES
-('838472', '강기연', 'CJ올리브영', 100000000, false, true),
-('263596', '강보영', 'CJ프레시웨이', 100000000, false, true),
-('838437', '강승연', 'CJ올리브영', 100000000, false, true),
-('838460', '강어진', 'CJ올리브영', 100000000, false, true),
-('263565', '강원중', 'CJ프레시웨이', 100000000, false, true),
-('838447', '강유진', 'CJ올리브영', 100000000, false, true),
-('315778', '강인', 'CJ제일제당', 100000000, false, true),
-('315811', '강호영', 'CJ제일제당', 100000000, false, true),
-('838459', '강희진', 'CJ올리브영', 100000000, false, true),
-('836121', '고경태', 'CJ올리브네트웍스', 100000000, false, true),
-('838444', '고유진', 'CJ올리브영', 100000000, false, true),
-('838449', '고정미', 'CJ올리브영', 100000000, false, true),
-('315817', '고화정', 'CJ제일제당', 100000000, false, true),
-('836133', '권지윤', 'CJ올리브네트웍스', 100000000, false, true),
-('13414737', '권혁균', 'CJ대한통운 건설부문', 100000000, false, true),
-('013562', '김가영', 'CJ ENM 엔터테인먼트부문', 100000000, false, true),
-('315808', '김가은', 'CJ제일제당', 100000000, false, true),
-('13414736', '김경민', 'CJ대한통운 건설부문', 100000000, false, true),
-('836131', '김경이', 'CJ올리브네트웍스', 100000000, false, true),
-('13414750', '김경천', 'CJ대한통운 건설부문', 100000000, false, true),
-('838464', '김경화', 'CJ올리브영', 100000000, false, true),
-('204721', '김경희', 'CJ푸드빌', 100000000, false, true),
-('838486', '김규리', 'CJ올리브영', 100000000, false, true),
-('838490', '김근아', 'CJ올리브영', 100000000, false, true),
-('836120', '김기범', 'CJ올리브네트웍스', 100000000, false, true),
-('200928', '김나연', 'CJ CGV', 100000000, false, true),
-('838465', '김나영', 'CJ올리브영', 100000000, false, true),
-('838469', '김나윤', 'CJ올리브영', 100000000, false, true),
-('838431', '김다윤', 'CJ올리브영', 100000000, false, true),
-('838489', '김다은', 'CJ올리브영', 100000000, false, true),
-('263563', '김다진', 'CJ프레시웨이', 100000000, false, true),
-('838455', '김다희', 'CJ올리브영', 100000000, false, true),
-('263548', '김대안', 'CJ프레시웨이', 100000000, false, true),
-('T100514', '김도연', 'CJ ENM 엔터테인먼트부문', 100000000, false, true),
-('204706', '김동연', 'CJ푸드빌', 100000000, false, true),
-('315794', '김려원', 'CJ제일제당', 100000000, false, true),
-('013546', '김미래', 'CJ ENM 커머스부문', 100000000, false, true),
-('838441', '김민서', 'CJ올리브영', 100000000, false, true),
-('13414740', '김민석', 'CJ대한통운 건설부문', 100000000, false, true),
-('13414715', '김민재', 'CJ대한통운', 100000000, false, true),
-('838432', '김민정', 'CJ올리브영', 100000000, false, true),
-('100920', '김민주', 'CJ 4DPLEX', 100000000, false, true),
-('263579', '김민주', 'CJ프레시웨이', 100000000, false, true),
-('100921', '김민주', 'CJ 4DPLEX', 100000000, false, true),
-('836088', '김민지', 'CJ올리브네트웍스', 100000000, false, true),
-('204705', '김민찬', 'CJ푸드빌', 100000000, false, true),
-('263576', '김민채', 'CJ프레시웨이', 100000000, false, true),
-('838483', '김민채', 'CJ올리브영', 100000000, false, true),
-('838478', '김상윤', 'CJ올리브영', 100000000, false, true),
-('013573', '김서현', 'CJ ENM 엔터테인먼트부문', 100000000, false, true),
-('200930', '김선혁', 'CJ CGV', 100000000, false, true),
-('315823', '김성아', 'CJ제일제당', 100000000, false, true),
-('100922', '김세영', 'CJ 4DPLEX', 100000000, false, true),
-('838471', '김세현', 'CJ올리브영', 100000000, false, true),
-('013561', '김수', 'CJ ENM 엔터테인먼트부문', 100000000, false, true),
-('315803', '김시온', 'CJ제일제당', 100000000, false, true),
-('315785', '김시현', 'CJ제일제당', 100000000, false, true),
-('13414744', '김영주', 'CJ대한통운 건설부문', 100000000, false, true),
-('263581', '김예린', 'CJ프레시웨이', 100000000, false, true),
-('013547', '김예빈', 'CJ ENM 커머스부문', 100000000, false, true),
-('315836', '김우림', 'CJ제일제당', 100000000, false, true),
-('263553', '김욱종', 'CJ프레시웨이', 100000000, false, true),
-('315777', '김유림', 'CJ제일제당', 100000000, false, true),
-('013549', '김유정', 'CJ ENM 커머스부문', 100000000, false, true),
-('263572', '김유진', 'CJ프레시웨이', 100000000, false, true),
-('013542', '김윤아', 'CJ ENM 커머스부문', 100000000, false, true),
-('315782', '김윤재', 'CJ제일제당', 100000000, false, true),
-('315806', '김정연', 'CJ제일제당', 100000000, false, true),
-('263599', '김종안', 'CJ프레시웨이', 100000000, false, true),
-('315812', '김종휘', 'CJ제일제당', 100000000, false, true),
-('838454', '김주영', 'CJ올리브영', 100000000, false, true),
-('263578', '김주현', 'CJ프레시웨이', 100000000, false, true),
-('263602', '김지상', 'CJ프레시웨이', 100000000, false, true),
-('263566', '김지수', 'CJ프레시웨이', 100000000, false, true),
-('838482', '김지원', 'CJ올리브영', 100000000, false, true),
-('263559', '김지원', 'CJ프레시웨이', 100000000, false, true),
-('13414743', '김지원', 'CJ대한통운 건설부문', 100000000, false, true),
-('D100337', '김지혜', 'CJ ENM 엔터테인먼트부문', 100000000, false, true),
-('263556', '김지홍', 'CJ프레시웨이', 100000000, false, true),
-('13414747', '김태형', 'CJ대한통운 건설부문', 100000000, false, true),
-('204707', '김현준', 'CJ푸드빌', 100000000, false, true),
-('838430', '김현진', 'CJ올리브영', 100000000, false, true),
-('263573', '김혜리', 'CJ프레시웨이', 100000000, false, true),
-('315786', '김혜린', 'CJ제일제당', 100000000, false, true),
-('315831', '김혜빈', 'CJ제일제당', 100000000, false, true),
-('838452', '김혜은', 'CJ올리브영', 100000000, false, true),
-('204708', '김혜인', 'CJ푸드빌', 100000000, false, true),
-('838451', '김희연', 'CJ올리브영', 100000000, false, true),
-('13414726', '김희진', 'CJ대한통운', 100000000, false, true),
-('13414712', '나현지', 'CJ대한통운', 100000000, false, true),
-('838462', '남은탁', 'CJ올리브영', 100000000, false, true),
-('836129', '노형준', 'CJ올리브네트웍스', 100000000, false, true),
-('13414728', '도유영', 'CJ대한통운', 100000000, false, true),
-('204709', '문소영', 'CJ푸드빌', 100000000, false, true),
-('838485', '문승혜', 'CJ올리브영', 100000000, false, true),
-('013548', '민규리', 'CJ ENM 커머스부문', 100000000, false, true),
-('315821', '민예지', 'CJ제일제당', 100000000, false, true),
-('013543', '민지원', 'CJ ENM 커머스부문', 100000000, false, true),
-('204722', '박가은', 'CJ푸드빌', 100000000, false, true),
-('836125', '박도훈', 'CJ올리브네트웍스', 100000000, false, true),
-('263569', '박무송', 'CJ프레시웨이', 100000000, false, true),
-('315838', '박민지', 'CJ제일제당', 100000000, false, true),
-('263551', '박상윤', 'CJ프레시웨이', 100000000, false, true),
-('838439', '박서린', 'CJ올리브영', 100000000, false, true),
-('13414714', '박석훈', 'CJ대한통운', 100000000, false, true),
-('13414746', '박성진', 'CJ대한통운 건설부문', 100000000, false, true),
-('838479', '박성춘', 'CJ올리브영', 100000000, false, true),
-('013572', '박소언', 'CJ ENM 엔터테인먼트부문', 100000000, false, true),
-('204710', '박소연', 'CJ푸드빌', 100000000, false, true),
-('T100513', '박소영', 'CJ ENM 엔터테인먼트부문', 100000000, false, true),
-('838458', '박소현', 'CJ올리브영', 100000000, false, true),
-('263561', '박시윤', 'CJ프레시웨이', 100000000, false, true),
-('13414711', '박연진', 'CJ대한통운', 100000000, false, true),
-('013541', '박유진', 'CJ ENM 커머스부문', 100000000, false, true),
-('315850', '박은총', 'CJ제일제당', 100000000, false, true),
-('836124', '박이내', 'CJ올리브네트웍스', 100000000, false, true),
-('13414748', '박인영', 'CJ대한통운 건설부문', 100000000, false, true),
-('836119', '박재성', 'CJ올리브네트웍스', 100000000, false, true),
-('838440', '박조은', 'CJ올리브영', 100000000, false, true),
-('263575', '박주희', 'CJ프레시웨이', 100000000, false, true),
-('315835', '박준서', 'CJ제일제당', 100000000, false, true),
-('315824', '박지원', 'CJ제일제당', 100000000, false, true),
-('013564', '박지현', 'CJ ENM 엔터테인먼트부문', 100000000, false, true),
-('263571', '박찬혜', 'CJ프레시웨이', 100000000, false, true),
-('13414741', '박태인', 'CJ대한통운 건설부문', 100000000, false, true),
-('263584', '박홍범', 'CJ프레시웨이', 100000000, false, true),
-('838433', '박효진', 'CJ올리브영', 100000000, false, true),
-('263582', '박희선', 'CJ프레시웨이', 100000000, false, true),
-('13414704', '배정윤', 'CJ대한통운', 100000000, false, true),
-('204711', '배하은', 'CJ푸드빌', 100000000, false, true),
-('263550', '배현우', 'CJ프레시웨이', 100000000, false, true),
-('13414713', '배호진', 'CJ대한통운', 100000000, false, true),
-('263598', '변혜교', 'CJ프레시웨이', 100000000, false, true),
-('T100515', '변희주', 'CJ ENM 엔터테인먼트부문', 100000000, false, true),
-('263593', '서민정', 'CJ프레시웨이', 100000000, false, true),
-('315809', '서수림', 'CJ제일제당', 100000000, false, true),
-('204712', '서온비', 'CJ푸드빌', 100000000, false, true),
-('263592', '서유진', 'CJ프레시웨이', 100000000, false, true),
-('315815', '서윤지', 'CJ제일제당', 100000000, false, true),
-('263585', '서채현', 'CJ프레시웨이', 100000000, false, true),
-('200926', '설다연', 'CJ CGV', 100000000, false, true),
-('13414720', '소지원', 'CJ대한통운', 100000000, false, true),
-('838457', '손다운', 'CJ올리브영', 100000000, false, true),
-('13414721', '손유정', 'CJ대한통운', 100000000, false, true),
-('263587', '손유진', 'CJ프레시웨이', 100000000, false, true),
-('315816', '손호영', 'CJ제일제당', 100000000, false, true),
-('838467', '송현우', 'CJ올리브영', 100000000, false, true),
-('315781', '신동민', 'CJ제일제당', 100000000, false, true),
-('838436', '신동준', 'CJ올리브영', 100000000, false, true),
-('13414745', '신범호', 'CJ대한통운 건설부문', 100000000, false, true),
-('13414751', '신보연', 'CJ대한통운 건설부문', 100000000, false, true),
-('315833', '신세아', 'CJ제일제당', 100000000, false, true),
-('204713', '신예린', 'CJ푸드빌', 100000000, false, true),
-('838435', '신혜인', 'CJ올리브영', 100000000, false, true),
-('13414722', '심병규', 'CJ대한통운', 100000000, false, true),
-('315810', '안세인', 'CJ제일제당', 100000000, false, true),
-('263583', '안수현', 'CJ프레시웨이', 100000000, false, true),
-('836123', '안현주', 'CJ올리브네트웍스', 100000000, false, true),
-('13414749', '안훈희', 'CJ대한통운 건설부문', 100000000, false, true),
-('838446', '엄유리', 'CJ올리브영', 100000000, false, true),
-('838438', '엄지윤', 'CJ올리브영', 100000000, false, true),
-('315840', '오성헌', 'CJ제일제당', 100000000, false, true),
-('315839', '오세영', 'CJ제일제당', 100000000, false, true),
-('263560', '오윤서', 'CJ프레시웨이', 100000000, false, true),
-('838429', '오은솔', 'CJ올리브영', 100000000, false, true),
-('836122', '오준혁', 'CJ올리브네트웍스', 100000000, false, true),
-('838463', '오지민', 'CJ올리브영', 100000000, false, true),
-('013565', '오현지', 'CJ ENM 엔터테인먼트부문', 100000000, false, true),
-('263597', '우하진', 'CJ프레시웨이', 100000000, false, true),
-('013559', '위다현', 'CJ ENM 엔터테인먼트부문', 100000000, false, true),
-('836126', '유가람', 'CJ올리브네트웍스', 100000000, false, true),
-('13414717', '유민주', 'CJ대한통운', 100000000, false, true),
-('838443', '유상화', 'CJ올리브영', 100000000, false, true),
-('838484', '유소연', 'CJ올리브영', 100000000, false, true),
-('315828', '유송희', 'CJ제일제당', 100000000, false, true),
-('200927', '유승민', 'CJ CGV', 100000000, false, true),
-('13414718', '유영민', 'CJ대한통운', 100000000, false, true),
-('315783', '유주희', 'CJ제일제당', 100000000, false, true),
-('836128', '유지희', 'CJ올리브네트웍스', 100000000, false, true),
-('315813', '유혜수', 'CJ제일제당', 100000000, false, true),
-('204714', '윤가영', 'CJ푸드빌', 100000000, false, true),
-('263591', '윤나경', 'CJ프레시웨이', 100000000, false, true),
-('263594', '윤성준', 'CJ프레시웨이', 100000000, false, true),
-('204715', '윤종화', 'CJ푸드빌', 100000000, false, true),
-('T100517', '윤진노', 'CJ ENM 엔터테인먼트부문', 100000000, false, true),
-('13414730', '윤현정', 'CJ대한통운', 100000000, false, true),
-('263600', '윤형준', 'CJ프레시웨이', 100000000, false, true),
-('013563', '이건하', 'CJ ENM 엔터테인먼트부문', 100000000, false, true),
-('836130', '이근탁', 'CJ올리브네트웍스', 100000000, false, true),
-('315799', '이기혁', 'CJ제일제당', 100000000, false, true),
-('836116', '이나연', 'CJ올리브네트웍스', 100000000, false, true),
-('013568', '이나영', 'CJ ENM 엔터테인먼트부문', 100000000, false, true),
-('T100516', '이다현', 'CJ ENM 엔터테인먼트부문', 100000000, false, true),
-('263547', '이무연', 'CJ프레시웨이', 100000000, false, true),
-('838495', '이민정', 'CJ올리브영', 100000000, false, true),
-('315826', '이보경', 'CJ제일제당', 100000000, false, true),
-('263554', '이상윤', 'CJ프레시웨이', 100000000, false, true),
-('315805', '이새봄', 'CJ제일제당', 100000000, false, true),
-('838491', '이서연', 'CJ올리브영', 100000000, false, true),
-('838473', '이수민', 'CJ올리브영', 100000000, false, true),
-('315798', '이수민', 'CJ제일제당', 100000000, false, true),
-('315858', '이수진', 'CJ제일제당', 100000000, false, true),
-('204716', '이수환', 'CJ푸드빌', 100000000, false, true),
-('204717', '이승빈', 'CJ푸드빌', 100000000, false, true),
-('13414707', '이승우', 'CJ대한통운', 100000000, false, true),
-('838434', '이승주', 'CJ올리브영', 100000000, false, true),
-('315780', '이승철', 'CJ제일제당', 100000000, false, true),
-('013569', '이시은', 'CJ ENM 엔터테인먼트부문', 100000000, false, true),
-('204718', '이어진', 'CJ푸드빌', 100000000, false, true),
-('836132', '이연진', 'CJ올리브네트웍스', 100000000, false, true),
-('838470', '이예림', 'CJ올리브영', 100000000, false, true),
-('315818', '이용임', 'CJ제일제당', 100000000, false, true),
-('13414754', '이원종', 'CJ대한통운 건설부문', 100000000, false, true),
-('263557', '이유리', 'CJ프레시웨이', 100000000, false, true),
-('263595', '이유연', 'CJ프레시웨이', 100000000, false, true),
-('836127', '이유찬', 'CJ올리브네트웍스', 100000000, false, true),
-('838474', '이윤재', 'CJ올리브영', 100000000, false, true),
-('838448', '이은주', 'CJ올리브영', 100000000, false, true),
-('263552', '이은지', 'CJ프레시웨이', 100000000, false, true),
-('263546', '이은지', 'CJ프레시웨이', 100000000, false, true),
-('263555', '이은찬', 'CJ프레시웨이', 100000000, false, true),
-('263549', '이정민', 'CJ프레시웨이', 100000000, false, true),
-('13414719', '이정범', 'CJ대한통운', 100000000, false, true),
-('13414716', '이정훈', 'CJ대한통운', 100000000, false, true),
-('013567', '이주현', 'CJ ENM 엔터테인먼트부문', 100000000, false, true),
-('263564', '이준영', 'CJ프레시웨이', 100000000, false, true),
-('838492', '이지민', 'CJ올리브영', 100000000, false, true),
-('100924', '이지연', 'CJ 4DPLEX', 100000000, false, true),
-('13414735', '이지연', 'CJ대한통운 건설부문', 100000000, false, true),
-('263588', '이지원', 'CJ프레시웨이', 100000000, false, true),
-('315802', '이하은', 'CJ제일제당', 100000000, false, true),
-('13414752', '이한성', 'CJ대한통운 건설부문', 100000000, false, true),
-('838476', '이현지', 'CJ올리브영', 100000000, false, true),
-('013574', '임세원', 'CJ ENM 엔터테인먼트부문', 100000000, false, true),
-('315834', '임연수', 'CJ제일제당', 100000000, false, true),
-('315779', '임은민', 'CJ제일제당', 100000000, false, true),
-('263586', '임정은', 'CJ프레시웨이', 100000000, false, true),
-('263574', '임정한', 'CJ프레시웨이', 100000000, false, true),
-('838453', '임주희', 'CJ올리브영', 100000000, false, true),
-('263590', '장길평', 'CJ프레시웨이', 100000000, false, true),
-('315784', '장서인', 'CJ제일제당', 100000000, false, true),
-('838480', '장송희', 'CJ올리브영', 100000000, false, true),
-('315801', '장재훈', 'CJ제일제당', 100000000, false, true),
-('200925', '전우진', 'CJ CGV', 100000000, false, true),
-('204719', '전혜진', 'CJ푸드빌', 100000000, false, true),
-('836117', '정민경', 'CJ올리브네트웍스', 100000000, false, true),
-('315830', '정민우', 'CJ제일제당', 100000000, false, true),
-('315832', '정민제', 'CJ제일제당', 100000000, false, true),
-('13414729', '정민창', 'CJ대한통운', 100000000, false, true),
-('204723', '정세비', 'CJ푸드빌', 100000000, false, true),
-('315800', '정소희', 'CJ제일제당', 100000000, false, true),
-('263580', '정승민', 'CJ프레시웨이', 100000000, false, true),
-('204720', '정예림', 'CJ푸드빌', 100000000, false, true),
-('13414708', '정유빈', 'CJ대한통운', 100000000, false, true),
-('315814', '정유선', 'CJ제일제당', 100000000, false, true),
-('838487', '정지현', 'CJ올리브영', 100000000, false, true),
-('315841', '정진수', 'CJ제일제당', 100000000, false, true),
-('315819', '정채린', 'CJ제일제당', 100000000, false, true),
-('100925', '정해원', 'CJ 4DPLEX', 100000000, false, true),
-('200929', '정혜진', 'CJ CGV', 100000000, false, true),
-('263589', '조윤서', 'CJ프레시웨이', 100000000, false, true),
-('13414739', '조형탁', 'CJ대한통운 건설부문', 100000000, false, true),
-('13414724', '진태광', 'CJ대한통운', 100000000, false, true),
-('315804', '진희정', 'CJ제일제당', 100000000, false, true),
-('315829', '천민주', 'CJ제일제당', 100000000, false, true),
-('315822', '최가은', 'CJ제일제당', 100000000, false, true),
-('013560', '최다연', 'CJ ENM 엔터테인먼트부문', 100000000, false, true),
-('263577', '최민수', 'CJ프레시웨이', 100000000, false, true),
-('838494', '최민영', 'CJ올리브영', 100000000, false, true),
-('315807', '최민영', 'CJ제일제당', 100000000, false, true),
-('013545', '최예현', 'CJ ENM 커머스부문', 100000000, false, true),
-('838461', '최유정', 'CJ올리브영', 100000000, false, true),
-('838450', '최윤서', 'CJ올리브영', 100000000, false, true),
-('838475', '최윤서', 'CJ올리브영', 100000000, false, true),
-('263603', '최인영', 'CJ프레시웨이', 100000000, false, true),
-('263601', '최정원', 'CJ프레시웨이', 100000000, false, true),
-('013566', '최정인', 'CJ ENM 엔터테인먼트부문', 100000000, false, true),
-('315825', '최지민', 'CJ제일제당', 100000000, false, true),
-('263567', '최찬혁', 'CJ프레시웨이', 100000000, false, true),
-('13414705', '최태규', 'CJ대한통운', 100000000, false, true),
-('13414753', '최현우', 'CJ대한통운 건설부문', 100000000, false, true),
-('013558', '카와하라사쿠라', 'CJ ENM 엔터테인먼트부문', 100000000, false, true),
-('838488', '표세빈', 'CJ올리브영', 100000000, false, true),
-('263562', '한나연', 'CJ프레시웨이', 100000000, false, true),
-('263570', '한동호', 'CJ프레시웨이', 100000000, false, true),
-('013571', '한아름', 'CJ ENM 엔터테인먼트부문', 100000000, false, true),
-('013570', '한재환', 'CJ ENM 엔터테인먼트부문', 100000000, false, true),
-('263558', '한현구', 'CJ프레시웨이', 100000000, false, true),
-('263545', '허민정', 'CJ프레시웨이', 100000000, false, true),
-('315820', '허의정', 'CJ제일제당', 100000000, false, true),
-('838477', '허정원', 'CJ올리브영', 100000000, false, true),
-('13414738', '홍성민', 'CJ대한통운 건설부문', 100000000, false, true),
-('838442', '홍세림', 'CJ올리브영', 100000000, false, true),
-('838496', '홍윤지', 'CJ올리브영', 100000000, false, true),
-('13414742', '홍인표', 'CJ대한통운 건설부문', 100000000, false, true),
-('13414706', '홍창언', 'CJ대한통운', 100000000, false, true),
-('013544', '황병휘', 'CJ ENM 커머스부문', 100000000, false, true),
-('838428', '황서인', 'CJ올리브영', 100000000, false, true),
-('838445', '황수진', 'CJ올리브영', 100000000, false, true),
-('263568', '황유경', 'CJ프레시웨이', 100000000, false, true),
-('13414723', '황은유', 'CJ대한통운', 100000000, false, true),
-('13414710', '황준화', 'CJ대한통운', 100000000, false, true),
-('838481', '황현정', 'CJ올리브영', 100000000, false, true),
-('D100336', '황혜욱', 'CJ ENM 엔터테인먼트부문', 100000000, false, true),
-('838521', '브엉후엔', 'CJ올리브영', 100000000, false, true),
-('838523', '전동재', 'CJ올리브영', 100000000, false, true),
-('838524', '도김치', 'CJ올리브영', 100000000, false, true),
-('838522', '이케다나나', 'CJ올리브영', 100000000, false, true),
-('100923', '여송원', 'CJ 4DPLEX', 100000000, false, true),
+INSERT INTO users (unique_code, name, company, is_executive, is_rookie) VALUES
+('838472', '강기연', 'CJ올리브영', false, true),
+('263596', '강보영', 'CJ프레시웨이', false, true),
+('838437', '강승연', 'CJ올리브영', false, true),
+('838460', '강어진', 'CJ올리브영', false, true),
+('263565', '강원중', 'CJ프레시웨이', false, true),
+('838447', '강유진', 'CJ올리브영', false, true),
+('315778', '강인', 'CJ제일제당', false, true),
+('315811', '강호영', 'CJ제일제당', false, true),
+('838459', '강희진', 'CJ올리브영', false, true),
+('836121', '고경태', 'CJ올리브네트웍스', false, true),
+('838444', '고유진', 'CJ올리브영', false, true),
+('838449', '고정미', 'CJ올리브영', false, true),
+('315817', '고화정', 'CJ제일제당', false, true),
+('836133', '권지윤', 'CJ올리브네트웍스', false, true),
+('13414737', '권혁균', 'CJ대한통운 건설부문', false, true),
+('013562', '김가영', 'CJ ENM 엔터테인먼트부문', false, true),
+('315808', '김가은', 'CJ제일제당', false, true),
+('13414736', '김경민', 'CJ대한통운 건설부문', false, true),
+('836131', '김경이', 'CJ올리브네트웍스', false, true),
+('13414750', '김경천', 'CJ대한통운 건설부문', false, true),
+('838464', '김경화', 'CJ올리브영', false, true),
+('204721', '김경희', 'CJ푸드빌', false, true),
+('838486', '김규리', 'CJ올리브영', false, true),
+('838490', '김근아', 'CJ올리브영', false, true),
+('836120', '김기범', 'CJ올리브네트웍스', false, true),
+('200928', '김나연', 'CJ CGV', false, true),
+('838465', '김나영', 'CJ올리브영', false, true),
+('838469', '김나윤', 'CJ올리브영', false, true),
+('838431', '김다윤', 'CJ올리브영', false, true),
+('838489', '김다은', 'CJ올리브영', false, true),
+('263563', '김다진', 'CJ프레시웨이', false, true),
+('838455', '김다희', 'CJ올리브영', false, true),
+('263548', '김대안', 'CJ프레시웨이', false, true),
+('T100514', '김도연', 'CJ ENM 엔터테인먼트부문', false, true),
+('204706', '김동연', 'CJ푸드빌', false, true),
+('315794', '김려원', 'CJ제일제당', false, true),
+('013546', '김미래', 'CJ ENM 커머스부문', false, true),
+('838441', '김민서', 'CJ올리브영', false, true),
+('13414740', '김민석', 'CJ대한통운 건설부문', false, true),
+('13414715', '김민재', 'CJ대한통운', false, true),
+('838432', '김민정', 'CJ올리브영', false, true),
+('100920', '김민주', 'CJ 4DPLEX', false, true),
+('263579', '김민주', 'CJ프레시웨이', false, true),
+('100921', '김민주', 'CJ 4DPLEX', false, true),
+('836088', '김민지', 'CJ올리브네트웍스', false, true),
+('204705', '김민찬', 'CJ푸드빌', false, true),
+('263576', '김민채', 'CJ프레시웨이', false, true),
+('838483', '김민채', 'CJ올리브영', false, true),
+('838478', '김상윤', 'CJ올리브영', false, true),
+('013573', '김서현', 'CJ ENM 엔터테인먼트부문', false, true),
+('200930', '김선혁', 'CJ CGV', false, true),
+('315823', '김성아', 'CJ제일제당', false, true),
+('100922', '김세영', 'CJ 4DPLEX', false, true),
+('838471', '김세현', 'CJ올리브영', false, true),
+('013561', '김수', 'CJ ENM 엔터테인먼트부문', false, true),
+('315803', '김시온', 'CJ제일제당', false, true),
+('315785', '김시현', 'CJ제일제당', false, true),
+('13414744', '김영주', 'CJ대한통운 건설부문', false, true),
+('263581', '김예린', 'CJ프레시웨이', false, true),
+('013547', '김예빈', 'CJ ENM 커머스부문', false, true),
+('315836', '김우림', 'CJ제일제당', false, true),
+('263553', '김욱종', 'CJ프레시웨이', false, true),
+('315777', '김유림', 'CJ제일제당', false, true),
+('013549', '김유정', 'CJ ENM 커머스부문', false, true),
+('263572', '김유진', 'CJ프레시웨이', false, true),
+('013542', '김윤아', 'CJ ENM 커머스부문', false, true),
+('315782', '김윤재', 'CJ제일제당', false, true),
+('315806', '김정연', 'CJ제일제당', false, true),
+('263599', '김종안', 'CJ프레시웨이', false, true),
+('315812', '김종휘', 'CJ제일제당', false, true),
+('838454', '김주영', 'CJ올리브영', false, true),
+('263578', '김주현', 'CJ프레시웨이', false, true),
+('263602', '김지상', 'CJ프레시웨이', false, true),
+('263566', '김지수', 'CJ프레시웨이', false, true),
+('838482', '김지원', 'CJ올리브영', false, true),
+('263559', '김지원', 'CJ프레시웨이', false, true),
+('13414743', '김지원', 'CJ대한통운 건설부문', false, true),
+('D100337', '김지혜', 'CJ ENM 엔터테인먼트부문', false, true),
+('263556', '김지홍', 'CJ프레시웨이', false, true),
+('13414747', '김태형', 'CJ대한통운 건설부문', false, true),
+('204707', '김현준', 'CJ푸드빌', false, true),
+('838430', '김현진', 'CJ올리브영', false, true),
+('263573', '김혜리', 'CJ프레시웨이', false, true),
+('315786', '김혜린', 'CJ제일제당', false, true),
+('315831', '김혜빈', 'CJ제일제당', false, true),
+('838452', '김혜은', 'CJ올리브영', false, true),
+('204708', '김혜인', 'CJ푸드빌', false, true),
+('838451', '김희연', 'CJ올리브영', false, true),
+('13414726', '김희진', 'CJ대한통운', false, true),
+('13414712', '나현지', 'CJ대한통운', false, true),
+('838462', '남은탁', 'CJ올리브영', false, true),
+('836129', '노형준', 'CJ올리브네트웍스', false, true),
+('13414728', '도유영', 'CJ대한통운', false, true),
+('204709', '문소영', 'CJ푸드빌', false, true),
+('838485', '문승혜', 'CJ올리브영', false, true),
+('013548', '민규리', 'CJ ENM 커머스부문', false, true),
+('315821', '민예지', 'CJ제일제당', false, true),
+('013543', '민지원', 'CJ ENM 커머스부문', false, true),
+('204722', '박가은', 'CJ푸드빌', false, true),
+('836125', '박도훈', 'CJ올리브네트웍스', false, true),
+('263569', '박무송', 'CJ프레시웨이', false, true),
+('315838', '박민지', 'CJ제일제당', false, true),
+('263551', '박상윤', 'CJ프레시웨이', false, true),
+('838439', '박서린', 'CJ올리브영', false, true),
+('13414714', '박석훈', 'CJ대한통운', false, true),
+('13414746', '박성진', 'CJ대한통운 건설부문', false, true),
+('838479', '박성춘', 'CJ올리브영', false, true),
+('013572', '박소언', 'CJ ENM 엔터테인먼트부문', false, true),
+('204710', '박소연', 'CJ푸드빌', false, true),
+('T100513', '박소영', 'CJ ENM 엔터테인먼트부문', false, true),
+('838458', '박소현', 'CJ올리브영', false, true),
+('263561', '박시윤', 'CJ프레시웨이', false, true),
+('13414711', '박연진', 'CJ대한통운', false, true),
+('013541', '박유진', 'CJ ENM 커머스부문', false, true),
+('315850', '박은총', 'CJ제일제당', false, true),
+('836124', '박이내', 'CJ올리브네트웍스', false, true),
+('13414748', '박인영', 'CJ대한통운 건설부문', false, true),
+('836119', '박재성', 'CJ올리브네트웍스', false, true),
+('838440', '박조은', 'CJ올리브영', false, true),
+('263575', '박주희', 'CJ프레시웨이', false, true),
+('315835', '박준서', 'CJ제일제당', false, true),
+('315824', '박지원', 'CJ제일제당', false, true),
+('013564', '박지현', 'CJ ENM 엔터테인먼트부문', false, true),
+('263571', '박찬혜', 'CJ프레시웨이', false, true),
+('13414741', '박태인', 'CJ대한통운 건설부문', false, true),
+('263584', '박홍범', 'CJ프레시웨이', false, true),
+('838433', '박효진', 'CJ올리브영', false, true),
+('263582', '박희선', 'CJ프레시웨이', false, true),
+('13414704', '배정윤', 'CJ대한통운', false, true),
+('204711', '배하은', 'CJ푸드빌', false, true),
+('263550', '배현우', 'CJ프레시웨이', false, true),
+('13414713', '배호진', 'CJ대한통운', false, true),
+('263598', '변혜교', 'CJ프레시웨이', false, true),
+('T100515', '변희주', 'CJ ENM 엔터테인먼트부문', false, true),
+('263593', '서민정', 'CJ프레시웨이', false, true),
+('315809', '서수림', 'CJ제일제당', false, true),
+('204712', '서온비', 'CJ푸드빌', false, true),
+('263592', '서유진', 'CJ프레시웨이', false, true),
+('315815', '서윤지', 'CJ제일제당', false, true),
+('263585', '서채현', 'CJ프레시웨이', false, true),
+('200926', '설다연', 'CJ CGV', false, true),
+('13414720', '소지원', 'CJ대한통운', false, true),
+('838457', '손다운', 'CJ올리브영', false, true),
+('13414721', '손유정', 'CJ대한통운', false, true),
+('263587', '손유진', 'CJ프레시웨이', false, true),
+('315816', '손호영', 'CJ제일제당', false, true),
+('838467', '송현우', 'CJ올리브영', false, true),
+('315781', '신동민', 'CJ제일제당', false, true),
+('838436', '신동준', 'CJ올리브영', false, true),
+('13414745', '신범호', 'CJ대한통운 건설부문', false, true),
+('13414751', '신보연', 'CJ대한통운 건설부문', false, true),
+('315833', '신세아', 'CJ제일제당', false, true),
+('204713', '신예린', 'CJ푸드빌', false, true),
+('838435', '신혜인', 'CJ올리브영', false, true),
+('13414722', '심병규', 'CJ대한통운', false, true),
+('315810', '안세인', 'CJ제일제당', false, true),
+('263583', '안수현', 'CJ프레시웨이', false, true),
+('836123', '안현주', 'CJ올리브네트웍스', false, true),
+('13414749', '안훈희', 'CJ대한통운 건설부문', false, true),
+('838446', '엄유리', 'CJ올리브영', false, true),
+('838438', '엄지윤', 'CJ올리브영', false, true),
+('315840', '오성헌', 'CJ제일제당', false, true),
+('315839', '오세영', 'CJ제일제당', false, true),
+('263560', '오윤서', 'CJ프레시웨이', false, true),
+('838429', '오은솔', 'CJ올리브영', false, true),
+('836122', '오준혁', 'CJ올리브네트웍스', false, true),
+('838463', '오지민', 'CJ올리브영', false, true),
+('013565', '오현지', 'CJ ENM 엔터테인먼트부문', false, true),
+('263597', '우하진', 'CJ프레시웨이', false, true),
+('013559', '위다현', 'CJ ENM 엔터테인먼트부문', false, true),
+('836126', '유가람', 'CJ올리브네트웍스', false, true),
+('13414717', '유민주', 'CJ대한통운', false, true),
+('838443', '유상화', 'CJ올리브영', false, true),
+('838484', '유소연', 'CJ올리브영', false, true),
+('315828', '유송희', 'CJ제일제당', false, true),
+('200927', '유승민', 'CJ CGV', false, true),
+('13414718', '유영민', 'CJ대한통운', false, true),
+('315783', '유주희', 'CJ제일제당', false, true),
+('836128', '유지희', 'CJ올리브네트웍스', false, true),
+('315813', '유혜수', 'CJ제일제당', false, true),
+('204714', '윤가영', 'CJ푸드빌', false, true),
+('263591', '윤나경', 'CJ프레시웨이', false, true),
+('263594', '윤성준', 'CJ프레시웨이', false, true),
+('204715', '윤종화', 'CJ푸드빌', false, true),
+('T100517', '윤진노', 'CJ ENM 엔터테인먼트부문', false, true),
+('13414730', '윤현정', 'CJ대한통운', false, true),
+('263600', '윤형준', 'CJ프레시웨이', false, true),
+('013563', '이건하', 'CJ ENM 엔터테인먼트부문', false, true),
+('836130', '이근탁', 'CJ올리브네트웍스', false, true),
+('315799', '이기혁', 'CJ제일제당', false, true),
+('836116', '이나연', 'CJ올리브네트웍스', false, true),
+('013568', '이나영', 'CJ ENM 엔터테인먼트부문', false, true),
+('T100516', '이다현', 'CJ ENM 엔터테인먼트부문', false, true),
+('263547', '이무연', 'CJ프레시웨이', false, true),
+('838495', '이민정', 'CJ올리브영', false, true),
+('315826', '이보경', 'CJ제일제당', false, true),
+('263554', '이상윤', 'CJ프레시웨이', false, true),
+('315805', '이새봄', 'CJ제일제당', false, true),
+('838491', '이서연', 'CJ올리브영', false, true),
+('838473', '이수민', 'CJ올리브영', false, true),
+('315798', '이수민', 'CJ제일제당', false, true),
+('315858', '이수진', 'CJ제일제당', false, true),
+('204716', '이수환', 'CJ푸드빌', false, true),
+('204717', '이승빈', 'CJ푸드빌', false, true),
+('13414707', '이승우', 'CJ대한통운', false, true),
+('838434', '이승주', 'CJ올리브영', false, true),
+('315780', '이승철', 'CJ제일제당', false, true),
+('013569', '이시은', 'CJ ENM 엔터테인먼트부문', false, true),
+('204718', '이어진', 'CJ푸드빌', false, true),
+('836132', '이연진', 'CJ올리브네트웍스', false, true),
+('838470', '이예림', 'CJ올리브영', false, true),
+('315818', '이용임', 'CJ제일제당', false, true),
+('13414754', '이원종', 'CJ대한통운 건설부문', false, true),
+('263557', '이유리', 'CJ프레시웨이', false, true),
+('263595', '이유연', 'CJ프레시웨이', false, true),
+('836127', '이유찬', 'CJ올리브네트웍스', false, true),
+('838474', '이윤재', 'CJ올리브영', false, true),
+('838448', '이은주', 'CJ올리브영', false, true),
+('263552', '이은지', 'CJ프레시웨이', false, true),
+('263546', '이은지', 'CJ프레시웨이', false, true),
+('263555', '이은찬', 'CJ프레시웨이', false, true),
+('263549', '이정민', 'CJ프레시웨이', false, true),
+('13414719', '이정범', 'CJ대한통운', false, true),
+('13414716', '이정훈', 'CJ대한통운', false, true),
+('013567', '이주현', 'CJ ENM 엔터테인먼트부문', false, true),
+('263564', '이준영', 'CJ프레시웨이', false, true),
+('838492', '이지민', 'CJ올리브영', false, true),
+('100924', '이지연', 'CJ 4DPLEX', false, true),
+('13414735', '이지연', 'CJ대한통운 건설부문', false, true),
+('263588', '이지원', 'CJ프레시웨이', false, true),
+('315802', '이하은', 'CJ제일제당', false, true),
+('13414752', '이한성', 'CJ대한통운 건설부문', false, true),
+('838476', '이현지', 'CJ올리브영', false, true),
+('013574', '임세원', 'CJ ENM 엔터테인먼트부문', false, true),
+('315834', '임연수', 'CJ제일제당', false, true),
+('315779', '임은민', 'CJ제일제당', false, true),
+('263586', '임정은', 'CJ프레시웨이', false, true),
+('263574', '임정한', 'CJ프레시웨이', false, true),
+('838453', '임주희', 'CJ올리브영', false, true),
+('263590', '장길평', 'CJ프레시웨이', false, true),
+('315784', '장서인', 'CJ제일제당', false, true),
+('838480', '장송희', 'CJ올리브영', false, true),
+('315801', '장재훈', 'CJ제일제당', false, true),
+('200925', '전우진', 'CJ CGV', false, true),
+('204719', '전혜진', 'CJ푸드빌', false, true),
+('836117', '정민경', 'CJ올리브네트웍스', false, true),
+('315830', '정민우', 'CJ제일제당', false, true),
+('315832', '정민제', 'CJ제일제당', false, true),
+('13414729', '정민창', 'CJ대한통운', false, true),
+('204723', '정세비', 'CJ푸드빌', false, true),
+('315800', '정소희', 'CJ제일제당', false, true),
+('263580', '정승민', 'CJ프레시웨이', false, true),
+('204720', '정예림', 'CJ푸드빌', false, true),
+('13414708', '정유빈', 'CJ대한통운', false, true),
+('315814', '정유선', 'CJ제일제당', false, true),
+('838487', '정지현', 'CJ올리브영', false, true),
+('315841', '정진수', 'CJ제일제당', false, true),
+('315819', '정채린', 'CJ제일제당', false, true),
+('100925', '정해원', 'CJ 4DPLEX', false, true),
+('200929', '정혜진', 'CJ CGV', false, true),
+('263589', '조윤서', 'CJ프레시웨이', false, true),
+('13414739', '조형탁', 'CJ대한통운 건설부문', false, true),
+('13414724', '진태광', 'CJ대한통운', false, true),
+('315804', '진희정', 'CJ제일제당', false, true),
+('315829', '천민주', 'CJ제일제당', false, true),
+('315822', '최가은', 'CJ제일제당', false, true),
+('013560', '최다연', 'CJ ENM 엔터테인먼트부문', false, true),
+('263577', '최민수', 'CJ프레시웨이', false, true),
+('838494', '최민영', 'CJ올리브영', false, true),
+('315807', '최민영', 'CJ제일제당', false, true),
+('013545', '최예현', 'CJ ENM 커머스부문', false, true),
+('838461', '최유정', 'CJ올리브영', false, true),
+('838450', '최윤서', 'CJ올리브영', false, true),
+('838475', '최윤서', 'CJ올리브영', false, true),
+('263603', '최인영', 'CJ프레시웨이', false, true),
+('263601', '최정원', 'CJ프레시웨이', false, true),
+('013566', '최정인', 'CJ ENM 엔터테인먼트부문', false, true),
+('315825', '최지민', 'CJ제일제당', false, true),
+('263567', '최찬혁', 'CJ프레시웨이', false, true),
+('13414705', '최태규', 'CJ대한통운', false, true),
+('13414753', '최현우', 'CJ대한통운 건설부문', false, true),
+('013558', '카와하라사쿠라', 'CJ ENM 엔터테인먼트부문', false, true),
+('838488', '표세빈', 'CJ올리브영', false, true),
+('263562', '한나연', 'CJ프레시웨이', false, true),
+('263570', '한동호', 'CJ프레시웨이', false, true),
+('013571', '한아름', 'CJ ENM 엔터테인먼트부문', false, true),
+('013570', '한재환', 'CJ ENM 엔터테인먼트부문', false, true),
+('263558', '한현구', 'CJ프레시웨이', false, true),
+('263545', '허민정', 'CJ프레시웨이', false, true),
+('315820', '허의정', 'CJ제일제당', false, true),
+('838477', '허정원', 'CJ올리브영', false, true),
+('13414738', '홍성민', 'CJ대한통운 건설부문', false, true),
+('838442', '홍세림', 'CJ올리브영', false, true),
+('838496', '홍윤지', 'CJ올리브영', false, true),
+('13414742', '홍인표', 'CJ대한통운 건설부문', false, true),
+('13414706', '홍창언', 'CJ대한통운', false, true),
+('013544', '황병휘', 'CJ ENM 커머스부문', false, true),
+('838428', '황서인', 'CJ올리브영', false, true),
+('838445', '황수진', 'CJ올리브영', false, true),
+('263568', '황유경', 'CJ프레시웨이', false, true),
+('13414723', '황은유', 'CJ대한통운', false, true),
+('13414710', '황준화', 'CJ대한통운', false, true),
+('838481', '황현정', 'CJ올리브영', false, true),
+('D100336', '황혜욱', 'CJ ENM 엔터테인먼트부문', false, true),
+('838521', '브엉후엔', 'CJ올리브영', false, true),
+('838523', '전동재', 'CJ올리브영', false, true),
+('838524', '도김치', 'CJ올리브영', false, true),
+('838522', '이케다나나', 'CJ올리브영', false, true),
+('100923', '여송원', 'CJ 4DPLEX', false, true),
 -- 임원분들
-('996864', '이선호', 'CJ주식회사', 1000000000, true, false),
-('998646', '김석규', 'CJ주식회사', 1000000000, true, false),
-('311715', '이보배', 'CJ주식회사', 1000000000, true, false),
-('900022', '김도한', 'CJ인베스트먼트', 1000000000, true, false),
-('300047', '정유진', 'CJ제일제당', 1000000000, true, false),
-('315405', '한지호', 'CJ제일제당', 1000000000, true, false),
-('992294', '신대철', 'CJ제일제당', 1000000000, true, false),
-('305424', '윤상민', 'CJ제일제당', 1000000000, true, false),
-('13412121', '이종훈', 'CJ대한통운', 1000000000, true, false),
-('13414195', '김정태', 'CJ대한통운', 1000000000, true, false),
-('13414194', '최정필', 'CJ대한통운 건설부문', 1000000000, true, false),
-('13411796', '한승훈', 'CJ대한통운 건설부문', 1000000000, true, false),
-('833492', '이영아', 'CJ올리브영', 1000000000, true, false),
-('833501', '이은애', 'CJ올리브영', 1000000000, true, false),
-('013099', '신근섭', 'CJ ENM 엔터테인먼트부문', 1000000000, true, false),
-('012832', '김정민', 'CJ ENM 엔터테인먼트부문', 1000000000, true, false),
-('011951', '김지현', 'CJ ENM 커머스부문', 1000000000, true, false),
-('013431', '장영동', 'CJ ENM 커머스부문', 1000000000, true, false),
-('253439', '유태우', 'CJ프레시웨이', 1000000000, true, false),
-('261097', '김의환', 'CJ프레시웨이', 1000000000, true, false),
-('200921', '양수민', 'CJ CGV', 1000000000, true, false),
-('198197', '남천', 'CJ CGV', 1000000000, true, false),
-('203408', '허지수', 'CJ푸드빌', 1000000000, true, false),
-('202726', '이정철', 'CJ푸드빌', 1000000000, true, false),
-('835740', '이장욱', 'CJ올리브네트웍스', 1000000000, true, false),
-('835774', '이용욱', 'CJ올리브네트웍스', 1000000000, true, false),
+('996864', '이선호', 'CJ주식회사', true, false),
+('998646', '김석규', 'CJ주식회사', true, false),
+('311715', '이보배', 'CJ주식회사', true, false),
+('900022', '김도한', 'CJ인베스트먼트', true, false),
+('300047', '정유진', 'CJ제일제당', true, false),
+('315405', '한지호', 'CJ제일제당', true, false),
+('992294', '신대철', 'CJ제일제당', true, false),
+('305424', '윤상민', 'CJ제일제당', true, false),
+('13412121', '이종훈', 'CJ대한통운', true, false),
+('13414195', '김정태', 'CJ대한통운', true, false),
+('13414194', '최정필', 'CJ대한통운 건설부문', true, false),
+('13411796', '한승훈', 'CJ대한통운 건설부문', true, false),
+('833492', '이영아', 'CJ올리브영', true, false),
+('833501', '이은애', 'CJ올리브영', true, false),
+('013099', '신근섭', 'CJ ENM 엔터테인먼트부문', true, false),
+('012832', '김정민', 'CJ ENM 엔터테인먼트부문', true, false),
+('011951', '김지현', 'CJ ENM 커머스부문', true, false),
+('013431', '장영동', 'CJ ENM 커머스부문', true, false),
+('253439', '유태우', 'CJ프레시웨이', true, false),
+('261097', '김의환', 'CJ프레시웨이', true, false),
+('200921', '양수민', 'CJ CGV', true, false),
+('198197', '남천', 'CJ CGV', true, false),
+('203408', '허지수', 'CJ푸드빌', true, false),
+('202726', '이정철', 'CJ푸드빌', true, false),
+('835740', '이장욱', 'CJ올리브네트웍스', true, false),
+('835774', '이용욱', 'CJ올리브네트웍스', true, false),
 -- 밑으로는 팀장님, 인재원
-('308751', '김지혜', 'CJ제일제당', 100000000, false, false),
-('313608', '이상준', 'CJ제일제당', 100000000, false, false),
-('997371', '송은경', 'CJ제일제당', 100000000, false, false),
-('13414395', '황설영', 'CJ대한통운', 100000000, false, false),
-('13409106', '손인선', 'CJ대한통운 건설부문', 100000000, false, false),
-('834705', '박종욱', 'CJ올리브영', 100000000, false, false),
-('012866', '이현주', 'CJ ENM 엔터테인먼트부문', 100000000, false, false),
-('010703', '김현진', 'CJ ENM 엔터테인먼트부문', 100000000, false, false),
-('254380', '양임정', 'CJ프레시웨이', 100000000, false, false),
-('199795', '임진성', 'CJ CGV', 100000000, false, false),
-('197678', '홍지영', 'CJ CGV', 100000000, false, false),
-('996772', '염유리', 'CJ푸드빌', 100000000, false, false),
-('833891', '류상진', 'CJ ONS', 100000000, false, false),
-('309320', '왕덕유', 'CJ제일제당', 100000000, false, false),
-('315549', '김민정', 'CJ제일제당', 100000000, false, false),
-('313876', '김지은', 'CJ제일제당', 100000000, false, false),
-('308566', '김가임', 'CJ제일제당', 100000000, false, false),
-('315366', '강준규', 'CJ제일제당', 100000000, false, false),
-('13409993', '김동빈', 'CJ대한통운', 100000000, false, false),
-('13413142', '이병준', 'CJ대한통운 건설부문', 100000000, false, false),
-('832373', '이나래', 'CJ올리브영', 100000000, false, false),
-('013150', '고수아', 'CJ ENM 엔터테인먼트부문', 100000000, false, false),
-('012925', '임지유', 'CJ ENM 엔터테인먼트부문', 100000000, false, false),
-('261225', '김민정', 'CJ프레시웨이', 100000000, false, false),
-('262739', '김유진', 'CJ프레시웨이', 100000000, false, false),
-('200253', '김주현', 'CJ푸드빌', 100000000, false, false),
-('203503', '이현지', 'CJ푸드빌', 100000000, false, false),
-('200810', '황서현', 'CJ CGV', 100000000, false, false),
-('100609', '정수영', 'CJ 4Dplex', 100000000, false, false),
-('835657', '한수림', 'CJ올리브네트웍스', 100000000, false, false),
-('998546', '권윤희', 'CJ인재원', 1000000000, true, false),
-('313884', '김윤기', 'CJ인재원', 1000000000, true, false),
-('300625', '박미라', 'CJ인재원', 100000000, false, false),
-('314215', '김혜정', 'CJ인재원', 100000000, false, false),
-('311945', '박서영', 'CJ인재원', 100000000, false, false),
-('313515', '박채리', 'CJ인재원', 100000000, false, false),
-('313789', '유현경', 'CJ인재원', 100000000, false, false),
-('313953', '이유진', 'CJ인재원', 100000000, false, false),
-('311538', '이현주', 'CJ인재원', 100000000, false, false),
-('315417', '정진규', 'CJ인재원', 100000000, false, false),
-('312641', '최상용', 'CJ인재원', 100000000, false, false),
-('304603', '강슬기', 'CJ인재원', 1000000000, true, false),
-('999648', '김미정', 'CJ인재원', 100000000, false, false),
-('301674', '김재찬', 'CJ인재원', 100000000, false, false),
-('312497', '문선우', 'CJ인재원', 100000000, false, false),
-('309307', '문인지', 'CJ인재원', 100000000, false, false),
-('315776', '서동환', 'CJ인재원', 100000000, false, false),
-('312578', '이승주', 'CJ인재원', 100000000, false, false),
-('310227', '장미지', 'CJ인재원', 100000000, false, false),
-('305950', '장한빈', 'CJ인재원', 100000000, false, false),
-('315531', '한필우', 'CJ인재원', 100000000, false, false),
-('312757', '황재성', 'CJ인재원', 100000000, false, false);
+('308751', '김지혜', 'CJ제일제당', false, false),
+('313608', '이상준', 'CJ제일제당', false, false),
+('997371', '송은경', 'CJ제일제당', false, false),
+('13414395', '황설영', 'CJ대한통운', false, false),
+('13409106', '손인선', 'CJ대한통운 건설부문', false, false),
+('834705', '박종욱', 'CJ올리브영', false, false),
+('012866', '이현주', 'CJ ENM 엔터테인먼트부문', false, false),
+('010703', '김현진', 'CJ ENM 엔터테인먼트부문', false, false),
+('254380', '양임정', 'CJ프레시웨이', false, false),
+('199795', '임진성', 'CJ CGV', false, false),
+('197678', '홍지영', 'CJ CGV', false, false),
+('996772', '염유리', 'CJ푸드빌', false, false),
+('833891', '류상진', 'CJ ONS', false, false),
+('309320', '왕덕유', 'CJ제일제당', false, false),
+('315549', '김민정', 'CJ제일제당', false, false),
+('313876', '김지은', 'CJ제일제당', false, false),
+('308566', '김가임', 'CJ제일제당', false, false),
+('315366', '강준규', 'CJ제일제당', false, false),
+('13409993', '김동빈', 'CJ대한통운', false, false),
+('13413142', '이병준', 'CJ대한통운 건설부문', false, false),
+('832373', '이나래', 'CJ올리브영', false, false),
+('013150', '고수아', 'CJ ENM 엔터테인먼트부문', false, false),
+('012925', '임지유', 'CJ ENM 엔터테인먼트부문', false, false),
+('261225', '김민정', 'CJ프레시웨이', false, false),
+('262739', '김유진', 'CJ프레시웨이', false, false),
+('200253', '김주현', 'CJ푸드빌', false, false),
+('203503', '이현지', 'CJ푸드빌', false, false),
+('200810', '황서현', 'CJ CGV', false, false),
+('100609', '정수영', 'CJ 4Dplex', false, false),
+('835657', '한수림', 'CJ올리브네트웍스', false, false),
+('998546', '권윤희', 'CJ인재원', true, false),
+('313884', '김윤기', 'CJ인재원', true, false),
+('300625', '박미라', 'CJ인재원', false, false),
+('314215', '김혜정', 'CJ인재원', false, false),
+('311945', '박서영', 'CJ인재원', false, false),
+('313515', '박채리', 'CJ인재원', false, false),
+('313789', '유현경', 'CJ인재원', false, false),
+('313953', '이유진', 'CJ인재원', false, false),
+('311538', '이현주', 'CJ인재원', false, false),
+('315417', '정진규', 'CJ인재원', false, false),
+('312641', '최상용', 'CJ인재원', false, false),
+('304603', '강슬기', 'CJ인재원', true, false),
+('999648', '김미정', 'CJ인재원', false, false),
+('301674', '김재찬', 'CJ인재원', false, false),
+('312497', '문선우', 'CJ인재원', false, false),
+('309307', '문인지', 'CJ인재원', false, false),
+('315776', '서동환', 'CJ인재원', false, false),
+('312578', '이승주', 'CJ인재원', false, false),
+('310227', '장미지', 'CJ인재원', false, false),
+('305950', '장한빈', 'CJ인재원', false, false),
+('315531', '한필우', 'CJ인재원', false, false),
+('312757', '황재성', 'CJ인재원', false, false);
+INSERT INTO investment_accounts (user_id, balance, created_at, updated_at)
+SELECT id, CASE WHEN is_executive THEN 1000000000 ELSE 100000000 END, NOW(), NOW() FROM users;
 INSERT INTO stock_accounts (user_id, balance, created_at, updated_at) VALUES
 (1, 100000000, NOW(), NOW()),
 (2, 100000000, NOW(), NOW()),
@@ -0,0 +1,77 @@
+package com.pm.investment.benchmark;
+
+import com.pm.investment.entity.StockBooth;
+import com.pm.investment.entity.StockTradeHistory;
+import com.pm.investment.entity.User;
+import com.pm.investment.repository.StockBoothRepository;
+import com.pm.investment.repository.StockTradeHistoryRepository;
+import com.pm.investment.repository.UserRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * AM 거래 이력 INSERT 처리량 벤치마크: 요청마다 1건씩 트랜잭션 저장 vs StockLedgerWriter처럼 풀링 시퀀스 + JDBC 배치 saveAll.
+ * (PM 투자 이력은 잔액 변경과 같은 트랜잭션에서 1건씩 저장하므로 배치 경로가 없다)
+ * 실행: ./gradlew benchmark (MySQL 수치는 --spring.profiles.active=mysql 로 확인)
+ */
+@Tag("benchmark")
+@SpringBootTest
+class HistoryInsertBenchmark {
+
+    private static final int ROWS = 5_000;
+    private static final long AMOUNT = 10_000L;
+
+    @Autowired private StockTradeHistoryRepository stockTradeHistoryRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private StockBoothRepository stockBoothRepository;
+    @Autowired private TransactionTemplate transactionTemplate;
+
+    @Test
+    void compareInsertStrategies() {
+        List<Long> userIds = userRepository.findAll().stream().map(User::getId).limit(100).toList();
+        List<Long> boothIds = stockBoothRepository.findAll().stream().map(StockBooth::getId).limit(10).toList();
+
+        long before = stockTradeHistoryRepository.count();
+        long t0 = System.nanoTime();
+        for (int i = 0; i < ROWS; i++) {
+            long userId = userIds.get(i % userIds.size());
+            long boothId = boothIds.get(i % boothIds.size());
+            // 변경 전: 거래 트랜잭션 안에서 1건씩 저장
+            transactionTemplate.executeWithoutResult(status -> stockTradeHistoryRepository.saveAndFlush(
+                    newHistory(userId, boothId)));
+        }
+        report("row-per-transaction", System.nanoTime() - t0);
+        assertEquals(before + ROWS, stockTradeHistoryRepository.count());
+
+        before = stockTradeHistoryRepository.count();
+        t0 = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> {
+            List<StockTradeHistory> rows = new ArrayList<>(ROWS);
+            for (int i = 0; i < ROWS; i++) {
+                rows.add(newHistory(userIds.get(i % userIds.size()), boothIds.get(i % boothIds.size())));
+            }
+            stockTradeHistoryRepository.saveAll(rows);
+        });
+        report("batched saveAll", System.nanoTime() - t0);
+        assertEquals(before + ROWS, stockTradeHistoryRepository.count());
+    }
+
+    private StockTradeHistory newHistory(Long userId, Long boothId) {
+        return new StockTradeHistory(userRepository.getReferenceById(userId), stockBoothRepository.getReferenceById(boothId),
+                StockTradeHistory.TradeType.BUY, AMOUNT, AMOUNT, 0L);
+    }
+
+    private static void report(String name, long elapsedNanos) {
+        double elapsedMs = elapsedNanos / 1_000_000.0;
+        System.out.printf("[%s] rows=%d elapsed=%.0fms throughput=%.0f inserts/s%n",
+                name, ROWS, elapsedMs, ROWS * 1000.0 / Math.max(elapsedMs, 1));
+    }
+}
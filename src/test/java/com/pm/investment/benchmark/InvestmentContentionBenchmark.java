@@ -0,0 +1,159 @@
+package com.pm.investment.benchmark;
+
+import com.pm.investment.entity.Booth;
+import com.pm.investment.entity.Investment;
+import com.pm.investment.entity.InvestmentAccount;
+import com.pm.investment.entity.InvestmentHistory;
+import com.pm.investment.entity.User;
+import com.pm.investment.repository.BoothRepository;
+import com.pm.investment.repository.InvestmentAccountRepository;
+import com.pm.investment.repository.InvestmentHistoryRepository;
+import com.pm.investment.repository.InvestmentRepository;
+import com.pm.investment.repository.UserRepository;
+import com.pm.investment.service.InvestmentService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * PM 투자 동시성 벤치마크: 400명 동시 투자/철회.
+ * 기존 users 행 비관적 락 경로 vs 조건부 UPDATE 경로. 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.datasource.hikari.maximum-pool-size=50")
+class InvestmentContentionBenchmark {
+
+    private static final int CLIENTS = 400;
+    private static final int USERS = 100;      // 같은 사용자에 4개 클라이언트가 몰리도록
+    private static final int OPS_PER_CLIENT = 20;
+    private static final long AMOUNT = 10_000L;
+
+    @Autowired private InvestmentService investmentService;
+    @Autowired private UserRepository userRepository;
+    @Autowired private BoothRepository boothRepository;
+    @Autowired private InvestmentRepository investmentRepository;
+    @Autowired private InvestmentAccountRepository investmentAccountRepository;
+    @Autowired private InvestmentHistoryRepository investmentHistoryRepository;
+    @Autowired private TransactionTemplate transactionTemplate;
+
+    @Test
+    void compareLockingStrategies() throws Exception {
+        List<Long> userIds = userRepository.findAll().stream()
+                .filter(u -> !Boolean.TRUE.equals(u.getIsRookie()))
+                .map(User::getId)
+                .limit(USERS)
+                .toList();
+        List<Long> boothIds = boothRepository.findAll().stream().map(Booth::getId).limit(3).toList();
+
+        run("pessimistic (users FOR UPDATE)", userIds, boothIds, this::pessimisticTrade);
+        run("conditional UPDATE", userIds, boothIds, (userId, boothId, invest) -> {
+            if (invest) investmentService.invest(userId, boothId, AMOUNT);
+            else investmentService.withdraw(userId, boothId, AMOUNT);
+        });
+    }
+
+    private void run(String name, List<Long> userIds, List<Long> boothIds, Trade trade) throws Exception {
+        long before = totalMoney(userIds);
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger failures = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(CLIENTS);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(CLIENTS)) {
+            for (int c = 0; c < CLIENTS; c++) {
+                long userId = userIds.get(c % userIds.size());
+                long boothId = boothIds.get(c % boothIds.size());
+                executor.submit(() -> {
+                    try {
+                        start.await();
+                        for (int i = 0; i < OPS_PER_CLIENT; i++) {
+                            long t0 = System.nanoTime();
+                            try {
+                                trade.execute(userId, boothId, i % 2 == 0);
+                            } catch (RuntimeException e) {
+                                failures.incrementAndGet();
+                            }
+                            latencies.add(System.nanoTime() - t0);
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        done.countDown();
+                    }
+                    return null;
+                });
+            }
+            long t0 = System.nanoTime();
+            start.countDown();
+            done.await();
+            long elapsedMs = (System.nanoTime() - t0) / 1_000_000;
+
+            List<Long> sorted = new ArrayList<>(latencies);
+            Collections.sort(sorted);
+            System.out.printf("[%s] clients=%d ops=%d elapsed=%dms throughput=%.0f ops/s p50=%.1fms p99=%.1fms failures=%d%n",
+                    name, CLIENTS, sorted.size(), elapsedMs,
+                    sorted.size() * 1000.0 / Math.max(elapsedMs, 1),
+                    percentile(sorted, 0.50), percentile(sorted, 0.99), failures.get());
+        }
+
+        // 잔액 + 투자금 합계는 경로와 무관하게 보존되어야 한다
+        assertEquals(before, totalMoney(userIds), name + ": 잔액/투자금 합계 불일치");
+    }
+
+    /** 변경 전 InvestmentService와 같은 락 순서: users → investments */
+    private void pessimisticTrade(Long userId, Long boothId, boolean invest) {
+        transactionTemplate.executeWithoutResult(status -> {
+            User user = userRepository.findByIdWithLock(userId).orElseThrow();
+            Booth booth = boothRepository.findById(boothId).orElseThrow();
+            InvestmentAccount account = investmentAccountRepository.findByUserId(userId).orElseThrow();
+            Investment investment = investmentRepository.findByUserIdAndBoothIdWithLock(userId, boothId)
+                    .orElseGet(() -> investmentRepository.save(new Investment(user, booth)));
+            if (invest) {
+                if (account.getBalance() < AMOUNT) throw new IllegalStateException("보유 잔액이 부족합니다");
+                account.setBalance(account.getBalance() - AMOUNT);
+                investment.setAmount(investment.getAmount() + AMOUNT);
+            } else {
+                if (investment.getAmount() < AMOUNT) throw new IllegalStateException("철회 금액이 투자 금액을 초과합니다");
+                account.setBalance(account.getBalance() + AMOUNT);
+                investment.setAmount(investment.getAmount() - AMOUNT);
+            }
+            investmentHistoryRepository.save(new InvestmentHistory(user, booth,
+                    invest ? InvestmentHistory.InvestmentType.INVEST : InvestmentHistory.InvestmentType.WITHDRAW,
+                    AMOUNT, account.getBalance()));
+        });
+    }
+
+    private long totalMoney(List<Long> userIds) {
+        long balances = investmentAccountRepository.findBalancesByUserIdIn(userIds).stream()
+                .mapToLong(row -> ((Number) row[1]).longValue())
+                .sum();
+        long invested = investmentRepository.findAll().stream()
+                .filter(i -> userIds.contains(i.getUser().getId()))
+                .mapToLong(Investment::getAmount)
+                .sum();
+        return balances + invested;
+    }
+
+    private static double percentile(List<Long> sortedNanos, double p) {
+        if (sortedNanos.isEmpty()) return 0;
+        int idx = (int) Math.min(sortedNanos.size() - 1, Math.ceil(p * sortedNanos.size()) - 1);
+        return sortedNanos.get(Math.max(idx, 0)) / 1_000_000.0;
+    }
+
+    @FunctionalInterface
+    private interface Trade {
+        void execute(Long userId, Long boothId, boolean invest);
+    }
+}
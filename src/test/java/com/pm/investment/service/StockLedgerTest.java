@@ -0,0 +1,113 @@
+package com.pm.investment.service;
+
+import com.pm.investment.entity.StockAccount;
+import com.pm.investment.entity.User;
+import com.pm.investment.repository.StockAccountRepository;
+import com.pm.investment.repository.StockBoothRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * AM 원장 잔액 검증: 잔액 초과 매수 거부, 동시 매수 시 초과 지출 없음.
+ */
+@SpringBootTest
+class StockLedgerTest {
+
+    private static final long PRICE = 10_000L;
+
+    @Autowired
+    private StockLedger stockLedger;
+
+    @Autowired
+    private StockAccountRepository stockAccountRepository;
+
+    @Autowired
+    private StockBoothRepository stockBoothRepository;
+
+    @Test
+    void rejectsBuyOverBalance() {
+        User user = executives().get(0);
+        Long boothId = otherBooths(user).get(0);
+        long balance = stockLedger.getBalance(user.getId());
+        long holding = stockLedger.getHolding(user.getId(), boothId);
+
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> stockLedger.buy(user.getId(), boothId, balance + 1, PRICE));
+        assertEquals("보유 잔액이 부족합니다", e.getMessage());
+        assertEquals(balance, stockLedger.getBalance(user.getId()));
+        assertEquals(holding, stockLedger.getHolding(user.getId(), boothId));
+
+        assertThrows(IllegalStateException.class,
+                () -> stockLedger.sell(user.getId(), boothId, holding + 1, PRICE));
+        assertEquals(balance, stockLedger.getBalance(user.getId()));
+    }
+
+    @Test
+    void concurrentBuysNeverOverspend() throws Exception {
+        User user = executives().get(1);
+        List<Long> boothIds = otherBooths(user);
+        long balance = stockLedger.getBalance(user.getId());
+        long holdings = totalHoldings(user.getId());
+        long amount = balance / 10;
+        assertTrue(amount > 0);
+
+        int threads = 32;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        for (int i = 0; i < threads; i++) {
+            Long boothId = boothIds.get(i % Math.min(boothIds.size(), 4));
+            pool.submit(() -> {
+                start.await();
+                try {
+                    stockLedger.buy(user.getId(), boothId, amount, PRICE);
+                    succeeded.incrementAndGet();
+                } catch (IllegalStateException e) {
+                    rejected.incrementAndGet();
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(30, TimeUnit.SECONDS));
+
+        assertEquals(10, succeeded.get());
+        assertEquals(threads - 10, rejected.get());
+        long balanceAfter = stockLedger.getBalance(user.getId());
+        assertTrue(balanceAfter >= 0);
+        assertEquals(balance - 10 * amount, balanceAfter);
+        assertEquals(balance + holdings, balanceAfter + totalHoldings(user.getId()));
+    }
+
+    private List<User> executives() {
+        return stockAccountRepository.findAllWithUser().stream()
+                .map(StockAccount::getUser)
+                .filter(user -> Boolean.TRUE.equals(user.getIsExecutive()))
+                .toList();
+    }
+
+    private List<Long> otherBooths(User user) {
+        Long belongingId = user.getBelongingStockBooth() != null ? user.getBelongingStockBooth().getId() : null;
+        return stockBoothRepository.findAllIds().stream()
+                .filter(id -> !id.equals(belongingId))
+                .toList();
+    }
+
+    private long totalHoldings(Long userId) {
+        return stockLedger.getHoldings(userId).values().stream().mapToLong(Long::longValue).sum();
+    }
+}
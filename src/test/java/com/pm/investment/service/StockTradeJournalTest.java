@@ -0,0 +1,127 @@
+package com.pm.investment.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 원장 저널 기록 → 재기동 복구 왕복, 정리(checkpoint), 파일 넘김, 격리 기록.
+ */
+class StockTradeJournalTest {
+
+    private static final LocalDateTime AT = LocalDateTime.of(2026, 3, 1, 10, 0, 0, 123_000_000);
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void replaysAppendedEntriesAfterRestart() {
+        List<StockLedger.Entry> entries = List.of(
+                entry(1, StockLedger.EntryType.BUY, 7L, 50_000L),
+                entry(2, StockLedger.EntryType.SELL, 7L, 20_000L),
+                new StockLedger.Entry(3, StockLedger.EntryType.DEPOSIT, 7L, null, 100_000_000L, 0L,
+                        199_970_000L, 0L, AT));
+        StockTradeJournal journal = open(true);
+        entries.forEach(journal::append);
+        journal.close();
+
+        StockTradeJournal reopened = open(true);
+        assertEquals(entries, reopened.readAfter(0));
+        assertEquals(entries.subList(1, 3), reopened.readAfter(1));
+        reopened.close();
+    }
+
+    @Test
+    void ignoresTornLastLine() throws Exception {
+        StockTradeJournal journal = open(true);
+        journal.append(entry(1, StockLedger.EntryType.BUY, 7L, 50_000L));
+        journal.close();
+        Files.writeString(dir.resolve("stock-ledger.journal"), "2|BUY|7|3|10000",
+                StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        StockTradeJournal reopened = open(true);
+        assertEquals(List.of(entry(1, StockLedger.EntryType.BUY, 7L, 50_000L)), reopened.readAfter(0));
+        reopened.close();
+    }
+
+    @Test
+    void skipsReplayWhenRecoveryIsDisabled() {
+        StockTradeJournal journal = open(false);
+        journal.append(entry(1, StockLedger.EntryType.BUY, 7L, 50_000L));
+        assertTrue(journal.readAfter(0).isEmpty());
+        journal.close();
+    }
+
+    @Test
+    void checkpointKeepsEntriesNotYetPersisted() {
+        StockTradeJournal journal = open(true);
+        journal.append(entry(1, StockLedger.EntryType.BUY, 7L, 50_000L));
+        journal.append(entry(2, StockLedger.EntryType.BUY, 8L, 50_000L));
+
+        journal.checkpoint(1);
+        assertEquals(2, journal.readAfter(0).size());
+
+        journal.checkpoint(2);
+        assertTrue(journal.readAfter(0).isEmpty());
+        journal.close();
+    }
+
+    @Test
+    void rotatesLargeJournalAndDropsItOncePersisted() {
+        StockTradeJournal journal = open(true);
+        Path rotated = dir.resolve("stock-ledger.journal.1");
+        long seq = 0;
+        while (!Files.exists(rotated)) {
+            for (int i = 0; i < 1_000; i++) {
+                journal.append(entry(++seq, StockLedger.EntryType.BUY, 7L, 10_000L));
+            }
+            // 마지막 한 건은 아직 DB 반영 전
+            journal.checkpoint(seq - 1);
+        }
+        long rotatedLastSeq = seq;
+        journal.append(entry(++seq, StockLedger.EntryType.SELL, 7L, 10_000L));
+
+        List<StockLedger.Entry> replay = journal.readAfter(rotatedLastSeq - 1);
+        assertEquals(List.of(rotatedLastSeq, seq), replay.stream().map(StockLedger.Entry::seq).toList());
+
+        journal.checkpoint(rotatedLastSeq);
+        assertFalse(Files.exists(rotated));
+        assertEquals(List.of(seq), journal.readAfter(0).stream().map(StockLedger.Entry::seq).toList());
+        journal.close();
+    }
+
+    @Test
+    void parkedEntriesSurviveTruncate() {
+        StockTradeJournal journal = open(true);
+        journal.append(entry(1, StockLedger.EntryType.BUY, 7L, 50_000L));
+        journal.park(entry(1, StockLedger.EntryType.BUY, 7L, 50_000L), 5L);
+        journal.truncate();
+        journal.close();
+
+        StockTradeJournal reopened = open(true);
+        assertEquals(Set.of(1L), reopened.readParkedSeqs());
+        assertTrue(reopened.readAfter(0).isEmpty());
+        reopened.close();
+    }
+
+    private StockTradeJournal open(boolean recovery) {
+        return new StockTradeJournal(dir.toString(), recovery, true);
+    }
+
+    private static StockLedger.Entry entry(long seq, StockLedger.EntryType type, long userId, long amount) {
+        long holdingAfter = type == StockLedger.EntryType.BUY ? amount : 0L;
+        return new StockLedger.Entry(seq, type, userId, 3L, amount, 10_000L, 100_000_000L - holdingAfter,
+                holdingAfter, AT);
+    }
+}
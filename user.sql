@@ -388,6 +388,9 @@ INSERT INTO users (unique_code, name, company, balance) VALUES
 ('315531', '한필우', 'CJ인재원', 100000000),
 ('312757', '황재성', 'CJ인재원', 100000000);
 
+INSERT INTO investment_accounts (user_id, balance, created_at, updated_at)
+SELECT id, balance, NOW(), NOW() FROM users;
+
 INSERT INTO stock_accounts (user_id, balance, created_at, updated_at) VALUES
 (1, 100000000, NOW(), NOW()),
 (2, 100000000, NOW(), NOW()),